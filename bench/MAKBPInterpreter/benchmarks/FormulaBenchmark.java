@@ -0,0 +1,143 @@
+package MAKBPInterpreter.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaProgram;
+import MAKBPInterpreter.logic.PropositionalLogicAssignment;
+import MAKBPInterpreter.logic.Valuation;
+
+/**
+ * Benchmarks of the propositional formulas: evaluation (walking the tree or
+ * running the compiled program), simplification, equality and hash code for
+ * each connective at the root.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormulaBenchmark {
+    /**
+     * Connective of the root of the formulas.
+     */
+    @Param({ "And", "Or", "Not", "Implication", "Equivalence" })
+    public String connective;
+
+    /**
+     * Number of agents (the formulas are propositional, it only changes the
+     * number of atoms like in the other benchmarks).
+     */
+    @Param({ "2", "4", "8" })
+    public int agents;
+
+    /**
+     * Number of worlds, a power of 2 giving the number of atoms.
+     */
+    @Param({ "16", "256", "4096" })
+    public int worlds;
+
+    /**
+     * Depth of the formulas.
+     */
+    @Param({ "2", "4", "6" })
+    public int depth;
+
+    /**
+     * Benchmarked formula.
+     */
+    private Formula formula;
+
+    /**
+     * Formula equal to {@link #formula} but built separately.
+     */
+    private Formula copy;
+
+    /**
+     * Compiled {@link #formula}.
+     */
+    private FormulaProgram program;
+
+    /**
+     * Assignment of the evaluation.
+     */
+    private PropositionalLogicAssignment assignment;
+
+    /**
+     * Builds the formulas and the assignment.
+     */
+    @Setup
+    public void setup() {
+        List<Atom> atoms = Models.atoms("formula", Math.max(Models.atomCount(this.worlds), this.agents));
+        this.formula = Models.formula(this.connective, this.depth, atoms, 42);
+        this.copy = Models.formula(this.connective, this.depth, atoms, 42);
+        this.program = FormulaProgram.compile(this.formula);
+        this.assignment = new PropositionalLogicAssignment(Valuation.fromBits(atoms, 0x5555555555555555L));
+    }
+
+    /**
+     * Evaluates the formula.
+     *
+     * @return value of the formula
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public boolean evaluate() throws Exception {
+        return this.formula.evaluate(this.assignment);
+    }
+
+    /**
+     * Evaluates the compiled formula.
+     *
+     * @return value of the formula
+     */
+    @Benchmark
+    public boolean evaluateCompiled() {
+        return this.program.evaluate(this.assignment.getValuation());
+    }
+
+    /**
+     * Simplifies the formula.
+     *
+     * @return simplified formula
+     */
+    @Benchmark
+    public Formula simplify() {
+        return this.formula.simplify();
+    }
+
+    /**
+     * Compares the formula with an equal formula.
+     *
+     * @return {@code true}
+     */
+    @Benchmark
+    public boolean equality() {
+        return this.formula.equals(this.copy);
+    }
+
+    /**
+     * Hashes the formula.
+     *
+     * @return hash code of the formula
+     */
+    @Benchmark
+    public int hash() {
+        return this.formula.hashCode();
+    }
+}
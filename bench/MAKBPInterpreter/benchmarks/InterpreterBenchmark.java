@@ -0,0 +1,142 @@
+package MAKBPInterpreter.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.interpreter.MAKBPInterpreter;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Or;
+
+/**
+ * Benchmark of a full round of the {@link MAKBPInterpreter} in the muddy
+ * children setting: announcement of the father, announcement of the
+ * deductions, action selection and reasoning. A new interpreter is created
+ * before each invocation, so each invocation runs the first two rounds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterpreterBenchmark {
+    /**
+     * Number of agents.
+     */
+    @Param({ "2", "4", "8" })
+    public int agents;
+
+    /**
+     * Number of worlds, a power of 2 giving the number of atoms.
+     */
+    @Param({ "16", "256", "4096" })
+    public int worlds;
+
+    /**
+     * Depth of the formula announced with the father's announcement.
+     */
+    @Param({ "2", "4", "6" })
+    public int depth;
+
+    /**
+     * Agents of the structure.
+     */
+    private List<Agent> agentList;
+
+    /**
+     * Initial structure.
+     */
+    private DenseKripkeStructure structure;
+
+    /**
+     * Permissions of the agents (each agent sees the other agents).
+     */
+    private Map<Agent, Set<Agent>> permissions;
+
+    /**
+     * Announcement of the father.
+     */
+    private Formula father;
+
+    /**
+     * Real world.
+     */
+    private KripkeWorld realWorld;
+
+    /**
+     * Interpreter of the invocation.
+     */
+    private MAKBPInterpreter interpreter;
+
+    /**
+     * Builds the structure, the agents and the announcement.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Atom> atoms = Models.atoms("interpreter", Models.atomCount(this.worlds));
+        this.agentList = Models.agents("interpreter", this.agents, atoms);
+        this.structure = Models.structure(atoms, this.agentList);
+        this.permissions = new HashMap<>();
+        for (Agent agent : this.agentList) {
+            Set<Agent> seen = new HashSet<>(this.agentList);
+            seen.remove(agent);
+            this.permissions.put(agent, seen);
+        }
+        // the announcement of the father is kept satisfiable by the real world
+        this.father = new Or(new And(new ArrayList<Formula>(atoms)),
+                new And(new Or(new ArrayList<Formula>(atoms)), Models.formula("Or", this.depth, atoms, 3)));
+        this.realWorld = this.structure.getWorld(this.worlds - 1);
+    }
+
+    /**
+     * Creates a new interpreter.
+     */
+    @Setup(Level.Invocation)
+    public void createInterpreter() {
+        this.interpreter = new MAKBPInterpreter(new HashSet<>(this.agentList), this.structure, this.permissions,
+                new HashMap<>());
+    }
+
+    /**
+     * Runs two rounds of the interpreter (the first round has no deduction to
+     * announce).
+     *
+     * @return deductions of the last round
+     * @throws Exception thrown by the interpreter
+     */
+    @Benchmark
+    public Map<Agent, Formula> twoRounds() throws Exception {
+        Map<Agent, Formula> deductions = new HashMap<>();
+        for (int round = 0; round < 2; round++) {
+            this.interpreter.publicAnnouncement(this.agentList, this.father);
+            this.interpreter.publicAnnouncement(deductions);
+            Map<Agent, Action> actions = this.interpreter.getAssociatedAction(this.agentList, this.realWorld);
+            deductions = this.interpreter.reasoning(this.agentList, this.interpreter.reverseEngineering(actions));
+        }
+        return deductions;
+    }
+}
@@ -0,0 +1,263 @@
+package MAKBPInterpreter.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.CommonKnowledge;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.EverybodyKnowledge;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.ModalLogicAssignment;
+import MAKBPInterpreter.agents.ModelChecker;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+
+/**
+ * Benchmarks of the Kripke structures: construction, public announcement and
+ * evaluation of the knowledge operators.
+ *
+ * The knowledge formulas are labeled over the whole structure by a new
+ * {@link ModelChecker} at each invocation, so the labels of a previous
+ * invocation are never reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KripkeBenchmark {
+    /**
+     * Number of agents.
+     */
+    @Param({ "2", "4", "8" })
+    public int agents;
+
+    /**
+     * Number of worlds, a power of 2 giving the number of atoms.
+     */
+    @Param({ "16", "256", "4096" })
+    public int worlds;
+
+    /**
+     * Depth of the formula under the knowledge operators.
+     */
+    @Param({ "2", "4", "6" })
+    public int depth;
+
+    /**
+     * Agents of the structure.
+     */
+    private List<Agent> agentList;
+
+    /**
+     * Structure where each agent can't observe its own atom.
+     */
+    private DenseKripkeStructure structure;
+
+    /**
+     * Map-based copy of {@link #structure}.
+     */
+    private KripkeStructure mapStructure;
+
+    /**
+     * Graph of the structure.
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph;
+
+    /**
+     * Formula under the knowledge operators.
+     */
+    private Formula formula;
+
+    /**
+     * Announced formula.
+     */
+    private Formula announcement;
+
+    /**
+     * Knowledge of the formula by the first agent.
+     */
+    private Formula agentKnowledge;
+
+    /**
+     * Knowledge of the formula by all the agents.
+     */
+    private Formula everybodyKnowledge;
+
+    /**
+     * Common knowledge of the formula.
+     */
+    private Formula commonKnowledge;
+
+    /**
+     * Pointed world of the direct evaluations.
+     */
+    private KripkeWorld world;
+
+    /**
+     * Assignment of the pointed world, reused by the direct evaluations.
+     */
+    private ModalLogicAssignment assignment;
+
+    /**
+     * Builds the structures and the formulas.
+     */
+    @Setup
+    public void setup() {
+        List<Atom> atoms = Models.atoms("kripke", Models.atomCount(this.worlds));
+        this.agentList = Models.agents("kripke", this.agents, atoms);
+        this.structure = Models.structure(atoms, this.agentList);
+        this.graph = Models.graph(this.structure);
+        this.mapStructure = new KripkeStructure(this.graph, this.agentList);
+        this.formula = Models.formula("Or", this.depth, atoms, 7);
+        this.announcement = Models.formula("Or", this.depth, atoms, 11);
+        Set<Agent> agentSet = new HashSet<>(this.agentList);
+        this.agentKnowledge = new AgentKnowledge(this.agentList.get(0), this.formula);
+        this.everybodyKnowledge = new EverybodyKnowledge(this.formula, agentSet);
+        this.commonKnowledge = new CommonKnowledge(this.formula, agentSet);
+        this.world = this.structure.getWorld(this.worlds - 1);
+        this.assignment = new ModalLogicAssignment(this.mapStructure, this.world);
+    }
+
+    /**
+     * Builds a dense structure from a graph.
+     *
+     * @return new structure
+     */
+    @Benchmark
+    public KripkeStructure constructDense() {
+        return new DenseKripkeStructure(this.graph, this.agentList);
+    }
+
+    /**
+     * Builds a map-based structure from a graph.
+     *
+     * @return new structure
+     */
+    @Benchmark
+    public KripkeStructure constructMap() {
+        return new KripkeStructure(this.graph, this.agentList);
+    }
+
+    /**
+     * Builds a dense structure from the ignored atoms of the agents.
+     *
+     * @return new structure
+     */
+    @Benchmark
+    public KripkeStructure constructFromIgnoredAtoms() {
+        List<Atom> atoms = Models.atoms("kripke", Models.atomCount(this.worlds));
+        return Models.structure(atoms, this.agentList);
+    }
+
+    /**
+     * Announces a formula to a copy of the dense structure.
+     *
+     * @return announced structure
+     * @throws Exception thrown by the announcement
+     */
+    @Benchmark
+    public KripkeStructure publicAnnouncementDense() throws Exception {
+        KripkeStructure copy = this.structure.copy();
+        copy.publicAnnouncement(this.announcement);
+        return copy;
+    }
+
+    /**
+     * Announces a formula to a copy of the map-based structure.
+     *
+     * @return announced structure
+     * @throws Exception thrown by the announcement
+     */
+    @Benchmark
+    public KripkeStructure publicAnnouncementMap() throws Exception {
+        KripkeStructure copy = this.mapStructure.copy();
+        copy.publicAnnouncement(this.announcement);
+        return copy;
+    }
+
+    /**
+     * Labels the knowledge of an agent over the structure.
+     *
+     * @return satisfying world ids
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public Object labelAgentKnowledge() throws Exception {
+        return new ModelChecker(this.structure).label(this.agentKnowledge);
+    }
+
+    /**
+     * Labels the knowledge of all the agents over the structure.
+     *
+     * @return satisfying world ids
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public Object labelEverybodyKnowledge() throws Exception {
+        return new ModelChecker(this.structure).label(this.everybodyKnowledge);
+    }
+
+    /**
+     * Labels the common knowledge over the structure.
+     *
+     * @return satisfying world ids
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public Object labelCommonKnowledge() throws Exception {
+        return new ModelChecker(this.structure).label(this.commonKnowledge);
+    }
+
+    /**
+     * Evaluates the knowledge of an agent in a pointed world.
+     *
+     * @return value of the formula
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public boolean evaluateAgentKnowledge() throws Exception {
+        return this.agentKnowledge.evaluate(this.assignment);
+    }
+
+    /**
+     * Evaluates the knowledge of all the agents in a pointed world.
+     *
+     * @return value of the formula
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public boolean evaluateEverybodyKnowledge() throws Exception {
+        return this.everybodyKnowledge.evaluate(this.assignment);
+    }
+
+    /**
+     * Evaluates the common knowledge in a pointed world.
+     *
+     * @return value of the formula
+     * @throws Exception thrown by the evaluation
+     */
+    @Benchmark
+    public boolean evaluateCommonKnowledge() throws Exception {
+        return this.commonKnowledge.evaluate(this.assignment);
+    }
+}
@@ -0,0 +1,198 @@
+package MAKBPInterpreter.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+
+/**
+ * Models shared by the benchmarks: atoms, agents, formulas and structures built
+ * from the benchmark parameters. The models are deterministic, so two runs
+ * measure the same work.
+ */
+public final class Models {
+    /**
+     * Connectives of the generated formulas.
+     */
+    public static final List<String> CONNECTIVES = Arrays.asList("And", "Or", "Not", "Implication",
+            "Equivalence");
+
+    /**
+     * Action selected by the programs of the agents.
+     */
+    private static final Action NOTHING = new Action() {
+        @Override
+        public Object performs(Object... objects) throws Exception {
+            return null;
+        }
+    };
+
+    /**
+     * No instance.
+     */
+    private Models() {
+    }
+
+    /**
+     * Gets the number of atoms needed to encode a number of worlds.
+     *
+     * @param worlds number of worlds (a power of 2)
+     * @return number of atoms
+     * @throws IllegalArgumentException thrown if the number of worlds is not a
+     *                                  power of 2
+     */
+    public static int atomCount(int worlds) {
+        if (worlds <= 0 || Integer.bitCount(worlds) != 1) {
+            throw new IllegalArgumentException("the number of worlds must be a power of 2: " + worlds);
+        }
+        return Integer.numberOfTrailingZeros(worlds);
+    }
+
+    /**
+     * Creates atoms.
+     *
+     * @param prefix prefix of the atom names
+     * @param count  number of atoms
+     * @return new atoms
+     */
+    public static List<Atom> atoms(String prefix, int count) {
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            atoms.add(new Atom(prefix + " atom " + i));
+        }
+        return atoms;
+    }
+
+    /**
+     * Creates agents whose program selects an action when the agent knows its own
+     * atom (the atom {@code i} modulo the number of atoms for the agent
+     * {@code i}).
+     *
+     * @param prefix prefix of the agent names
+     * @param count  number of agents
+     * @param atoms  atoms of the structure
+     * @return new agents
+     */
+    public static List<Agent> agents(String prefix, int count, List<Atom> atoms) {
+        List<Agent> agents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Agent agent = new Agent(prefix + " agent " + i, new AgentProgram());
+            agent.getProgram().put(new AgentKnowledge(agent, Models.ownAtom(i, atoms)), Models.NOTHING);
+            agent.getProgram().put(null, Models.NOTHING);
+            agents.add(agent);
+        }
+        return agents;
+    }
+
+    /**
+     * Gets the atom an agent can't observe.
+     *
+     * @param agent index of the agent
+     * @param atoms atoms of the structure
+     * @return atom of the agent
+     */
+    public static Atom ownAtom(int agent, List<Atom> atoms) {
+        return atoms.get(agent % atoms.size());
+    }
+
+    /**
+     * Creates the structure where the worlds are all the valuations of the atoms
+     * and each agent can't observe its own atom.
+     *
+     * @param atoms  atoms of the structure
+     * @param agents agents of the structure
+     * @return new structure
+     */
+    public static DenseKripkeStructure structure(List<Atom> atoms, List<Agent> agents) {
+        Map<Agent, Set<Atom>> ignored = new HashMap<>();
+        for (int i = 0; i < agents.size(); i++) {
+            ignored.put(agents.get(i), new HashSet<>(Arrays.asList(Models.ownAtom(i, atoms))));
+        }
+        return DenseKripkeStructure.fromIgnoredAtoms(atoms, agents, ignored);
+    }
+
+    /**
+     * Copies the graph of a structure, for the benchmarks of the constructors.
+     *
+     * @param structure structure
+     * @return new graph
+     */
+    public static Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph(KripkeStructure structure) {
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>> entry : structure.getGraph().entrySet()) {
+            Map<Agent, Set<KripkeWorld>> links = new HashMap<>();
+            for (Map.Entry<Agent, Set<KripkeWorld>> link : entry.getValue().entrySet()) {
+                links.put(link.getKey(), new HashSet<>(link.getValue()));
+            }
+            graph.put(entry.getKey(), links);
+        }
+        return graph;
+    }
+
+    /**
+     * Creates a propositional formula.
+     *
+     * @param connective connective of the root (see {@link #CONNECTIVES})
+     * @param depth      depth of the formula (0 for an atom)
+     * @param atoms      atoms of the leaves
+     * @param seed       seed choosing the connectives and atoms under the root
+     * @return new formula
+     */
+    public static Formula formula(String connective, int depth, List<Atom> atoms, long seed) {
+        return Models.formula(connective, depth, atoms, new Random(seed));
+    }
+
+    /**
+     * Creates a propositional formula.
+     *
+     * @param connective connective of the root
+     * @param depth      depth of the formula (0 for an atom)
+     * @param atoms      atoms of the leaves
+     * @param random     generator choosing the connectives and atoms under the
+     *                   root
+     * @return new formula
+     */
+    private static Formula formula(String connective, int depth, List<Atom> atoms, Random random) {
+        if (depth == 0) {
+            return atoms.get(random.nextInt(atoms.size()));
+        }
+
+        Formula left = Models.formula(Models.CONNECTIVES.get(random.nextInt(Models.CONNECTIVES.size())), depth - 1,
+                atoms, random);
+        Formula right = Models.formula(Models.CONNECTIVES.get(random.nextInt(Models.CONNECTIVES.size())),
+                depth - 1, atoms, random);
+        switch (connective) {
+            case "And":
+                return new And(left, right);
+            case "Or":
+                return new Or(left, right);
+            case "Not":
+                return new Not(left);
+            case "Implication":
+                return new Implication(left, right);
+            case "Equivalence":
+                return new Equivalence(left, right);
+            default:
+                throw new IllegalArgumentException("unknown connective: " + connective);
+        }
+    }
+}
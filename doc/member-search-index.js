@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"ActionSelection(Action, int, boolean[])","u":"%3Cinit%3E(MAKBPInterpreter.agents.Action,int,boolean[])"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"addReflexiveArcs(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>)","u":"addReflexiveArcs(java.util.Map,java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"addSymetricArcs(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>)","u":"addSymetricArcs(java.util.Map,java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"agent"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"Agent(String, AgentProgram)","u":"%3Cinit%3E(java.lang.String,MAKBPInterpreter.agents.AgentProgram)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"AgentKnowledge(Agent, Formula)","u":"%3Cinit%3E(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"AgentMap()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"AgentMap(Map<Agent, ? extends V>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"AgentProgram()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"AgentProgram(AgentProgram)","u":"%3Cinit%3E(MAKBPInterpreter.agents.AgentProgram)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"AgentProgram(List<Formula>, List<Action>)","u":"%3Cinit%3E(java.util.List,java.util.List)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"agents"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"agents"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"and(Collection<Formula>)","u":"and(java.util.Collection)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"And(Collection<Formula>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"and(Formula...)","u":"and(MAKBPInterpreter.logic.Formula...)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"And(Formula...)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula...)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"atom(String)","u":"atom(java.lang.String)"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"Atom(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"MAKBPInterpreter.logic","c":"AtomColumns","l":"AtomColumns(List<Valuation>)","u":"%3Cinit%3E(java.util.List)"},{"p":"MAKBPInterpreter.agents","c":"BitSetRelation","l":"BitSetRelation(BitSet[])","u":"%3Cinit%3E(java.util.BitSet[])"},{"p":"MAKBPInterpreter.agents","c":"Box","l":"Box(Agent, Formula)","u":"%3Cinit%3E(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"clear()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"clear()"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"clear()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"CommonKnowledge(Formula, Set<Agent>)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula,java.util.Set)"},{"p":"MAKBPInterpreter.agents","c":"CompiledFormula","l":"compile(Formula)","u":"compile(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"compile(Formula)","u":"compile(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"computePolicyTable(KripkeStructure)","u":"computePolicyTable(MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"computePolicyTables(Collection<Agent>)","u":"computePolicyTables(java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"contains(Formula)","u":"contains(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"containsValue(Object)","u":"containsValue(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"copy()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"copy()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"countAnnouncement(long)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"countCacheHit()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"countCacheMiss()"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"countDifferences(Valuation)","u":"countDifferences(MAKBPInterpreter.logic.Valuation)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"countDifferencesBetweenWorlds(KripkeWorld)","u":"countDifferencesBetweenWorlds(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"countEvaluation(Formula)","u":"countEvaluation(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"countWorldsVisited(long)"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"CSV_HEADER"},{"p":"MAKBPInterpreter.agents","c":"EvaluationContext","l":"current()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"DEFAULT_CAPACITY"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"DenseKripkeStructure(DenseKripkeStructure)","u":"%3Cinit%3E(MAKBPInterpreter.agents.DenseKripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"DenseKripkeStructure(KripkeStructure)","u":"%3Cinit%3E(MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"DenseKripkeStructure(List<KripkeWorld>, List<Agent>, List<? extends AccessibilityRelation>)","u":"%3Cinit%3E(java.util.List,java.util.List,java.util.List)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"DenseKripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>)","u":"%3Cinit%3E(java.util.Map,java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"DenseKripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>, boolean, boolean)","u":"%3Cinit%3E(java.util.Map,java.util.Collection,boolean,boolean)"},{"p":"MAKBPInterpreter.agents","c":"Diamond","l":"Diamond(Agent, Formula)","u":"%3Cinit%3E(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"differences(Valuation)","u":"differences(MAKBPInterpreter.logic.Valuation)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"differencesBetweenWorlds(KripkeWorld)","u":"differencesBetweenWorlds(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"DOMAIN"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"edges"},{"p":"MAKBPInterpreter.agents","c":"EvaluationContext","l":"enter(KripkeStructure, KripkeWorld)","u":"enter(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"entrySet()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"entrySet()"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"equivalence(Formula, Formula)","u":"equivalence(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"Equivalence(Formula, Formula)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"AtomColumns","l":"evaluate(Formula, long[])","u":"evaluate(MAKBPInterpreter.logic.Formula,long[])"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram.Leaves","l":"evaluate(int, C)","u":"evaluate(int,C)"},{"p":"MAKBPInterpreter.agents","c":"CompiledFormula","l":"evaluate(int, ModalLogicAssignment)","u":"evaluate(int,MAKBPInterpreter.agents.ModalLogicAssignment)"},{"p":"MAKBPInterpreter.agents","c":"CompiledFormula","l":"evaluate(KripkeStructure, KripkeWorld)","u":"evaluate(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.agents","c":"Box","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.agents","c":"Diamond","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"evaluate(LogicAssignment)","u":"evaluate(MAKBPInterpreter.logic.LogicAssignment)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"evaluate(Valuation)","u":"evaluate(MAKBPInterpreter.logic.Valuation)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"evaluate(Valuation, FormulaProgram.Leaves<C>, C)","u":"evaluate(MAKBPInterpreter.logic.Valuation,MAKBPInterpreter.logic.FormulaProgram.Leaves,C)"},{"p":"MAKBPInterpreter.agents","c":"EvaluationContext","l":"EvaluationContext()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"EverybodyKnowledge(Formula, Set<Agent>)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula,java.util.Set)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"EXECUTE_ACTION"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"executeAction(Map<Agent, Action>)","u":"executeAction(java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"existsSuccessor(KripkeWorld, Agent, Formula, boolean)","u":"existsSuccessor(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.Agent,MAKBPInterpreter.logic.Formula,boolean)"},{"p":"MAKBPInterpreter.agents","c":"EvaluationContext","l":"exit()"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"FormulaFactory()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.exceptions","c":"FormulaNotSupported","l":"FormulaNotSupported(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"fromBits(List<Atom>, long)","u":"fromBits(java.util.List,long)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"fromIgnoredAtoms(List<Atom>, List<Agent>, Map<Agent, ? extends Collection<Atom>>)","u":"fromIgnoredAtoms(java.util.List,java.util.List,java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"fromIgnoredAtoms(List<Atom>, List<Agent>, Map<Agent, ? extends Collection<Atom>>, boolean)","u":"fromIgnoredAtoms(java.util.List,java.util.List,java.util.Map,boolean)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"fromRows(BitSet[])","u":"fromRows(java.util.BitSet[])"},{"p":"MAKBPInterpreter.agents","c":"FunctionalRelation","l":"FunctionalRelation(int, IntFunction<int[]>)","u":"%3Cinit%3E(int,java.util.function.IntFunction)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"GET_ASSOCIATED_ACTION"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"get(Atom)","u":"get(MAKBPInterpreter.logic.Atom)"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"get(Formula, KripkeWorld)","u":"get(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.logic","c":"AtomRegistry","l":"get(int)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"getAction()"},{"p":"MAKBPInterpreter.agents","c":"PolicyTable","l":"getAction(KripkeWorld)","u":"getAction(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"getAgent()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getAgentId(Agent)","u":"getAgentId(MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"getAgents()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getAgents()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"getAgents()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getAgents()"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"getAgents()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getAliveWorldIds()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getAnnouncementCount()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getAnnouncementCount()"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"getAssignment()"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"getAssociatedAction(Collection<Agent>)","u":"getAssociatedAction(java.util.Collection)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getAssociatedAction(Collection<Agent>, KripkeWorld)","u":"getAssociatedAction(java.util.Collection,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"getAssociatedAction(KripkeStructure, KripkeWorld)","u":"getAssociatedAction(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getAtomColumns()"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"getAtoms()"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"getAtomsAssociation()"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"getByIndex(int)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getCacheHits()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getCacheHits()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getCacheMisses()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getCacheMisses()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"getCapacity()"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getClassCount()"},{"p":"MAKBPInterpreter.agents","c":"PolicyTable","l":"getClassCount()"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getClassEnd(int)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getClassId(int)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getClassStart(int)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getCompiledKey(int)"},{"p":"MAKBPInterpreter.agents","c":"GroupComponents","l":"getComponentCount()"},{"p":"MAKBPInterpreter.agents","c":"GroupComponents","l":"getComponentId(int)"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"getCount()"},{"p":"MAKBPInterpreter.agents","c":"EvaluationContext","l":"getDepth()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getEdgeCount()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getEdgeCount()"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"getEvaluatedGuardCount()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getEvaluationCount(Class<? extends Formula>)","u":"getEvaluationCount(java.lang.Class)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getEvaluationCounts()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getEvaluationCounts()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getExecutor()"},{"p":"MAKBPInterpreter.agents","c":"CompiledFormula","l":"getFormula()"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"getFormula()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getFormulaFactory()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getGraph()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getGraph()"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"getGroupComponents(Collection<Agent>)","u":"getGroupComponents(java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"getGuardIndex()"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"getGuardValue(int)"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"getGuardValues()"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"getHistory(KripkeWorld)","u":"getHistory(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"getHits()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"getIndex()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"getIndex()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getIndex(Formula)","u":"getIndex(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"getInnerFormula()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"getInnerFormula()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"getInnerFormula()"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"getInstructionCount()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getKey(int)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getKeysBeforeAt(int)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getLatencies(Metrics.Phase)","u":"getLatencies(MAKBPInterpreter.metrics.Metrics.Phase)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getLatencyPercentile(String, double)","u":"getLatencyPercentile(java.lang.String,double)"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getLatencyPercentile(String, double)","u":"getLatencyPercentile(java.lang.String,double)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"getLeaves()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"getLeftOperand()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"getLeftOperand()"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"getMax()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getMaxLatencies()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getMaxLatencies()"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"getMean()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getMedianLatencies()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getMedianLatencies()"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getMember(int)"},{"p":"MAKBPInterpreter.agents","c":"GroupComponents","l":"getMembers(int)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getMembers(int)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getMetrics()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getMetrics()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"getMisses()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getModelChecker()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"getName()"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"getName()"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"getNegation()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"getNegation()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"getNegation()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"getNegation()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getObjectName()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getObjects()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"getOperand()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"getOperands()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"getOperands()"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"getOrDefault(Atom, boolean)","u":"getOrDefault(MAKBPInterpreter.logic.Atom,boolean)"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"getOrDefault(int, boolean)","u":"getOrDefault(int,boolean)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getOrderedKeys()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getOrderedValues()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getP99Latencies()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getP99Latencies()"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"getPercentile(double)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getPermissions()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getPhaseCounts()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getPhaseCounts()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getPool()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"getProgram()"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"getRealWorlds()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getRelation(int)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getRepresentative(Agent, KripkeWorld)","u":"getRepresentative(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"getRightOperand()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"getRightOperand()"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"getRounds()"},{"p":"MAKBPInterpreter.agents","c":"PolicyTable","l":"getSelection(KripkeWorld)","u":"getSelection(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"PolicyTable","l":"getSelections()"},{"p":"MAKBPInterpreter.agents","c":"Kripke","l":"getStruct()"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"getStructure()"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"getStructure(Agent, KripkeWorld)","u":"getStructure(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"getStructureCount(Agent)","u":"getStructureCount(MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"getStructures()"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"getSubformulas()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"getSubformulas()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"getSubformulas()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"getSubformulas()"},{"p":"MAKBPInterpreter.agents","c":"FunctionalRelation","l":"getSuccessorIds(int)"},{"p":"MAKBPInterpreter.agents","c":"AccessibilityRelation","l":"getSuccessors(int)"},{"p":"MAKBPInterpreter.agents","c":"BitSetRelation","l":"getSuccessors(int)"},{"p":"MAKBPInterpreter.agents","c":"FunctionalRelation","l":"getSuccessors(int)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"getSuccessors(int)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getSuccessors(int, int)","u":"getSuccessors(int,int)"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"getTotal()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getTruthCache()"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"getValuation()"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"getValuation()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"getValue(int)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getVersion()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"getVersion()"},{"p":"MAKBPInterpreter.agents","c":"Kripke","l":"getWorld()"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"getWorld()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorld(int)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"getWorld(int)"},{"p":"MAKBPInterpreter.logic","c":"AtomColumns","l":"getWorldCount()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorldId(KripkeWorld)","u":"getWorldId(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"getWorldId(KripkeWorld)","u":"getWorldId(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorldIdCount()"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"getWorldIds()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorlds()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getWorlds()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorldsFromOtherWorldAndAgent(KripkeWorld, Agent)","u":"getWorldsFromOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getWorldsFromOtherWorldAndAgent(KripkeWorld, Agent)","u":"getWorldsFromOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getWorldsRemoved()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getWorldsRemoved()"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"getWorldsToOtherWorldAndAgent(KripkeWorld, Agent)","u":"getWorldsToOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"getWorldsToOtherWorldAndAgent(KripkeWorld, Agent)","u":"getWorldsToOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.Agent)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"getWorldsVisited()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"getWorldsVisited()"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"hashCode()"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"hashCode()"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"hashCode()"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"Hypercube(String, int)","u":"%3Cinit%3E(java.lang.String,int)"},{"p":"MAKBPInterpreter.agents","c":"FunctionalRelation","l":"ignoring(int, int)","u":"ignoring(int,int)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"implication(Formula, Formula)","u":"implication(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"Implication(Formula, Formula)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"incrementVersion()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"index"},{"p":"MAKBPInterpreter.logic","c":"AtomRegistry","l":"indexOf(String)","u":"indexOf(java.lang.String)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"initializeGraph(Collection<KripkeWorld>, Collection<Agent>)","u":"initializeGraph(java.util.Collection,java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"innerFormula"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"innerFormula"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"innerFormula"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"insert(int, Formula, Action)","u":"insert(int,MAKBPInterpreter.logic.Formula,MAKBPInterpreter.agents.Action)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"intern(Formula)","u":"intern(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.agents","c":"Box","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.agents","c":"Diamond","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"And","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"intern(FormulaFactory)","u":"intern(MAKBPInterpreter.logic.FormulaFactory)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"isAlive(int)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"isAutoMinimize()"},{"p":"MAKBPInterpreter.agents","c":"GroupComponents","l":"isClosed(int)"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"isDefined(int)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"isEmpty()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"isFinished()"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"isFinished(KripkeWorld)","u":"isFinished(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"isFinished(KripkeWorld)","u":"isFinished(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"isInterned(Formula)","u":"isInterned(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"isPropositional()"},{"p":"MAKBPInterpreter.logic","c":"AtomColumns","l":"isPropositional(Formula)","u":"isPropositional(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"GroupComponents","l":"isSymmetric()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"keySet()"},{"p":"MAKBPInterpreter.agents","c":"Kripke","l":"Kripke(KripkeWorld, KripkeStructure)","u":"%3Cinit%3E(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"KripkeStructure()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"KripkeStructure(KripkeStructure)","u":"%3Cinit%3E(MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"KripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>)","u":"%3Cinit%3E(java.util.Map,java.util.Collection)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"KripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>>, Collection<Agent>, boolean, boolean)","u":"%3Cinit%3E(java.util.Map,java.util.Collection,boolean,boolean)"},{"p":"MAKBPInterpreter.agents.exceptions","c":"KripkeStructureInvalidRuntimeException","l":"KripkeStructureInvalidRuntimeException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"KripkeWorld(Map<Atom, Boolean>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"KripkeWorld(String, Map<Atom, Boolean>)","u":"%3Cinit%3E(java.lang.String,java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"KripkeWorld(String, Valuation)","u":"%3Cinit%3E(java.lang.String,MAKBPInterpreter.logic.Valuation)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"label(Formula)","u":"label(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"AtomColumns","l":"label(Formula, BitSet)","u":"label(MAKBPInterpreter.logic.Formula,java.util.BitSet)"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"lastSelectedAction"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"LatencyHistogram()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter","c":"Main","l":"Main()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter","c":"Main","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"MAKBPInterpreter(Set<Agent>, KripkeStructure, Map<Agent, Set<Agent>>, Map<Action, List<Object>>)","u":"%3Cinit%3E(java.util.Set,MAKBPInterpreter.agents.KripkeStructure,java.util.Map,java.util.Map)"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"MAX_DEPTH"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"maxIteration"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"mergeWorlds(ModelChecker, int[])","u":"mergeWorlds(MAKBPInterpreter.agents.ModelChecker,int[])"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"mergeWorlds(ModelChecker, int[])","u":"mergeWorlds(MAKBPInterpreter.agents.ModelChecker,int[])"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"Metrics()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"minimize()"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"ModalLogicAssignment(KripkeStructure, KripkeWorld)","u":"%3Cinit%3E(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"ModalLogicAssignment(Map<Atom, Boolean>, KripkeStructure, KripkeWorld)","u":"%3Cinit%3E(java.util.Map,MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"ModalLogicAssignment(Valuation, KripkeStructure, KripkeWorld)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Valuation,MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"ModelChecker(KripkeStructure)","u":"%3Cinit%3E(MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"moveTo(KripkeStructure, KripkeWorld)","u":"moveTo(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"MuddyChildrenProblem()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"MultiPointedInterpreter(MAKBPInterpreter, Collection<KripkeWorld>)","u":"%3Cinit%3E(MAKBPInterpreter.interpreter.MAKBPInterpreter,java.util.Collection)"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"n"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"name"},{"p":"MAKBPInterpreter.agents.exceptions","c":"NoKripkeWorldPossibleException","l":"NoKripkeWorldPossibleException()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.exceptions","c":"NoKripkeWorldPossibleException","l":"NoKripkeWorldPossibleException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"not(Formula)","u":"not(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"Not(Formula)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"or(Collection<Formula>)","u":"or(java.util.Collection)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"Or(Collection<Formula>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"or(Formula...)","u":"or(MAKBPInterpreter.logic.Formula...)"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"Or(Formula...)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Formula...)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"PARALLEL_THRESHOLD"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"parseValues(String)","u":"parseValues(java.lang.String)"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"PartitionRelation(int[])","u":"%3Cinit%3E(int[])"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"peakHeapBytes"},{"p":"MAKBPInterpreter.agents","c":"Action","l":"performs(Object...)","u":"performs(java.lang.Object...)"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"performsAssociatedAction(KripkeStructure, KripkeWorld, Object...)","u":"performsAssociatedAction(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld,java.lang.Object...)"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"prettyPrintKripkeStructure(KripkeStructure, Function<String, String>)","u":"prettyPrintKripkeStructure(MAKBPInterpreter.agents.KripkeStructure,java.util.function.Function)"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problem(int, int, int)","u":"problem(int,int,int)"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problemAllRealWorlds(int, int)","u":"problemAllRealWorlds(int,int)"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problemN2K1()"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problemN2K2()"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problemN3K2()"},{"p":"MAKBPInterpreter","c":"MuddyChildrenProblem","l":"problemN3K3()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"program"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"PropositionalLogicAssignment(Map<Atom, Boolean>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"PropositionalLogicAssignment(Valuation)","u":"%3Cinit%3E(MAKBPInterpreter.logic.Valuation)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"PUBLIC_ANNOUNCEMENT"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"publicAnnouncement(Agent, Formula)","u":"publicAnnouncement(MAKBPInterpreter.agents.Agent,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"publicAnnouncement(Collection<Agent>, Formula)","u":"publicAnnouncement(java.util.Collection,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"publicAnnouncement(Collection<Agent>, Formula)","u":"publicAnnouncement(java.util.Collection,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"DenseKripkeStructure","l":"publicAnnouncement(Formula)","u":"publicAnnouncement(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"publicAnnouncement(Formula)","u":"publicAnnouncement(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"publicAnnouncement(List<Agent>, List<Formula>)","u":"publicAnnouncement(java.util.List,java.util.List)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"publicAnnouncement(Map<Agent, Formula>)","u":"publicAnnouncement(java.util.Map)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"publicAnnouncement(Map<KripkeWorld, Map<Agent, Formula>>)","u":"publicAnnouncement(java.util.Map)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"put(Agent, V)","u":"put(MAKBPInterpreter.agents.Agent,V)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"put(Formula, Action)","u":"put(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.agents.Action)"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"put(Formula, KripkeWorld, boolean)","u":"put(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.agents.KripkeWorld,boolean)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"putAll(List<Formula>, List<Action>)","u":"putAll(java.util.List,java.util.List)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"putAll(Map<? extends Formula, ? extends Action>)","u":"putAll(java.util.Map)"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"realWorld"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"realWorlds(String, int)","u":"realWorlds(java.lang.String,int)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"REASONING"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"reasoning(Agent, Map<Agent, Formula>)","u":"reasoning(MAKBPInterpreter.agents.Agent,java.util.Map)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"reasoning(Agent, Map<Agent, Formula>, Map<Agent, Set<Agent>>)","u":"reasoning(MAKBPInterpreter.agents.Agent,java.util.Map,java.util.Map)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"reasoning(Collection<Agent>, Map<Agent, Formula>)","u":"reasoning(java.util.Collection,java.util.Map)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"reasoning(Collection<Agent>, Map<Agent, Formula>, Map<Agent, Set<Agent>>)","u":"reasoning(java.util.Collection,java.util.Map,java.util.Map)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"reasoning(Map<KripkeWorld, Map<Agent, Action>>)","u":"reasoning(java.util.Map)"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"Record(int, int, int, String, long, List<Long>, List<Long>, List<Long>, long)","u":"%3Cinit%3E(int,int,int,java.lang.String,long,java.util.List,java.util.List,java.util.List,long)"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"record(long)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"record(Metrics.Phase, long)","u":"record(MAKBPInterpreter.metrics.Metrics.Phase,long)"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"register(Formula)","u":"register(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"register(String)","u":"register(java.lang.String)"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"MAKBPInterpreter.interpreter","c":"MultiPointedInterpreter","l":"removeRealWorld(KripkeWorld)","u":"removeRealWorld(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.metrics","c":"LatencyHistogram","l":"reset()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"reset()"},{"p":"MAKBPInterpreter.metrics","c":"MetricsMXBean","l":"reset()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"reset(long)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"REVERSE_ENGINEERING"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"reverseEngineering()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"reverseEngineering(Action)","u":"reverseEngineering(MAKBPInterpreter.agents.Action)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"reverseEngineering(Map<Agent, Action>)","u":"reverseEngineering(java.util.Map)"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"roundNanos"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"run(int, int, int)","u":"run(int,int,int)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"satisfactionSet(Formula)","u":"satisfactionSet(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"satisfactionSet(Formula)","u":"satisfactionSet(MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"satisfied(CompiledFormula, KripkeStructure)","u":"satisfied(MAKBPInterpreter.agents.CompiledFormula,MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"satisfied(Formula, KripkeStructure)","u":"satisfied(MAKBPInterpreter.logic.Formula,MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents","c":"ModelChecker","l":"satisfied(KripkeWorld, Formula)","u":"satisfied(MAKBPInterpreter.agents.KripkeWorld,MAKBPInterpreter.logic.Formula)"},{"p":"MAKBPInterpreter","c":"ScalingSweep","l":"ScalingSweep()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"selectAction(KripkeStructure, KripkeWorld)","u":"selectAction(MAKBPInterpreter.agents.KripkeStructure,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"selectActions(Collection<Agent>, KripkeWorld)","u":"selectActions(java.util.Collection,MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"setAutoMinimize(boolean)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"setExecutor(ExecutorService)","u":"setExecutor(java.util.concurrent.ExecutorService)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"setMetrics(Metrics)","u":"setMetrics(MAKBPInterpreter.metrics.Metrics)"},{"p":"MAKBPInterpreter.interpreter","c":"MAKBPInterpreter","l":"setMetrics(Metrics)","u":"setMetrics(MAKBPInterpreter.metrics.Metrics)"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"setPool(ForkJoinPool)","u":"setPool(java.util.concurrent.ForkJoinPool)"},{"p":"MAKBPInterpreter.agents","c":"Kripke","l":"setStruct(KripkeStructure)","u":"setStruct(MAKBPInterpreter.agents.KripkeStructure)"},{"p":"MAKBPInterpreter.agents.tests","c":"TestModelChecker","l":"setUp()"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"setupNanos"},{"p":"MAKBPInterpreter.agents","c":"Kripke","l":"setWorld(KripkeWorld)","u":"setWorld(MAKBPInterpreter.agents.KripkeWorld)"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"simplify()"},{"p":"MAKBPInterpreter.agents","c":"Box","l":"simplify()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"simplify()"},{"p":"MAKBPInterpreter.agents","c":"Diamond","l":"simplify()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"simplify()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"simplify()"},{"p":"MAKBPInterpreter.agents","c":"AccessibilityRelation","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"AgentMap","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"AgentRegistry","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"BitSetRelation","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"CommonKnowledge","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"EverybodyKnowledge","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"FunctionalRelation","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"PartitionRelation","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"PolicyTable","l":"size()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"AtomRegistry","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Formula","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"FormulaFactory","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"size()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"size()"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"status"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"structure"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"structure()"},{"p":"MAKBPInterpreter.agents.tests","c":"Hypercube","l":"structure(boolean)"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAction","l":"TestAction()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testAddReflexiveArcs()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testAddSymetricArcs()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"TestAgent()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"TestAgentKnowledge()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentMap","l":"TestAgentMap()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"TestAgentProgram()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"TestAnd()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"TestAtom()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtomColumns","l":"TestAtomColumns()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestValuation","l":"testAtomRegistry()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testAutoMinimize()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestBox","l":"TestBox()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testClear()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestGroupComponents","l":"testCommonKnowledge()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"TestCommonKnowledge()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCompiledFormula","l":"TestCompiledFormula()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPolicyTable","l":"testComputePolicyTable()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testConcurrentCopies()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAction","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestBox","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDiamond","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPartitionRelation","l":"testConstructor()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testConstructor()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testConstructor()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testConstructor()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testConstructor()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testConstructors()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testConstructors()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testConstructors()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"testConstructors()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testConstructors()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testConstructors()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testContains()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testContains()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testContains()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testContains()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testContainsKey()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testContainsValue()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testCopyConstructor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testCopyOnWrite()"},{"p":"MAKBPInterpreter.metrics.tests","c":"TestMetrics","l":"testCounters()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaFactory","l":"testDefaultMethods()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"TestDenseKripkeStructure()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestFunctionalRelation","l":"testDenseStructure()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPartitionRelation","l":"testDenseStructure()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDiamond","l":"TestDiamond()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestValuation","l":"testDifferences()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"testDifferencesBetweenWorlds()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEvaluationContext","l":"testEnter()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentMap","l":"testEntrySet()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testEntrySet()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testEquals()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testEquals()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"TestEquivalence()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testEvaluate()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestBox","l":"testEvaluate()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testEvaluate()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCompiledFormula","l":"testEvaluate()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDiamond","l":"testEvaluate()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaProgram","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testEvaluate()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaProgram","l":"testEvaluateLeaves()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testEvaluateLikeEverybodyKnowledge()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEvaluationContext","l":"TestEvaluationContext()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"TestEverybodyKnowledge()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testExecuteAction()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testExecutor()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testExistsSuccessor()"},{"p":"MAKBPInterpreter.tests","c":"TestScalingSweep","l":"testFormats()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaFactory","l":"TestFormulaFactory()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaProgram","l":"TestFormulaProgram()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestValuation","l":"testFromBits()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testFromIgnoredAtoms()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPartitionRelation","l":"testFromRows()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestFunctionalRelation","l":"TestFunctionalRelation()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGet()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestTruthCache","l":"testGetAndPut()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testGetAssociatedAction()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testGetAssociatedAction()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testGetAtomColumns()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetCompiledKey()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testGetConditions()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testGetEdgeCount()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestGroupComponents","l":"testGetGroupComponents()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetIndex()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetKey()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetKeysBeforeAt()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testGetLeftOperand()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testGetLeftOperand()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testGetName()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testGetNegation()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testGetNegation()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testGetNegation()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testGetOperand()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testGetOperands()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testGetOperands()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetOrderedKeys()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetOrderedValues()"},{"p":"MAKBPInterpreter.metrics.tests","c":"TestMetrics","l":"testGetPercentile()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testGetRightOperand()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testGetRightOperand()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"testGetters()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testGetValue()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testgetWorldsFromOtherWorldAndAgent()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testGetWorldsFromOtherWorldAndAgent()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testGetWorldsToOtherWorldAndAgent()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestGroupComponents","l":"TestGroupComponents()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testIdGetters()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestFunctionalRelation","l":"testIgnoring()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"TestImplication()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testInsert()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaFactory","l":"testIntern()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testIsEmpty()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testIsFinished()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtomColumns","l":"testIsPropositional()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testKeySet()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"TestKripkeStructure()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"TestKripkeWorld()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtomColumns","l":"testLabel()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"TestMAKBPInterpreter()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestValuation","l":"testMapConversion()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testMetrics()"},{"p":"MAKBPInterpreter.metrics.tests","c":"TestMetrics","l":"TestMetrics()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testMinimize()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testMinimize()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestModelChecker","l":"TestModelChecker()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMultiPointedInterpreter","l":"TestMultiPointedInterpreter()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"TestNot()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPolicyTable","l":"testNotObservableGuard()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestGroupComponents","l":"testNotSymmetric()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"TestOr()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testOverridedPutAll()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestModelChecker","l":"testParallel()"},{"p":"MAKBPInterpreter.tests","c":"TestScalingSweep","l":"testParse()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPartitionRelation","l":"TestPartitionRelation()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAction","l":"testPerforms()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testPerformsAssociatedAction()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testPerformsAssociatedActionNullAction()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAction","l":"testPerformsWithException()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestPolicyTable","l":"TestPolicyTable()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestDenseKripkeStructure","l":"testPublicAnnouncement()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeStructure","l":"testPublicAnnouncement()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testPublicAnnouncement()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testPut()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testPutAll()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentMap","l":"testPutGetRemove()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentMap","l":"testRandomModifications()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testReasoning()"},{"p":"MAKBPInterpreter.metrics.tests","c":"TestMetrics","l":"testRegister()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testRemove()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMAKBPInterpreter","l":"testReverseEngineering()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testReverseEngineeringMethods()"},{"p":"MAKBPInterpreter.interpreter.tests","c":"TestMultiPointedInterpreter","l":"testRounds()"},{"p":"MAKBPInterpreter.tests","c":"TestScalingSweep","l":"testRun()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentMap","l":"testSameName()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestModelChecker","l":"testSatisfactionSet()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCompiledFormula","l":"testSatisfied()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestKripkeWorld","l":"testSatisfied()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestModelChecker","l":"testSatisfied()"},{"p":"MAKBPInterpreter.tests","c":"TestScalingSweep","l":"TestScalingSweep()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgent","l":"testSelectAction()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentKnowledge","l":"testSimplify()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestCommonKnowledge","l":"testSimplify()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEverybodyKnowledge","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAtom","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestEquivalence","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestImplication","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestNot","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testSimplify()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestAnd","l":"testSimplify2()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestOr","l":"testSimplify2()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testSize()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestFormulaFactory","l":"testSizeAndHashCode()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestEvaluationContext","l":"testSteadyStateAllocation()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestTruthCache","l":"testStructureCache()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestTruthCache","l":"TestTruthCache()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.logic.tests","c":"TestValuation","l":"TestValuation()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents.tests","c":"TestAgentProgram","l":"testValues()"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"toAtoms(long[])"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"toCsv()"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"toJson()"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"toMap()"},{"p":"MAKBPInterpreter.agents","c":"ActionSelection","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"Agent","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"AgentKnowledge","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"CompiledFormula","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"KripkeStructure","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"KripkeWorld","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"And","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Atom","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Equivalence","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"FormulaProgram","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Implication","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Not","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Or","l":"toString()"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"toString()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"TruthCache()","u":"%3Cinit%3E()"},{"p":"MAKBPInterpreter.agents","c":"TruthCache","l":"TruthCache(int)","u":"%3Cinit%3E(int)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics","l":"unregister()"},{"p":"MAKBPInterpreter.logic","c":"PropositionalLogicAssignment","l":"valuation"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"Valuation(long[], long[])","u":"%3Cinit%3E(long[],long[])"},{"p":"MAKBPInterpreter.logic","c":"Valuation","l":"Valuation(Map<Atom, Boolean>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"MAKBPInterpreter.agents","c":"AgentProgram","l":"values()"},{"p":"MAKBPInterpreter.metrics","c":"Metrics.Phase","l":"values()"},{"p":"MAKBPInterpreter.agents","c":"ModalLogicAssignment","l":"world"},{"p":"MAKBPInterpreter","c":"ScalingSweep.Record","l":"worlds"}];updateSearchResults();
\ No newline at end of file
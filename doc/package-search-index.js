@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"MAKBPInterpreter"},{"l":"MAKBPInterpreter.agents"},{"l":"MAKBPInterpreter.agents.exceptions"},{"l":"MAKBPInterpreter.agents.tests"},{"l":"MAKBPInterpreter.interpreter"},{"l":"MAKBPInterpreter.interpreter.tests"},{"l":"MAKBPInterpreter.logic"},{"l":"MAKBPInterpreter.logic.exceptions"},{"l":"MAKBPInterpreter.logic.tests"},{"l":"MAKBPInterpreter.metrics"},{"l":"MAKBPInterpreter.metrics.tests"},{"l":"MAKBPInterpreter.tests"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"MAKBPInterpreter.agents","l":"AccessibilityRelation"},{"p":"MAKBPInterpreter.agents","l":"Action"},{"p":"MAKBPInterpreter.agents","l":"ActionSelection"},{"p":"MAKBPInterpreter.agents","l":"Agent"},{"p":"MAKBPInterpreter.agents","l":"AgentKnowledge"},{"p":"MAKBPInterpreter.agents","l":"AgentMap"},{"p":"MAKBPInterpreter.agents","l":"AgentProgram"},{"p":"MAKBPInterpreter.agents","l":"AgentRegistry"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"MAKBPInterpreter.logic","l":"And"},{"p":"MAKBPInterpreter.logic","l":"Atom"},{"p":"MAKBPInterpreter.logic","l":"AtomColumns"},{"p":"MAKBPInterpreter.logic","l":"AtomRegistry"},{"p":"MAKBPInterpreter.agents","l":"BitSetRelation"},{"p":"MAKBPInterpreter.agents","l":"Box"},{"p":"MAKBPInterpreter.agents","l":"CommonKnowledge"},{"p":"MAKBPInterpreter.agents","l":"CompiledFormula"},{"p":"MAKBPInterpreter.agents","l":"DenseKripkeStructure"},{"p":"MAKBPInterpreter.agents","l":"Diamond"},{"p":"MAKBPInterpreter.logic","l":"Equivalence"},{"p":"MAKBPInterpreter.agents","l":"EvaluationContext"},{"p":"MAKBPInterpreter.agents","l":"EverybodyKnowledge"},{"p":"MAKBPInterpreter.logic","l":"Formula"},{"p":"MAKBPInterpreter.logic","l":"FormulaFactory"},{"p":"MAKBPInterpreter.logic.exceptions","l":"FormulaNotSupported"},{"p":"MAKBPInterpreter.logic","l":"FormulaProgram"},{"p":"MAKBPInterpreter.agents","l":"FunctionalRelation"},{"p":"MAKBPInterpreter.agents","l":"GroupComponents"},{"p":"MAKBPInterpreter.agents.tests","l":"Hypercube"},{"p":"MAKBPInterpreter.logic","l":"Implication"},{"p":"MAKBPInterpreter.agents","l":"Kripke"},{"p":"MAKBPInterpreter.agents","l":"KripkeStructure"},{"p":"MAKBPInterpreter.agents.exceptions","l":"KripkeStructureInvalidRuntimeException"},{"p":"MAKBPInterpreter.agents","l":"KripkeWorld"},{"p":"MAKBPInterpreter.metrics","l":"LatencyHistogram"},{"p":"MAKBPInterpreter.logic","l":"FormulaProgram.Leaves"},{"p":"MAKBPInterpreter.logic","l":"LogicAssignment"},{"p":"MAKBPInterpreter","l":"Main"},{"p":"MAKBPInterpreter.interpreter","l":"MAKBPInterpreter"},{"p":"MAKBPInterpreter.metrics","l":"Metrics"},{"p":"MAKBPInterpreter.metrics","l":"MetricsMXBean"},{"p":"MAKBPInterpreter.agents","l":"ModalLogicAssignment"},{"p":"MAKBPInterpreter.agents","l":"ModelChecker"},{"p":"MAKBPInterpreter","l":"MuddyChildrenProblem"},{"p":"MAKBPInterpreter.interpreter","l":"MultiPointedInterpreter"},{"p":"MAKBPInterpreter.agents.exceptions","l":"NoKripkeWorldPossibleException"},{"p":"MAKBPInterpreter.logic","l":"Not"},{"p":"MAKBPInterpreter.logic","l":"Or"},{"p":"MAKBPInterpreter.agents","l":"PartitionRelation"},{"p":"MAKBPInterpreter.metrics","l":"Metrics.Phase"},{"p":"MAKBPInterpreter.agents","l":"PolicyTable"},{"p":"MAKBPInterpreter.logic","l":"PropositionalLogicAssignment"},{"p":"MAKBPInterpreter","l":"ScalingSweep.Record"},{"p":"MAKBPInterpreter","l":"ScalingSweep"},{"p":"MAKBPInterpreter.agents.tests","l":"TestAction"},{"p":"MAKBPInterpreter.agents.tests","l":"TestAgent"},{"p":"MAKBPInterpreter.agents.tests","l":"TestAgentKnowledge"},{"p":"MAKBPInterpreter.agents.tests","l":"TestAgentMap"},{"p":"MAKBPInterpreter.agents.tests","l":"TestAgentProgram"},{"p":"MAKBPInterpreter.logic.tests","l":"TestAnd"},{"p":"MAKBPInterpreter.logic.tests","l":"TestAtom"},{"p":"MAKBPInterpreter.logic.tests","l":"TestAtomColumns"},{"p":"MAKBPInterpreter.agents.tests","l":"TestBox"},{"p":"MAKBPInterpreter.agents.tests","l":"TestCommonKnowledge"},{"p":"MAKBPInterpreter.agents.tests","l":"TestCompiledFormula"},{"p":"MAKBPInterpreter.agents.tests","l":"TestDenseKripkeStructure"},{"p":"MAKBPInterpreter.agents.tests","l":"TestDiamond"},{"p":"MAKBPInterpreter.logic.tests","l":"TestEquivalence"},{"p":"MAKBPInterpreter.agents.tests","l":"TestEvaluationContext"},{"p":"MAKBPInterpreter.agents.tests","l":"TestEverybodyKnowledge"},{"p":"MAKBPInterpreter.logic.tests","l":"TestFormulaFactory"},{"p":"MAKBPInterpreter.logic.tests","l":"TestFormulaProgram"},{"p":"MAKBPInterpreter.agents.tests","l":"TestFunctionalRelation"},{"p":"MAKBPInterpreter.agents.tests","l":"TestGroupComponents"},{"p":"MAKBPInterpreter.logic.tests","l":"TestImplication"},{"p":"MAKBPInterpreter.agents.tests","l":"TestKripkeStructure"},{"p":"MAKBPInterpreter.agents.tests","l":"TestKripkeWorld"},{"p":"MAKBPInterpreter.interpreter.tests","l":"TestMAKBPInterpreter"},{"p":"MAKBPInterpreter.metrics.tests","l":"TestMetrics"},{"p":"MAKBPInterpreter.agents.tests","l":"TestModelChecker"},{"p":"MAKBPInterpreter.interpreter.tests","l":"TestMultiPointedInterpreter"},{"p":"MAKBPInterpreter.logic.tests","l":"TestNot"},{"p":"MAKBPInterpreter.logic.tests","l":"TestOr"},{"p":"MAKBPInterpreter.agents.tests","l":"TestPartitionRelation"},{"p":"MAKBPInterpreter.agents.tests","l":"TestPolicyTable"},{"p":"MAKBPInterpreter.tests","l":"TestScalingSweep"},{"p":"MAKBPInterpreter.agents.tests","l":"TestTruthCache"},{"p":"MAKBPInterpreter.logic.tests","l":"TestValuation"},{"p":"MAKBPInterpreter.agents","l":"TruthCache"},{"p":"MAKBPInterpreter.logic","l":"Valuation"}];updateSearchResults();
\ No newline at end of file
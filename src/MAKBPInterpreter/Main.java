@@ -19,6 +19,7 @@ public class Main {
         System.out.println("2. Muddy Children Problem (n=3, k=2) without the interpreter");
         System.out.println("3. Muddy Children Problem (n=3, k=3) without the interpreter");
         System.out.println("4. Muddy Children Problem (general) with the interpreter");
+        System.out.println("5. Muddy Children Problem (general, all real worlds) with the interpreter");
         System.out.println("-------------------------");
 
         System.out.println("Your choice : ");
@@ -42,6 +43,9 @@ public class Main {
             case 4:
                 Main.generalizedMuddyChildrenProblem(scanner);
                 break;
+            case 5:
+                Main.allRealWorldsMuddyChildrenProblem(scanner);
+                break;
             default:
                 System.out.println("No problem selected");
                 break;
@@ -73,4 +77,29 @@ public class Main {
 
         MuddyChildrenProblem.problem(n, realWorld, maxIteration);
     }
+
+    /**
+     * Retrieves additional arguments and runs the generalized muddy children
+     * problem for all the real worlds.
+     * 
+     * @param scanner current opened scanner object
+     */
+    private static void allRealWorldsMuddyChildrenProblem(Scanner scanner) {
+        System.out.println("Number of children : ");
+        String nString = scanner.nextLine();
+        int n = Integer.parseInt(nString);
+
+        System.out.println("Max number of iteration : ");
+        String maxIterationString = scanner.nextLine();
+        int maxIteration = Integer.parseInt(maxIterationString);
+
+        System.out.println("\n\n\n\n\n");
+
+        try {
+            MuddyChildrenProblem.problemAllRealWorlds(n, maxIteration);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
 }
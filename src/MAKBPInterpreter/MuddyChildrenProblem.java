@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -16,15 +17,18 @@ import MAKBPInterpreter.agents.Action;
 import MAKBPInterpreter.agents.Agent;
 import MAKBPInterpreter.agents.AgentKnowledge;
 import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
 import MAKBPInterpreter.agents.Diamond;
 import MAKBPInterpreter.agents.KripkeStructure;
 import MAKBPInterpreter.agents.KripkeWorld;
 import MAKBPInterpreter.interpreter.MAKBPInterpreter;
+import MAKBPInterpreter.interpreter.MultiPointedInterpreter;
 import MAKBPInterpreter.logic.And;
 import MAKBPInterpreter.logic.Atom;
 import MAKBPInterpreter.logic.Formula;
 import MAKBPInterpreter.logic.Not;
 import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.Valuation;
 
 /**
  * Class representing the problem of muddy children.
@@ -53,55 +57,37 @@ public class MuddyChildrenProblem {
      */
     public static String prettyPrintKripkeStructure(KripkeStructure structure,
             Function<String, String> atomPredicateExtractor) {
-        String string = "[";
+        StringBuilder string = new StringBuilder("[");
 
         Collection<KripkeWorld> worlds = structure.getWorlds();
         for (KripkeWorld world : worlds) {
-            string += "{";
+            string.append("{");
             for (Map.Entry<Atom, Boolean> entry : world.getAssignment().entrySet()) {
-                string += entry.getValue() ? "" : "~";
-                string += atomPredicateExtractor.apply(entry.getKey().toString());
-                string += " ";
+                string.append(entry.getValue() ? "" : "~");
+                string.append(atomPredicateExtractor.apply(entry.getKey().toString()));
+                string.append(" ");
             }
-            string += "}, ";
+            string.append("}, ");
         }
-        return string + "]";
+        return string.append("]").toString();
     }
 
     /**
-     * Generalized problem using the multi-agent knowledge-based program (MABKP)
-     * interpreter.
-     * To encode the real world, we pass a decimal number which
-     * will be then decoded in a binary number allowing to
-     * create the worlds in an automatic way.
-     * 
-     * For example, if n = 4, realWorld will be between 0 and 15
-     * included. If we choose realWorld = 13 ( = (1101)_2 ), the real world
-     * will be the world where :
-     * <ul>
-     * <li>agents 0, 2, 3 are dirty</li>
-     * <li>agent 1 is clean</li>
-     * </ul>
+     * Creates the agents, their programs and the initial structure of the
+     * generalized problem. The bit {@code i} of a world id is the value of the
+     * atom of the agent {@code i}.
      * 
-     * @param n            number of children
-     * @param realWorld    real world encoded in decimal
-     * @param maxIteration maximum number of iteration to avoid an infinite while
-     *                     loop
-     * 
-     * @throws IllegalArgumentException thrown the real world can't exists
+     * @param n           number of children
+     * @param agents      list filled with the created agents
+     * @param atoms       list filled with the created atoms
+     * @param permissions map filled with the agents seen by each agent
+     * @param objects     map filled with the objects passed to the actions
+     * @return initial structure containing the 2^n worlds
      */
-    public static void problem(int n, int realWorld, int maxIteration) {
-        System.out.println("'A' equivalent to 'Agent A is muddy'");
-        if (realWorld < 0 || realWorld > Math.pow(2, n)) {
-            throw new IllegalArgumentException(
-                    "The chosen real world can't exists! Please choose one between 0 and 2^" + Integer.toString(n));
-        }
-
+    static DenseKripkeStructure createProblem(int n, List<Agent> agents, List<Atom> atoms,
+            Map<Agent, Set<Agent>> permissions, Map<Action, List<Object>> objects) {
         // agent creation
-        List<Agent> agents = new ArrayList<>();
-        Set<Agent> muddyAgents = new HashSet<>();
         List<AgentProgram> agentPrograms = new ArrayList<>();
-        List<Atom> atoms = new ArrayList<>();
         for (int i = 0; i < n; i++) {
             agentPrograms.add(new AgentProgram());
             agents.add(new Agent(Integer.toString(i), agentPrograms.get(i)));
@@ -109,7 +95,6 @@ public class MuddyChildrenProblem {
         }
 
         // programs creation
-        Map<Action, List<Object>> objects = new HashMap<>();
         Map<Agent, Set<Atom>> atomsAssociation = new HashMap<>();
         for (int i = 0; i < n; i++) {
             Atom atom = atoms.get(i);
@@ -150,57 +135,66 @@ public class MuddyChildrenProblem {
         }
 
         // permissions creation
-        Map<Agent, Set<Agent>> permissions = new HashMap<>();
         for (Agent a : agents) {
             Set<Agent> set = new HashSet<>(agents);
             set.remove(a);
             permissions.put(a, set);
         }
 
-        // kripke worlds and structure
+        // kripke worlds and structure (the bit agentAtom of a world id is the value
+        // of the atom, each agent can't see its own atom)
+        return DenseKripkeStructure.fromIgnoredAtoms(atoms, agents, atomsAssociation);
+    }
+
+    /**
+     * Generalized problem using the multi-agent knowledge-based program (MABKP)
+     * interpreter.
+     * To encode the real world, we pass a decimal number which
+     * will be then decoded in a binary number allowing to
+     * create the worlds in an automatic way.
+     * 
+     * For example, if n = 4, realWorld will be between 0 and 15
+     * included. If we choose realWorld = 13 ( = (1101)_2 ), the real world
+     * will be the world where :
+     * <ul>
+     * <li>agents 0, 2, 3 are dirty</li>
+     * <li>agent 1 is clean</li>
+     * </ul>
+     * 
+     * @param n            number of children
+     * @param realWorld    real world encoded in decimal
+     * @param maxIteration maximum number of iteration to avoid an infinite while
+     *                     loop
+     * 
+     * @throws IllegalArgumentException thrown the real world can't exists
+     */
+    public static void problem(int n, int realWorld, int maxIteration) {
+        System.out.println("'A' equivalent to 'Agent A is muddy'");
+        if (realWorld < 0 || realWorld > Math.pow(2, n)) {
+            throw new IllegalArgumentException(
+                    "The chosen real world can't exists! Please choose one between 0 and 2^" + Integer.toString(n));
+        }
+
+        List<Agent> agents = new ArrayList<>();
+        List<Atom> atoms = new ArrayList<>();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        Map<Action, List<Object>> objects = new HashMap<>();
+        DenseKripkeStructure structure = MuddyChildrenProblem.createProblem(n, agents, atoms, permissions, objects);
+        Set<Agent> muddyAgents = new HashSet<>();
         boolean realWorldIsRandom = false;
-        List<KripkeWorld> worlds = new ArrayList<>();
-        KripkeWorld realWorldObject = null;
-        for (int i = 0; i < Math.pow(2, n); i++) {
-            Map<Atom, Boolean> assignment = new HashMap<>();
+        KripkeWorld realWorldObject;
+        if (realWorld < structure.getWorldIdCount()) {
+            realWorldObject = structure.getWorld(realWorld);
             for (int agentAtom = 0; agentAtom < n; agentAtom++) {
                 // for the stop condition
-                if (i == realWorld && ((i / ((int) Math.pow(2, agentAtom))) % 2) != 0) {
+                if (((realWorld >>> agentAtom) & 1) != 0) {
                     muddyAgents.add(agents.get(agentAtom));
                 }
-
-                // for the world assignment
-                assignment.put(atoms.get(agentAtom), ((i / ((int) Math.pow(2, agentAtom))) % 2) != 0);
-            }
-            KripkeWorld world = new KripkeWorld(assignment);
-            worlds.add(world);
-            if (i == realWorld) {
-                realWorldObject = world;
             }
-        }
-        if (realWorldObject == null) {
+        } else {
             realWorldIsRandom = true;
-            realWorldObject = worlds.get((new Random()).nextInt(worlds.size()));
-        }
-        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
-        for (KripkeWorld world : worlds) {
-            graph.put(world, new HashMap<>());
-            for (int i = 0; i < agents.size(); i++) {
-                Agent agent = agents.get(i);
-                graph.get(world).put(agent, new HashSet<>());
-                for (KripkeWorld world2 : worlds) {
-                    Collection<Atom> differences = world.differencesBetweenWorlds(world2);
-                    if (differences.size() > 1 || differences.size() == 0) {
-                        continue;
-                    }
-
-                    if (atomsAssociation.get(agent).contains(differences.toArray()[0])) {
-                        graph.get(world).get(agent).add(world2);
-                    }
-                }
-            }
+            realWorldObject = structure.getWorld((new Random()).nextInt(structure.getWorldIdCount()));
         }
-        KripkeStructure structure = new KripkeStructure(graph, agents, false, false);
 
         // father formula
         Set<Formula> operands = new HashSet<>();
@@ -289,6 +283,86 @@ public class MuddyChildrenProblem {
         }
     }
 
+    /**
+     * Generalized problem run for all the real worlds at once with a
+     * {@link MultiPointedInterpreter}: the announcements and evaluations shared by
+     * the real worlds are done once. A real world is followed until all its muddy
+     * children denounce themselves in the same round, all the agents know the
+     * real world or {@code maxIteration} rounds are done.
+     * 
+     * @param n            number of children
+     * @param maxIteration maximum number of iteration to avoid an infinite while
+     *                     loop
+     * @return rounds at which each child denounced itself for the first time, for
+     *         each real world encoded in decimal (a child never denouncing
+     *         itself is absent)
+     * @throws Exception thrown by the interpreter in case of error
+     */
+    public static Map<Integer, Map<Agent, Integer>> problemAllRealWorlds(int n, int maxIteration)
+            throws Exception {
+        List<Agent> agents = new ArrayList<>();
+        List<Atom> atoms = new ArrayList<>();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        Map<Action, List<Object>> objects = new HashMap<>();
+        DenseKripkeStructure structure = MuddyChildrenProblem.createProblem(n, agents, atoms, permissions, objects);
+        Formula fatherFormula = new Or(new HashSet<Formula>(atoms));
+
+        MAKBPInterpreter interpreter = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions, objects);
+        List<KripkeWorld> realWorlds = new ArrayList<>();
+        Map<Integer, Map<Agent, Integer>> rounds = new LinkedHashMap<>();
+        for (int realWorld = 0; realWorld < structure.getWorldIdCount(); realWorld++) {
+            realWorlds.add(structure.getWorld(realWorld));
+            rounds.put(realWorld, new HashMap<>());
+        }
+        MultiPointedInterpreter multiInterpreter = new MultiPointedInterpreter(interpreter, realWorlds);
+        Map<Integer, Integer> found = new HashMap<>();
+        found.put(0, 0); // no muddy child, nothing to denounce
+        multiInterpreter.removeRealWorld(structure.getWorld(0));
+
+        int k = 0;
+        Map<KripkeWorld, Map<Agent, Formula>> deductions = new HashMap<>();
+        while (!multiInterpreter.getRealWorlds().isEmpty() && k < maxIteration) {
+            k++;
+            multiInterpreter.publicAnnouncement(agents, fatherFormula);
+            multiInterpreter.publicAnnouncement(deductions);
+            Map<KripkeWorld, Map<Agent, Action>> actions = multiInterpreter.getAssociatedAction(agents);
+            deductions = multiInterpreter.reasoning(actions);
+
+            for (Map.Entry<KripkeWorld, Map<Agent, Action>> entry : actions.entrySet()) {
+                int realWorld = structure.getWorldId(entry.getKey());
+                boolean allMuddyChildrenDenouncedThemselves = true;
+                for (int i = 0; i < n; i++) {
+                    Agent agent = agents.get(i);
+                    // the first action of a program is the denunciation
+                    boolean denounced = entry.getValue().get(agent) == agent.getProgram().getValue(0);
+                    if (denounced) {
+                        rounds.get(realWorld).putIfAbsent(agent, k);
+                    }
+                    if (((realWorld >>> i) & 1) != 0 && !denounced) {
+                        allMuddyChildrenDenouncedThemselves = false;
+                    }
+                }
+
+                if (allMuddyChildrenDenouncedThemselves) {
+                    found.put(realWorld, k);
+                    multiInterpreter.removeRealWorld(entry.getKey());
+                } else if (multiInterpreter.isFinished(entry.getKey())) {
+                    multiInterpreter.removeRealWorld(entry.getKey());
+                }
+            }
+        }
+
+        for (Map.Entry<Integer, Map<Agent, Integer>> entry : rounds.entrySet()) {
+            if (found.containsKey(entry.getKey())) {
+                System.out.println("Real world " + entry.getKey() + " : found in k = " + found.get(entry.getKey())
+                        + " " + entry.getValue());
+            } else {
+                System.out.println("Real world " + entry.getKey() + " : not found " + entry.getValue());
+            }
+        }
+        return rounds;
+    }
+
     final static Action denounceItself = new Action() {
         @Override
         public Object performs(Object... objects) throws IllegalArgumentException {
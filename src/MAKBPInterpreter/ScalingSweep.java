@@ -0,0 +1,457 @@
+package MAKBPInterpreter;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
+import MAKBPInterpreter.agents.exceptions.NoKripkeWorldPossibleException;
+import MAKBPInterpreter.interpreter.MAKBPInterpreter;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Or;
+
+/**
+ * Non-interactive runner sweeping the generalized muddy children problem over
+ * the number of children, the real world and the maximum number of
+ * iterations.
+ *
+ * The rounds are the rounds of {@link MuddyChildrenProblem#problem(int, int, int)}
+ * without the console rendering, the actions execution and the pause between
+ * the iterations. Each run writes a record (CSV line or JSON object per line)
+ * holding the setup time, the time of each round, the number of worlds and
+ * arcs of the structures of all the agents after each round and the peak heap
+ * usage of the run (the largest total usage of the heap sampled during the run,
+ * above the usage left by a garbage collection before the run).
+ *
+ * Usage:
+ *
+ * <pre>
+ * java MAKBPInterpreter.ScalingSweep [--n 2-8] [--real-world max] [--max-iteration 20]
+ *         [--format csv|ndjson] [--output file]
+ * </pre>
+ *
+ * The numbers of children and iterations are lists of values or ranges (for
+ * instance {@code 2,4,6-8}), the real worlds are {@code max} (all the children
+ * are muddy), {@code all} or a list of encoded real worlds (the real worlds
+ * which can't exist for a number of children are skipped).
+ */
+public class ScalingSweep {
+    /**
+     * Result of a run.
+     */
+    public static final class Record {
+        /**
+         * Number of children.
+         */
+        public final int n;
+
+        /**
+         * Real world encoded in decimal.
+         */
+        public final int realWorld;
+
+        /**
+         * Maximum number of iterations.
+         */
+        public final int maxIteration;
+
+        /**
+         * How the run stopped: {@code found} (the muddy children denounced
+         * themselves), {@code finished} (the agents know the real world),
+         * {@code stopped} (maximum number of iterations) or {@code invalid} (the
+         * real world was removed from a structure).
+         */
+        public final String status;
+
+        /**
+         * Time to create the problem and the interpreter, in nanoseconds.
+         */
+        public final long setupNanos;
+
+        /**
+         * Time of each round, in nanoseconds.
+         */
+        public final List<Long> roundNanos;
+
+        /**
+         * Number of worlds of the structures of all the agents after each round.
+         */
+        public final List<Long> worlds;
+
+        /**
+         * Number of arcs of the structures of all the agents after each round.
+         */
+        public final List<Long> edges;
+
+        /**
+         * Largest total usage of the heap sampled during the run (every
+         * {@link HeapSampler#PERIOD_MILLIS} milliseconds, between the rounds and
+         * at the end) above the usage after a garbage collection before the run,
+         * in bytes.
+         */
+        public final long peakHeapBytes;
+
+        /**
+         * Constructor.
+         *
+         * @param n             number of children
+         * @param realWorld     real world encoded in decimal
+         * @param maxIteration  maximum number of iterations
+         * @param status        how the run stopped
+         * @param setupNanos    setup time
+         * @param roundNanos    time of each round
+         * @param worlds        number of worlds after each round
+         * @param edges         number of arcs after each round
+         * @param peakHeapBytes largest sampled heap usage
+         */
+        public Record(int n, int realWorld, int maxIteration, String status, long setupNanos, List<Long> roundNanos,
+                List<Long> worlds, List<Long> edges, long peakHeapBytes) {
+            this.n = n;
+            this.realWorld = realWorld;
+            this.maxIteration = maxIteration;
+            this.status = status;
+            this.setupNanos = setupNanos;
+            this.roundNanos = new ArrayList<>(roundNanos);
+            this.worlds = new ArrayList<>(worlds);
+            this.edges = new ArrayList<>(edges);
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        /**
+         * Gets the number of rounds of the run.
+         *
+         * @return number of rounds
+         */
+        public int getRounds() {
+            return this.roundNanos.size();
+        }
+
+        /**
+         * Formats the record as a CSV line (the lists are separated by
+         * semicolons).
+         *
+         * @return CSV line
+         * @see ScalingSweep#CSV_HEADER
+         */
+        public String toCsv() {
+            return this.n + "," + this.realWorld + "," + this.maxIteration + "," + this.status + ","
+                    + this.getRounds() + "," + this.setupNanos + "," + join(this.roundNanos, ";") + ","
+                    + join(this.worlds, ";") + "," + join(this.edges, ";") + "," + this.peakHeapBytes;
+        }
+
+        /**
+         * Formats the record as a JSON object.
+         *
+         * @return JSON object on one line
+         */
+        public String toJson() {
+            return "{\"n\":" + this.n + ",\"realWorld\":" + this.realWorld + ",\"maxIteration\":"
+                    + this.maxIteration + ",\"status\":\"" + this.status + "\",\"rounds\":" + this.getRounds()
+                    + ",\"setupNanos\":" + this.setupNanos + ",\"roundNanos\":[" + join(this.roundNanos, ",")
+                    + "],\"worlds\":[" + join(this.worlds, ",") + "],\"edges\":[" + join(this.edges, ",")
+                    + "],\"peakHeapBytes\":" + this.peakHeapBytes + "}";
+        }
+
+        /**
+         * Joins numbers.
+         *
+         * @param values    numbers
+         * @param separator separator
+         * @return joined numbers
+         */
+        private static String join(List<Long> values, String separator) {
+            StringBuilder string = new StringBuilder();
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    string.append(separator);
+                }
+                string.append(values.get(i));
+            }
+            return string.toString();
+        }
+    }
+
+    /**
+     * Thread sampling the total usage of the heap during a run. The usage of
+     * all the heap pools is read at once, so the largest sample is a peak the
+     * heap really reached (the peaks of the pools are not reached at the same
+     * time). The garbage of the previous runs is collected before the first
+     * sample, which is the baseline of the run.
+     *
+     * The thread only wakes up every {@link #PERIOD_MILLIS} milliseconds, the
+     * run also samples the heap between its rounds, out of their timings.
+     */
+    private static final class HeapSampler extends Thread {
+        /**
+         * Period between two samples, in milliseconds.
+         */
+        private static final long PERIOD_MILLIS = 10;
+
+        /**
+         * Memory bean giving the heap usage.
+         */
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        /**
+         * Heap usage after the garbage collection made before the run.
+         */
+        private final long baseline;
+
+        /**
+         * Largest sample.
+         */
+        private volatile long peak;
+
+        /**
+         * If {@code false}, the sampling stops.
+         */
+        private volatile boolean running = true;
+
+        /**
+         * Constructor.
+         */
+        private HeapSampler() {
+            super("heap sampler");
+            this.setDaemon(true);
+            System.gc();
+            this.baseline = this.memory.getHeapMemoryUsage().getUsed();
+            this.peak = this.baseline;
+        }
+
+        /**
+         * Reads the heap usage and keeps it if it is the largest sample.
+         */
+        private synchronized void sample() {
+            this.peak = Math.max(this.peak, this.memory.getHeapMemoryUsage().getUsed());
+        }
+
+        @Override
+        public void run() {
+            while (this.running) {
+                this.sample();
+                try {
+                    Thread.sleep(PERIOD_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Stops the sampling after a last sample.
+         *
+         * @return largest sample above the baseline
+         * @throws InterruptedException thrown if the thread is interrupted while
+         *                              waiting for the sampler
+         */
+        private long finish() throws InterruptedException {
+            this.running = false;
+            this.join();
+            this.sample();
+            return Math.max(0L, this.peak - this.baseline);
+        }
+    }
+
+    /**
+     * Header of the CSV output.
+     */
+    public static final String CSV_HEADER = "n,real_world,max_iteration,status,rounds,setup_ns,round_ns,worlds,edges,peak_heap_bytes";
+
+    /**
+     * Runs the generalized problem once without console output.
+     *
+     * @param n            number of children
+     * @param realWorld    real world encoded in decimal
+     * @param maxIteration maximum number of iterations
+     * @return record of the run
+     * @throws Exception thrown by the interpreter in case of error
+     * @throws IllegalArgumentException thrown the real world can't exists
+     */
+    public static Record run(int n, int realWorld, int maxIteration) throws Exception {
+        if (realWorld < 0 || realWorld >= (1L << n)) {
+            throw new IllegalArgumentException(
+                    "The chosen real world can't exists! Please choose one between 0 and 2^" + n + " excluded");
+        }
+        HeapSampler sampler = new HeapSampler();
+        sampler.start();
+
+        long start = System.nanoTime();
+        List<Agent> agents = new ArrayList<>();
+        List<Atom> atoms = new ArrayList<>();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        Map<Action, List<Object>> objects = new HashMap<>();
+        DenseKripkeStructure structure = MuddyChildrenProblem.createProblem(n, agents, atoms, permissions, objects);
+        MAKBPInterpreter interpreter = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions, objects);
+        KripkeWorld realWorldObject = structure.getWorld(realWorld);
+        Formula fatherFormula = new Or(new HashSet<Formula>(atoms));
+        long setupNanos = System.nanoTime() - start;
+        sampler.sample();
+
+        List<Long> roundNanos = new ArrayList<>();
+        List<Long> worlds = new ArrayList<>();
+        List<Long> edges = new ArrayList<>();
+        String status = "stopped";
+        // no muddy child, nothing to denounce
+        boolean found = realWorld == 0;
+        Map<Agent, Formula> deductions = new HashMap<>();
+        try {
+            while (!found && !interpreter.isFinished(realWorldObject) && roundNanos.size() < maxIteration) {
+                start = System.nanoTime();
+                interpreter.publicAnnouncement(agents, fatherFormula);
+                interpreter.publicAnnouncement(deductions);
+                Map<Agent, Action> actions = interpreter.getAssociatedAction(agents, realWorldObject);
+                deductions = interpreter.reasoning(agents, interpreter.reverseEngineering(actions));
+                roundNanos.add(System.nanoTime() - start);
+                sampler.sample();
+
+                // the first action of a program is the denunciation
+                found = true;
+                for (int i = 0; i < n; i++) {
+                    Agent agent = agents.get(i);
+                    if (((realWorld >>> i) & 1) != 0 && actions.get(agent) != agent.getProgram().getValue(0)) {
+                        found = false;
+                    }
+                }
+
+                long worldCount = 0;
+                long edgeCount = 0;
+                for (KripkeStructure agentStructure : interpreter.getStructures().values()) {
+                    worldCount += agentStructure.getWorlds().size();
+                    edgeCount += agentStructure.getEdgeCount();
+                }
+                worlds.add(worldCount);
+                edges.add(edgeCount);
+            }
+            if (found) {
+                status = "found";
+            } else if (interpreter.isFinished(realWorldObject)) {
+                status = "finished";
+            }
+        } catch (KripkeStructureInvalidRuntimeException | NoKripkeWorldPossibleException e) {
+            status = "invalid";
+        } finally {
+            sampler.running = false;
+        }
+
+        long peakHeapBytes = sampler.finish();
+        return new Record(n, realWorld, maxIteration, status, setupNanos, roundNanos, worlds, edges,
+                peakHeapBytes);
+    }
+
+    /**
+     * Parses a list of values and ranges (for instance {@code 2,4,6-8}).
+     *
+     * @param string list to parse
+     * @return values in order
+     * @throws NumberFormatException thrown if a value is not an integer
+     */
+    public static List<Integer> parseValues(String string) {
+        List<Integer> values = new ArrayList<>();
+        for (String part : string.split(",")) {
+            part = part.trim();
+            int dash = part.indexOf('-', 1);
+            if (dash < 0) {
+                values.add(Integer.parseInt(part));
+            } else {
+                int end = Integer.parseInt(part.substring(dash + 1).trim());
+                for (int value = Integer.parseInt(part.substring(0, dash).trim()); value <= end; value++) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Gets the real worlds of a sweep for a number of children.
+     *
+     * @param realWorlds {@code max}, {@code all} or a list of encoded real
+     *                   worlds
+     * @param n          number of children
+     * @return real worlds which can exist
+     */
+    public static List<Integer> realWorlds(String realWorlds, int n) {
+        List<Integer> values = new ArrayList<>();
+        if (realWorlds.equals("max")) {
+            values.add((1 << n) - 1);
+        } else if (realWorlds.equals("all")) {
+            for (int realWorld = 0; realWorld < 1 << n; realWorld++) {
+                values.add(realWorld);
+            }
+        } else {
+            for (int realWorld : ScalingSweep.parseValues(realWorlds)) {
+                if (realWorld >= 0 && realWorld < 1 << n) {
+                    values.add(realWorld);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Runs the sweep.
+     *
+     * @param args command line arguments (see the class documentation)
+     * @throws Exception thrown by the interpreter or when the output can't be
+     *                   written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put("--n", "2-8");
+        options.put("--real-world", "max");
+        options.put("--max-iteration", "20");
+        options.put("--format", "csv");
+        for (int i = 0; i < args.length; i++) {
+            if ((!options.containsKey(args[i]) && !args[i].equals("--output")) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("unknown option or missing value: " + args[i]);
+            }
+            options.put(args[i], args[++i]);
+        }
+        boolean csv = options.get("--format").equals("csv");
+        if (!csv && !options.get("--format").equals("ndjson")) {
+            throw new IllegalArgumentException("the format must be csv or ndjson");
+        }
+
+        PrintWriter output = options.containsKey("--output")
+                ? new PrintWriter(new OutputStreamWriter(new FileOutputStream(options.get("--output")),
+                        StandardCharsets.UTF_8))
+                : new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try {
+            if (csv) {
+                output.println(ScalingSweep.CSV_HEADER);
+            }
+            for (int n : ScalingSweep.parseValues(options.get("--n"))) {
+                for (int realWorld : ScalingSweep.realWorlds(options.get("--real-world"), n)) {
+                    for (int maxIteration : ScalingSweep.parseValues(options.get("--max-iteration"))) {
+                        Record record = ScalingSweep.run(n, realWorld, maxIteration);
+                        output.println(csv ? record.toCsv() : record.toJson());
+                        output.flush(); // a long sweep can be followed
+                    }
+                }
+            }
+            if (output.checkError()) {
+                throw new IOException("the records can't be written");
+            }
+        } finally {
+            if (options.containsKey("--output")) {
+                output.close();
+            }
+        }
+    }
+}
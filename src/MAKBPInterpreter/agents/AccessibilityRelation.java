@@ -0,0 +1,28 @@
+package MAKBPInterpreter.agents;
+
+import java.util.BitSet;
+
+/**
+ * Accessibility relation of one agent in a {@link DenseKripkeStructure}, over
+ * world ids.
+ *
+ * A relation is never modified after its construction, so it can be shared by
+ * several structures: the removed worlds are filtered by the structures.
+ */
+public interface AccessibilityRelation {
+    /**
+     * Gets the ids of the worlds linked to a world. The returned set must not be
+     * modified.
+     *
+     * @param world world id
+     * @return successor ids (removed worlds included)
+     */
+    public BitSet getSuccessors(int world);
+
+    /**
+     * Gets the number of world ids of the relation.
+     *
+     * @return number of world ids
+     */
+    public int size();
+}
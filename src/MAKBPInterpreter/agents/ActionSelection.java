@@ -0,0 +1,120 @@
+package MAKBPInterpreter.agents;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable result of the selection of an action by an agent program.
+ *
+ * The guards of a program are evaluated in order until one of them is
+ * satisfied (the else guard is always satisfied). The selection keeps the
+ * selected action, the index of the satisfied guard and the values of the
+ * evaluated guards, so the agent itself is never modified.
+ *
+ * @see Agent#selectAction(KripkeStructure, KripkeWorld)
+ */
+public final class ActionSelection {
+    /**
+     * Selected action ({@code null} if no guard is satisfied).
+     */
+    private final Action action;
+
+    /**
+     * Index of the satisfied guard in the program (-1 if no guard is satisfied).
+     */
+    private final int guardIndex;
+
+    /**
+     * Values of the evaluated guards, in the program order.
+     */
+    private final boolean[] guardValues;
+
+    /**
+     * Constructor.
+     *
+     * @param action      selected action ({@code null} if no guard is satisfied)
+     * @param guardIndex  index of the satisfied guard (-1 if no guard is
+     *                    satisfied)
+     * @param guardValues values of the evaluated guards, copied
+     */
+    public ActionSelection(Action action, int guardIndex, boolean[] guardValues) {
+        this.action = action;
+        this.guardIndex = guardIndex;
+        this.guardValues = guardValues.clone();
+    }
+
+    /**
+     * Gets the selected action.
+     *
+     * @return action or {@code null} if no guard is satisfied
+     */
+    public Action getAction() {
+        return this.action;
+    }
+
+    /**
+     * Gets the index of the satisfied guard in the program.
+     *
+     * @return guard index or -1 if no guard is satisfied
+     */
+    public int getGuardIndex() {
+        return this.guardIndex;
+    }
+
+    /**
+     * Gets the number of evaluated guards.
+     *
+     * @return number of evaluated guards
+     */
+    public int getEvaluatedGuardCount() {
+        return this.guardValues.length;
+    }
+
+    /**
+     * Gets the value of an evaluated guard.
+     *
+     * @param index guard index in the program
+     * @return value of the guard
+     * @throws IndexOutOfBoundsException thrown if the guard was not evaluated
+     */
+    public boolean getGuardValue(int index) {
+        if (index < 0 || index >= this.guardValues.length) {
+            throw new IndexOutOfBoundsException("the guard " + index + " was not evaluated");
+        }
+        return this.guardValues[index];
+    }
+
+    /**
+     * Gets the values of the evaluated guards.
+     *
+     * @return copy of the guard values, in the program order
+     */
+    public boolean[] getGuardValues() {
+        return this.guardValues.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (other == null)
+            return false;
+        if (!(other instanceof ActionSelection))
+            return false;
+
+        ActionSelection selection = (ActionSelection) other;
+        return selection.guardIndex == this.guardIndex && Objects.equals(selection.action, this.action)
+                && Arrays.equals(selection.guardValues, this.guardValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.action, this.guardIndex, Arrays.hashCode(this.guardValues));
+    }
+
+    @Override
+    public String toString() {
+        return "Selection[" + this.action + ", guard " + this.guardIndex + ", " + Arrays.toString(this.guardValues)
+                + "]";
+    }
+}
@@ -1,7 +1,7 @@
 package MAKBPInterpreter.agents;
 
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import MAKBPInterpreter.logic.And;
@@ -10,12 +10,20 @@ import MAKBPInterpreter.logic.Or;
 
 /**
  * Represents an agent evolving into an environment.
+ * 
+ * An agent is hashed and compared by the dense index given at its creation
+ * (see {@link AgentRegistry}), its name and its program are never hashed.
  */
 public class Agent {
     /**
      * Agent name.
      */
-    protected String name;
+    protected final String name;
+
+    /**
+     * Dense index of the agent in the {@link AgentRegistry}.
+     */
+    protected final int index;
 
     /**
      * Program used to select the right associated action to an observation.
@@ -39,11 +47,16 @@ public class Agent {
     public Agent(String name, AgentProgram program) {
         this.name = name;
         this.program = program;
+        this.index = AgentRegistry.register();
     }
 
     /**
      * Gets the associated action of a structure and a pointed world.
      * 
+     * The selected action is kept for {@link #reverseEngineering()}, use
+     * {@link #selectAction(KripkeStructure, KripkeWorld)} to select an action
+     * without modifying the agent.
+     * 
      * @param structure    Kripke structure
      * @param pointedWorld world to retrieve knowledge
      * 
@@ -53,26 +66,58 @@ public class Agent {
      *                   expected object not given
      */
     public Action getAssociatedAction(KripkeStructure structure, KripkeWorld pointedWorld) throws Exception {
-        int i = -1;
-        boolean condition_validate = false;
-        ModalLogicAssignment assignment;
-        while (!condition_validate) {
-            i++;
-            if (i >= this.program.size()) { // if no else is present
-                return null;
-            }
+        this.lastSelectedAction = this.selectAction(structure, pointedWorld).getAction();
+        return this.lastSelectedAction;
+    }
 
+    /**
+     * Selects the action of the program for a structure and a pointed world
+     * without modifying the agent, so an agent can be shared by simulations
+     * running concurrently.
+     * 
+     * @param structure    Kripke structure
+     * @param pointedWorld world to retrieve knowledge
+     * @return immutable selection (action, index and values of the evaluated
+     *         guards)
+     * @throws Exception throws when the formula not supported evaluate operation or
+     *                   expected object not given
+     */
+    public ActionSelection selectAction(KripkeStructure structure, KripkeWorld pointedWorld) throws Exception {
+        boolean[] values = new boolean[this.program.size()];
+        // the guards are labeled over the whole structure with a shared checker,
+        // a pointed world outside the structure is evaluated directly
+        // with the guards compiled once by the program
+        ModelChecker checker = structure.getModelChecker();
+        boolean inStructure = checker.getWorldId(pointedWorld) >= 0;
+        for (int i = 0; i < this.program.size(); i++) {
             Formula key = this.program.getKey(i);
-            if (key != null) {
-                assignment = new ModalLogicAssignment(pointedWorld.getAssignment(), structure, pointedWorld);
-                condition_validate = key.evaluate(assignment);
+            if (key != null && inStructure) {
+                values[i] = checker.satisfied(pointedWorld, key);
+            } else if (key != null) {
+                values[i] = this.program.getCompiledKey(i).evaluate(structure, pointedWorld);
             } else { // handle the else statement
-                condition_validate = true;
+                values[i] = true;
+            }
+
+            if (values[i]) {
+                return new ActionSelection(this.program.getValue(i), i, Arrays.copyOf(values, i + 1));
             }
         }
+        return new ActionSelection(null, -1, values); // if no else is present
+    }
 
-        this.lastSelectedAction = this.program.getValue(i);
-        return this.lastSelectedAction;
+    /**
+     * Computes the action selected by the program in every world of a structure.
+     * The decision list is evaluated once per equivalence class of the agent,
+     * the agent is not modified.
+     * 
+     * @param structure Kripke structure
+     * @return table of the selections
+     * @throws Exception throws when the formula not supported evaluate operation or
+     *                   expected object not given
+     */
+    public PolicyTable computePolicyTable(KripkeStructure structure) throws Exception {
+        return new PolicyTable(this, structure);
     }
 
     /**
@@ -149,8 +194,8 @@ public class Agent {
         if (!(other instanceof Agent))
             return false;
 
-        Agent agent = (Agent) other;
-        return agent.name.equals(this.name) && agent.program.equals(this.program);
+        // each agent object has its own index
+        return ((Agent) other).index == this.index;
     }
 
     @Override
@@ -160,7 +205,7 @@ public class Agent {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.name, this.program);
+        return this.index;
     }
 
     /**
@@ -172,6 +217,17 @@ public class Agent {
         return this.name;
     }
 
+    /**
+     * Gets the index of the agent in the {@link AgentRegistry}. It is unique to
+     * the agent object, so it can be used as a key of the data per agent.
+     * 
+     * @return agent index
+     * @see AgentMap
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
     /**
      * Gets the program for the agent.
      * 
@@ -1,8 +1,11 @@
 package MAKBPInterpreter.agents;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
 import MAKBPInterpreter.logic.LogicAssignment;
 import MAKBPInterpreter.logic.Not;
 
@@ -13,12 +16,22 @@ public class AgentKnowledge implements Formula {
     /**
      * Inner formula.
      */
-    protected Formula innerFormula;
+    protected final Formula innerFormula;
 
     /**
      * Associated agent.
      */
-    protected Agent agent;
+    protected final Agent agent;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Constructor.
@@ -29,6 +42,9 @@ public class AgentKnowledge implements Formula {
     public AgentKnowledge(Agent agent, Formula formula) {
         this.agent = agent;
         this.innerFormula = formula;
+        // the class is hashed so a box or a diamond doesn't collide with a knowledge
+        this.hash = Objects.hash(this.getClass().getName(), this.agent.getName(), this.innerFormula);
+        this.size = 1 + this.innerFormula.size();
     }
 
     @Override
@@ -42,17 +58,17 @@ public class AgentKnowledge implements Formula {
             return true;
         if (other == null)
             return false;
-        if (!(other instanceof AgentKnowledge))
+        if (other.getClass() != this.getClass())
             return false;
 
         AgentKnowledge otherAgentKnowledge = (AgentKnowledge) other;
-        return otherAgentKnowledge.agent.equals(this.agent)
+        return this.hash == otherAgentKnowledge.hash && otherAgentKnowledge.agent.equals(this.agent)
                 && this.innerFormula.equals(otherAgentKnowledge.innerFormula);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.agent.getName(), this.innerFormula);
+        return this.hash;
     }
 
     @Override
@@ -70,6 +86,23 @@ public class AgentKnowledge implements Formula {
         return this.innerFormula.contains(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Collections.singletonList(this.innerFormula);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula innerFormula = factory.intern(this.innerFormula);
+        return factory.register(
+                innerFormula == this.innerFormula ? this : new AgentKnowledge(this.agent, innerFormula));
+    }
+
     /**
      * Gets the inner formula object.
      * 
@@ -101,15 +134,9 @@ public class AgentKnowledge implements Formula {
         KripkeStructure structure = assignment2.getStructure();
 
         // we check if all connected worlds to the actual world satisfied the formula or
-        // not
-        // in other words, if it satisfied, it's because the world is a correct one for
-        // the agent
+        // not, the search stops at the first counterexample
         //
         // (M, s) |= K_i(phi) iff for all t, (M,t) |= phi, (s,t) e K_i(s)
-        boolean result = true;
-        for (KripkeWorld otherWorld : structure.getWorldsFromOtherWorldAndAgent(world, agent)) {
-            result = result && otherWorld.satisfied(this.innerFormula, structure);
-        }
-        return result;
+        return !structure.existsSuccessor(world, agent, this.innerFormula, false);
     }
 }
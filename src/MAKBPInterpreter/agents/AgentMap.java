@@ -0,0 +1,333 @@
+package MAKBPInterpreter.agents;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map from agents to values stored in arrays sized by the agents of the map.
+ * The positions of the agents are found in an open addressing table of their
+ * indexes (see {@link Agent#getIndex()}), so accessing the value of an agent
+ * never hashes it and the map only costs its own agents, whatever the number
+ * of agents created.
+ * 
+ * @param <V> type of the values
+ */
+public class AgentMap<V> extends AbstractMap<Agent, V> {
+    /**
+     * Initial number of agents of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * Agents of the map, in the {@code size} first positions.
+     */
+    private Agent[] agents;
+
+    /**
+     * Values of the agents at the same positions.
+     */
+    private Object[] values;
+
+    /**
+     * Position plus one of the agent hashed in each slot (linear probing), 0 for
+     * an empty slot. There are at least twice as many slots as positions.
+     */
+    private int[] slots;
+
+    /**
+     * Number of agents in the map.
+     */
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public AgentMap() {
+        this.agents = new Agent[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.slots = new int[2 * INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Copy constructor from any map.
+     * 
+     * @param map map to copy
+     */
+    public AgentMap(Map<Agent, ? extends V> map) {
+        this();
+        this.putAll(map);
+    }
+
+    /**
+     * Gets the home slot of an agent index.
+     * 
+     * @param index agent index
+     * @return slot where the search of the index starts
+     */
+    private int home(int index) {
+        int hash = index * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (this.slots.length - 1);
+    }
+
+    /**
+     * Gets the slot of an agent index.
+     * 
+     * @param index agent index
+     * @return slot of the index or the empty slot ending its search
+     */
+    private int slot(int index) {
+        int mask = this.slots.length - 1;
+        int slot = this.home(index);
+        while (this.slots[slot] != 0 && this.agents[this.slots[slot] - 1].getIndex() != index) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Gets the array position of an agent index.
+     * 
+     * @param index agent index
+     * @return position of the agent or -1 if no agent of this index is in the
+     *         map
+     */
+    private int find(int index) {
+        return this.slots[this.slot(index)] - 1;
+    }
+
+    /**
+     * Gets the array position of a key.
+     * 
+     * @param key key to find
+     * @return position of the key or -1 if the key is not in the map
+     */
+    private int position(Object key) {
+        if (!(key instanceof Agent)) {
+            return -1;
+        }
+        return this.find(((Agent) key).getIndex());
+    }
+
+    /**
+     * Doubles the capacity of the arrays and rehashes the agents.
+     */
+    private void grow() {
+        int capacity = 2 * this.agents.length;
+        this.agents = Arrays.copyOf(this.agents, capacity);
+        this.values = Arrays.copyOf(this.values, capacity);
+        this.slots = new int[2 * capacity];
+        for (int position = 0; position < this.size; position++) {
+            this.slots[this.slot(this.agents[position].getIndex())] = position + 1;
+        }
+    }
+
+    /**
+     * Empties a slot, shifting back the next agents of its cluster which can't
+     * be found anymore.
+     * 
+     * @param slot slot to empty
+     */
+    private void deleteSlot(int slot) {
+        int mask = this.slots.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; this.slots[next] != 0; next = (next + 1) & mask) {
+            int home = this.home(this.agents[this.slots[next] - 1].getIndex());
+            // the agent stays if its home is cyclically in (hole, next]
+            boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!stays) {
+                this.slots[hole] = this.slots[next];
+                hole = next;
+            }
+        }
+        this.slots[hole] = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.position(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int position = this.position(key);
+        return position < 0 ? null : (V) this.values[position];
+    }
+
+    /**
+     * Gets the value associated to an agent index.
+     * 
+     * @param index agent index
+     * @return associated value or {@code null} if no agent of this index is in
+     *         the map
+     */
+    @SuppressWarnings("unchecked")
+    public V getByIndex(int index) {
+        int position = this.find(index);
+        return position < 0 ? null : (V) this.values[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(Agent key, V value) {
+        int position = this.find(key.getIndex());
+        if (position >= 0) {
+            V previous = (V) this.values[position];
+            this.values[position] = value;
+            return previous;
+        }
+        if (this.size == this.agents.length) {
+            this.grow();
+        }
+        this.agents[this.size] = key;
+        this.values[this.size] = value;
+        this.slots[this.slot(key.getIndex())] = this.size + 1;
+        this.size++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        int position = this.position(key);
+        if (position < 0) {
+            return null;
+        }
+        V previous = (V) this.values[position];
+        this.deleteSlot(this.slot(this.agents[position].getIndex()));
+
+        // the last agent fills the position
+        int last = this.size - 1;
+        if (position != last) {
+            this.agents[position] = this.agents[last];
+            this.values[position] = this.values[last];
+            this.slots[this.slot(this.agents[position].getIndex())] = position + 1;
+        }
+        this.agents[last] = null;
+        this.values[last] = null;
+        this.size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.agents, null);
+        Arrays.fill(this.values, null);
+        Arrays.fill(this.slots, 0);
+        this.size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<Agent, V>> entrySet() {
+        return new AbstractSet<Map.Entry<Agent, V>>() {
+            @Override
+            public int size() {
+                return AgentMap.this.size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<Agent, V>> iterator() {
+                return new Iterator<Map.Entry<Agent, V>>() {
+                    private int next = 0;
+
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.next < AgentMap.this.size;
+                    }
+
+                    @Override
+                    public Map.Entry<Agent, V> next() {
+                        if (this.next >= AgentMap.this.size) {
+                            throw new NoSuchElementException();
+                        }
+                        this.last = this.next++;
+                        return new Entry(this.last);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (this.last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        // the last agent is moved to the removed position, which
+                        // is visited again
+                        AgentMap.this.remove(AgentMap.this.agents[this.last]);
+                        this.next = this.last;
+                        this.last = -1;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Entry of the map backed by the arrays.
+     */
+    private class Entry implements Map.Entry<Agent, V> {
+        /**
+         * Position of the entry in the arrays.
+         */
+        private int position;
+
+        /**
+         * Constructor.
+         * 
+         * @param position position of the entry in the arrays
+         */
+        private Entry(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public Agent getKey() {
+            return AgentMap.this.agents[this.position];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            return (V) AgentMap.this.values[this.position];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V setValue(V value) {
+            V previous = (V) AgentMap.this.values[this.position];
+            AgentMap.this.values[this.position] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Map.Entry))
+                return false;
+
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+            return this.getKey().equals(entry.getKey()) && (this.getValue() == null ? entry.getValue() == null
+                    : this.getValue().equals(entry.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.getKey().hashCode() ^ (this.getValue() == null ? 0 : this.getValue().hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
@@ -26,6 +26,12 @@ final public class AgentProgram implements Map<Formula, Action> {
      */
     private List<Action> values;
 
+    /**
+     * Compiled keys, built at the first evaluation and discarded by the
+     * modifications of the program.
+     */
+    private volatile CompiledFormula[] compiledKeys = null;
+
     /**
      * Constructor.
      * 
@@ -77,6 +83,7 @@ final public class AgentProgram implements Map<Formula, Action> {
 
     @Override
     public void clear() {
+        this.compiledKeys = null;
         this.keys.clear();
         this.values.clear();
     }
@@ -116,6 +123,28 @@ final public class AgentProgram implements Map<Formula, Action> {
         return this.keys.get(index);
     }
 
+    /**
+     * Gets the compiled key (formula) at a specified index. The keys are compiled
+     * once, at the first call after a modification of the program, so the guards
+     * evaluated in every round of a run aren't walked again.
+     * 
+     * @param index specified index
+     * @return compiled key of the index or {@code null} for the else key
+     * @see CompiledFormula
+     */
+    public CompiledFormula getCompiledKey(int index) {
+        CompiledFormula[] compiledKeys = this.compiledKeys;
+        if (compiledKeys == null) {
+            compiledKeys = new CompiledFormula[this.keys.size()];
+            for (int i = 0; i < compiledKeys.length; i++) {
+                Formula key = this.keys.get(i);
+                compiledKeys[i] = key == null ? null : CompiledFormula.compile(key);
+            }
+            this.compiledKeys = compiledKeys;
+        }
+        return compiledKeys[index];
+    }
+
     /**
      * Gets the value (action) at a specified index.
      * 
@@ -161,6 +190,7 @@ final public class AgentProgram implements Map<Formula, Action> {
      * @return index that the key/value inserted
      */
     public int insert(int index, Formula key, Action value) {
+        this.compiledKeys = null;
         // put directly at the end
         if (key == null) {
             this.put(key, value);
@@ -191,6 +221,7 @@ final public class AgentProgram implements Map<Formula, Action> {
         if (arg1 == null) {
             throw new NullPointerException("An action cannot be null");
         }
+        this.compiledKeys = null;
 
         // if key is null, put associated action at the end
         if (arg0 == null) {
@@ -254,6 +285,7 @@ final public class AgentProgram implements Map<Formula, Action> {
             throw new IllegalArgumentException("Key not in map");
         }
 
+        this.compiledKeys = null;
         int index = this.keys.indexOf(key);
         Action value = this.values.get(index);
         this.keys.remove(index);
@@ -0,0 +1,41 @@
+package MAKBPInterpreter.agents;
+
+/**
+ * Registry giving a stable index to each agent created.
+ * 
+ * The indexes are dense (from 0 to {@link #size()} excluded) and each agent
+ * object has its own index, even if another agent has the same name, so they
+ * can be used as keys of the data per agent (see {@link AgentMap}). The indexes
+ * are never reclaimed, so {@link #size()} counts all the agents created by the
+ * process and must not be used to size the data of a structure.
+ */
+public final class AgentRegistry {
+    /**
+     * Number of indexes given.
+     */
+    private static int size = 0;
+
+    /**
+     * The registry is not instantiable.
+     */
+    private AgentRegistry() {
+    }
+
+    /**
+     * Gives the index of a new agent.
+     * 
+     * @return new index
+     */
+    static synchronized int register() {
+        return AgentRegistry.size++;
+    }
+
+    /**
+     * Gets the number of indexes given (the number of agents created).
+     * 
+     * @return number of indexes
+     */
+    public static synchronized int size() {
+        return AgentRegistry.size;
+    }
+}
@@ -0,0 +1,599 @@
+package MAKBPInterpreter.agents;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import MAKBPInterpreter.logic.Valuation;
+
+/**
+ * Computes the coarsest bisimulation of a structure by partition refinement
+ * (Paige and Tarjan).
+ *
+ * The worlds are first grouped by valuation. The blocks are ranges of one
+ * array of world ids, so a split only moves the split worlds to the start of
+ * their range. The splitters are compound blocks: unions of blocks the
+ * partition is already stable with. While a compound block holds several
+ * blocks, its smaller block among the first two is taken out and, for each
+ * agent, every block is split between the worlds having a successor in it,
+ * the worlds having a successor in the rest of the compound block and the
+ * worlds having both. The number of successors of a world in each compound
+ * block is counted, so only the predecessors of the smaller half are visited
+ * and each world is visited a logarithmic number of times. Two worlds of the
+ * same final block satisfy the same epistemic formulas.
+ */
+class Bisimulation {
+    /**
+     * Arcs of the relation of an agent inside the universe, read backward,
+     * with the number of successors of the worlds in the compound blocks.
+     */
+    private static final class Arcs {
+        /**
+         * Partition of the agent, else {@code null} (the predecessors are listed).
+         * The predecessors of a world in a partition are the members of its class.
+         */
+        private PartitionRelation partition;
+
+        /**
+         * Start of the predecessors of each world in {@link #predecessors} (the
+         * last entry is the number of arcs), without partition.
+         */
+        private int[] starts;
+
+        /**
+         * Predecessors of the worlds, sorted by successor, without partition.
+         */
+        private int[] predecessors;
+
+        /**
+         * Count of each world (with a partition) or of each arc (else): the count
+         * of a class (resp. of the source) in the compound block of the world
+         * (resp. of the target).
+         */
+        private int[] countOf;
+
+        /**
+         * Number of successors in a compound block, for each count. With a
+         * partition, the successors of all the members of a class are counted
+         * once.
+         */
+        private int[] counts = new int[16];
+
+        /**
+         * Class (with a partition) or world (else) of each count.
+         */
+        private int[] owners = new int[16];
+
+        /**
+         * Count of the taken out block replacing each count during a split, else
+         * -1.
+         */
+        private int[] replacements = new int[16];
+
+        /**
+         * Number of counts.
+         */
+        private int size;
+
+        /**
+         * Adds a count.
+         *
+         * @param owner class or world of the count
+         * @return new count
+         */
+        private int add(int owner) {
+            if (this.size == this.counts.length) {
+                int length = this.size * 2;
+                this.counts = Arrays.copyOf(this.counts, length);
+                this.owners = Arrays.copyOf(this.owners, length);
+                this.replacements = Arrays.copyOf(this.replacements, length);
+            }
+            this.counts[this.size] = 0;
+            this.owners[this.size] = owner;
+            this.replacements[this.size] = -1;
+            return this.size++;
+        }
+    }
+
+    /**
+     * Checker giving the world ids and the relations.
+     */
+    private ModelChecker checker;
+
+    /**
+     * Universe of the checker.
+     */
+    private BitSet universe;
+
+    /**
+     * Arcs of each agent.
+     */
+    private List<Arcs> arcs;
+
+    /**
+     * World ids sorted by block.
+     */
+    private int[] elements;
+
+    /**
+     * Position of each world in {@link #elements}.
+     */
+    private int[] positions;
+
+    /**
+     * Block of each world (-1 for an id outside the universe).
+     */
+    private int[] blockOf;
+
+    /**
+     * Start of each block in {@link #elements}.
+     */
+    private int[] blockStarts;
+
+    /**
+     * End of each block in {@link #elements} (excluded).
+     */
+    private int[] blockEnds;
+
+    /**
+     * Number of marked worlds of each block, moved at the start of its range.
+     */
+    private int[] marked;
+
+    /**
+     * Number of blocks.
+     */
+    private int blockCount;
+
+    /**
+     * Compound block of each block.
+     */
+    private int[] compoundOf;
+
+    /**
+     * Next block of the same compound block, else -1.
+     */
+    private int[] nextBlocks;
+
+    /**
+     * Previous block of the same compound block, else -1.
+     */
+    private int[] previousBlocks;
+
+    /**
+     * First block of each compound block.
+     */
+    private int[] firstBlocks;
+
+    /**
+     * Number of blocks of each compound block.
+     */
+    private int[] compoundSizes;
+
+    /**
+     * Number of compound blocks.
+     */
+    private int compoundCount;
+
+    /**
+     * Compound blocks holding several blocks.
+     */
+    private Deque<Integer> splitters;
+
+    /**
+     * Constructor.
+     *
+     * @param checker checker of the structure to minimize
+     * @param agents  agents of the structure
+     */
+    Bisimulation(ModelChecker checker, Collection<Agent> agents) {
+        this.checker = checker;
+        this.universe = checker.getUniverse();
+        int size = this.universe.length();
+        int worldCount = this.universe.cardinality();
+
+        this.arcs = new ArrayList<>();
+        for (Agent agent : agents) {
+            AccessibilityRelation relation = checker.relation(agent);
+            this.arcs.add(relation instanceof PartitionRelation ? this.partitionArcs((PartitionRelation) relation)
+                    : this.listedArcs(relation, size));
+        }
+
+        // initial partition: one block per valuation
+        this.blockOf = new int[size];
+        Arrays.fill(this.blockOf, -1);
+        this.blockStarts = new int[worldCount];
+        this.blockEnds = new int[worldCount];
+        Map<Valuation, Integer> valuationBlocks = new HashMap<>();
+        for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+            Valuation valuation = checker.getWorld(w).getValuation();
+            Integer block = valuationBlocks.get(valuation);
+            if (block == null) {
+                block = this.blockCount++;
+                valuationBlocks.put(valuation, block);
+            }
+            this.blockOf[w] = block;
+            this.blockEnds[block]++;
+        }
+        for (int b = 1; b < this.blockCount; b++) {
+            this.blockEnds[b] += this.blockEnds[b - 1];
+        }
+        this.elements = new int[worldCount];
+        this.positions = new int[size];
+        for (int w = this.universe.length() - 1; w >= 0; w = this.universe.previousSetBit(w - 1)) {
+            int position = --this.blockEnds[this.blockOf[w]];
+            this.elements[position] = w;
+            this.positions[w] = position;
+        }
+        for (int b = 0; b < this.blockCount; b++) {
+            this.blockStarts[b] = this.blockEnds[b];
+            this.blockEnds[b] = b + 1 < this.blockCount ? this.blockEnds[b + 1] : worldCount;
+        }
+        this.marked = new int[worldCount];
+
+        // one compound block: the universe
+        this.compoundOf = new int[worldCount];
+        this.nextBlocks = new int[worldCount];
+        this.previousBlocks = new int[worldCount];
+        this.firstBlocks = new int[worldCount];
+        this.compoundSizes = new int[worldCount];
+        this.splitters = new ArrayDeque<>();
+        if (worldCount > 0) {
+            this.compoundCount = 1;
+            this.compoundSizes[0] = this.blockCount;
+            for (int b = 0; b < this.blockCount; b++) {
+                this.previousBlocks[b] = b - 1;
+                this.nextBlocks[b] = b + 1 < this.blockCount ? b + 1 : -1;
+            }
+            if (this.blockCount > 1) {
+                this.splitters.add(0);
+            }
+        }
+    }
+
+    /**
+     * Reads the arcs of a partition: one count per class, the predecessors are
+     * read from the class ids.
+     *
+     * @param partition partition of an agent
+     * @return arcs of the partition
+     */
+    private Arcs partitionArcs(PartitionRelation partition) {
+        Arcs arcs = new Arcs();
+        arcs.partition = partition;
+        arcs.countOf = new int[this.universe.length()];
+        int[] classCounts = new int[partition.getClassCount()];
+        Arrays.fill(classCounts, -1);
+        for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+            if (w >= partition.size()) {
+                arcs.countOf[w] = -1;
+                continue;
+            }
+            int c = partition.getClassId(w);
+            if (classCounts[c] < 0) {
+                classCounts[c] = arcs.add(c);
+            }
+            arcs.countOf[w] = classCounts[c];
+            arcs.counts[classCounts[c]]++;
+        }
+        return arcs;
+    }
+
+    /**
+     * Reads the arcs of a relation which isn't a partition: the predecessors are
+     * listed and each world has one count.
+     *
+     * @param relation relation of an agent
+     * @param size     number of world ids
+     * @return arcs of the relation
+     */
+    private Arcs listedArcs(AccessibilityRelation relation, int size) {
+        Arcs arcs = new Arcs();
+        arcs.starts = new int[size + 1];
+        for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+            for (int t : this.successors(relation, w, size)) {
+                arcs.starts[t + 1]++;
+            }
+        }
+        for (int t = 0; t < size; t++) {
+            arcs.starts[t + 1] += arcs.starts[t];
+        }
+
+        arcs.predecessors = new int[arcs.starts[size]];
+        arcs.countOf = new int[arcs.starts[size]];
+        int[] next = Arrays.copyOf(arcs.starts, size);
+        for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+            int[] successors = this.successors(relation, w, size);
+            if (successors.length == 0) {
+                continue;
+            }
+            int count = arcs.add(w);
+            arcs.counts[count] = successors.length;
+            for (int t : successors) {
+                arcs.countOf[next[t]] = count;
+                arcs.predecessors[next[t]++] = w;
+            }
+        }
+        return arcs;
+    }
+
+    /**
+     * Gets the successors of a world inside the universe, without building a
+     * set for a functional relation.
+     *
+     * @param relation relation of an agent
+     * @param world    world id
+     * @param size     number of world ids
+     * @return successor ids
+     */
+    private int[] successors(AccessibilityRelation relation, int world, int size) {
+        if (world >= relation.size()) {
+            return new int[0];
+        }
+        if (relation instanceof FunctionalRelation) {
+            int[] ids = ((FunctionalRelation) relation).getSuccessorIds(world);
+            int count = 0;
+            for (int t : ids) {
+                if (t < size && this.universe.get(t)) {
+                    count++;
+                }
+            }
+            if (count == ids.length) {
+                return ids;
+            }
+            int[] kept = new int[count];
+            count = 0;
+            for (int t : ids) {
+                if (t < size && this.universe.get(t)) {
+                    kept[count++] = t;
+                }
+            }
+            return kept;
+        }
+        BitSet successors = relation.getSuccessors(world);
+        if (successors == null) {
+            return new int[0];
+        }
+        BitSet kept = (BitSet) successors.clone();
+        kept.and(this.universe);
+        return kept.stream().toArray();
+    }
+
+    /**
+     * Refines the partition until it is the coarsest bisimulation.
+     *
+     * @return block of each world id (-1 for an id outside the universe)
+     */
+    int[] refine() {
+        // the blocks must be stable with the universe: the worlds with a
+        // successor are split from the others (every world of a partition is
+        // its own successor)
+        for (Arcs arcs : this.arcs) {
+            if (arcs.partition != null) {
+                continue;
+            }
+            List<Integer> reaching = new ArrayList<>();
+            for (int count = 0; count < arcs.size; count++) {
+                reaching.add(arcs.owners[count]);
+            }
+            this.split(reaching);
+        }
+
+        while (!this.splitters.isEmpty()) {
+            int compound = this.splitters.poll();
+            if (this.compoundSizes[compound] < 2) {
+                continue;
+            }
+
+            // the smaller of the first two blocks is taken out of the compound
+            // block, so it holds at most half of its worlds
+            int first = this.firstBlocks[compound];
+            int second = this.nextBlocks[first];
+            int block = this.blockEnds[first] - this.blockStarts[first] <= this.blockEnds[second]
+                    - this.blockStarts[second] ? first : second;
+            this.unlink(block);
+            int taken = this.compoundCount++;
+            this.link(block, taken, -1);
+            if (this.compoundSizes[compound] > 1) {
+                this.splitters.add(compound);
+            }
+
+            // the block can be split by the first agents, its worlds are kept
+            int[] members = Arrays.copyOfRange(this.elements, this.blockStarts[block], this.blockEnds[block]);
+            for (Arcs arcs : this.arcs) {
+                this.splitBy(arcs, members);
+            }
+        }
+        return this.blockOf;
+    }
+
+    /**
+     * Splits the blocks with the worlds taken out of a compound block, for an
+     * agent.
+     *
+     * @param arcs    arcs of the agent
+     * @param members worlds taken out
+     */
+    private void splitBy(Arcs arcs, int[] members) {
+        // the successors in the taken out worlds are counted apart from the
+        // successors in the rest of the compound block
+        List<Integer> changed = new ArrayList<>();
+        for (int t : members) {
+            if (arcs.partition != null) {
+                if (arcs.countOf[t] >= 0) {
+                    arcs.countOf[t] = this.replace(arcs, arcs.countOf[t], changed);
+                }
+                continue;
+            }
+            for (int arc = arcs.starts[t]; arc < arcs.starts[t + 1]; arc++) {
+                arcs.countOf[arc] = this.replace(arcs, arcs.countOf[arc], changed);
+            }
+        }
+
+        // worlds with a successor in the taken out worlds, and those of them
+        // without successor in the rest of the compound block
+        List<Integer> reaching = new ArrayList<>();
+        List<Integer> only = new ArrayList<>();
+        for (int count : changed) {
+            boolean rest = arcs.counts[count] > 0;
+            arcs.replacements[count] = -1;
+            if (arcs.partition == null) {
+                reaching.add(arcs.owners[count]);
+                if (!rest) {
+                    only.add(arcs.owners[count]);
+                }
+                continue;
+            }
+            int c = arcs.owners[count];
+            for (int position = arcs.partition.getClassStart(c); position < arcs.partition
+                    .getClassEnd(c); position++) {
+                int w = arcs.partition.getMember(position);
+                if (w < this.blockOf.length && this.blockOf[w] >= 0) {
+                    reaching.add(w);
+                    if (!rest) {
+                        only.add(w);
+                    }
+                }
+            }
+        }
+        this.split(reaching);
+        this.split(only);
+    }
+
+    /**
+     * Moves one successor from a count to the count of the taken out worlds.
+     *
+     * @param arcs    arcs of the agent
+     * @param count   count of the compound block
+     * @param changed counts already replaced
+     * @return count of the taken out worlds
+     */
+    private int replace(Arcs arcs, int count, List<Integer> changed) {
+        int replacement = arcs.replacements[count];
+        if (replacement < 0) {
+            replacement = arcs.add(arcs.owners[count]);
+            arcs.replacements[count] = replacement;
+            changed.add(count);
+        }
+        arcs.counts[count]--;
+        arcs.counts[replacement]++;
+        return replacement;
+    }
+
+    /**
+     * Splits the blocks partially covered by distinct worlds: the covered worlds
+     * become a new block of the same compound block.
+     *
+     * @param worlds distinct worlds of the universe
+     */
+    private void split(List<Integer> worlds) {
+        List<Integer> touched = new ArrayList<>();
+        for (int w : worlds) {
+            int block = this.blockOf[w];
+            if (this.marked[block] == 0) {
+                touched.add(block);
+            }
+            // the world is swapped with the first unmarked world
+            int position = this.blockStarts[block] + this.marked[block]++;
+            int other = this.elements[position];
+            this.elements[this.positions[w]] = other;
+            this.positions[other] = this.positions[w];
+            this.elements[position] = w;
+            this.positions[w] = position;
+        }
+
+        for (int block : touched) {
+            int end = this.blockStarts[block] + this.marked[block];
+            this.marked[block] = 0;
+            if (end == this.blockEnds[block]) {
+                continue;
+            }
+            int newBlock = this.blockCount++;
+            this.blockStarts[newBlock] = this.blockStarts[block];
+            this.blockEnds[newBlock] = end;
+            this.blockStarts[block] = end;
+            for (int position = this.blockStarts[newBlock]; position < end; position++) {
+                this.blockOf[this.elements[position]] = newBlock;
+            }
+            int compound = this.compoundOf[block];
+            this.link(newBlock, compound, block);
+            if (this.compoundSizes[compound] == 2) {
+                this.splitters.add(compound);
+            }
+        }
+    }
+
+    /**
+     * Adds a block to a compound block.
+     *
+     * @param block    block to add
+     * @param compound compound block
+     * @param previous block of the compound block after which add the block, or
+     *                 -1 for a new compound block
+     */
+    private void link(int block, int compound, int previous) {
+        this.compoundOf[block] = compound;
+        this.previousBlocks[block] = previous;
+        if (previous < 0) {
+            this.firstBlocks[compound] = block;
+            this.nextBlocks[block] = -1;
+        } else {
+            this.nextBlocks[block] = this.nextBlocks[previous];
+            if (this.nextBlocks[block] >= 0) {
+                this.previousBlocks[this.nextBlocks[block]] = block;
+            }
+            this.nextBlocks[previous] = block;
+        }
+        this.compoundSizes[compound]++;
+    }
+
+    /**
+     * Removes a block from its compound block.
+     *
+     * @param block block to remove
+     */
+    private void unlink(int block) {
+        int compound = this.compoundOf[block];
+        int previous = this.previousBlocks[block];
+        int next = this.nextBlocks[block];
+        if (previous < 0) {
+            this.firstBlocks[compound] = next;
+        } else {
+            this.nextBlocks[previous] = next;
+        }
+        if (next >= 0) {
+            this.previousBlocks[next] = previous;
+        }
+        this.compoundSizes[compound]--;
+    }
+
+    /**
+     * Gets the representative of each world: the smallest id of its block, so
+     * the worlds of the structure are preferred to the worlds only referenced as
+     * successors.
+     *
+     * @return representative id of each world id (-1 for an id outside the
+     *         universe)
+     */
+    int[] representatives() {
+        int[] blockOf = this.refine();
+        int[] smallest = new int[this.blockCount];
+        Arrays.fill(smallest, -1);
+        for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+            if (smallest[blockOf[w]] < 0) {
+                smallest[blockOf[w]] = w;
+            }
+        }
+        int[] representatives = new int[blockOf.length];
+        for (int w = 0; w < blockOf.length; w++) {
+            representatives[w] = blockOf[w] < 0 ? -1 : smallest[blockOf[w]];
+        }
+        return representatives;
+    }
+}
@@ -0,0 +1,32 @@
+package MAKBPInterpreter.agents;
+
+import java.util.BitSet;
+
+/**
+ * Accessibility relation stored as one successor {@link BitSet} per world.
+ */
+public class BitSetRelation implements AccessibilityRelation {
+    /**
+     * Successors of each world.
+     */
+    private final BitSet[] rows;
+
+    /**
+     * Constructor. The rows are not copied and must not be modified afterwards.
+     *
+     * @param rows successor ids of each world
+     */
+    public BitSetRelation(BitSet[] rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public BitSet getSuccessors(int world) {
+        return this.rows[world];
+    }
+
+    @Override
+    public int size() {
+        return this.rows.length;
+    }
+}
@@ -1,6 +1,7 @@
 package MAKBPInterpreter.agents;
 
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
 import MAKBPInterpreter.logic.LogicAssignment;
 
 /**
@@ -23,6 +24,12 @@ public class Box extends AgentKnowledge {
         return new AgentKnowledge(this.agent, this.innerFormula.simplify());
     }
 
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula innerFormula = factory.intern(this.innerFormula);
+        return factory.register(innerFormula == this.innerFormula ? this : new Box(this.agent, innerFormula));
+    }
+
     @Override
     public boolean evaluate(LogicAssignment assignment) throws Exception {
         if (!(assignment instanceof ModalLogicAssignment)) {
@@ -34,15 +41,9 @@ public class Box extends AgentKnowledge {
         KripkeStructure structure = assignment2.getStructure();
 
         // we check if all connected worlds to the actual world satisfied the formula or
-        // not
-        // in other words, if it satisfied, it's because the world is a correct one for
-        // the agent
+        // not, the search stops at the first counterexample
         //
         // (M, s) |= K_i(phi) iff for all t, (M,t) |= phi, (s,t) e K_i(s)
-        boolean result = true;
-        for (KripkeWorld otherWorld : structure.getWorldsFromOtherWorldAndAgent(world, agent)) {
-            result = result && otherWorld.satisfied(this.innerFormula, structure);
-        }
-        return result;
+        return !structure.existsSuccessor(world, agent, this.innerFormula, false);
     }
 }
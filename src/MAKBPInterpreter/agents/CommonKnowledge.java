@@ -1,5 +1,8 @@
 package MAKBPInterpreter.agents;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Objects;
@@ -7,6 +10,7 @@ import java.util.Queue;
 import java.util.Set;
 
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
 import MAKBPInterpreter.logic.LogicAssignment;
 import MAKBPInterpreter.logic.Not;
 
@@ -19,12 +23,22 @@ public class CommonKnowledge implements Formula {
     /**
      * Agent set where each agent knows the associated formula.
      */
-    protected Set<Agent> agents;
+    protected final Set<Agent> agents;
 
     /**
      * Common formula knows by all the agents.
      */
-    protected Formula innerFormula;
+    protected final Formula innerFormula;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Default constructor.
@@ -33,8 +47,16 @@ public class CommonKnowledge implements Formula {
      * @param agents  set of agents where each of this knows the {@code formula}
      */
     public CommonKnowledge(Formula formula, Set<Agent> agents) {
-        this.agents = agents;
+        this.agents = new HashSet<>(agents);
         this.innerFormula = formula;
+
+        // agents are hashed by name like in the agent knowledge
+        int agentsHash = 0;
+        for (Agent agent : this.agents) {
+            agentsHash += agent.getName().hashCode();
+        }
+        this.hash = Objects.hash(agentsHash, this.innerFormula);
+        this.size = 1 + this.innerFormula.size();
     }
 
     @Override
@@ -47,13 +69,13 @@ public class CommonKnowledge implements Formula {
             return false;
 
         CommonKnowledge otherCommonKnowledge = (CommonKnowledge) other;
-        return otherCommonKnowledge.agents.equals(this.agents)
+        return this.hash == otherCommonKnowledge.hash && otherCommonKnowledge.agents.equals(this.agents)
                 && this.innerFormula.equals(otherCommonKnowledge.innerFormula);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.agents, this.innerFormula);
+        return this.hash;
     }
 
     @Override
@@ -71,6 +93,23 @@ public class CommonKnowledge implements Formula {
         return this.innerFormula.contains(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Collections.singletonList(this.innerFormula);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula innerFormula = factory.intern(this.innerFormula);
+        return factory.register(
+                innerFormula == this.innerFormula ? this : new CommonKnowledge(innerFormula, this.agents));
+    }
+
     /**
      * Gets the inner formula object.
      * 
@@ -99,6 +138,11 @@ public class CommonKnowledge implements Formula {
      * realized.
      * This algorithm represents the infinite depth in theory but limited by the
      * number of edges and vertices of the Kripke structure.
+     * 
+     * If the union of the relations of the group is symmetric, the reachable
+     * worlds are the component of the pointed world (see
+     * {@link GroupComponents}): the formula is checked once for the component and
+     * the result is cached for all its worlds.
      */
     @Override
     public boolean evaluate(LogicAssignment assignment) throws Exception {
@@ -110,6 +154,30 @@ public class CommonKnowledge implements Formula {
         KripkeWorld pointedWorld = assignment2.getWorld();
         KripkeStructure structure = assignment2.getStructure();
 
+        ModelChecker checker = structure.getModelChecker();
+        int id = checker.getWorldId(pointedWorld);
+        GroupComponents components = id < 0 ? null : checker.getGroupComponents(this.agents);
+        if (components != null && components.isSymmetric()) {
+            int component = components.getComponentId(id);
+            BitSet members = components.getMembers(component);
+            boolean result = true;
+            if (components.isClosed(component)) {
+                for (int w = members.nextSetBit(0); w >= 0 && result; w = members.nextSetBit(w + 1)) {
+                    structure.countWorldsVisited(1);
+                    result = checker.getWorld(w).satisfied(this.innerFormula, structure);
+                }
+            }
+
+            // the other worlds of the component reach the same worlds
+            TruthCache cache = structure.getTruthCache();
+            for (int w = members.nextSetBit(0); w >= 0; w = members.nextSetBit(w + 1)) {
+                if (w != id) {
+                    cache.put(this, checker.getWorld(w), result);
+                }
+            }
+            return result;
+        }
+
         Formula formula = new EverybodyKnowledge(this.innerFormula, agents);
 
         Queue<KripkeWorld> queue = new LinkedList<>();
@@ -118,13 +186,18 @@ public class CommonKnowledge implements Formula {
         coloredWorlds.add(pointedWorld);
         while (!queue.isEmpty()) {
             KripkeWorld world = queue.poll();
+            structure.countWorldsVisited(1);
 
             if (!world.satisfied(formula, structure)) {
                 return false;
             }
 
             for (Agent agent : this.agents) {
-                for (KripkeWorld t : structure.getWorldsFromOtherWorldAndAgent(world, agent)) {
+                Set<KripkeWorld> successors = structure.getWorldsFromOtherWorldAndAgent(world, agent);
+                if (successors == null) {
+                    continue; // no arc of this agent
+                }
+                for (KripkeWorld t : successors) {
                     if (!coloredWorlds.contains(t)) {
                         queue.add(t);
                         coloredWorlds.add(t);
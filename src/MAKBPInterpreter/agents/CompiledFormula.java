@@ -0,0 +1,208 @@
+package MAKBPInterpreter.agents;
+
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaProgram;
+
+/**
+ * Formula of the modal and epistemic logic compiled once for repeated
+ * evaluations in the worlds of Kripke structures.
+ *
+ * The propositional part of the formula is a {@link FormulaProgram} (atoms
+ * bound to their index, connectives turned into jumps) and each maximal modal
+ * subformula is a leaf of this program, itself compiled: the knowledge,
+ * possibility and everybody knowledge operators are bound to their agents and
+ * search the linked worlds with their compiled inner formula. The values of
+ * the modal subformulas are kept in the truth cache of the structure like
+ * with {@link KripkeWorld#satisfied(Formula, KripkeStructure)}, so compiled and
+ * interpreted evaluations share their results. The common knowledge and the
+ * unknown formulas are evaluated by the formula itself.
+ *
+ * A compiled formula is immutable: a formula used many times (like the guards
+ * of an {@link AgentProgram}) can be compiled once for the whole run.
+ */
+public final class CompiledFormula implements FormulaProgram.Leaves<ModalLogicAssignment> {
+    /**
+     * Propositional formula (with its modal subformulas as leaves).
+     */
+    private static final int PROGRAM = 0;
+
+    /**
+     * Knowledge of an agent.
+     */
+    private static final int KNOWS = 1;
+
+    /**
+     * Possibility of an agent.
+     */
+    private static final int POSSIBLE = 2;
+
+    /**
+     * Knowledge of every agent of a group.
+     */
+    private static final int EVERYBODY = 3;
+
+    /**
+     * Formula evaluated by itself.
+     */
+    private static final int FORMULA = 4;
+
+    /**
+     * Compiled formula.
+     */
+    private final Formula formula;
+
+    /**
+     * Kind of node ({@link #PROGRAM}, {@link #KNOWS}, {@link #POSSIBLE},
+     * {@link #EVERYBODY} or {@link #FORMULA}).
+     */
+    private final int kind;
+
+    /**
+     * Program of a propositional node, else {@code null}.
+     */
+    private final FormulaProgram program;
+
+    /**
+     * Compiled leaves of the program of a propositional node, else
+     * {@code null}.
+     */
+    private final CompiledFormula[] leaves;
+
+    /**
+     * Agents of a modal node, else {@code null}.
+     */
+    private final Agent[] agents;
+
+    /**
+     * Compiled inner formula of a modal node, else {@code null}.
+     */
+    private final CompiledFormula inner;
+
+    /**
+     * Constructor.
+     *
+     * @param formula compiled formula
+     * @param kind    kind of node
+     * @param program program of a propositional node
+     * @param leaves  compiled leaves of the program
+     * @param agents  agents of a modal node
+     * @param inner   compiled inner formula of a modal node
+     */
+    private CompiledFormula(Formula formula, int kind, FormulaProgram program, CompiledFormula[] leaves,
+            Agent[] agents, CompiledFormula inner) {
+        this.formula = formula;
+        this.kind = kind;
+        this.program = program;
+        this.leaves = leaves;
+        this.agents = agents;
+        this.inner = inner;
+    }
+
+    /**
+     * Compiles a formula.
+     *
+     * @param formula formula to compile
+     * @return compiled formula
+     * @throws IllegalArgumentException thrown if more than
+     *                                  {@link FormulaProgram#MAX_DEPTH}
+     *                                  equivalences are nested
+     */
+    public static CompiledFormula compile(Formula formula) {
+        if (formula instanceof Diamond) {
+            Diamond diamond = (Diamond) formula;
+            return new CompiledFormula(formula, POSSIBLE, null, null, new Agent[] { diamond.getAgent() },
+                    compile(diamond.getInnerFormula()));
+        }
+        if (formula instanceof AgentKnowledge) {
+            AgentKnowledge knowledge = (AgentKnowledge) formula;
+            return new CompiledFormula(formula, KNOWS, null, null, new Agent[] { knowledge.getAgent() },
+                    compile(knowledge.getInnerFormula()));
+        }
+        if (formula instanceof EverybodyKnowledge) {
+            EverybodyKnowledge knowledge = (EverybodyKnowledge) formula;
+            return new CompiledFormula(formula, EVERYBODY, null, null, knowledge.getAgents().toArray(new Agent[0]),
+                    compile(knowledge.getInnerFormula()));
+        }
+
+        FormulaProgram program = FormulaProgram.compile(formula);
+        Formula[] leaves = program.getLeaves();
+        if (leaves.length == 1 && leaves[0] == formula) {
+            // common knowledge or unknown formula
+            return new CompiledFormula(formula, FORMULA, null, null, null, null);
+        }
+        CompiledFormula[] compiledLeaves = new CompiledFormula[leaves.length];
+        for (int i = 0; i < leaves.length; i++) {
+            compiledLeaves[i] = compile(leaves[i]);
+        }
+        return new CompiledFormula(formula, PROGRAM, program, compiledLeaves, null, null);
+    }
+
+    /**
+     * Evaluates the formula in a world of a structure, without looking up the
+     * truth cache for the formula itself (see
+     * {@link KripkeWorld#satisfied(CompiledFormula, KripkeStructure)}).
+     *
+     * @param structure structure where evaluate the formula
+     * @param world     world where evaluate the formula inside the structure
+     * @return value of the formula
+     * @throws Exception thrown if a subformula doesn't support the evaluation or
+     *                   if a modal operator is evaluated in a world outside the
+     *                   structure
+     */
+    public boolean evaluate(KripkeStructure structure, KripkeWorld world) throws Exception {
+        switch (this.kind) {
+            case PROGRAM:
+                if (this.leaves.length == 0) {
+                    return this.program.evaluate(world.getValuation());
+                }
+                EvaluationContext context = EvaluationContext.current();
+                try {
+                    return this.program.evaluate(world.getValuation(), this, context.enter(structure, world));
+                } finally {
+                    context.exit();
+                }
+            case KNOWS:
+                return !structure.existsSuccessor(world, this.agents[0], this.inner.formula, this.inner, false);
+            case POSSIBLE:
+                return structure.existsSuccessor(world, this.agents[0], this.inner.formula, this.inner, true);
+            case EVERYBODY:
+                // the search stops at the first counterexample, even for the next agents
+                for (Agent agent : this.agents) {
+                    if (structure.existsSuccessor(world, agent, this.inner.formula, this.inner, false)) {
+                        return false;
+                    }
+                }
+                return true;
+            default: // FORMULA
+                EvaluationContext formulaContext = EvaluationContext.current();
+                try {
+                    return this.formula.evaluate(formulaContext.enter(structure, world));
+                } finally {
+                    formulaContext.exit();
+                }
+        }
+    }
+
+    /**
+     * Evaluates a modal leaf of the program through the truth cache of the
+     * structure of the assignment.
+     */
+    @Override
+    public boolean evaluate(int leaf, ModalLogicAssignment assignment) throws Exception {
+        return assignment.getWorld().satisfied(this.leaves[leaf], assignment.getStructure());
+    }
+
+    /**
+     * Gets the compiled formula.
+     *
+     * @return formula
+     */
+    public Formula getFormula() {
+        return this.formula;
+    }
+
+    @Override
+    public String toString() {
+        return "Compiled[" + this.formula + "]";
+    }
+}
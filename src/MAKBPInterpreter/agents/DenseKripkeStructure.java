@@ -0,0 +1,933 @@
+package MAKBPInterpreter.agents;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.AtomColumns;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Valuation;
+import MAKBPInterpreter.metrics.Metrics;
+
+/**
+ * Represents a system of reasoning for modal logic where worlds and agents are
+ * identified by dense integer ids.
+ *
+ * Each agent relation is an {@link AccessibilityRelation} over world ids: a
+ * {@link PartitionRelation} when the relation is an equivalence (S5), else one
+ * {@link BitSet} row per world ({@link BitSetRelation}), or a successor
+ * function never materialized ({@link FunctionalRelation}), so retrieving the
+ * successors of a world never hashes a world or an agent once their ids are
+ * known. The map-based API of {@link KripkeStructure} is kept as
+ * an adapter: sets returned by
+ * {@link #getWorldsFromOtherWorldAndAgent(KripkeWorld, Agent)} and
+ * {@link #getWorlds()} are views over the bit sets.
+ *
+ * Removed worlds are only cleared from the set of alive worlds, the relations
+ * are never modified after construction (the classes of a partition shrink
+ * with the alive worlds).
+ */
+public class DenseKripkeStructure extends KripkeStructure {
+    /**
+     * Worlds of the structure indexed by their ids.
+     */
+    private List<KripkeWorld> worlds;
+
+    /**
+     * Ids of the worlds.
+     */
+    private Map<KripkeWorld, Integer> worldIds;
+
+    /**
+     * Agents of the structure indexed by their ids.
+     */
+    private List<Agent> agents;
+
+    /**
+     * Id of each agent of the structure.
+     */
+    private AgentMap<Integer> agentIds;
+
+    /**
+     * Relations of the structure indexed by agent id.
+     */
+    private AccessibilityRelation[] relations;
+
+    /**
+     * Ids of the worlds which are still in the structure.
+     */
+    private BitSet alive;
+
+    /**
+     * Truth values of the atoms by column over the world ids, built at the
+     * first propositional label and shared with the copies.
+     */
+    private AtomColumns columns;
+
+    /**
+     * Constructor.
+     *
+     * @param graph                 graph to assigned to the structure
+     * @param agents                list of agents to assigned to the structure
+     * @param reflexiveArcsIncluded if {@code false}, we add the reflexive arcs
+     * @param symetricArcsIncluded  if {@code false}, we add the symetric arcs
+     */
+    public DenseKripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph, Collection<Agent> agents,
+            boolean reflexiveArcsIncluded, boolean symetricArcsIncluded) {
+        super();
+        this.worlds = new ArrayList<>(graph.keySet());
+        this.worldIds = new HashMap<>();
+        for (int i = 0; i < this.worlds.size(); i++) {
+            this.worldIds.put(this.worlds.get(i), i);
+        }
+
+        // agents given in parameter and agents only present in the graph
+        Set<Agent> allAgents = new LinkedHashSet<>(agents);
+        for (Map<Agent, Set<KripkeWorld>> links : graph.values()) {
+            allAgents.addAll(links.keySet());
+        }
+        this.agents = new ArrayList<>(allAgents);
+        this.agentIds = new AgentMap<>();
+        for (int i = 0; i < this.agents.size(); i++) {
+            this.agentIds.put(this.agents.get(i), i);
+        }
+
+        BitSet[][] rows = new BitSet[this.agents.size()][this.worlds.size()];
+        for (int a = 0; a < this.agents.size(); a++) {
+            for (int w = 0; w < this.worlds.size(); w++) {
+                rows[a][w] = new BitSet(this.worlds.size());
+            }
+        }
+        for (int w = 0; w < this.worlds.size(); w++) {
+            for (Map.Entry<Agent, Set<KripkeWorld>> entry : graph.get(this.worlds.get(w)).entrySet()) {
+                BitSet row = rows[this.getAgentId(entry.getKey())][w];
+                for (KripkeWorld world : entry.getValue()) {
+                    Integer id = this.worldIds.get(world);
+                    if (id != null) {
+                        row.set(id);
+                    }
+                }
+            }
+        }
+
+        if (!symetricArcsIncluded) {
+            this.addSymetricArcs(rows);
+        }
+        if (!reflexiveArcsIncluded) {
+            this.addReflexiveArcs(rows);
+        }
+
+        // the equivalence relations are stored as partitions
+        this.relations = new AccessibilityRelation[this.agents.size()];
+        for (int a = 0; a < this.agents.size(); a++) {
+            PartitionRelation partition = PartitionRelation.fromRows(rows[a]);
+            this.relations[a] = partition != null ? partition : new BitSetRelation(rows[a]);
+        }
+
+        this.alive = new BitSet(this.worlds.size());
+        this.alive.set(0, this.worlds.size());
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @implNote We call the
+     *           {@link #DenseKripkeStructure(Map, Collection, boolean, boolean)}
+     *           constructor with {@code false} for the default boolean parameters.
+     * @param graph  graph to assigned to the structure
+     * @param agents list of agents to assigned to the structure
+     */
+    public DenseKripkeStructure(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph, Collection<Agent> agents) {
+        this(graph, agents, false, false);
+    }
+
+    /**
+     * Constructor from already built relations.
+     *
+     * @param worlds    worlds of the structure, the position of a world is its id
+     * @param agents    agents of the structure, the position of an agent is its
+     *                  id
+     * @param relations relation of each agent (same order as {@code agents})
+     *                  over the world ids, used as they are
+     * @throws IllegalArgumentException thrown if the sizes are not consistent or
+     *                                  if a world or an agent is duplicated
+     */
+    public DenseKripkeStructure(List<KripkeWorld> worlds, List<Agent> agents,
+            List<? extends AccessibilityRelation> relations) {
+        super();
+        if (agents.size() != relations.size()) {
+            throw new IllegalArgumentException("agents and relations object need to have exact same size");
+        }
+        this.worlds = new ArrayList<>(worlds);
+        this.worldIds = new HashMap<>();
+        for (int i = 0; i < this.worlds.size(); i++) {
+            if (this.worldIds.put(this.worlds.get(i), i) != null) {
+                throw new IllegalArgumentException("the world " + this.worlds.get(i) + " is duplicated");
+            }
+        }
+
+        this.agents = new ArrayList<>(agents);
+        this.agentIds = new AgentMap<>();
+        this.relations = new AccessibilityRelation[this.agents.size()];
+        for (int i = 0; i < this.agents.size(); i++) {
+            if (this.agentIds.containsKey(this.agents.get(i))) {
+                throw new IllegalArgumentException("the agent " + this.agents.get(i) + " is duplicated");
+            }
+            if (relations.get(i).size() != this.worlds.size()) {
+                throw new IllegalArgumentException("the relation of " + this.agents.get(i) + " has a wrong size");
+            }
+            this.agentIds.put(this.agents.get(i), i);
+            this.relations[i] = relations.get(i);
+        }
+
+        this.alive = new BitSet(this.worlds.size());
+        this.alive.set(0, this.worlds.size());
+    }
+
+    /**
+     * Creates the structure of agents ignorant of their own atoms (as the muddy
+     * children): the worlds are all the valuations of the atoms and an agent
+     * can't distinguish two worlds differing only on its associated atoms.
+     *
+     * The world of id {@code i} is named {@code i} and the atom at position
+     * {@code k} is true in it if the bit {@code k} of {@code i} is set. The
+     * partitions are built directly from this encoding (the worlds of a class
+     * only differ on the bits of the agent atoms), in O(n.2^m) time for n agents
+     * and m atoms instead of comparing every pair of worlds.
+     *
+     * @param atoms            atoms of the worlds (at most 30)
+     * @param agents           agents of the structure
+     * @param atomsAssociation atoms whose values are unknown to each agent (an
+     *                         agent without atoms distinguishes all the worlds)
+     * @return new structure
+     * @throws IllegalArgumentException thrown if there are too many atoms or if
+     *                                  an associated atom is not in
+     *                                  {@code atoms}
+     * @see #fromIgnoredAtoms(List, List, Map, boolean)
+     */
+    public static DenseKripkeStructure fromIgnoredAtoms(List<Atom> atoms, List<Agent> agents,
+            Map<Agent, ? extends Collection<Atom>> atomsAssociation) {
+        return fromIgnoredAtoms(atoms, agents, atomsAssociation, false);
+    }
+
+    /**
+     * Creates the structure of agents ignorant of their own atoms, with stored
+     * partitions or with implicit relations.
+     *
+     * @param atoms            atoms of the worlds (at most 30)
+     * @param agents           agents of the structure
+     * @param atomsAssociation atoms whose values are unknown to each agent
+     * @param implicit         if {@code true}, the relations are
+     *                         {@link FunctionalRelation} objects computing the
+     *                         successors by flipping the bits of the agent atoms,
+     *                         else they are {@link PartitionRelation} objects
+     * @return new structure
+     * @throws IllegalArgumentException thrown if there are too many atoms or if
+     *                                  an associated atom is not in
+     *                                  {@code atoms}
+     * @see #fromIgnoredAtoms(List, List, Map)
+     */
+    public static DenseKripkeStructure fromIgnoredAtoms(List<Atom> atoms, List<Agent> agents,
+            Map<Agent, ? extends Collection<Atom>> atomsAssociation, boolean implicit) {
+        if (atoms.size() > 30) {
+            throw new IllegalArgumentException("too many atoms to enumerate the worlds: " + atoms.size());
+        }
+        int size = 1 << atoms.size();
+        List<KripkeWorld> worlds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            worlds.add(new KripkeWorld(Integer.toString(i), Valuation.fromBits(atoms, i)));
+        }
+
+        List<AccessibilityRelation> relations = new ArrayList<>();
+        int[] classes = implicit ? null : new int[size];
+        for (Agent agent : agents) {
+            int mask = 0;
+            Collection<Atom> ignored = atomsAssociation.get(agent);
+            if (ignored != null) {
+                for (Atom atom : ignored) {
+                    int k = atoms.indexOf(atom);
+                    if (k < 0) {
+                        throw new IllegalArgumentException("the atom " + atom + " of " + agent + " is unknown");
+                    }
+                    mask |= 1 << k;
+                }
+            }
+            if (implicit) {
+                relations.add(FunctionalRelation.ignoring(size, mask));
+                continue;
+            }
+
+            // a class is identified by the bits outside the mask
+            Arrays.fill(classes, -1);
+            int[] classIds = new int[size];
+            int count = 0;
+            for (int w = 0; w < size; w++) {
+                int key = w & ~mask;
+                if (classes[key] < 0) {
+                    classes[key] = count++;
+                }
+                classIds[w] = classes[key];
+            }
+            relations.add(new PartitionRelation(classIds));
+        }
+        return new DenseKripkeStructure(worlds, agents, relations);
+    }
+
+    /**
+     * Conversion constructor from any other structure. The arcs of the given
+     * structure are copied as they are.
+     *
+     * @param structure structure to convert
+     */
+    public DenseKripkeStructure(KripkeStructure structure) {
+        this(structure.getReadOnlyGraph(), new HashSet<>(), true, true);
+    }
+
+    /**
+     * Copy constructor. The relations are immutable so they are shared with the
+     * copied structure, only the alive worlds are copied.
+     *
+     * @param structure structure to copy
+     */
+    public DenseKripkeStructure(DenseKripkeStructure structure) {
+        super();
+        this.worlds = structure.worlds;
+        this.worldIds = structure.worldIds;
+        this.agents = structure.agents;
+        this.agentIds = structure.agentIds;
+        this.relations = structure.relations;
+        this.columns = structure.columns;
+        this.alive = (BitSet) structure.alive.clone();
+        this.setPool(structure.getPool());
+        this.setMetrics(structure.getMetrics());
+    }
+
+    @Override
+    public DenseKripkeStructure copy() {
+        return new DenseKripkeStructure(this);
+    }
+
+    /**
+     * Adds the reflexive arcs for each agent.
+     *
+     * @param relations successor rows of each agent
+     */
+    private void addReflexiveArcs(BitSet[][] relations) {
+        for (BitSet[] rows : relations) {
+            for (int w = 0; w < rows.length; w++) {
+                rows[w].set(w);
+            }
+        }
+    }
+
+    /**
+     * Adds the symetric arcs for each agent.
+     *
+     * @param relations successor rows of each agent
+     */
+    private void addSymetricArcs(BitSet[][] relations) {
+        for (BitSet[] rows : relations) {
+            for (int w = 0; w < rows.length; w++) {
+                for (int t = rows[w].nextSetBit(0); t >= 0; t = rows[w].nextSetBit(t + 1)) {
+                    rows[t].set(w);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the truth values of the atoms by column over the world ids (the
+     * removed worlds included). The worlds never change their ids, so the
+     * columns are built once and shared with the copies of the structure.
+     *
+     * @return atom columns
+     */
+    public AtomColumns getAtomColumns() {
+        if (this.columns == null) {
+            List<Valuation> valuations = new ArrayList<>(this.worlds.size());
+            for (KripkeWorld world : this.worlds) {
+                valuations.add(world.getValuation());
+            }
+            this.columns = new AtomColumns(valuations);
+        }
+        return this.columns;
+    }
+
+    @Override
+    public void publicAnnouncement(Formula formula) throws Exception {
+        // we keep the worlds satisfying the formula (labeled by column if it is
+        // propositional), arcs to removed worlds are filtered out when reading
+        // the rows
+        BitSet satisfying = this.getModelChecker().label(formula);
+        this.incrementVersion();
+        Metrics metrics = this.getMetrics();
+        int before = metrics == null ? 0 : this.alive.cardinality();
+        this.alive.and(satisfying);
+        if (metrics != null) {
+            metrics.countAnnouncement(before - this.alive.cardinality());
+        }
+    }
+
+    /**
+     * Keeps only the representative worlds and redirects the arcs to them. The
+     * objects shared with the copies of the structure are replaced, not
+     * modified, and the removed worlds are forgotten (the ids are compacted).
+     */
+    @Override
+    protected void mergeWorlds(ModelChecker checker, int[] representatives) {
+        int[] newIds = new int[representatives.length];
+        List<KripkeWorld> worlds = new ArrayList<>();
+        List<Integer> oldIds = new ArrayList<>();
+        for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+            if (representatives[w] == w) {
+                newIds[w] = worlds.size();
+                worlds.add(this.worlds.get(w));
+                oldIds.add(w);
+            }
+        }
+
+        AccessibilityRelation[] relations = new AccessibilityRelation[this.agents.size()];
+        for (int a = 0; a < this.agents.size(); a++) {
+            if (this.relations[a] instanceof PartitionRelation) {
+                relations[a] = this.mergeClasses((PartitionRelation) this.relations[a], representatives, newIds,
+                        oldIds);
+                continue;
+            }
+            BitSet[] rows = new BitSet[worlds.size()];
+            for (int i = 0; i < worlds.size(); i++) {
+                rows[i] = new BitSet();
+                if (this.relations[a] instanceof FunctionalRelation) {
+                    for (int t : ((FunctionalRelation) this.relations[a]).getSuccessorIds(oldIds.get(i))) {
+                        if (this.alive.get(t)) {
+                            rows[i].set(newIds[representatives[t]]);
+                        }
+                    }
+                    continue;
+                }
+                BitSet successors = this.relations[a].getSuccessors(oldIds.get(i));
+                for (int t = successors.nextSetBit(0); t >= 0; t = successors.nextSetBit(t + 1)) {
+                    if (this.alive.get(t)) {
+                        rows[i].set(newIds[representatives[t]]);
+                    }
+                }
+            }
+            PartitionRelation partition = PartitionRelation.fromRows(rows);
+            relations[a] = partition != null ? partition : new BitSetRelation(rows);
+        }
+
+        this.worlds = worlds;
+        this.worldIds = new HashMap<>();
+        for (int i = 0; i < worlds.size(); i++) {
+            this.worldIds.put(worlds.get(i), i);
+        }
+        this.relations = relations;
+        this.columns = null;
+        this.alive = new BitSet(worlds.size());
+        this.alive.set(0, worlds.size());
+        this.incrementVersion();
+    }
+
+    /**
+     * Merges the classes of a partition: the bisimilar worlds of an equivalence
+     * relation reach the same blocks, so the class of a representative is the
+     * set of the representatives of its class, identified by the smallest new
+     * id of this set.
+     *
+     * @param partition       partition of an agent
+     * @param representatives representative id of each world id
+     * @param newIds          new id of each representative
+     * @param oldIds          old id of each new id
+     * @return partition of the representatives
+     */
+    private PartitionRelation mergeClasses(PartitionRelation partition, int[] representatives, int[] newIds,
+            List<Integer> oldIds) {
+        int[] smallest = new int[partition.getClassCount()];
+        Arrays.fill(smallest, -1);
+        for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+            int c = partition.getClassId(w);
+            int id = newIds[representatives[w]];
+            if (smallest[c] < 0 || id < smallest[c]) {
+                smallest[c] = id;
+            }
+        }
+
+        int[] classIds = new int[oldIds.size()];
+        int[] newClasses = new int[oldIds.size()];
+        Arrays.fill(newClasses, -1);
+        int count = 0;
+        for (int i = 0; i < oldIds.size(); i++) {
+            int key = smallest[partition.getClassId(oldIds.get(i))];
+            if (newClasses[key] < 0) {
+                newClasses[key] = count++;
+            }
+            classIds[i] = newClasses[key];
+        }
+        return new PartitionRelation(classIds);
+    }
+
+    @Override
+    public Set<KripkeWorld> getWorldsFromOtherWorldAndAgent(KripkeWorld world, Agent agent) {
+        int w = this.getWorldId(world);
+        if (w < 0 || !this.alive.get(w)) {
+            throw new KripkeStructureInvalidRuntimeException(
+                    "the world " + world + " no longer exists in this structure");
+        }
+        int a = this.getAgentId(agent);
+        if (a < 0) {
+            return null;
+        }
+        return new WorldSetView(this.relations[a], w);
+    }
+
+    /**
+     * Searches directly in the row or in the class of the world, without
+     * building the set of its successors.
+     */
+    @Override
+    boolean existsSuccessor(KripkeWorld world, Agent agent, Formula formula, CompiledFormula compiled,
+            boolean value) throws Exception {
+        int w = this.getWorldId(world);
+        if (w < 0 || !this.alive.get(w)) {
+            throw new KripkeStructureInvalidRuntimeException(
+                    "the world " + world + " no longer exists in this structure");
+        }
+        int a = this.getAgentId(agent);
+        if (a < 0) {
+            return false;
+        }
+
+        AccessibilityRelation relation = this.relations[a];
+        int visited = 0;
+        try {
+            if (relation instanceof PartitionRelation) {
+                PartitionRelation partition = (PartitionRelation) relation;
+                int c = partition.getClassId(w);
+                for (int position = partition.getClassStart(c); position < partition.getClassEnd(c); position++) {
+                    int t = partition.getMember(position);
+                    if (this.alive.get(t)) {
+                        visited++;
+                        if (this.worlds.get(t).satisfied(formula, compiled, this) == value) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+
+            if (relation instanceof FunctionalRelation) {
+                for (int t : ((FunctionalRelation) relation).getSuccessorIds(w)) {
+                    if (this.alive.get(t)) {
+                        visited++;
+                        if (this.worlds.get(t).satisfied(formula, compiled, this) == value) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+
+            BitSet row = relation.getSuccessors(w);
+            for (int t = row.nextSetBit(0); t >= 0; t = row.nextSetBit(t + 1)) {
+                if (this.alive.get(t)) {
+                    visited++;
+                    if (this.worlds.get(t).satisfied(formula, compiled, this) == value) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            this.countWorldsVisited(visited);
+        }
+    }
+
+    @Override
+    public Set<KripkeWorld> getWorldsToOtherWorldAndAgent(KripkeWorld world, Agent agent) {
+        int w = this.getWorldId(world);
+        if (w < 0 || !this.alive.get(w)) {
+            throw new KripkeStructureInvalidRuntimeException(
+                    "the world " + world + " no longer exists in this structure");
+        }
+        BitSet predecessors = new BitSet(this.worlds.size());
+        int a = this.getAgentId(agent);
+        if (a >= 0 && this.relations[a] instanceof PartitionRelation) {
+            // symmetric relation: the predecessors are the members of the class
+            PartitionRelation partition = (PartitionRelation) this.relations[a];
+            int c = partition.getClassId(w);
+            for (int position = partition.getClassStart(c); position < partition.getClassEnd(c); position++) {
+                int p = partition.getMember(position);
+                if (this.alive.get(p)) {
+                    predecessors.set(p);
+                }
+            }
+        } else if (a >= 0 && this.relations[a] instanceof FunctionalRelation) {
+            FunctionalRelation functional = (FunctionalRelation) this.relations[a];
+            for (int p = this.alive.nextSetBit(0); p >= 0; p = this.alive.nextSetBit(p + 1)) {
+                for (int t : functional.getSuccessorIds(p)) {
+                    if (t == w) {
+                        predecessors.set(p);
+                        break;
+                    }
+                }
+            }
+        } else if (a >= 0) {
+            for (int p = this.alive.nextSetBit(0); p >= 0; p = this.alive.nextSetBit(p + 1)) {
+                if (this.relations[a].getSuccessors(p).get(w)) {
+                    predecessors.set(p);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(new WorldSetView(predecessors));
+    }
+
+    /**
+     * Gets a snapshot of the structure as a graph. The relations are not stored
+     * in a graph, so the snapshot is unmodifiable (a modification would not be
+     * reflected on the structure).
+     *
+     * @return unmodifiable reasoning graph
+     */
+    @Override
+    public Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getGraph() {
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+            Map<Agent, Set<KripkeWorld>> links = new AgentMap<>();
+            for (int a = 0; a < this.agents.size(); a++) {
+                links.put(this.agents.get(a),
+                        Collections.unmodifiableSet(new HashSet<>(new WorldSetView(this.relations[a], w))));
+            }
+            graph.put(this.worlds.get(w), Collections.unmodifiableMap(links));
+        }
+        return Collections.unmodifiableMap(graph);
+    }
+
+    @Override
+    public Collection<KripkeWorld> getWorlds() {
+        return new WorldSetView(null);
+    }
+
+    /**
+     * Gets the id of a world.
+     *
+     * @param world world to get the id
+     * @return id of the world or -1 if the world was never in the structure
+     */
+    public int getWorldId(KripkeWorld world) {
+        Integer id = this.worldIds.get(world);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the world associated to an id.
+     *
+     * @param id world id
+     * @return associated world
+     */
+    public KripkeWorld getWorld(int id) {
+        return this.worlds.get(id);
+    }
+
+    /**
+     * Gets the id of an agent.
+     *
+     * @param agent agent to get the id
+     * @return id of the agent or -1 if the agent is not in the structure
+     */
+    public int getAgentId(Agent agent) {
+        Integer id = this.agentIds.get(agent);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the agents of the structure indexed by their ids.
+     *
+     * @return unmodifiable list of agents
+     */
+    @Override
+    public List<Agent> getAgents() {
+        return Collections.unmodifiableList(this.agents);
+    }
+
+    /**
+     * Counts the arcs between the alive worlds. The arcs of a partition are
+     * counted from the number of alive worlds of each class, the other relations
+     * are read without copying their rows.
+     *
+     * @return number of arcs
+     */
+    @Override
+    public long getEdgeCount() {
+        long count = 0;
+        for (AccessibilityRelation relation : this.relations) {
+            if (relation instanceof PartitionRelation) {
+                PartitionRelation partition = (PartitionRelation) relation;
+                long[] sizes = new long[partition.getClassCount()];
+                for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+                    sizes[partition.getClassId(w)]++;
+                }
+                for (long size : sizes) {
+                    count += size * size;
+                }
+            } else if (relation instanceof FunctionalRelation) {
+                FunctionalRelation functional = (FunctionalRelation) relation;
+                for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+                    for (int t : functional.getSuccessorIds(w)) {
+                        if (this.alive.get(t)) {
+                            count++;
+                        }
+                    }
+                }
+            } else {
+                for (int w = this.alive.nextSetBit(0); w >= 0; w = this.alive.nextSetBit(w + 1)) {
+                    BitSet row = relation.getSuccessors(w);
+                    for (int t = row == null ? -1 : row.nextSetBit(0); t >= 0; t = row.nextSetBit(t + 1)) {
+                        if (this.alive.get(t)) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of world ids (removed worlds included).
+     *
+     * @return number of ids
+     */
+    public int getWorldIdCount() {
+        return this.worlds.size();
+    }
+
+    /**
+     * Checks if the world associated to an id is still in the structure.
+     *
+     * @param id world id
+     * @return {@code true} if the world was not removed
+     */
+    public boolean isAlive(int id) {
+        return this.alive.get(id);
+    }
+
+    /**
+     * Gets the ids of the worlds which are still in the structure.
+     *
+     * @return copy of the alive world ids
+     */
+    public BitSet getAliveWorldIds() {
+        return (BitSet) this.alive.clone();
+    }
+
+    /**
+     * Gets the ids of the worlds linked to a world via an agent.
+     *
+     * @param world world id
+     * @param agent agent id
+     * @return new bit set containing the ids of the linked worlds
+     */
+    public BitSet getSuccessors(int world, int agent) {
+        // only the rows of a BitSetRelation are stored, the other relations
+        // create a new set
+        AccessibilityRelation relation = this.relations[agent];
+        BitSet successors = relation.getSuccessors(world);
+        if (relation instanceof BitSetRelation) {
+            successors = (BitSet) successors.clone();
+        }
+        successors.and(this.alive);
+        return successors;
+    }
+
+    /**
+     * Gets the relation of an agent. The successors are not filtered by the
+     * alive worlds.
+     *
+     * @param agent agent id
+     * @return accessibility relation of the agent
+     */
+    public AccessibilityRelation getRelation(int agent) {
+        return this.relations[agent];
+    }
+
+    /**
+     * Set of worlds backed by a row of the relations, by the class of a world in
+     * a partition, by the successor ids of a functional relation (or all the
+     * worlds if no row is given) and filtered by the alive worlds.
+     */
+    private class WorldSetView extends AbstractSet<KripkeWorld> {
+        /**
+         * Row of world ids, {@code null} for a class or for the whole set of alive
+         * worlds.
+         */
+        private BitSet row;
+
+        /**
+         * Partition whose class gives the world ids, else {@code null}.
+         */
+        private PartitionRelation partition;
+
+        /**
+         * Class of the partition.
+         */
+        private int classId;
+
+        /**
+         * Successor ids of a functional relation, else {@code null}.
+         */
+        private int[] ids;
+
+        /**
+         * Constructor.
+         *
+         * @param row row of world ids
+         */
+        private WorldSetView(BitSet row) {
+            this.row = row;
+        }
+
+        /**
+         * Constructor of the view over the successors of a world. The class of a
+         * partition is read as a range of its members and the successor ids of a
+         * functional relation are computed once, no set is built.
+         *
+         * @param relation relation of an agent
+         * @param world    world id
+         */
+        private WorldSetView(AccessibilityRelation relation, int world) {
+            if (relation instanceof PartitionRelation) {
+                this.partition = (PartitionRelation) relation;
+                this.classId = this.partition.getClassId(world);
+            } else if (relation instanceof FunctionalRelation) {
+                this.ids = ((FunctionalRelation) relation).getSuccessorIds(world);
+            } else {
+                this.row = relation.getSuccessors(world);
+            }
+        }
+
+        /**
+         * Gets the next element of the set: a position of the members of the
+         * partition for a class, a position of the successor ids for a functional
+         * relation, else a world id.
+         *
+         * @param from element to start the search from (included)
+         * @return next element or -1 if there is no more element
+         */
+        private int next(int from) {
+            BitSet alive = DenseKripkeStructure.this.alive;
+            if (this.partition != null) {
+                int end = this.partition.getClassEnd(this.classId);
+                for (int position = from; position < end; position++) {
+                    if (alive.get(this.partition.getMember(position))) {
+                        return position;
+                    }
+                }
+                return -1;
+            }
+            if (this.ids != null) {
+                for (int position = from; position < this.ids.length; position++) {
+                    if (alive.get(this.ids[position])) {
+                        return position;
+                    }
+                }
+                return -1;
+            }
+            if (this.row == null) {
+                return alive.nextSetBit(from);
+            }
+            int id = this.row.nextSetBit(from);
+            while (id >= 0 && !alive.get(id)) {
+                id = this.row.nextSetBit(id + 1);
+            }
+            return id;
+        }
+
+        /**
+         * Gets the first element of the set.
+         *
+         * @return first element or -1 if the set is empty
+         */
+        private int first() {
+            return this.next(this.partition != null ? this.partition.getClassStart(this.classId) : 0);
+        }
+
+        /**
+         * Gets the world id of an element of the set.
+         *
+         * @param element element of the set
+         * @return world id
+         */
+        private int id(int element) {
+            if (this.partition != null) {
+                return this.partition.getMember(element);
+            }
+            return this.ids != null ? this.ids[element] : element;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Integer id = DenseKripkeStructure.this.worldIds.get(o);
+            if (id == null || !DenseKripkeStructure.this.alive.get(id)) {
+                return false;
+            }
+            if (this.partition != null) {
+                return this.partition.getClassId(id) == this.classId;
+            }
+            if (this.ids != null) {
+                for (int t : this.ids) {
+                    if (t == id) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return this.row == null || this.row.get(id);
+        }
+
+        @Override
+        public int size() {
+            if (this.partition == null && this.ids == null && this.row == null) {
+                return DenseKripkeStructure.this.alive.cardinality();
+            }
+            int size = 0;
+            for (int element = this.first(); element >= 0; element = this.next(element + 1)) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<KripkeWorld> iterator() {
+            return new Iterator<KripkeWorld>() {
+                private int current = WorldSetView.this.first();
+
+                @Override
+                public boolean hasNext() {
+                    return this.current >= 0;
+                }
+
+                @Override
+                public KripkeWorld next() {
+                    if (this.current < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    KripkeWorld world = DenseKripkeStructure.this.worlds.get(WorldSetView.this.id(this.current));
+                    this.current = WorldSetView.this.next(this.current + 1);
+                    return world;
+                }
+            };
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package MAKBPInterpreter.agents;
 
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
 import MAKBPInterpreter.logic.LogicAssignment;
 import MAKBPInterpreter.logic.Not;
 
@@ -24,6 +25,12 @@ public class Diamond extends AgentKnowledge {
         return new Not(new AgentKnowledge(this.agent, new Not(this.innerFormula)));
     }
 
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula innerFormula = factory.intern(this.innerFormula);
+        return factory.register(innerFormula == this.innerFormula ? this : new Diamond(this.agent, innerFormula));
+    }
+
     @Override
     public boolean evaluate(LogicAssignment assignment) throws Exception {
         if (!(assignment instanceof ModalLogicAssignment)) {
@@ -34,16 +41,10 @@ public class Diamond extends AgentKnowledge {
         KripkeWorld world = assignment2.getWorld();
         KripkeStructure structure = assignment2.getStructure();
 
-        // we check if any connected worlds to the actual world satisfied the formula or
-        // not
-        // in other words, if it satisfied, it's because the world is a correct one for
-        // the agent
+        // we search a connected world to the actual world satisfying the formula, the
+        // search stops at the first witness
         //
-        // (M, s) |= K_i(phi) iff for any t, (M,t) |= phi, (s,t) e K_i(s)
-        boolean result = false;
-        for (KripkeWorld otherWorld : structure.getWorldsFromOtherWorldAndAgent(world, agent)) {
-            result = result || otherWorld.satisfied(this.innerFormula, structure);
-        }
-        return result;
+        // (M, s) |= <>_i(phi) iff exists t, (M,t) |= phi, (s,t) e K_i(s)
+        return structure.existsSuccessor(world, agent, this.innerFormula, true);
     }
 }
@@ -0,0 +1,97 @@
+package MAKBPInterpreter.agents;
+
+import java.util.Arrays;
+
+/**
+ * Reusable assignments of a thread for the evaluation of the formulas in the
+ * worlds of Kripke structures.
+ *
+ * A knowledge operator evaluates its inner formula in the linked worlds while
+ * its own evaluation is running, so the assignments are stacked: each nested
+ * evaluation {@link #enter(KripkeStructure, KripkeWorld) enters} a new level,
+ * repositioning the assignment of this level onto its world, and
+ * {@link #exit() exits} it once the formula is evaluated. The assignment of a
+ * level is created the first time the level is reached, then reused, so the
+ * evaluations don't allocate any assignment once the context is warm.
+ *
+ * A context belongs to one thread (see {@link #current()}), and an entered
+ * assignment must not be kept after the matching exit.
+ */
+public final class EvaluationContext {
+    /**
+     * Context of each thread.
+     */
+    private static final ThreadLocal<EvaluationContext> CURRENT = ThreadLocal.withInitial(EvaluationContext::new);
+
+    /**
+     * Assignment of each level (created when the level is first reached).
+     */
+    private ModalLogicAssignment[] assignments;
+
+    /**
+     * Number of entered levels.
+     */
+    private int depth;
+
+    /**
+     * Constructor.
+     */
+    public EvaluationContext() {
+        this.assignments = new ModalLogicAssignment[8];
+        this.depth = 0;
+    }
+
+    /**
+     * Gets the context of the current thread.
+     *
+     * @return context of the thread
+     */
+    public static EvaluationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Enters a new level, whose assignment is positioned on a world.
+     *
+     * @param structure structure where evaluate the formulas
+     * @param world     world where evaluate the formulas inside the structure
+     * @return assignment of the level (valid until the matching {@link #exit()})
+     */
+    public ModalLogicAssignment enter(KripkeStructure structure, KripkeWorld world) {
+        if (this.depth == this.assignments.length) {
+            this.assignments = Arrays.copyOf(this.assignments, this.depth * 2);
+        }
+        ModalLogicAssignment assignment = this.assignments[this.depth];
+        if (assignment == null) {
+            assignment = new ModalLogicAssignment(structure, world);
+            this.assignments[this.depth] = assignment;
+        } else {
+            assignment.moveTo(structure, world);
+        }
+        this.depth++;
+        return assignment;
+    }
+
+    /**
+     * Exits the last entered level. Its assignment releases its structure and
+     * world, so the context doesn't keep them alive.
+     *
+     * @throws IllegalStateException thrown if no level is entered
+     */
+    public void exit() {
+        if (this.depth == 0) {
+            throw new IllegalStateException("no entered level");
+        }
+        this.depth--;
+        this.assignments[this.depth].clear();
+    }
+
+    /**
+     * Gets the number of entered levels.
+     *
+     * @return depth of the running evaluations
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+}
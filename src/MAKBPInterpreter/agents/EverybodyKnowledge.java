@@ -1,9 +1,13 @@
 package MAKBPInterpreter.agents;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
 import MAKBPInterpreter.logic.LogicAssignment;
 import MAKBPInterpreter.logic.Not;
 
@@ -14,12 +18,28 @@ public class EverybodyKnowledge implements Formula {
     /**
      * Agent set where each agent knows the associated formula.
      */
-    protected Set<Agent> agents;
+    protected final Set<Agent> agents;
+
+    /**
+     * Agents in an array, iterated by the evaluation without allocating an
+     * iterator.
+     */
+    private final Agent[] agentArray;
 
     /**
      * Common formula knows by all the agents.
      */
-    protected Formula innerFormula;
+    protected final Formula innerFormula;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Default constructor.
@@ -28,8 +48,17 @@ public class EverybodyKnowledge implements Formula {
      * @param agents  set of agents where each of this knows the {@code formula}
      */
     public EverybodyKnowledge(Formula formula, Set<Agent> agents) {
-        this.agents = agents;
+        this.agents = new HashSet<>(agents);
+        this.agentArray = this.agents.toArray(new Agent[0]);
         this.innerFormula = formula;
+
+        // agents are hashed by name like in the agent knowledge
+        int agentsHash = 0;
+        for (Agent agent : this.agents) {
+            agentsHash += agent.getName().hashCode();
+        }
+        this.hash = Objects.hash(agentsHash, this.innerFormula);
+        this.size = 1 + this.innerFormula.size();
     }
 
     @Override
@@ -42,13 +71,13 @@ public class EverybodyKnowledge implements Formula {
             return false;
 
         EverybodyKnowledge otherEverybodyKnowledge = (EverybodyKnowledge) other;
-        return otherEverybodyKnowledge.agents.equals(this.agents)
+        return this.hash == otherEverybodyKnowledge.hash && otherEverybodyKnowledge.agents.equals(this.agents)
                 && this.innerFormula.equals(otherEverybodyKnowledge.innerFormula);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.agents, this.innerFormula);
+        return this.hash;
     }
 
     @Override
@@ -66,6 +95,23 @@ public class EverybodyKnowledge implements Formula {
         return this.innerFormula.contains(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Collections.singletonList(this.innerFormula);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula innerFormula = factory.intern(this.innerFormula);
+        return factory.register(
+                innerFormula == this.innerFormula ? this : new EverybodyKnowledge(innerFormula, this.agents));
+    }
+
     /**
      * Gets the inner formula object.
      * 
@@ -95,14 +141,14 @@ public class EverybodyKnowledge implements Formula {
         KripkeWorld world = assignment2.getWorld();
         KripkeStructure structure = assignment2.getStructure();
 
-        boolean result = true;
         // (M, s) |= EK_J(phi) iff forall t, (M,t) |= phi, (s,t) e (forall i e J,
         // K_i(s))
-        for (Agent agent : this.agents) {
-            for (KripkeWorld otherWorld : structure.getWorldsFromOtherWorldAndAgent(world, agent)) {
-                result = result && otherWorld.satisfied(this.innerFormula, structure);
+        // the search stops at the first counterexample, even for the next agents
+        for (Agent agent : this.agentArray) {
+            if (structure.existsSuccessor(world, agent, this.innerFormula, false)) {
+                return false;
             }
         }
-        return result;
+        return true;
     }
 }
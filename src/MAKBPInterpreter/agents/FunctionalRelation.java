@@ -0,0 +1,92 @@
+package MAKBPInterpreter.agents;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * Accessibility relation defined by a successor function over world ids
+ * instead of stored successors.
+ *
+ * It is meant for the structured models where the successors of a world can
+ * be computed from its id (as the hypercube of the muddy children), so the
+ * memory used by the relation doesn't depend on the number of worlds. The
+ * removed worlds are filtered by the structures, as for the other relations.
+ */
+public class FunctionalRelation implements AccessibilityRelation {
+    /**
+     * Number of world ids.
+     */
+    private final int size;
+
+    /**
+     * Successor ids of each world id.
+     */
+    private final IntFunction<int[]> successors;
+
+    /**
+     * Constructor.
+     *
+     * @param size       number of world ids
+     * @param successors function giving the successor ids of a world id (the ids
+     *                   must be lower than {@code size}), called concurrently
+     *                   if the structure has a pool
+     */
+    public FunctionalRelation(int size, IntFunction<int[]> successors) {
+        this.size = size;
+        this.successors = successors;
+    }
+
+    /**
+     * Creates the relation of an agent ignoring some bits of the world ids: two
+     * worlds are linked if their ids only differ on the bits of the mask.
+     *
+     * @param size number of world ids
+     * @param mask bits ignored by the agent
+     * @return new relation
+     */
+    public static FunctionalRelation ignoring(int size, int mask) {
+        return new FunctionalRelation(size, world -> {
+            int base = world & ~mask;
+            int[] ids = new int[1 << Integer.bitCount(mask)];
+            int count = 0;
+            // enumeration of the submasks of the mask
+            int bits = 0;
+            do {
+                if ((base | bits) < size) {
+                    ids[count++] = base | bits;
+                }
+                bits = (bits - mask) & mask;
+            } while (bits != 0);
+            return count == ids.length ? ids : Arrays.copyOf(ids, count);
+        });
+    }
+
+    /**
+     * Gets the ids of the worlds linked to a world, computed at each call.
+     *
+     * @param world world id
+     * @return successor ids (removed worlds included)
+     */
+    public int[] getSuccessorIds(int world) {
+        return this.successors.apply(world);
+    }
+
+    /**
+     * Gets the ids of the worlds linked to a world. A new set is computed at each
+     * call.
+     */
+    @Override
+    public BitSet getSuccessors(int world) {
+        BitSet successors = new BitSet();
+        for (int id : this.getSuccessorIds(world)) {
+            successors.set(id);
+        }
+        return successors;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,254 @@
+package MAKBPInterpreter.agents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Connected components of the union of the relations of a group of agents,
+ * over the world ids of a {@link ModelChecker}.
+ *
+ * When the union is symmetric (which is the case of the S5 structures), the
+ * worlds reachable in at least one step from a world are all the worlds of its
+ * component (or none, for an isolated world without reflexive arc). So the
+ * common knowledge of the group holds in the same worlds for a whole
+ * component: it is checked once per component instead of running a search
+ * from every world.
+ *
+ * The components are computed by the model checker of a version of the
+ * structure (see {@link ModelChecker#getGroupComponents(Collection)}), so they
+ * are discarded at each announcement.
+ */
+public final class GroupComponents {
+    /**
+     * Component id of each world id, -1 for an id outside the universe.
+     */
+    private final int[] componentIds;
+
+    /**
+     * World ids of each component.
+     */
+    private final BitSet[] members;
+
+    /**
+     * If {@code true}, all the members of a component are reachable in at least
+     * one step from each of them.
+     */
+    private final boolean[] closed;
+
+    /**
+     * If {@code true}, the union of the relations is symmetric.
+     */
+    private final boolean symmetric;
+
+    /**
+     * Constructor.
+     *
+     * @param checker model checker giving the world ids and the relations
+     * @param agents  group of agents
+     */
+    GroupComponents(ModelChecker checker, Collection<Agent> agents) {
+        BitSet universe = checker.getUniverse();
+        List<AccessibilityRelation> relations = new ArrayList<>();
+        for (Agent agent : agents) {
+            relations.add(checker.relation(agent));
+        }
+
+        // union-find over the arcs of the group
+        int length = universe.length();
+        int[] parents = new int[length];
+        for (int w = 0; w < length; w++) {
+            parents[w] = w;
+        }
+        boolean[] loops = new boolean[length];
+        boolean symmetric = true;
+        for (AccessibilityRelation relation : relations) {
+            if (relation instanceof PartitionRelation) {
+                // symmetric and reflexive: the members of a class are linked to
+                // its first remaining member
+                PartitionRelation partition = (PartitionRelation) relation;
+                int[] firsts = new int[partition.getClassCount()];
+                Arrays.fill(firsts, -1);
+                for (int w = universe.nextSetBit(0); w >= 0 && w < partition.size(); w = universe.nextSetBit(w + 1)) {
+                    int c = partition.getClassId(w);
+                    if (firsts[c] < 0) {
+                        firsts[c] = w;
+                    } else {
+                        union(parents, firsts[c], w);
+                    }
+                    loops[w] = true;
+                }
+                continue;
+            }
+
+            for (int w = universe.nextSetBit(0); w >= 0 && w < relation.size(); w = universe.nextSetBit(w + 1)) {
+                for (int t : successorIds(relation, w)) {
+                    if (!universe.get(t)) {
+                        continue;
+                    }
+                    if (t == w) {
+                        loops[w] = true;
+                    }
+                    union(parents, w, t);
+                    symmetric = symmetric && linked(relations, t, w);
+                }
+            }
+        }
+        this.symmetric = symmetric;
+
+        // dense component ids
+        this.componentIds = new int[length];
+        Arrays.fill(this.componentIds, -1);
+        int[] rootIds = new int[length];
+        Arrays.fill(rootIds, -1);
+        List<BitSet> members = new ArrayList<>();
+        for (int w = universe.nextSetBit(0); w >= 0; w = universe.nextSetBit(w + 1)) {
+            int root = find(parents, w);
+            if (rootIds[root] < 0) {
+                rootIds[root] = members.size();
+                members.add(new BitSet());
+            }
+            this.componentIds[w] = rootIds[root];
+            members.get(rootIds[root]).set(w);
+        }
+        this.members = members.toArray(new BitSet[0]);
+        this.closed = new boolean[this.members.length];
+        for (int c = 0; c < this.members.length; c++) {
+            int first = this.members[c].nextSetBit(0);
+            this.closed[c] = this.members[c].cardinality() > 1 || loops[first];
+        }
+    }
+
+    /**
+     * Gets the root of a world in the union-find forest (with path halving).
+     *
+     * @param parents parent of each world
+     * @param world   world id
+     * @return root id
+     */
+    private static int find(int[] parents, int world) {
+        while (parents[world] != world) {
+            parents[world] = parents[parents[world]];
+            world = parents[world];
+        }
+        return world;
+    }
+
+    /**
+     * Merges the trees of two worlds in the union-find forest.
+     *
+     * @param parents parent of each world
+     * @param world1  first world id
+     * @param world2  second world id
+     */
+    private static void union(int[] parents, int world1, int world2) {
+        int root1 = find(parents, world1);
+        int root2 = find(parents, world2);
+        if (root1 != root2) {
+            parents[Math.max(root1, root2)] = Math.min(root1, root2);
+        }
+    }
+
+    /**
+     * Gets the successors of a world in a relation.
+     *
+     * @param relation relation of an agent
+     * @param world    world id
+     * @return successor ids
+     */
+    private static int[] successorIds(AccessibilityRelation relation, int world) {
+        if (relation instanceof FunctionalRelation) {
+            return ((FunctionalRelation) relation).getSuccessorIds(world);
+        }
+        BitSet row = relation.getSuccessors(world);
+        return row == null ? new int[0] : row.stream().toArray();
+    }
+
+    /**
+     * Checks if a world is linked to another one by one of the relations.
+     *
+     * @param relations relations of the group
+     * @param from      origin world id
+     * @param to        destination world id
+     * @return {@code true} if there is an arc from {@code from} to {@code to}
+     */
+    private static boolean linked(List<AccessibilityRelation> relations, int from, int to) {
+        for (AccessibilityRelation relation : relations) {
+            if (from >= relation.size()) {
+                continue;
+            }
+            if (relation instanceof PartitionRelation) {
+                PartitionRelation partition = (PartitionRelation) relation;
+                if (to < partition.size() && partition.getClassId(from) == partition.getClassId(to)) {
+                    return true;
+                }
+            } else if (relation instanceof FunctionalRelation) {
+                for (int t : ((FunctionalRelation) relation).getSuccessorIds(from)) {
+                    if (t == to) {
+                        return true;
+                    }
+                }
+            } else {
+                BitSet row = relation.getSuccessors(from);
+                if (row != null && row.get(to)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the union of the relations of the group is symmetric. If not, the
+     * components don't give the reachable worlds.
+     *
+     * @return {@code true} if every arc has a reverse arc
+     */
+    public boolean isSymmetric() {
+        return this.symmetric;
+    }
+
+    /**
+     * Gets the number of components.
+     *
+     * @return number of components
+     */
+    public int getComponentCount() {
+        return this.members.length;
+    }
+
+    /**
+     * Gets the component of a world.
+     *
+     * @param world world id
+     * @return component id or -1 if the world is not in the universe of the
+     *         checker
+     */
+    public int getComponentId(int world) {
+        return world >= 0 && world < this.componentIds.length ? this.componentIds[world] : -1;
+    }
+
+    /**
+     * Gets the worlds of a component. The returned set must not be modified.
+     *
+     * @param component component id
+     * @return world ids
+     */
+    public BitSet getMembers(int component) {
+        return this.members[component];
+    }
+
+    /**
+     * Checks if all the worlds of a component are reachable in at least one
+     * step from each of them, i.e. if the component is not an isolated world
+     * without reflexive arc (only meaningful if the union is symmetric).
+     *
+     * @param component component id
+     * @return {@code true} if the component reaches itself
+     */
+    public boolean isClosed(int component) {
+        return this.closed[component];
+    }
+}
@@ -1,24 +1,78 @@
 package MAKBPInterpreter.agents;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
 
 import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.metrics.Metrics;
 
 /**
  * Represents a system of reasoning for modal logic.
  */
 public class KripkeStructure {
     /**
-     * The memory and knowledge data structure.
+     * The memory and knowledge data structure, {@code null} while the structure
+     * uses a {@link #shared} graph.
      */
     private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph;
 
+    /**
+     * Graph shared with copies of the structure, {@code null} if the structure
+     * uses its own {@link #graph}.
+     */
+    private SharedGraph shared = null;
+
+    /**
+     * Ids of the keys of the {@link #shared} graph which are still in the
+     * structure, {@code null} if the structure uses its own {@link #graph}.
+     */
+    private BitSet alive = null;
+
+    /**
+     * Predecessors of each world via each agent (reverse of the {@link #graph}),
+     * {@code null} if not built yet.
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> predecessors = null;
+
+    /**
+     * Version of the structure, incremented at each modification.
+     */
+    private long version = 0L;
+
+    /**
+     * Truth values already computed for the current version.
+     */
+    private TruthCache truthCache = new TruthCache();
+
+    /**
+     * Model checker of the current version, {@code null} if not created yet.
+     */
+    private ModelChecker modelChecker = null;
+
+    /**
+     * Pool used to check the formulas over the worlds in parallel, {@code null}
+     * to check them in the calling thread.
+     */
+    private ForkJoinPool pool = null;
+
+    /**
+     * Registry counting the evaluations and announcements, {@code null} to count
+     * nothing.
+     */
+    private Metrics metrics = null;
+
     /**
      * Constructor.
      * 
@@ -58,17 +112,154 @@ public class KripkeStructure {
     /**
      * Copy constructor.
      * 
+     * The graph given to the constructor of a structure or returned by
+     * {@link #getGraph()} can be modified by the caller, so it is copied. The
+     * graph of a copy is shared with its own copies: each structure only keeps
+     * the ids of its remaining worlds, so the announcements copy nothing, and
+     * the graph is only copied by a structure modifying its relations while
+     * other structures share it (see {@link #getGraph()}). The copied structure
+     * is not modified.
+     * 
      * @param structure structure to copy
      */
     public KripkeStructure(KripkeStructure structure) {
-        this.graph = new HashMap<>();
-        for (KripkeWorld key : structure.graph.keySet()) {
-            Map<Agent, Set<KripkeWorld>> map = new HashMap<>();
-            for (Agent agent : structure.graph.get(key).keySet()) {
-                map.put(agent, new HashSet<>(structure.graph.get(key).get(agent)));
+        if (structure.shared != null) {
+            this.shared = structure.shared.share();
+            this.alive = (BitSet) structure.alive.clone();
+        } else {
+            this.shared = new SharedGraph(copyGraph(structure.getReadOnlyGraph()), null);
+            this.alive = this.shared.getKeyIds();
+        }
+        this.pool = structure.pool;
+        this.metrics = structure.metrics;
+    }
+
+    /**
+     * Constructor used by the other backends which don't store their relations
+     * in the {@link #graph} object.
+     */
+    protected KripkeStructure() {
+        this.graph = null;
+    }
+
+    /**
+     * Creates an independent copy of the structure with the same backend.
+     * 
+     * @return copy of the structure
+     */
+    public KripkeStructure copy() {
+        return new KripkeStructure(this);
+    }
+
+    /**
+     * Copies a graph deeply.
+     * 
+     * @param graph graph to copy
+     * @return new graph
+     */
+    private static Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> copyGraph(
+            Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph) {
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> copy = new HashMap<>();
+        for (KripkeWorld key : graph.keySet()) {
+            Map<Agent, Set<KripkeWorld>> map = new AgentMap<>();
+            for (Agent agent : graph.get(key).keySet()) {
+                map.put(agent, new HashSet<>(graph.get(key).get(agent)));
             }
-            this.graph.put(key, map);
+            copy.put(key, map);
         }
+        return copy;
+    }
+
+    /**
+     * Gets the graph before modifying it. The structure stops using a shared
+     * graph: the last structure sharing it removes its removed worlds from it,
+     * the other ones copy their remaining worlds.
+     * 
+     * @return graph owned by this structure
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getWritableGraph() {
+        if (this.shared != null) {
+            SharedGraph shared = this.shared;
+            BitSet alive = this.alive;
+            this.shared = null;
+            this.alive = null;
+            if (shared.release()) {
+                this.graph = shared.getGraph();
+                this.predecessors = shared.getPredecessorIndex();
+                Set<KripkeWorld> worldsToRemove = new HashSet<>();
+                for (int w = alive.nextClearBit(0); w < shared.getKeyCount(); w = alive.nextClearBit(w + 1)) {
+                    worldsToRemove.add(shared.getWorld(w));
+                }
+                this.removeWorlds(worldsToRemove);
+            } else {
+                this.graph = copyGraph(new AliveGraph(shared, alive));
+                this.predecessors = null;
+            }
+        }
+        return this.graph;
+    }
+
+    /**
+     * Gets the graph for reading only, without copying a shared graph (unlike
+     * {@link #getGraph()}).
+     * 
+     * @return graph which must not be modified (a view of the remaining worlds
+     *         of a shared graph)
+     */
+    Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getReadOnlyGraph() {
+        if (this.shared != null) {
+            return new AliveGraph(this.shared, this.alive);
+        }
+        return this.graph != null ? this.graph : this.getGraph();
+    }
+
+    /**
+     * Gets the graph shared with copies of the structure.
+     * 
+     * @return shared graph or {@code null} if the structure uses its own graph
+     */
+    SharedGraph getSharedGraph() {
+        return this.shared;
+    }
+
+    /**
+     * Gets the ids of the worlds of the structure in its shared graph.
+     * 
+     * @return copy of the ids or {@code null} if the structure uses its own
+     *         graph
+     */
+    BitSet getAliveWorldIds() {
+        return this.alive == null ? null : (BitSet) this.alive.clone();
+    }
+
+    /**
+     * Checks if a world is still in the structure.
+     * 
+     * @param world world to check
+     * @return {@code true} if the world is a key of the graph
+     */
+    private boolean containsWorld(KripkeWorld world) {
+        if (this.shared != null) {
+            int id = this.shared.getWorldId(world);
+            return id >= 0 && this.alive.get(id);
+        }
+        return this.graph.containsKey(world);
+    }
+
+    /**
+     * Gets the worlds linked to a world via an agent.
+     * 
+     * @param world world of the structure
+     * @param agent agent
+     * @return set of worlds or {@code null} if the agent has no arcs from the
+     *         world
+     */
+    private Set<KripkeWorld> successors(KripkeWorld world, Agent agent) {
+        if (this.shared != null) {
+            Set<KripkeWorld> worlds = this.shared.getGraph().get(world).get(agent);
+            return worlds == null ? null : new AliveSet(worlds, this.shared, this.alive);
+        }
+        return this.graph.get(world).get(agent);
     }
 
     /**
@@ -82,7 +273,7 @@ public class KripkeStructure {
             Collection<Agent> agents) {
         Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
         for (KripkeWorld world : worlds) {
-            Map<Agent, Set<KripkeWorld>> map = new HashMap<>();
+            Map<Agent, Set<KripkeWorld>> map = new AgentMap<>();
             for (Agent agent : agents) {
                 map.put(agent, new HashSet<>());
             }
@@ -166,30 +357,363 @@ public class KripkeStructure {
      */
     public void publicAnnouncement(Formula formula) throws Exception {
         // we check worlds that not satisfied the formula
+        Set<KripkeWorld> satisfying = this.satisfactionSet(formula);
         Set<KripkeWorld> worldsToRemove = new HashSet<>();
-        for (KripkeWorld world : this.graph.keySet()) {
-            if (!world.satisfied(formula, this)) {
+        for (KripkeWorld world : this.getWorlds()) {
+            if (!satisfying.contains(world)) {
                 worldsToRemove.add(world);
             }
         }
 
-        // we remove worlds from the graph
+        // we remove worlds from the graph, or only their ids from a shared graph
+        if (this.shared == null) {
+            this.removeWorlds(worldsToRemove);
+        } else if (!worldsToRemove.isEmpty()) {
+            for (KripkeWorld world : worldsToRemove) {
+                this.alive.clear(this.shared.getWorldId(world));
+            }
+            this.incrementVersion();
+        }
+        if (this.metrics != null) {
+            this.metrics.countAnnouncement(worldsToRemove.size());
+        }
+    }
+
+    /**
+     * Removes a batch of worlds and all their arcs in one pass.
+     * 
+     * Only the actual arcs of the removed worlds are visited thanks to the
+     * predecessor index: the incoming arcs are stripped from the remaining
+     * predecessors and the outgoing arcs from the predecessor sets of the
+     * remaining successors.
+     * 
+     * @param worldsToRemove worlds to remove
+     */
+    private void removeWorlds(Set<KripkeWorld> worldsToRemove) {
+        if (worldsToRemove.isEmpty()) {
+            return;
+        }
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = this.getWritableGraph();
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> predecessors = this.getPredecessorIndex();
+        this.version++;
+        this.modelChecker = null;
+
         for (KripkeWorld world : worldsToRemove) {
-            this.graph.remove(world);
-            for (KripkeWorld key : this.graph.keySet()) {
-                for (Agent agent : this.graph.get(key).keySet()) {
-                    if (this.graph.get(key).get(agent).contains(world)) {
-                        this.graph.get(key).get(agent).remove(world);
+            // incoming arcs
+            Map<Agent, Set<KripkeWorld>> incoming = predecessors.remove(world);
+            if (incoming != null) {
+                for (Map.Entry<Agent, Set<KripkeWorld>> entry : incoming.entrySet()) {
+                    for (KripkeWorld predecessor : entry.getValue()) {
+                        if (!worldsToRemove.contains(predecessor)) {
+                            graph.get(predecessor).get(entry.getKey()).remove(world);
+                        }
+                    }
+                }
+            }
+
+            // outgoing arcs
+            Map<Agent, Set<KripkeWorld>> outgoing = graph.remove(world);
+            if (outgoing != null) {
+                for (Map.Entry<Agent, Set<KripkeWorld>> entry : outgoing.entrySet()) {
+                    for (KripkeWorld successor : entry.getValue()) {
+                        if (!worldsToRemove.contains(successor)) {
+                            predecessors.get(successor).get(entry.getKey()).remove(world);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the bisimilar worlds of the structure.
+     * 
+     * Two worlds are bisimilar if they have the same valuation and if each world
+     * linked to one of them via an agent is bisimilar to a world linked to the
+     * other one via the same agent. They satisfy the same formulas, so only one
+     * representative of each class is kept and the arcs are redirected to the
+     * representatives. The classes are computed by partition refinement (see
+     * {@link Bisimulation}). Nothing is modified if no worlds are bisimilar.
+     * 
+     * @return representative of each world of the structure before the
+     *         minimization
+     */
+    public Map<KripkeWorld, KripkeWorld> minimize() {
+        ModelChecker checker = this.getModelChecker();
+        int[] representatives = new Bisimulation(checker, this.getAgents()).representatives();
+
+        Map<KripkeWorld, KripkeWorld> mapping = new HashMap<>();
+        boolean merged = false;
+        for (KripkeWorld world : this.getWorlds()) {
+            KripkeWorld representative = checker.getWorld(representatives[checker.getWorldId(world)]);
+            mapping.put(world, representative);
+            merged |= representative != world;
+        }
+        if (merged) {
+            this.mergeWorlds(checker, representatives);
+        }
+        return mapping;
+    }
+
+    /**
+     * Keeps only the representative worlds and redirects the arcs to them.
+     * 
+     * @param checker         model checker of the current version giving the
+     *                        world ids
+     * @param representatives representative id of each world id
+     */
+    protected void mergeWorlds(ModelChecker checker, int[] representatives) {
+        Collection<Agent> agents = this.getAgents();
+        BitSet universe = checker.getUniverse();
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>> entry : this.getReadOnlyGraph().entrySet()) {
+            int w = checker.getWorldId(entry.getKey());
+            if (representatives[w] != w) {
+                continue;
+            }
+
+            Map<Agent, Set<KripkeWorld>> links = new AgentMap<>();
+            for (Agent agent : agents) {
+                if (!entry.getValue().containsKey(agent)) {
+                    continue;
+                }
+                Set<KripkeWorld> linked = new HashSet<>();
+                BitSet successors = checker.relation(agent).getSuccessors(w);
+                if (successors != null) {
+                    for (int t = successors.nextSetBit(0); t >= 0; t = successors.nextSetBit(t + 1)) {
+                        if (universe.get(t)) {
+                            linked.add(checker.getWorld(representatives[t]));
+                        }
                     }
                 }
+                links.put(agent, linked);
             }
+            graph.put(entry.getKey(), links);
+        }
+
+        if (this.shared != null) {
+            // the merged graph is shared with the next copies
+            this.shared.release();
+            this.shared = new SharedGraph(graph, null);
+            this.alive = this.shared.getKeyIds();
+        } else {
+            this.graph.clear();
+            this.graph.putAll(graph);
         }
+        this.incrementVersion();
+    }
+
+    /**
+     * Gets the agents having arcs in the structure.
+     * 
+     * @return collection of agents
+     */
+    public Collection<Agent> getAgents() {
+        Set<Agent> agents = new HashSet<>();
+        for (Map<Agent, Set<KripkeWorld>> links : this.getReadOnlyGraph().values()) {
+            agents.addAll(links.keySet());
+        }
+        return agents;
+    }
+
+    /**
+     * Counts the arcs of the structure (an arc linking two worlds via two agents
+     * is counted twice).
+     * 
+     * @return number of arcs
+     */
+    public long getEdgeCount() {
+        long count = 0;
+        for (Map<Agent, Set<KripkeWorld>> links : this.getReadOnlyGraph().values()) {
+            for (Set<KripkeWorld> successors : links.values()) {
+                count += successors.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the predecessor index, built from the graph at the first call.
+     * 
+     * @return predecessors of each world via each agent
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getPredecessorIndex() {
+        if (this.predecessors == null) {
+            this.predecessors = buildPredecessorIndex(this.graph);
+        }
+        return this.predecessors;
+    }
+
+    /**
+     * Builds the predecessor index of a graph.
+     * 
+     * @param graph graph
+     * @return new predecessors of each world via each agent
+     */
+    static Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> buildPredecessorIndex(
+            Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph) {
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> predecessors = new HashMap<>();
+        for (Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>> links : graph.entrySet()) {
+            for (Map.Entry<Agent, Set<KripkeWorld>> entry : links.getValue().entrySet()) {
+                for (KripkeWorld successor : entry.getValue()) {
+                    predecessors.computeIfAbsent(successor, key -> new AgentMap<>())
+                            .computeIfAbsent(entry.getKey(), key -> new HashSet<>()).add(links.getKey());
+                }
+            }
+        }
+        return predecessors;
+    }
+
+    /**
+     * Gets the worlds linked to a world via an agent (the reverse of
+     * {@link #getWorldsFromOtherWorldAndAgent(KripkeWorld, Agent)}).
+     * 
+     * @param world world to test
+     * @param agent agent to test
+     * @return unmodifiable set of the predecessors of the world
+     */
+    public Set<KripkeWorld> getWorldsToOtherWorldAndAgent(KripkeWorld world, Agent agent) {
+        if (!this.containsWorld(world)) {
+            throw new KripkeStructureInvalidRuntimeException(
+                    "the world " + world + " no longer exists in this structure");
+        }
+        Map<Agent, Set<KripkeWorld>> incoming = this.shared != null ? this.shared.getPredecessorIndex().get(world)
+                : this.getPredecessorIndex().get(world);
+        if (incoming == null || !incoming.containsKey(agent)) {
+            return Collections.emptySet();
+        }
+        if (this.shared != null) {
+            return new AliveSet(incoming.get(agent), this.shared, this.alive);
+        }
+        return Collections.unmodifiableSet(incoming.get(agent));
+    }
+
+    /**
+     * Computes the set of worlds of the structure satisfying a formula.
+     * 
+     * Each subformula is labeled once across all the worlds instead of being
+     * evaluated again at each visited world.
+     * 
+     * @param formula formula to check
+     * @return new set of the satisfying worlds
+     * @throws Exception thrown if a formula doesn't support the evaluation
+     * @see ModelChecker
+     */
+    public Set<KripkeWorld> satisfactionSet(Formula formula) throws Exception {
+        return this.getModelChecker().satisfactionSet(formula);
+    }
+
+    /**
+     * Gets a model checker of the current state of the structure. The checker is
+     * shared until the next modification of the structure, so its labels are
+     * reused by all the evaluations made in between.
+     * 
+     * @return model checker
+     */
+    public ModelChecker getModelChecker() {
+        if (this.modelChecker == null) {
+            this.modelChecker = new ModelChecker(this);
+        }
+        return this.modelChecker;
+    }
+
+    /**
+     * Gets the cache of the truth values computed for the current version of the
+     * structure.
+     * 
+     * @return truth value cache
+     */
+    public TruthCache getTruthCache() {
+        if (this.truthCache.getVersion() != this.version) {
+            this.truthCache.reset(this.version);
+        }
+        return this.truthCache;
+    }
+
+    /**
+     * Gets the pool used to check the formulas over the worlds.
+     * 
+     * @return pool or {@code null} if the formulas are checked in the calling
+     *         thread
+     */
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    /**
+     * Sets the pool used to check the formulas over the worlds. With a pool, the
+     * announced formula is evaluated over the worlds in parallel (see
+     * {@link ModelChecker}), then the worlds are removed in a single pass. The
+     * copies of the structure keep its pool.
+     * 
+     * @param pool pool or {@code null} to check the formulas in the calling
+     *             thread
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        this.modelChecker = null;
+    }
+
+    /**
+     * Gets the registry counting the evaluations and announcements made on the
+     * structure.
+     * 
+     * @return registry or {@code null} if nothing is counted
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Counts worlds visited by a knowledge operator in the registry of the
+     * structure (if any).
+     * 
+     * @param count number of visited worlds
+     */
+    void countWorldsVisited(int count) {
+        if (this.metrics != null) {
+            this.metrics.countWorldsVisited(count);
+        }
+    }
+
+    /**
+     * Sets the registry counting the evaluations, the visited worlds, the cache
+     * hits and the announcements made on the structure. The copies of the
+     * structure keep its registry.
+     * 
+     * @param metrics registry or {@code null} to count nothing
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        this.modelChecker = null;
+    }
+
+    /**
+     * Gets the version of the structure. It is incremented at each public
+     * announcement, the cached truth values and model checker of an older
+     * version are discarded.
+     * 
+     * @return structure version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Increments the version of the structure. Must be called by every method
+     * modifying the worlds or the relations (it is called by {@link #getGraph()},
+     * the predecessor index is then rebuilt at the next removal).
+     */
+    public void incrementVersion() {
+        this.version++;
+        this.modelChecker = null;
+        this.predecessors = null;
     }
 
     @Override
     public String toString() {
         String repr = "Kripke[";
-        for (KripkeWorld world : this.graph.keySet()) {
+        for (KripkeWorld world : this.getWorlds()) {
             repr += world.toString() + ", ";
         }
         return repr + "]";
@@ -204,25 +728,27 @@ public class KripkeStructure {
         if (!(other instanceof KripkeStructure))
             return false;
 
-        KripkeStructure structure = (KripkeStructure) other;
+        // the graphs are retrieved by the getter to compare different backends
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = this.getReadOnlyGraph();
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> otherGraph = ((KripkeStructure) other).getReadOnlyGraph();
 
         // different size
-        if (structure.graph.size() != this.graph.size()) {
+        if (otherGraph.size() != graph.size()) {
             return false;
         }
 
         // check each nodes and edges
-        for (KripkeWorld key : this.graph.keySet()) {
-            if (!structure.graph.containsKey(key)) {
+        for (KripkeWorld key : graph.keySet()) {
+            if (!otherGraph.containsKey(key)) {
                 return false;
             }
 
-            for (Agent key2 : this.graph.get(key).keySet()) {
-                if (!structure.graph.get(key).containsKey(key2)) {
+            for (Agent key2 : graph.get(key).keySet()) {
+                if (!otherGraph.get(key).containsKey(key2)) {
                     return false;
                 }
 
-                if (!structure.graph.get(key).get(key2).equals(this.graph.get(key).get(key2))) {
+                if (!otherGraph.get(key).get(key2).equals(graph.get(key).get(key2))) {
                     return false;
                 }
             }
@@ -232,7 +758,7 @@ public class KripkeStructure {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.graph);
+        return Objects.hash(this.getReadOnlyGraph());
     }
 
     /**
@@ -244,31 +770,330 @@ public class KripkeStructure {
      * 
      * @param world world to test
      * @param agent agent to test
-     * @return a set of worlds
+     * @return an unmodifiable set of worlds (or {@code null} if the agent has no
+     *         arcs from the world)
      */
     public Set<KripkeWorld> getWorldsFromOtherWorldAndAgent(KripkeWorld world, Agent agent) {
-        if (!this.graph.containsKey(world)) {
+        if (!this.containsWorld(world)) {
             throw new KripkeStructureInvalidRuntimeException(
                     "the world " + world + " no longer exists in this structure");
         }
-        return this.graph.get(world).get(agent);
+        Set<KripkeWorld> worlds = this.successors(world, agent);
+        return worlds == null ? null : Collections.unmodifiableSet(worlds);
+    }
+
+    /**
+     * Searches a world linked to a world via an agent where a formula has a given
+     * truth value. The linked worlds are tested one by one and the search stops
+     * at the first one found, so
+     * {@code !existsSuccessor(world, agent, formula, false)} is a knowledge test
+     * stopping at the first counterexample and
+     * {@code existsSuccessor(world, agent, formula, true)} a possibility test
+     * stopping at the first witness.
+     * 
+     * @param world   world to test
+     * @param agent   agent to test
+     * @param formula formula to evaluate in the linked worlds
+     * @param value   searched truth value
+     * @return {@code true} if a linked world gives the value to the formula
+     *         ({@code false} if the agent has no arcs from the world)
+     * @throws Exception thrown if the formula doesn't support the evaluation
+     * @throws KripkeStructureInvalidRuntimeException thrown if the world is not
+     *                                                in the structure
+     */
+    public boolean existsSuccessor(KripkeWorld world, Agent agent, Formula formula, boolean value)
+            throws Exception {
+        return this.existsSuccessor(world, agent, formula, null, value);
+    }
+
+    /**
+     * Searches a world linked to a world via an agent where a formula has a given
+     * truth value, evaluating its compiled form if given.
+     * 
+     * @param world    world to test
+     * @param agent    agent to test
+     * @param formula  formula to evaluate in the linked worlds
+     * @param compiled compiled formula or {@code null} to evaluate the formula
+     * @param value    searched truth value
+     * @return {@code true} if a linked world gives the value to the formula
+     * @throws Exception thrown if the formula doesn't support the evaluation
+     * @see #existsSuccessor(KripkeWorld, Agent, Formula, boolean)
+     */
+    boolean existsSuccessor(KripkeWorld world, Agent agent, Formula formula, CompiledFormula compiled,
+            boolean value) throws Exception {
+        if (!this.containsWorld(world)) {
+            throw new KripkeStructureInvalidRuntimeException(
+                    "the world " + world + " no longer exists in this structure");
+        }
+        Set<KripkeWorld> worlds = this.successors(world, agent);
+        if (worlds == null) {
+            return false;
+        }
+        int visited = 0;
+        try {
+            for (KripkeWorld successor : worlds) {
+                visited++;
+                if (successor.satisfied(formula, compiled, this) == value) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            this.countWorldsVisited(visited);
+        }
     }
 
     /**
-     * Gets the graph used by the structure.
+     * Gets the graph used by the structure. The graph can be modified, so a graph
+     * shared with copies of the structure is taken or copied first (see
+     * {@link #KripkeStructure(KripkeStructure)}) and the cached truth
+     * values and labels are discarded: the modifications made before the next
+     * evaluation are seen by it (a graph kept and modified later must be
+     * followed by a call to {@link #incrementVersion()}).
+     * 
+     * The backends which don't store their relations in a graph (as
+     * {@link DenseKripkeStructure}) return an unmodifiable snapshot instead.
      * 
      * @return reasoning graph
      */
     public Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getGraph() {
-        return this.graph;
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = this.getWritableGraph();
+        this.incrementVersion();
+        return graph;
     }
 
     /**
      * Gets the collection of remaining worlds in the structure.
      * 
-     * @return collection of Kripke worlds
+     * @return unmodifiable collection of Kripke worlds
      */
     public Collection<KripkeWorld> getWorlds() {
-        return this.graph.keySet();
+        if (this.shared != null) {
+            return new AliveGraph(this.shared, this.alive).keySet();
+        }
+        return Collections.unmodifiableSet(this.graph.keySet());
+    }
+
+    /**
+     * Read-only view of the worlds of a set which are still in a structure
+     * using a shared graph (the worlds only referenced as successors are kept).
+     */
+    private static final class AliveSet extends AbstractSet<KripkeWorld> {
+        /**
+         * Worlds of the shared graph.
+         */
+        private final Set<KripkeWorld> worlds;
+
+        /**
+         * Shared graph.
+         */
+        private final SharedGraph shared;
+
+        /**
+         * Ids of the remaining keys of the shared graph.
+         */
+        private final BitSet alive;
+
+        /**
+         * Constructor.
+         * 
+         * @param worlds worlds of the shared graph
+         * @param shared shared graph
+         * @param alive  ids of the remaining keys of the shared graph
+         */
+        AliveSet(Set<KripkeWorld> worlds, SharedGraph shared, BitSet alive) {
+            this.worlds = worlds;
+            this.shared = shared;
+            this.alive = alive;
+        }
+
+        /**
+         * Checks if a world of the shared graph is not removed.
+         * 
+         * @param world world
+         * @return {@code true} if the world is not a removed key
+         */
+        private boolean isAlive(KripkeWorld world) {
+            int id = this.shared.getWorldId(world);
+            return id >= this.shared.getKeyCount() || this.alive.get(id);
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return this.worlds.contains(object) && this.isAlive((KripkeWorld) object);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (KripkeWorld world : this.worlds) {
+                if (this.isAlive(world)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<KripkeWorld> iterator() {
+            Iterator<KripkeWorld> iterator = this.worlds.iterator();
+            return new Iterator<KripkeWorld>() {
+                private KripkeWorld next = this.advance();
+
+                private KripkeWorld advance() {
+                    while (iterator.hasNext()) {
+                        KripkeWorld world = iterator.next();
+                        if (AliveSet.this.isAlive(world)) {
+                            return world;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.next != null;
+                }
+
+                @Override
+                public KripkeWorld next() {
+                    if (this.next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    KripkeWorld world = this.next;
+                    this.next = this.advance();
+                    return world;
+                }
+            };
+        }
+    }
+
+    /**
+     * Read-only view of the graph of a structure using a shared graph: the
+     * removed keys and their incoming arcs are left out.
+     */
+    private static final class AliveGraph extends AbstractMap<KripkeWorld, Map<Agent, Set<KripkeWorld>>> {
+        /**
+         * Shared graph.
+         */
+        private final SharedGraph shared;
+
+        /**
+         * Ids of the remaining keys of the shared graph.
+         */
+        private final BitSet alive;
+
+        /**
+         * Constructor.
+         * 
+         * @param shared shared graph
+         * @param alive  ids of the remaining keys of the shared graph
+         */
+        AliveGraph(SharedGraph shared, BitSet alive) {
+            this.shared = shared;
+            this.alive = alive;
+        }
+
+        /**
+         * Gets the view of the links of a remaining key.
+         * 
+         * @param world remaining key
+         * @return unmodifiable map of the remaining successors via each agent
+         */
+        private Map<Agent, Set<KripkeWorld>> links(KripkeWorld world) {
+            Map<Agent, Set<KripkeWorld>> links = new AgentMap<>();
+            for (Map.Entry<Agent, Set<KripkeWorld>> entry : this.shared.getGraph().get(world).entrySet()) {
+                links.put(entry.getKey(), new AliveSet(entry.getValue(), this.shared, this.alive));
+            }
+            return Collections.unmodifiableMap(links);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof KripkeWorld)) {
+                return false;
+            }
+            int id = this.shared.getWorldId((KripkeWorld) key);
+            return id >= 0 && this.alive.get(id);
+        }
+
+        @Override
+        public Map<Agent, Set<KripkeWorld>> get(Object key) {
+            return this.containsKey(key) ? this.links((KripkeWorld) key) : null;
+        }
+
+        @Override
+        public int size() {
+            return this.alive.cardinality();
+        }
+
+        @Override
+        public Set<KripkeWorld> keySet() {
+            return new AbstractSet<KripkeWorld>() {
+                @Override
+                public boolean contains(Object object) {
+                    return AliveGraph.this.containsKey(object);
+                }
+
+                @Override
+                public int size() {
+                    return AliveGraph.this.size();
+                }
+
+                @Override
+                public Iterator<KripkeWorld> iterator() {
+                    return new Iterator<KripkeWorld>() {
+                        private int next = AliveGraph.this.alive.nextSetBit(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.next >= 0;
+                        }
+
+                        @Override
+                        public KripkeWorld next() {
+                            if (this.next < 0) {
+                                throw new NoSuchElementException();
+                            }
+                            KripkeWorld world = AliveGraph.this.shared.getWorld(this.next);
+                            this.next = AliveGraph.this.alive.nextSetBit(this.next + 1);
+                            return world;
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public Set<Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>>> entrySet() {
+            return new AbstractSet<Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>>>() {
+                @Override
+                public int size() {
+                    return AliveGraph.this.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>>> iterator() {
+                    return new Iterator<Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>>>() {
+                        private int next = AliveGraph.this.alive.nextSetBit(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.next >= 0;
+                        }
+
+                        @Override
+                        public Map.Entry<KripkeWorld, Map<Agent, Set<KripkeWorld>>> next() {
+                            if (this.next < 0) {
+                                throw new NoSuchElementException();
+                            }
+                            KripkeWorld world = AliveGraph.this.shared.getWorld(this.next);
+                            this.next = AliveGraph.this.alive.nextSetBit(this.next + 1);
+                            return new AbstractMap.SimpleImmutableEntry<>(world, AliveGraph.this.links(world));
+                        }
+                    };
+                }
+            };
+        }
     }
 }
@@ -1,13 +1,13 @@
 package MAKBPInterpreter.agents;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import MAKBPInterpreter.logic.Atom;
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Valuation;
+import MAKBPInterpreter.metrics.Metrics;
 
 /**
  * Class representing a world in a
@@ -23,12 +23,17 @@ public class KripkeWorld {
     /**
      * Name of the world.
      */
-    private String name;
+    private final String name;
 
     /**
-     * Propositions of the world represents.
+     * Propositions of the world represents, packed in bit vectors.
      */
-    private Map<Atom, Boolean> assignment;
+    private final Valuation valuation;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
 
     /**
      * Default constructor.
@@ -37,8 +42,19 @@ public class KripkeWorld {
      * @param assignment proposition of the world represents
      */
     public KripkeWorld(String name, Map<Atom, Boolean> assignment) {
+        this(name, new Valuation(assignment));
+    }
+
+    /**
+     * Constructor with an already packed assignment.
+     * 
+     * @param name      world name
+     * @param valuation proposition of the world represents
+     */
+    public KripkeWorld(String name, Valuation valuation) {
         this.name = name;
-        this.assignment = assignment;
+        this.valuation = valuation;
+        this.hash = Objects.hash(this.name, this.valuation);
         KripkeWorld.id++;
     }
 
@@ -54,45 +70,100 @@ public class KripkeWorld {
     /**
      * Checks if a given formula is satisfying the actual state of the world.
      * 
+     * The truth value is looked up in the cache of the structure before being
+     * evaluated (atoms are directly read from the valuation).
+     * 
      * @param formula   formula to satisfied
      * @param structure Kripke structure
      * @return boolean representing if the world satisfied the formula
      * @throws Exception thrown if an illegal argument is passed
+     * @see KripkeStructure#getTruthCache()
      */
     public boolean satisfied(Formula formula, KripkeStructure structure) throws Exception {
-        return formula.evaluate(new ModalLogicAssignment(this.assignment, structure, this));
+        return this.satisfied(formula, null, structure);
     }
 
     /**
-     * Returns the differences between two worlds (all atoms divergence).
+     * Checks if a compiled formula is satisfying the actual state of the world.
+     * The truth value shares the cache of the structure with the formula.
      * 
-     * @param world other world
-     * @return atoms set representing the divergence
+     * @param formula   compiled formula to satisfied
+     * @param structure Kripke structure
+     * @return boolean representing if the world satisfied the formula
+     * @throws Exception thrown if an illegal argument is passed
+     * @see #satisfied(Formula, KripkeStructure)
      */
-    public Collection<Atom> differencesBetweenWorlds(KripkeWorld world) {
-        Set<Atom> union = new HashSet<>();
-        union.addAll(this.assignment.keySet());
-        union.addAll(world.assignment.keySet());
-
-        Set<Atom> intersection = new HashSet<>();
-        intersection.addAll(this.assignment.keySet());
-        intersection.retainAll(world.assignment.keySet());
+    public boolean satisfied(CompiledFormula formula, KripkeStructure structure) throws Exception {
+        return this.satisfied(formula.getFormula(), formula, structure);
+    }
 
-        union.removeAll(intersection);
+    /**
+     * Checks if a formula is satisfying the actual state of the world, evaluating
+     * its compiled form if given.
+     * 
+     * @param formula   formula to satisfied
+     * @param compiled  compiled formula or {@code null} to evaluate the formula
+     * @param structure Kripke structure
+     * @return boolean representing if the world satisfied the formula
+     * @throws Exception thrown if an illegal argument is passed
+     */
+    boolean satisfied(Formula formula, CompiledFormula compiled, KripkeStructure structure) throws Exception {
+        Metrics metrics = structure.getMetrics();
+        if (formula instanceof Atom) {
+            if (metrics != null) {
+                metrics.countEvaluation(formula);
+            }
+            return this.valuation.getOrDefault(((Atom) formula).getIndex(), false);
+        }
 
-        // check if atom in intersection have different values
-        for (Atom atom : intersection) {
-            if (world.assignment.get(atom) != this.assignment.get(atom)) {
-                union.add(atom);
+        TruthCache cache = structure.getTruthCache();
+        Boolean value = cache.get(formula, this);
+        if (value == null) {
+            if (metrics != null) {
+                metrics.countCacheMiss();
+                metrics.countEvaluation(formula);
             }
+            if (compiled != null) {
+                value = compiled.evaluate(structure, this);
+            } else {
+                EvaluationContext context = EvaluationContext.current();
+                try {
+                    value = formula.evaluate(context.enter(structure, this));
+                } finally {
+                    context.exit();
+                }
+            }
+            cache.put(formula, this, value);
+        } else if (metrics != null) {
+            metrics.countCacheHit();
         }
+        return value;
+    }
 
-        return union;
+    /**
+     * Returns the differences between two worlds (all atoms divergence).
+     * 
+     * @param world other world
+     * @return atoms set representing the divergence
+     */
+    public Collection<Atom> differencesBetweenWorlds(KripkeWorld world) {
+        return Valuation.toAtoms(this.valuation.differences(world.valuation));
+    }
+
+    /**
+     * Counts the differences between two worlds without building the atoms.
+     * 
+     * @param world other world
+     * @return number of divergent atoms
+     * @see #differencesBetweenWorlds(KripkeWorld)
+     */
+    public int countDifferencesBetweenWorlds(KripkeWorld world) {
+        return this.valuation.countDifferences(world.valuation);
     }
 
     @Override
     public String toString() {
-        return "World[" + this.name + "," + this.assignment.toString() + "]";
+        return "World[" + this.name + "," + this.valuation.toString() + "]";
     }
 
     @Override
@@ -105,11 +176,11 @@ public class KripkeWorld {
             return false;
 
         KripkeWorld world = (KripkeWorld) other;
-        if (!world.name.equals(this.name)) {
+        if (world.hash != this.hash || !world.name.equals(this.name)) {
             return false;
         }
 
-        if (!world.assignment.equals(this.assignment)) {
+        if (!world.valuation.equals(this.valuation)) {
             return false;
         }
 
@@ -118,7 +189,7 @@ public class KripkeWorld {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.name, this.assignment);
+        return this.hash;
     }
 
     /**
@@ -131,11 +202,20 @@ public class KripkeWorld {
     }
 
     /**
-     * Gets all the true propositions of the world.
+     * Gets all the propositions of the world.
      * 
-     * @return true propositions
+     * @return new map of the propositions
      */
     public Map<Atom, Boolean> getAssignment() {
-        return this.assignment;
+        return this.valuation.toMap();
+    }
+
+    /**
+     * Gets all the propositions of the world packed in bit vectors.
+     * 
+     * @return world valuation
+     */
+    public Valuation getValuation() {
+        return this.valuation;
     }
 }
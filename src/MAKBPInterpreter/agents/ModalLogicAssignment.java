@@ -4,11 +4,16 @@ import java.util.Map;
 
 import MAKBPInterpreter.logic.Atom;
 import MAKBPInterpreter.logic.PropositionalLogicAssignment;
+import MAKBPInterpreter.logic.Valuation;
 
 /**
  * Represents an assignment for modal and epistemic logic and its extension.
  * 
  * We can note that this logic is an extension of the propositional logic.
+ * 
+ * An assignment can be repositioned onto another world (see
+ * {@link #moveTo(KripkeStructure, KripkeWorld)}), the nested evaluations reuse
+ * the assignments of an {@link EvaluationContext}.
  */
 public class ModalLogicAssignment extends PropositionalLogicAssignment {
     /**
@@ -34,6 +39,53 @@ public class ModalLogicAssignment extends PropositionalLogicAssignment {
         this.world = world;
     }
 
+    /**
+     * Constructor using the propositions of the world as state.
+     * 
+     * @param structure structure where evaluate the state
+     * @param world     world where evaluate the state inside the structure
+     */
+    public ModalLogicAssignment(KripkeStructure structure, KripkeWorld world) {
+        this(world.getValuation(), structure, world);
+    }
+
+    /**
+     * Constructor with an already packed state.
+     * 
+     * @param valuation the state to evaluate
+     * @param structure structure where evaluate the state
+     * @param world     world where evaluate the state inside the structure
+     */
+    public ModalLogicAssignment(Valuation valuation, KripkeStructure structure, KripkeWorld world) {
+        super(valuation);
+        this.structure = structure;
+        this.world = world;
+    }
+
+    /**
+     * Repositions the assignment onto a world, so the same assignment can be
+     * reused for successive evaluations instead of creating one per world. The
+     * state becomes the propositions of the world.
+     * 
+     * @param structure structure where evaluate the state
+     * @param world     world where evaluate the state inside the structure
+     * @see EvaluationContext
+     */
+    public void moveTo(KripkeStructure structure, KripkeWorld world) {
+        this.valuation = world.getValuation();
+        this.structure = structure;
+        this.world = world;
+    }
+
+    /**
+     * Releases the state, the structure and the world of an unused assignment.
+     */
+    void clear() {
+        this.valuation = null;
+        this.structure = null;
+        this.world = null;
+    }
+
     /**
      * Gets the Kripke structure.
      * 
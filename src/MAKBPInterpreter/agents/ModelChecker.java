@@ -0,0 +1,747 @@
+package MAKBPInterpreter.agents;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.AtomColumns;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.Valuation;
+import MAKBPInterpreter.metrics.Metrics;
+
+/**
+ * Global model checker of a {@link KripkeStructure}.
+ *
+ * Instead of evaluating a formula world by world, the checker labels every
+ * subformula once across all the worlds of the structure, bottom-up, with set
+ * operations on world ids. The labels are memoized, so a subformula shared by
+ * several formulas checked with the same checker is only labeled once. A
+ * propositional subformula is labeled as a whole on the columns of the atoms
+ * (see {@link AtomColumns}), 64 worlds per operation.
+ *
+ * A checker is a snapshot: it must not be used anymore once the structure has
+ * been modified.
+ *
+ * If the structure has a pool (see {@link KripkeStructure#setPool(ForkJoinPool)}),
+ * the world-by-world tests of a label (atoms and knowledge operators) are
+ * split between its threads on large structures.
+ */
+public class ModelChecker {
+    /**
+     * Minimum number of worlds to test before splitting a test between threads.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    /**
+     * Number of 64-world words tested by one task.
+     */
+    private static final int TASK_WORDS = 1 << 6;
+
+    /**
+     * Checked structure.
+     */
+    private KripkeStructure structure;
+
+    /**
+     * Dense structure if the checked structure is dense, else {@code null}.
+     */
+    private DenseKripkeStructure dense;
+
+    /**
+     * Graph shared by the checked structure with its copies, else {@code null}.
+     */
+    private SharedGraph shared;
+
+    /**
+     * Worlds indexed by their ids (only used for a map-based structure).
+     */
+    private List<KripkeWorld> worlds;
+
+    /**
+     * Ids of the worlds (only used for a map-based structure).
+     */
+    private Map<KripkeWorld, Integer> worldIds;
+
+    /**
+     * Ids of the worlds where the formulas are labeled. For a map-based
+     * structure, it contains the worlds only referenced as successors.
+     */
+    private BitSet universe;
+
+    /**
+     * Ids of the worlds of the structure.
+     */
+    private BitSet keys;
+
+    /**
+     * Relation of each agent over the world ids.
+     */
+    private Map<Agent, AccessibilityRelation> relations;
+
+    /**
+     * Labels of the already checked subformulas.
+     */
+    private Map<Formula, BitSet> labels;
+
+    /**
+     * Components of the already checked groups of agents.
+     */
+    private Map<Set<Agent>, GroupComponents> components;
+
+    /**
+     * Truth values of the atoms by column over the world ids, {@code null}
+     * until the first propositional label.
+     */
+    private AtomColumns columns;
+
+    /**
+     * Pool running the world tests, {@code null} to run them in the calling
+     * thread.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Registry counting the evaluations, {@code null} to count nothing.
+     */
+    private Metrics metrics;
+
+    /**
+     * Constructor.
+     *
+     * @param structure structure to check
+     */
+    public ModelChecker(KripkeStructure structure) {
+        this.structure = structure;
+        this.relations = new AgentMap<>();
+        this.labels = new HashMap<>();
+        this.components = new HashMap<>();
+        this.pool = structure.getPool();
+        this.metrics = structure.getMetrics();
+        if (structure instanceof DenseKripkeStructure) {
+            this.dense = (DenseKripkeStructure) structure;
+            this.universe = this.dense.getAliveWorldIds();
+            this.keys = this.universe;
+        } else if (structure.getSharedGraph() != null) {
+            // the ids, relations and columns of the shared graph are reused, the
+            // removed worlds are only left out of the universe
+            this.shared = structure.getSharedGraph();
+            this.worlds = this.shared.getWorlds();
+            this.worldIds = this.shared.getWorldIds();
+            this.keys = structure.getAliveWorldIds();
+            this.universe = (BitSet) this.keys.clone();
+            this.universe.set(this.shared.getKeyCount(), this.worlds.size());
+        } else {
+            Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = structure.getReadOnlyGraph();
+            this.worlds = new ArrayList<>(graph.keySet());
+            this.worldIds = new HashMap<>();
+            for (int i = 0; i < this.worlds.size(); i++) {
+                this.worldIds.put(this.worlds.get(i), i);
+            }
+            this.keys = new BitSet(this.worlds.size());
+            this.keys.set(0, this.worlds.size());
+
+            // worlds only referenced as successors
+            for (Map<Agent, Set<KripkeWorld>> links : graph.values()) {
+                for (Set<KripkeWorld> successors : links.values()) {
+                    for (KripkeWorld successor : successors) {
+                        if (!this.worldIds.containsKey(successor)) {
+                            this.worldIds.put(successor, this.worlds.size());
+                            this.worlds.add(successor);
+                        }
+                    }
+                }
+            }
+            this.universe = new BitSet(this.worlds.size());
+            this.universe.set(0, this.worlds.size());
+        }
+    }
+
+    /**
+     * Gets the id of a world in this checker.
+     *
+     * @param world world
+     * @return world id or -1 if the world is not in the structure
+     */
+    public int getWorldId(KripkeWorld world) {
+        int id;
+        if (this.dense != null) {
+            id = this.dense.getWorldId(world);
+        } else {
+            Integer mapId = this.worldIds.get(world);
+            id = mapId == null ? -1 : mapId;
+        }
+        return id >= 0 && this.keys.get(id) ? id : -1;
+    }
+
+    /**
+     * Gets the world associated to an id of this checker.
+     *
+     * @param id world id
+     * @return associated world
+     */
+    public KripkeWorld getWorld(int id) {
+        return this.dense != null ? this.dense.getWorld(id) : this.worlds.get(id);
+    }
+
+    /**
+     * Gets the ids of the worlds of the checked structure.
+     *
+     * @return copy of the world ids
+     */
+    public BitSet getWorldIds() {
+        return (BitSet) this.keys.clone();
+    }
+
+    /**
+     * Gets the ids of the worlds where the formulas are labeled (the worlds of
+     * the structure and, for a map-based structure, the worlds only referenced
+     * as successors). The returned set must not be modified.
+     *
+     * @return world ids
+     */
+    BitSet getUniverse() {
+        return this.universe;
+    }
+
+    /**
+     * Computes the set of worlds satisfying a formula.
+     *
+     * @param formula formula to check
+     * @return new set of the satisfying worlds
+     * @throws Exception thrown if a formula doesn't support the evaluation
+     */
+    public Set<KripkeWorld> satisfactionSet(Formula formula) throws Exception {
+        BitSet label = (BitSet) this.label(formula).clone();
+        label.and(this.keys);
+        Set<KripkeWorld> worlds = new HashSet<>();
+        for (int w = label.nextSetBit(0); w >= 0; w = label.nextSetBit(w + 1)) {
+            worlds.add(this.getWorld(w));
+        }
+        return worlds;
+    }
+
+    /**
+     * Checks if a world of the structure satisfies a formula.
+     *
+     * @param world   world of the structure
+     * @param formula formula to check
+     * @return {@code true} if the world satisfies the formula
+     * @throws Exception thrown if a formula doesn't support the evaluation
+     * @throws IllegalArgumentException thrown if the world is not in the structure
+     */
+    public boolean satisfied(KripkeWorld world, Formula formula) throws Exception {
+        int id = this.getWorldId(world);
+        if (id < 0) {
+            throw new IllegalArgumentException("the world " + world + " is not in the checked structure");
+        }
+        return this.label(formula).get(id);
+    }
+
+    /**
+     * Computes the ids of the worlds satisfying a formula. The returned set must
+     * not be modified and, for a map-based structure, can contain worlds which
+     * are only referenced as successors.
+     *
+     * @param formula formula to check
+     * @return ids of the satisfying worlds
+     * @throws Exception thrown if a formula doesn't support the evaluation
+     */
+    public BitSet label(Formula formula) throws Exception {
+        BitSet label = this.labels.get(formula);
+        if (label == null) {
+            label = this.computeLabel(formula);
+            this.labels.put(formula, label);
+            if (this.metrics != null) {
+                this.metrics.countCacheMiss();
+                this.metrics.countEvaluation(formula);
+            }
+        } else if (this.metrics != null) {
+            this.metrics.countCacheHit();
+        }
+        return label;
+    }
+
+    /**
+     * Computes the label of a formula from the labels of its subformulas.
+     *
+     * @param formula formula to label
+     * @return ids of the satisfying worlds
+     * @throws Exception thrown if a formula doesn't support the evaluation
+     */
+    private BitSet computeLabel(Formula formula) throws Exception {
+        if (AtomColumns.isPropositional(formula)) {
+            return this.columns().label(formula, this.universe);
+        }
+        if (formula instanceof Not) {
+            return this.complement(this.label(((Not) formula).getOperand()));
+        }
+        if (formula instanceof And) {
+            BitSet label = (BitSet) this.universe.clone();
+            for (Formula operand : ((And) formula).getOperands()) {
+                label.and(this.label(operand));
+            }
+            return label;
+        }
+        if (formula instanceof Or) {
+            BitSet label = new BitSet();
+            for (Formula operand : ((Or) formula).getOperands()) {
+                label.or(this.label(operand));
+            }
+            return label;
+        }
+        if (formula instanceof Implication) {
+            Implication implication = (Implication) formula;
+            BitSet label = this.complement(this.label(implication.getLeftOperand()));
+            label.or(this.label(implication.getRightOperand()));
+            return label;
+        }
+        if (formula instanceof Equivalence) {
+            Equivalence equivalence = (Equivalence) formula;
+            BitSet label = (BitSet) this.label(equivalence.getLeftOperand()).clone();
+            label.xor(this.label(equivalence.getRightOperand()));
+            return this.complement(label);
+        }
+        if (formula instanceof Diamond) {
+            Diamond diamond = (Diamond) formula;
+            return this.possible(diamond.getAgent(), this.label(diamond.getInnerFormula()));
+        }
+        if (formula instanceof AgentKnowledge) {
+            AgentKnowledge knowledge = (AgentKnowledge) formula;
+            return this.knows(knowledge.getAgent(), this.label(knowledge.getInnerFormula()));
+        }
+        if (formula instanceof EverybodyKnowledge) {
+            EverybodyKnowledge knowledge = (EverybodyKnowledge) formula;
+            BitSet inner = this.label(knowledge.getInnerFormula());
+            BitSet label = (BitSet) this.universe.clone();
+            for (Agent agent : knowledge.getAgents()) {
+                label.and(this.knows(agent, inner));
+            }
+            return label;
+        }
+        if (formula instanceof CommonKnowledge) {
+            CommonKnowledge knowledge = (CommonKnowledge) formula;
+            return this.commonlyKnows(knowledge.getAgents(), this.label(knowledge.getInnerFormula()));
+        }
+
+        // unknown formula: evaluated world by world
+        BitSet label = new BitSet();
+        for (int w = this.keys.nextSetBit(0); w >= 0; w = this.keys.nextSetBit(w + 1)) {
+            if (this.getWorld(w).satisfied(formula, this.structure)) {
+                label.set(w);
+            }
+        }
+        return label;
+    }
+
+    /**
+     * Gets the columns of the atoms over the world ids: the columns of a dense
+     * structure are shared by its versions, the ones of a map-based structure
+     * are built for this checker.
+     *
+     * @return atom columns
+     */
+    private AtomColumns columns() {
+        if (this.columns == null) {
+            if (this.dense != null) {
+                this.columns = this.dense.getAtomColumns();
+            } else if (this.shared != null) {
+                this.columns = this.shared.getAtomColumns();
+            } else {
+                List<Valuation> valuations = new ArrayList<>(this.worlds.size());
+                for (KripkeWorld world : this.worlds) {
+                    valuations.add(world.getValuation());
+                }
+                this.columns = new AtomColumns(valuations);
+            }
+        }
+        return this.columns;
+    }
+
+    /**
+     * Computes the complement of a label in the universe.
+     *
+     * @param label label to complement
+     * @return new complemented label
+     */
+    private BitSet complement(BitSet label) {
+        BitSet complement = (BitSet) this.universe.clone();
+        complement.andNot(label);
+        return complement;
+    }
+
+    /**
+     * Computes the worlds where all the successors via an agent are in a label.
+     *
+     * (M, s) |= K_i(phi) iff for all t, (M,t) |= phi, (s,t) e K_i(s)
+     *
+     * @param agent agent
+     * @param inner label of the known formula
+     * @return new label
+     */
+    private BitSet knows(Agent agent, BitSet inner) {
+        this.countWorldsVisited(1);
+        AccessibilityRelation relation = this.relation(agent);
+        BitSet outside = this.complement(inner);
+        if (relation instanceof PartitionRelation) {
+            // all the worlds of a class have the same successors
+            PartitionRelation partition = (PartitionRelation) relation;
+            BitSet failing = new BitSet(partition.getClassCount());
+            for (int w = outside.nextSetBit(0); w >= 0 && w < partition.size(); w = outside.nextSetBit(w + 1)) {
+                failing.set(partition.getClassId(w));
+            }
+            return this.filter(w -> !failing.get(partition.getClassId(w)));
+        }
+
+        if (relation instanceof FunctionalRelation) {
+            // the successors are computed, never stored
+            FunctionalRelation functional = (FunctionalRelation) relation;
+            return this.filter(w -> !this.anyIn(functional.getSuccessorIds(w), outside));
+        }
+
+        return this.filter(w -> {
+            BitSet row = this.successors(relation, w);
+            return row == null || !row.intersects(outside);
+        });
+    }
+
+    /**
+     * Computes the worlds where at least one successor via an agent is in a
+     * label.
+     *
+     * @param agent agent
+     * @param inner label of the considered formula
+     * @return new label
+     */
+    private BitSet possible(Agent agent, BitSet inner) {
+        this.countWorldsVisited(1);
+        AccessibilityRelation relation = this.relation(agent);
+        if (relation instanceof PartitionRelation) {
+            PartitionRelation partition = (PartitionRelation) relation;
+            BitSet reaching = new BitSet(partition.getClassCount());
+            for (int w = inner.nextSetBit(0); w >= 0 && w < partition.size(); w = inner.nextSetBit(w + 1)) {
+                reaching.set(partition.getClassId(w));
+            }
+            return this.filter(w -> reaching.get(partition.getClassId(w)));
+        }
+
+        if (relation instanceof FunctionalRelation) {
+            FunctionalRelation functional = (FunctionalRelation) relation;
+            return this.filter(w -> this.anyIn(functional.getSuccessorIds(w), inner));
+        }
+
+        return this.filter(w -> {
+            BitSet row = this.successors(relation, w);
+            return row != null && row.intersects(inner);
+        });
+    }
+
+    /**
+     * Gets the connected components of the union of the relations of a group of
+     * agents. They are computed once per group and version of the structure.
+     *
+     * @param agents group of agents
+     * @return components of the group
+     */
+    public GroupComponents getGroupComponents(Collection<Agent> agents) {
+        Set<Agent> group = new HashSet<>(agents);
+        GroupComponents components = this.components.get(group);
+        if (components == null) {
+            components = new GroupComponents(this, group);
+            this.components.put(group, components);
+            if (this.metrics != null) {
+                this.metrics.countCacheMiss();
+            }
+        } else if (this.metrics != null) {
+            this.metrics.countCacheHit();
+        }
+        return components;
+    }
+
+    /**
+     * Computes the worlds from which every world reachable in at least one step
+     * via the agents of the group is in a label.
+     *
+     * If the union of the relations is symmetric, the reachable worlds are the
+     * components of the group: a component is rejected as a whole as soon as one
+     * of its worlds is outside the label. Otherwise, the worlds which can reach
+     * a world outside the label are found with a backward search.
+     *
+     * @param agents group of agents
+     * @param inner  label of the common formula
+     * @return new label
+     */
+    private BitSet commonlyKnows(Collection<Agent> agents, BitSet inner) {
+        GroupComponents components = this.getGroupComponents(agents);
+        if (components.isSymmetric()) {
+            this.countWorldsVisited(1);
+            BitSet failing = new BitSet(components.getComponentCount());
+            BitSet outside = this.complement(inner);
+            for (int t = outside.nextSetBit(0); t >= 0; t = outside.nextSetBit(t + 1)) {
+                int component = components.getComponentId(t);
+                if (components.isClosed(component)) {
+                    failing.set(component);
+                }
+            }
+            return this.filter(w -> !failing.get(components.getComponentId(w)));
+        }
+
+        this.countWorldsVisited(agents.size());
+        // predecessors of each world via the agents of the group
+        Map<Integer, List<Integer>> predecessors = new HashMap<>();
+        for (Agent agent : agents) {
+            AccessibilityRelation relation = this.relation(agent);
+            for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+                if (relation instanceof PartitionRelation && w < relation.size()) {
+                    PartitionRelation partition = (PartitionRelation) relation;
+                    int c = partition.getClassId(w);
+                    for (int position = partition.getClassStart(c); position < partition.getClassEnd(c); position++) {
+                        int t = partition.getMember(position);
+                        if (this.universe.get(t)) {
+                            predecessors.computeIfAbsent(t, key -> new ArrayList<>()).add(w);
+                        }
+                    }
+                    continue;
+                }
+                if (relation instanceof FunctionalRelation) {
+                    for (int t : ((FunctionalRelation) relation).getSuccessorIds(w)) {
+                        if (this.universe.get(t)) {
+                            predecessors.computeIfAbsent(t, key -> new ArrayList<>()).add(w);
+                        }
+                    }
+                    continue;
+                }
+                BitSet row = this.successors(relation, w);
+                if (row == null) {
+                    continue;
+                }
+                for (int t = row.nextSetBit(0); t >= 0; t = row.nextSetBit(t + 1)) {
+                    if (this.universe.get(t)) {
+                        predecessors.computeIfAbsent(t, key -> new ArrayList<>()).add(w);
+                    }
+                }
+            }
+        }
+
+        // worlds reaching a world outside the label
+        BitSet reaching = new BitSet();
+        List<Integer> stack = new ArrayList<>();
+        BitSet outside = this.complement(inner);
+        for (int t = outside.nextSetBit(0); t >= 0; t = outside.nextSetBit(t + 1)) {
+            stack.add(t);
+        }
+        while (!stack.isEmpty()) {
+            int t = stack.remove(stack.size() - 1);
+            for (int w : predecessors.getOrDefault(t, new ArrayList<>())) {
+                if (!reaching.get(w)) {
+                    reaching.set(w);
+                    stack.add(w);
+                }
+            }
+        }
+        return this.complement(reaching);
+    }
+
+    /**
+     * Counts the worlds visited by a knowledge operator.
+     *
+     * @param passes number of passes over the universe
+     */
+    private void countWorldsVisited(int passes) {
+        if (this.metrics != null) {
+            this.metrics.countWorldsVisited((long) passes * this.universe.cardinality());
+        }
+    }
+
+    /**
+     * Computes the worlds of the universe passing a test. With a pool, the
+     * words of the universe are split between tasks writing disjoint words of
+     * the result, so the test must only read shared data.
+     *
+     * @param test test of a world id
+     * @return new label
+     */
+    private BitSet filter(IntPredicate test) {
+        if (this.pool == null || this.universe.cardinality() < PARALLEL_THRESHOLD) {
+            BitSet label = new BitSet();
+            for (int w = this.universe.nextSetBit(0); w >= 0; w = this.universe.nextSetBit(w + 1)) {
+                if (test.test(w)) {
+                    label.set(w);
+                }
+            }
+            return label;
+        }
+
+        long[] words = this.universe.toLongArray();
+        long[] result = new long[words.length];
+        this.pool.invoke(new FilterTask(words, result, 0, words.length, test));
+        return BitSet.valueOf(result);
+    }
+
+    /**
+     * Task testing the worlds of a range of words, split in two halves while it
+     * is too big.
+     */
+    private static class FilterTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Words of the tested world ids.
+         */
+        private final long[] words;
+
+        /**
+         * Words of the passing world ids.
+         */
+        private final long[] result;
+
+        /**
+         * First word of the range (included).
+         */
+        private final int from;
+
+        /**
+         * Last word of the range (excluded).
+         */
+        private final int to;
+
+        /**
+         * Test of a world id.
+         */
+        private final IntPredicate test;
+
+        /**
+         * Constructor.
+         *
+         * @param words  words of the tested world ids
+         * @param result words of the passing world ids
+         * @param from   first word of the range (included)
+         * @param to     last word of the range (excluded)
+         * @param test   test of a world id
+         */
+        private FilterTask(long[] words, long[] result, int from, int to, IntPredicate test) {
+            this.words = words;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.test = test;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > TASK_WORDS) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new FilterTask(this.words, this.result, this.from, middle, this.test),
+                        new FilterTask(this.words, this.result, middle, this.to, this.test));
+                return;
+            }
+            for (int i = this.from; i < this.to; i++) {
+                long word = this.words[i];
+                long passing = 0L;
+                while (word != 0L) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    if (this.test.test((i << 6) + bit)) {
+                        passing |= 1L << bit;
+                    }
+                    word &= word - 1;
+                }
+                this.result[i] = passing;
+            }
+        }
+    }
+
+    /**
+     * Checks if one of the ids is in a label.
+     *
+     * @param ids   world ids
+     * @param label label
+     * @return {@code true} if at least one id is in the label
+     */
+    private boolean anyIn(int[] ids, BitSet label) {
+        for (int id : ids) {
+            if (label.get(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the successors of a world in a relation.
+     *
+     * @param relation relation of an agent
+     * @param world    world id
+     * @return successor ids or {@code null} if the world has no successor
+     */
+    private BitSet successors(AccessibilityRelation relation, int world) {
+        return world < relation.size() ? relation.getSuccessors(world) : null;
+    }
+
+    /**
+     * Gets the relation of an agent over the world ids of this checker. For a
+     * map-based structure, a world without entry for the agent has no
+     * successor.
+     *
+     * @param agent agent
+     * @return accessibility relation
+     */
+    AccessibilityRelation relation(Agent agent) {
+        AccessibilityRelation relation = this.relations.get(agent);
+        if (relation != null) {
+            return relation;
+        }
+
+        if (this.dense != null) {
+            int a = this.dense.getAgentId(agent);
+            relation = a < 0 ? new BitSetRelation(new BitSet[0]) : this.dense.getRelation(a);
+        } else if (this.shared != null) {
+            relation = this.shared.relation(agent);
+        } else {
+            relation = buildRelation(this.structure.getReadOnlyGraph(), this.worlds, this.worldIds, agent);
+        }
+        this.relations.put(agent, relation);
+        return relation;
+    }
+
+    /**
+     * Builds the relation of an agent over the ids of the worlds of a graph. A
+     * world without entry for the agent has no successor.
+     *
+     * @param graph    graph
+     * @param worlds   worlds indexed by their ids
+     * @param worldIds ids of the worlds
+     * @param agent    agent
+     * @return accessibility relation
+     */
+    static AccessibilityRelation buildRelation(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph,
+            List<KripkeWorld> worlds, Map<KripkeWorld, Integer> worldIds, Agent agent) {
+        BitSet[] rows = new BitSet[worlds.size()];
+        for (int w = 0; w < worlds.size(); w++) {
+            Map<Agent, Set<KripkeWorld>> links = graph.get(worlds.get(w));
+            Set<KripkeWorld> successors = links == null ? null : links.get(agent);
+            if (successors == null) {
+                continue;
+            }
+            rows[w] = new BitSet();
+            for (KripkeWorld successor : successors) {
+                Integer id = worldIds.get(successor);
+                if (id != null) {
+                    rows[w].set(id);
+                }
+            }
+        }
+        return new BitSetRelation(rows);
+    }
+}
@@ -0,0 +1,176 @@
+package MAKBPInterpreter.agents;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Equivalence relation (S5) stored as a partition of the worlds: a class id
+ * per world and the members of each class.
+ *
+ * The successors of a world are the members of its class, so the memory is
+ * linear in the number of worlds instead of quadratic in the class sizes, and
+ * a knowledge formula can be evaluated once per class. The members are stored
+ * in one array sorted by class (and by world id inside a class): the members
+ * of a class are read as a range of this array (see
+ * {@link #getClassStart(int)}), no set is kept per class.
+ */
+public class PartitionRelation implements AccessibilityRelation {
+    /**
+     * Class id of each world.
+     */
+    private final int[] classIds;
+
+    /**
+     * Start of each class in the {@link #members} array (the last entry is the
+     * number of worlds).
+     */
+    private final int[] offsets;
+
+    /**
+     * World ids sorted by class.
+     */
+    private final int[] members;
+
+    /**
+     * Constructor.
+     *
+     * @param classIds class id of each world, the ids must be dense (from 0 to
+     *                 the number of classes excluded)
+     */
+    public PartitionRelation(int[] classIds) {
+        this.classIds = classIds.clone();
+        int count = 0;
+        for (int c : this.classIds) {
+            count = Math.max(count, c + 1);
+        }
+
+        // counting sort of the worlds by class
+        this.offsets = new int[count + 1];
+        for (int c : this.classIds) {
+            this.offsets[c + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            this.offsets[c + 1] += this.offsets[c];
+        }
+        this.members = new int[this.classIds.length];
+        int[] next = Arrays.copyOf(this.offsets, count);
+        for (int w = 0; w < this.classIds.length; w++) {
+            this.members[next[this.classIds[w]]++] = w;
+        }
+    }
+
+    /**
+     * Creates a partition from successor rows if they represent an equivalence
+     * relation (each world is in its row and all the worlds of a row have the
+     * same row).
+     *
+     * @param rows successor ids of each world
+     * @return partition or {@code null} if the relation is not an equivalence
+     */
+    public static PartitionRelation fromRows(BitSet[] rows) {
+        int[] classIds = new int[rows.length];
+        Arrays.fill(classIds, -1);
+        int count = 0;
+        for (int w = 0; w < rows.length; w++) {
+            if (classIds[w] >= 0) {
+                continue;
+            }
+            BitSet row = rows[w];
+            if (!row.get(w)) {
+                return null;
+            }
+            for (int t = row.nextSetBit(0); t >= 0; t = row.nextSetBit(t + 1)) {
+                if (t >= rows.length || classIds[t] >= 0 || (t != w && !rows[t].equals(row))) {
+                    return null;
+                }
+                classIds[t] = count;
+            }
+            count++;
+        }
+        return new PartitionRelation(classIds);
+    }
+
+    /**
+     * Gets the ids of the worlds linked to a world. A new set is created at each
+     * call, the class range (see {@link #getClassStart(int)}) can be read
+     * without creating anything.
+     */
+    @Override
+    public BitSet getSuccessors(int world) {
+        return this.getMembers(this.classIds[world]);
+    }
+
+    @Override
+    public int size() {
+        return this.classIds.length;
+    }
+
+    /**
+     * Gets the class id of a world.
+     *
+     * @param world world id
+     * @return class id
+     */
+    public int getClassId(int world) {
+        return this.classIds[world];
+    }
+
+    /**
+     * Gets the number of classes.
+     *
+     * @return number of classes
+     */
+    public int getClassCount() {
+        return this.offsets.length - 1;
+    }
+
+    /**
+     * Gets the position of the first member of a class: the members of the class
+     * are the {@link #getMember(int)} of the positions from
+     * {@code getClassStart(classId)} (included) to {@code getClassEnd(classId)}
+     * (excluded), by increasing world id.
+     *
+     * @param classId class id
+     * @return position of the first member
+     */
+    public int getClassStart(int classId) {
+        return this.offsets[classId];
+    }
+
+    /**
+     * Gets the position following the last member of a class.
+     *
+     * @param classId class id
+     * @return position after the last member
+     * @see #getClassStart(int)
+     */
+    public int getClassEnd(int classId) {
+        return this.offsets[classId + 1];
+    }
+
+    /**
+     * Gets the world at a position of the members sorted by class.
+     *
+     * @param position position between 0 and the number of worlds (excluded)
+     * @return world id
+     * @see #getClassStart(int)
+     */
+    public int getMember(int position) {
+        return this.members[position];
+    }
+
+    /**
+     * Gets the members of a class. A new set is created at each call.
+     *
+     * @param classId class id
+     * @return new set of the ids of the worlds of the class (removed worlds
+     *         included)
+     */
+    public BitSet getMembers(int classId) {
+        BitSet members = new BitSet();
+        for (int i = this.offsets[classId]; i < this.offsets[classId + 1]; i++) {
+            members.set(this.members[i]);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,225 @@
+package MAKBPInterpreter.agents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import MAKBPInterpreter.logic.Formula;
+
+/**
+ * Actions selected by the program of an agent in every world of a structure.
+ *
+ * The worlds an agent can't distinguish lead to the same action, so the
+ * decision list of the program is evaluated once per equivalence class of the
+ * agent (the worlds with the same successors) and the selection is shared by
+ * the members of the class. A guard which isn't constant over a class (for
+ * instance an atom the agent can't observe) only splits this class. The
+ * selection of a world is then retrieved in constant time.
+ *
+ * The table is a snapshot: it isn't updated by the modifications of the
+ * structure made after its computation.
+ *
+ * @see Agent#computePolicyTable(KripkeStructure)
+ */
+public final class PolicyTable {
+    /**
+     * Checker of the structure, used to retrieve the world ids.
+     */
+    private final ModelChecker checker;
+
+    /**
+     * Index of the selection of each world in {@link #selections} (-1 for the
+     * ids without world).
+     */
+    private final int[] selectionIds;
+
+    /**
+     * Distinct selections of the table.
+     */
+    private final List<ActionSelection> selections;
+
+    /**
+     * Number of equivalence classes of the agent.
+     */
+    private final int classCount;
+
+    /**
+     * Computes the table of an agent.
+     *
+     * @param agent     agent
+     * @param structure structure of the agent
+     * @throws Exception thrown if a guard doesn't support the evaluation
+     */
+    PolicyTable(Agent agent, KripkeStructure structure) throws Exception {
+        this.checker = structure.getModelChecker();
+        AgentProgram program = agent.getProgram();
+        BitSet[] labels = new BitSet[program.size()];
+        for (int i = 0; i < labels.length; i++) {
+            Formula guard = program.getKey(i);
+            labels[i] = guard == null ? null : this.checker.label(guard);
+        }
+
+        BitSet worlds = this.checker.getWorldIds();
+        int[] classIds = this.classIds(this.checker.relation(agent), worlds);
+        int[] classSelections = new int[worlds.length()];
+        Arrays.fill(classSelections, -1);
+        this.selectionIds = new int[worlds.length()];
+        Arrays.fill(this.selectionIds, -1);
+        this.selections = new ArrayList<>();
+        Map<ActionSelection, Integer> ids = new HashMap<>();
+
+        int count = 0;
+        for (int w = worlds.nextSetBit(0); w >= 0; w = worlds.nextSetBit(w + 1)) {
+            int selection = classSelections[classIds[w]];
+            if (selection < 0 || !agrees(this.selections.get(selection), labels, w)) {
+                ActionSelection evaluated = select(program, labels, w);
+                Integer id = ids.get(evaluated);
+                if (id == null) {
+                    id = this.selections.size();
+                    ids.put(evaluated, id);
+                    this.selections.add(evaluated);
+                }
+                if (selection < 0) {
+                    classSelections[classIds[w]] = id;
+                    count++;
+                }
+                selection = id;
+            }
+            this.selectionIds[w] = selection;
+        }
+        this.classCount = count;
+    }
+
+    /**
+     * Numbers the equivalence classes of the worlds of the structure.
+     *
+     * @param relation relation of the agent
+     * @param worlds   world ids of the structure
+     * @return class id of each world, lower than the number of worlds
+     */
+    private int[] classIds(AccessibilityRelation relation, BitSet worlds) {
+        int[] classIds = new int[worlds.length()];
+        if (relation instanceof PartitionRelation && relation.size() >= classIds.length) {
+            PartitionRelation partition = (PartitionRelation) relation;
+            Map<Integer, Integer> dense = new HashMap<>();
+            for (int w = worlds.nextSetBit(0); w >= 0; w = worlds.nextSetBit(w + 1)) {
+                Integer id = dense.putIfAbsent(partition.getClassId(w), dense.size());
+                classIds[w] = id == null ? dense.size() - 1 : id;
+            }
+        } else {
+            Map<BitSet, Integer> classes = new HashMap<>();
+            for (int w = worlds.nextSetBit(0); w >= 0; w = worlds.nextSetBit(w + 1)) {
+                BitSet successors = w < relation.size() ? relation.getSuccessors(w) : null;
+                Integer id = classes.putIfAbsent(successors == null ? new BitSet() : successors, classes.size());
+                classIds[w] = id == null ? classes.size() - 1 : id;
+            }
+        }
+        return classIds;
+    }
+
+    /**
+     * Evaluates the decision list of a program in a world.
+     *
+     * @param program program of the agent
+     * @param labels  labels of the guards ({@code null} for the else guard)
+     * @param world   world id
+     * @return selection of the world
+     */
+    private static ActionSelection select(AgentProgram program, BitSet[] labels, int world) {
+        boolean[] values = new boolean[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            values[i] = labels[i] == null || labels[i].get(world);
+            if (values[i]) {
+                return new ActionSelection(program.getValue(i), i, Arrays.copyOf(values, i + 1));
+            }
+        }
+        return new ActionSelection(null, -1, values);
+    }
+
+    /**
+     * Checks if the guards evaluated by a selection have the same values in a
+     * world.
+     *
+     * @param selection selection of another world
+     * @param labels    labels of the guards ({@code null} for the else guard)
+     * @param world     world id
+     * @return {@code true} if the selection is also the selection of the world
+     */
+    private static boolean agrees(ActionSelection selection, BitSet[] labels, int world) {
+        for (int i = 0; i < selection.getEvaluatedGuardCount(); i++) {
+            if (selection.getGuardValue(i) != (labels[i] == null || labels[i].get(world))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the selection of a world.
+     *
+     * @param world world of the structure
+     * @return selection of the world
+     * @throws IllegalArgumentException thrown if the world is not in the structure
+     */
+    public ActionSelection getSelection(KripkeWorld world) {
+        int id = this.checker.getWorldId(world);
+        if (id < 0 || id >= this.selectionIds.length || this.selectionIds[id] < 0) {
+            throw new IllegalArgumentException("the world " + world + " is not in the structure of the table");
+        }
+        return this.selections.get(this.selectionIds[id]);
+    }
+
+    /**
+     * Gets the action selected in a world.
+     *
+     * @param world world of the structure
+     * @return action or {@code null} if no guard is satisfied
+     * @throws IllegalArgumentException thrown if the world is not in the structure
+     */
+    public Action getAction(KripkeWorld world) {
+        return this.getSelection(world).getAction();
+    }
+
+    /**
+     * Gets the selections of all the worlds of the structure.
+     *
+     * @return new map of worlds and selections
+     */
+    public Map<KripkeWorld, ActionSelection> getSelections() {
+        Map<KripkeWorld, ActionSelection> selections = new HashMap<>();
+        for (int w = 0; w < this.selectionIds.length; w++) {
+            if (this.selectionIds[w] >= 0) {
+                selections.put(this.checker.getWorld(w), this.selections.get(this.selectionIds[w]));
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * Gets the number of equivalence classes of the agent, i.e. the number of
+     * evaluations of the decision list (without the classes split by a guard).
+     *
+     * @return number of classes
+     */
+    public int getClassCount() {
+        return this.classCount;
+    }
+
+    /**
+     * Gets the number of worlds of the table.
+     *
+     * @return number of worlds
+     */
+    public int size() {
+        int size = 0;
+        for (int id : this.selectionIds) {
+            if (id >= 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,236 @@
+package MAKBPInterpreter.agents;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import MAKBPInterpreter.logic.AtomColumns;
+import MAKBPInterpreter.logic.Valuation;
+
+/**
+ * Graph shared by the copies of a map-based {@link KripkeStructure}, with ids
+ * for its worlds.
+ *
+ * The graph is not modified while it is shared: like the alive worlds of a
+ * {@link DenseKripkeStructure}, each copy only keeps the ids of its remaining
+ * worlds, so an announcement removes no arc. The copy modifying its relations
+ * takes the graph for itself if it is the last one sharing it, else it copies
+ * its remaining worlds. The indexes built from the graph (predecessors,
+ * relations over the ids and atom columns) are shared by all the copies.
+ *
+ * The copies can be used by different threads, so the sharers are counted and
+ * the indexes are built under the lock of the graph.
+ */
+final class SharedGraph {
+    /**
+     * Shared graph, with the arcs of all the worlds removed by the copies.
+     */
+    private final Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph;
+
+    /**
+     * Worlds indexed by their ids: the keys of the graph, then the worlds only
+     * referenced as successors.
+     */
+    private final List<KripkeWorld> worlds;
+
+    /**
+     * Ids of the worlds.
+     */
+    private final Map<KripkeWorld, Integer> worldIds;
+
+    /**
+     * Number of keys of the graph (their ids are the first ones).
+     */
+    private final int keyCount;
+
+    /**
+     * Number of structures sharing the graph.
+     */
+    private int sharers = 1;
+
+    /**
+     * Predecessors of each world via each agent, {@code null} if not built yet.
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> predecessors;
+
+    /**
+     * Relation of each agent over the world ids, built at the first request.
+     */
+    private final Map<Agent, AccessibilityRelation> relations = new AgentMap<>();
+
+    /**
+     * Truth values of the atoms over the world ids, {@code null} if not built
+     * yet.
+     */
+    private AtomColumns columns = null;
+
+    /**
+     * Constructor. The graph is shared by a single structure.
+     *
+     * @param graph        graph which is no longer modified by its owner
+     * @param predecessors predecessor index of the graph or {@code null} to
+     *                     build it at the first request
+     */
+    SharedGraph(Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph,
+            Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> predecessors) {
+        this.graph = graph;
+        this.predecessors = predecessors;
+        this.worlds = new ArrayList<>(graph.keySet());
+        this.worldIds = new HashMap<>();
+        for (int i = 0; i < this.worlds.size(); i++) {
+            this.worldIds.put(this.worlds.get(i), i);
+        }
+        this.keyCount = this.worlds.size();
+
+        // worlds only referenced as successors
+        for (Map<Agent, Set<KripkeWorld>> links : graph.values()) {
+            for (Set<KripkeWorld> successors : links.values()) {
+                for (KripkeWorld successor : successors) {
+                    if (!this.worldIds.containsKey(successor)) {
+                        this.worldIds.put(successor, this.worlds.size());
+                        this.worlds.add(successor);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a structure sharing the graph.
+     *
+     * @return this graph
+     */
+    synchronized SharedGraph share() {
+        this.sharers++;
+        return this;
+    }
+
+    /**
+     * Removes a structure sharing the graph.
+     *
+     * @return {@code true} if the structure was the last one sharing the graph,
+     *         which can then be modified by it
+     */
+    synchronized boolean release() {
+        this.sharers--;
+        return this.sharers == 0;
+    }
+
+    /**
+     * Gets the graph, which must not be modified while it is shared.
+     *
+     * @return graph
+     */
+    Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Gets the world associated to an id.
+     *
+     * @param id world id
+     * @return associated world
+     */
+    KripkeWorld getWorld(int id) {
+        return this.worlds.get(id);
+    }
+
+    /**
+     * Gets the worlds indexed by their ids.
+     *
+     * @return unmodified list of worlds
+     */
+    List<KripkeWorld> getWorlds() {
+        return this.worlds;
+    }
+
+    /**
+     * Gets the ids of the worlds.
+     *
+     * @return unmodified map of ids
+     */
+    Map<KripkeWorld, Integer> getWorldIds() {
+        return this.worldIds;
+    }
+
+    /**
+     * Gets the id of a world.
+     *
+     * @param world world
+     * @return world id or -1 if the world is not in the graph
+     */
+    int getWorldId(KripkeWorld world) {
+        Integer id = this.worldIds.get(world);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the number of keys of the graph, which have the first ids.
+     *
+     * @return number of keys
+     */
+    int getKeyCount() {
+        return this.keyCount;
+    }
+
+    /**
+     * Gets the predecessor index of the graph, built at the first call.
+     *
+     * @return predecessors of each world via each agent (not to be modified
+     *         while the graph is shared)
+     */
+    synchronized Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> getPredecessorIndex() {
+        if (this.predecessors == null) {
+            this.predecessors = KripkeStructure.buildPredecessorIndex(this.graph);
+        }
+        return this.predecessors;
+    }
+
+    /**
+     * Gets the relation of an agent over the world ids, built at the first
+     * call. The successors of a world may contain the ids of worlds removed by
+     * a structure.
+     *
+     * @param agent agent
+     * @return accessibility relation
+     */
+    synchronized AccessibilityRelation relation(Agent agent) {
+        AccessibilityRelation relation = this.relations.get(agent);
+        if (relation == null) {
+            relation = ModelChecker.buildRelation(this.graph, this.worlds, this.worldIds, agent);
+            this.relations.put(agent, relation);
+        }
+        return relation;
+    }
+
+    /**
+     * Gets the columns of the atoms over the world ids, built at the first
+     * call.
+     *
+     * @return atom columns
+     */
+    synchronized AtomColumns getAtomColumns() {
+        if (this.columns == null) {
+            List<Valuation> valuations = new ArrayList<>(this.worlds.size());
+            for (KripkeWorld world : this.worlds) {
+                valuations.add(world.getValuation());
+            }
+            this.columns = new AtomColumns(valuations);
+        }
+        return this.columns;
+    }
+
+    /**
+     * Gets the ids of the keys of the graph.
+     *
+     * @return new set of ids
+     */
+    BitSet getKeyIds() {
+        BitSet ids = new BitSet(this.keyCount);
+        ids.set(0, this.keyCount);
+        return ids;
+    }
+}
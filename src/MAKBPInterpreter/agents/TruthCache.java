@@ -0,0 +1,185 @@
+package MAKBPInterpreter.agents;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import MAKBPInterpreter.logic.Formula;
+
+/**
+ * Cache of the truth values of formulas in the worlds of a
+ * {@link KripkeStructure}.
+ *
+ * The values are only valid for one version of the structure: the structure
+ * resets the cache each time its version changes (see
+ * {@link KripkeStructure#getVersion()}). The number of cached values is
+ * bounded, the least recently used formulas are evicted first.
+ */
+public class TruthCache {
+    /**
+     * Default maximum number of cached values.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Maximum number of cached values.
+     */
+    private int capacity;
+
+    /**
+     * Number of cached values.
+     */
+    private int size;
+
+    /**
+     * Version of the structure for which the values are cached.
+     */
+    private long version;
+
+    /**
+     * Cached values grouped by formula, in access order.
+     */
+    private LinkedHashMap<Formula, Map<KripkeWorld, Boolean>> values;
+
+    /**
+     * Number of lookups which found a value.
+     */
+    private long hits;
+
+    /**
+     * Number of lookups which didn't find a value.
+     */
+    private long misses;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum number of cached values
+     * @throws IllegalArgumentException thrown if the capacity is not positive
+     */
+    public TruthCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("the capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.values = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @implNote We call the {@link #TruthCache(int)} constructor with
+     *           {@link #DEFAULT_CAPACITY}.
+     */
+    public TruthCache() {
+        this(TruthCache.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Gets the cached truth value of a formula in a world.
+     *
+     * @param formula formula
+     * @param world   world where the formula is evaluated
+     * @return cached value or {@code null} if the value is not cached
+     */
+    public Boolean get(Formula formula, KripkeWorld world) {
+        Map<KripkeWorld, Boolean> worlds = this.values.get(formula);
+        Boolean value = worlds == null ? null : worlds.get(world);
+        if (value == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches the truth value of a formula in a world. The least recently used
+     * formulas are evicted if the capacity is exceeded.
+     *
+     * @param formula formula
+     * @param world   world where the formula is evaluated
+     * @param value   truth value
+     */
+    public void put(Formula formula, KripkeWorld world, boolean value) {
+        Map<KripkeWorld, Boolean> worlds = this.values.get(formula);
+        if (worlds == null) {
+            worlds = new HashMap<>();
+            this.values.put(formula, worlds);
+        }
+        if (worlds.put(world, value) == null) {
+            this.size++;
+        }
+
+        // eviction of the least recently used formulas (never the current one)
+        if (this.size <= this.capacity) {
+            return;
+        }
+        Iterator<Map.Entry<Formula, Map<KripkeWorld, Boolean>>> iterator = this.values.entrySet().iterator();
+        while (this.size > this.capacity && iterator.hasNext()) {
+            Map<KripkeWorld, Boolean> evicted = iterator.next().getValue();
+            if (evicted != worlds) {
+                this.size -= evicted.size();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached values and associates the cache to a new version of
+     * the structure.
+     *
+     * @param version new version of the structure
+     */
+    public void reset(long version) {
+        this.values.clear();
+        this.size = 0;
+        this.version = version;
+    }
+
+    /**
+     * Gets the version of the structure for which the values are cached.
+     *
+     * @return structure version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the maximum number of cached values.
+     *
+     * @return capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the number of cached values.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of lookups which found a value.
+     *
+     * @return number of hits
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of lookups which didn't find a value.
+     *
+     * @return number of misses
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+}
@@ -0,0 +1,97 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.logic.Atom;
+
+/**
+ * Fixture of the tests: agents ignoring each their own atom, like the muddy
+ * children, whose structure is the hypercube of the valuations of the atoms.
+ */
+public class Hypercube {
+    /**
+     * Agents, with empty programs.
+     */
+    private final List<Agent> agents = new ArrayList<>();
+
+    /**
+     * Atom of each agent.
+     */
+    private final List<Atom> atoms = new ArrayList<>();
+
+    /**
+     * Atoms ignored by each agent.
+     */
+    private final Map<Agent, Set<Atom>> atomsAssociation = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param name prefix of the names of the agents and atoms
+     * @param n    number of agents
+     */
+    public Hypercube(String name, int n) {
+        for (int i = 0; i < n; i++) {
+            this.agents.add(new Agent(name + " " + i, new AgentProgram()));
+            this.atoms.add(new Atom(name + " atom " + i));
+            this.atomsAssociation.put(this.agents.get(i), new HashSet<>(Arrays.asList(this.atoms.get(i))));
+        }
+    }
+
+    /**
+     * Builds the structure of the agents with partitions.
+     *
+     * @return new structure of 2^n worlds
+     */
+    public DenseKripkeStructure structure() {
+        return DenseKripkeStructure.fromIgnoredAtoms(this.atoms, this.agents, this.atomsAssociation);
+    }
+
+    /**
+     * Builds the structure of the agents.
+     *
+     * @param implicit if {@code true}, the relations are functional, else they
+     *                 are partitions
+     * @return new structure of 2^n worlds
+     */
+    public DenseKripkeStructure structure(boolean implicit) {
+        return DenseKripkeStructure.fromIgnoredAtoms(this.atoms, this.agents, this.atomsAssociation, implicit);
+    }
+
+    /**
+     * Gets the agents.
+     *
+     * @return list of agents
+     */
+    public List<Agent> getAgents() {
+        return this.agents;
+    }
+
+    /**
+     * Gets the atom of each agent.
+     *
+     * @return list of atoms
+     */
+    public List<Atom> getAtoms() {
+        return this.atoms;
+    }
+
+    /**
+     * Gets the atoms ignored by each agent (modifiable, the next structures are
+     * built with the modifications).
+     *
+     * @return map of agents and atoms
+     */
+    public Map<Agent, Set<Atom>> getAtomsAssociation() {
+        return this.atomsAssociation;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 import org.junit.Test;
 
 import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.ActionSelection;
 import MAKBPInterpreter.agents.Agent;
 import MAKBPInterpreter.agents.AgentProgram;
 import MAKBPInterpreter.agents.KripkeStructure;
@@ -98,7 +99,9 @@ public class TestAgent extends TestCase {
         Agent agent3 = new Agent(name2, programCopy);
         Agent agent4 = new Agent(name2, program2);
 
-        assertTrue("Must be equals", agent1.equals(agent2));
+        assertTrue("Must be equals", agent1.equals(agent1));
+        // each agent object has its own index, even with the same name and program
+        assertFalse("Must not be equals", agent1.equals(agent2));
         assertFalse("Must not be equals", agent1.equals(agent3));
         assertFalse("Must not be equals", agent1.equals(agent4));
         assertFalse("Must not be equals", agent2.equals(agent3));
@@ -136,14 +139,72 @@ public class TestAgent extends TestCase {
             e.printStackTrace();
         }
 
+        // the world keeps a packed copy of its assignment, so we need a new world
         assignment.put((Atom) formula1, false);
+        KripkeWorld world2 = new KripkeWorld(assignment);
+        graph = new HashMap<>();
+        relations = new HashMap<>();
+        relations.put(agent, new HashSet<>(Arrays.asList(world2)));
+        graph.put(world2, relations);
+        structure = new KripkeStructure(graph, agents);
         try {
-            assertEquals("Selected action is not correct", action2, agent.getAssociatedAction(structure, world));
+            assertEquals("Selected action is not correct", action2, agent.getAssociatedAction(structure, world2));
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.Agent#selectAction(MAKBPInterpreter.agents.KripkeStructure, MAKBPInterpreter.agents.KripkeWorld)}
+     * method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSelectAction() throws Exception {
+        Atom atom1 = new Atom("1 is muddy");
+        Atom atom2 = new Atom("2 is muddy");
+        AgentProgram program = new AgentProgram();
+        program.put(atom1, action1);
+        program.put(atom2, action3);
+        Agent agent = new Agent("agent 1", program);
+
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom1, false);
+        assignment.put(atom2, true);
+        KripkeWorld world = new KripkeWorld(assignment);
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        Map<Agent, Set<KripkeWorld>> relations = new HashMap<>();
+        relations.put(agent, new HashSet<>(Arrays.asList(world)));
+        graph.put(world, relations);
+        KripkeStructure structure = new KripkeStructure(graph, new HashSet<>(Arrays.asList(agent)));
+
+        ActionSelection selection = agent.selectAction(structure, world);
+        assertSame(action3, selection.getAction());
+        assertEquals(1, selection.getGuardIndex());
+        assertEquals(2, selection.getEvaluatedGuardCount());
+        assertFalse(selection.getGuardValue(0));
+        assertTrue(selection.getGuardValue(1));
+        assertEquals(new ActionSelection(action3, 1, new boolean[] { false, true }), selection);
+        assertEquals(agent.reverseEngineering(action3), agent.reverseEngineering(selection.getAction()));
+        // the agent is not modified
+        assertNull(agent.reverseEngineering());
+
+        // the result is immutable
+        selection.getGuardValues()[0] = true;
+        assertFalse(selection.getGuardValue(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> selection.getGuardValue(2));
+
+        // no guard is satisfied
+        assignment.put(atom2, false);
+        KripkeWorld world2 = new KripkeWorld(assignment);
+        ActionSelection none = agent.selectAction(structure, world2);
+        assertNull(none.getAction());
+        assertEquals(-1, none.getGuardIndex());
+        assertTrue(Arrays.equals(new boolean[] { false, false }, none.getGuardValues()));
+    }
+
     /**
      * Tests the
      * {@link MAKBPInterpreter.agents.Agent#performsAssociatedAction(MAKBPInterpreter.agents.KripkeStructure, MAKBPInterpreter.agents.KripkeWorld, Object...)}
@@ -11,6 +11,8 @@ import org.junit.Test;
 import MAKBPInterpreter.agents.Agent;
 import MAKBPInterpreter.agents.AgentKnowledge;
 import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.Box;
+import MAKBPInterpreter.agents.Diamond;
 import MAKBPInterpreter.agents.KripkeStructure;
 import MAKBPInterpreter.agents.KripkeWorld;
 import MAKBPInterpreter.agents.ModalLogicAssignment;
@@ -102,6 +104,8 @@ public class TestAgentKnowledge extends TestCase {
         assertTrue(Ka1.equals(Ka3));
         assertFalse(Ka1.equals(Ka2));
         assertFalse(Ka2.equals(Ka3));
+        assertFalse(Ka1.equals(new Diamond(agent, formula)));
+        assertFalse(new Box(agent, formula).equals(Ka1));
     }
 
     /**
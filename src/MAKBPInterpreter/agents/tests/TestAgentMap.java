@@ -0,0 +1,152 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentMap;
+import MAKBPInterpreter.agents.AgentProgram;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.AgentMap} class.
+ */
+public class TestAgentMap extends TestCase {
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.AgentMap#put(Agent, Object)},
+     * {@link MAKBPInterpreter.agents.AgentMap#get(Object)} and
+     * {@link MAKBPInterpreter.agents.AgentMap#remove(Object)} methods.
+     */
+    @Test
+    public void testPutGetRemove() {
+        Agent agent1 = new Agent("agent map 1", new AgentProgram());
+        Agent agent2 = new Agent("agent map 2", new AgentProgram());
+        Agent agent1Copy = new Agent("agent map 1", new AgentProgram());
+
+        AgentMap<String> map = new AgentMap<>();
+        assertNull(map.put(agent1, "a"));
+        assertNull(map.put(agent2, "b"));
+        assertEquals("a", map.put(agent1, "c"));
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(agent1));
+        assertNull(map.get(agent1Copy));
+        assertEquals("b", map.getByIndex(agent2.getIndex()));
+        assertNull(map.get("agent map 1"));
+        assertTrue(map.containsKey(agent2));
+
+        Map<Agent, String> expected = new HashMap<>();
+        expected.put(agent1, "c");
+        expected.put(agent2, "b");
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, new AgentMap<>(expected));
+
+        assertEquals("b", map.remove(agent2));
+        assertNull(map.remove(agent2));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(agent2));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Tests that two different agents with the same name have their own index
+     * and can be in the same map.
+     */
+    @Test
+    public void testSameName() {
+        Agent agent1 = new Agent("agent map 3", new AgentProgram());
+        Agent agent2 = new Agent("agent map 3", new AgentProgram());
+
+        assertFalse(agent1.getIndex() == agent2.getIndex());
+        assertFalse(agent1.equals(agent2));
+
+        AgentMap<String> map = new AgentMap<>();
+        map.put(agent1, "a");
+        assertNull(map.get(agent2));
+        map.put(agent2, "b");
+        assertEquals(2, map.size());
+        assertEquals("a", map.get(agent1));
+        assertEquals("b", map.get(agent2));
+    }
+
+    /**
+     * Tests the iteration over the entries.
+     */
+    @Test
+    public void testEntrySet() {
+        Agent agent1 = new Agent("agent map 4", new AgentProgram());
+        Agent agent2 = new Agent("agent map 5", new AgentProgram());
+        AgentMap<Integer> map = new AgentMap<>();
+        map.put(agent1, 1);
+        map.put(agent2, 2);
+
+        int sum = 0;
+        for (Map.Entry<Agent, Integer> entry : map.entrySet()) {
+            sum += entry.getValue();
+            entry.setValue(entry.getValue() * 10);
+        }
+        assertEquals(3, sum);
+        assertEquals(Integer.valueOf(10), map.get(agent1));
+
+        Iterator<Agent> iterator = map.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Tests random modifications against a hash map, with more agents than the
+     * initial capacity and agents created after the map.
+     */
+    @Test
+    public void testRandomModifications() {
+        List<Agent> agents = new ArrayList<>();
+        AgentMap<Integer> map = new AgentMap<>();
+        Map<Agent, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+        for (int step = 0; step < 5000; step++) {
+            if (agents.size() < 100 && random.nextInt(10) == 0) {
+                agents.add(new Agent("agent map random " + agents.size(), new AgentProgram()));
+            }
+            if (agents.isEmpty()) {
+                continue;
+            }
+            Agent agent = agents.get(random.nextInt(agents.size()));
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.put(agent, step), map.put(agent, step));
+                    break;
+                case 2:
+                    assertEquals(expected.remove(agent), map.remove(agent));
+                    break;
+                default:
+                    // removal of every other entry during an iteration
+                    Iterator<Map.Entry<Agent, Integer>> iterator = map.entrySet().iterator();
+                    boolean removed = false;
+                    while (iterator.hasNext()) {
+                        Map.Entry<Agent, Integer> entry = iterator.next();
+                        removed = !removed;
+                        if (removed) {
+                            expected.remove(entry.getKey());
+                            iterator.remove();
+                        }
+                    }
+                    break;
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(agent), map.getByIndex(agent.getIndex()));
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+    }
+}
@@ -223,6 +223,41 @@ public class TestAgentProgram extends TestCase {
         assertThrows(IndexOutOfBoundsException.class, () -> program.getKey(10));
     }
 
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.AgentProgram#getCompiledKey(int)}
+     * method.
+     */
+    @Test
+    public void testGetCompiledKey() {
+        Formula formula1 = new Atom("a");
+        Formula formula2 = new Not(new Atom("b"));
+        List<Formula> formulas = new ArrayList<>();
+        formulas.addAll(Arrays.asList(formula1, formula2, null));
+        List<Action> actions = new ArrayList<>();
+        actions.addAll(Arrays.asList(action1, action2, action1));
+
+        AgentProgram program = new AgentProgram(formulas, actions);
+
+        assertEquals(formula1, program.getCompiledKey(0).getFormula());
+        assertEquals(formula2, program.getCompiledKey(1).getFormula());
+        assertNull(program.getCompiledKey(2));
+        // compiled once
+        assertSame(program.getCompiledKey(1), program.getCompiledKey(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> program.getCompiledKey(10));
+
+        // compiled again after a modification
+        Formula formula3 = new Atom("c");
+        program.put(formula3, action3);
+        assertEquals(formula3, program.getCompiledKey(2).getFormula());
+        assertNull(program.getCompiledKey(3));
+        program.remove(formula1);
+        assertEquals(formula2, program.getCompiledKey(0).getFormula());
+        program.insert(0, formula1, action1);
+        assertEquals(formula1, program.getCompiledKey(0).getFormula());
+        program.clear();
+        assertThrows(IndexOutOfBoundsException.class, () -> program.getCompiledKey(0));
+    }
+
     /**
      * Tests the {@link MAKBPInterpreter.agents.AgentProgram#getValue(int)} method.
      */
@@ -0,0 +1,119 @@
+package MAKBPInterpreter.agents.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.Box;
+import MAKBPInterpreter.agents.CommonKnowledge;
+import MAKBPInterpreter.agents.CompiledFormula;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
+import MAKBPInterpreter.agents.EverybodyKnowledge;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.CompiledFormula} class.
+ */
+public class TestCompiledFormula extends TestCase {
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.CompiledFormula#evaluate(KripkeStructure, KripkeWorld)}
+     * method against the labels of the model checker, in a dense and a map-based
+     * structure.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEvaluate() throws Exception {
+        Hypercube hypercube = new Hypercube("compiled", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        Set<Agent> group = new HashSet<>(agents.subList(0, 2));
+        List<Formula> formulas = Arrays.asList(
+                atoms.get(0),
+                new And(atoms.get(0), new Not(atoms.get(1))),
+                new AgentKnowledge(agents.get(0), atoms.get(1)),
+                new Box(agents.get(1), new Or(atoms.get(0), atoms.get(2))),
+                new Diamond(agents.get(2), new And(atoms.get(0), atoms.get(1))),
+                new Or(new AgentKnowledge(agents.get(0), atoms.get(0)),
+                        new AgentKnowledge(agents.get(0), new Not(atoms.get(0)))),
+                new Implication(atoms.get(2),
+                        new AgentKnowledge(agents.get(1), new Diamond(agents.get(0), atoms.get(1)))),
+                new Equivalence(new EverybodyKnowledge(new Or(atoms.get(0), atoms.get(1)), group), atoms.get(2)),
+                new Not(new CommonKnowledge(new Or(atoms.get(0), atoms.get(2)), group)));
+
+        DenseKripkeStructure dense = hypercube.structure();
+        dense.publicAnnouncement(new Or(atoms.get(0), atoms.get(1), atoms.get(2)));
+        KripkeStructure map = new KripkeStructure(dense.getGraph(), agents);
+        for (KripkeStructure structure : Arrays.asList(dense, map)) {
+            for (Formula formula : formulas) {
+                CompiledFormula compiled = CompiledFormula.compile(formula);
+                assertSame(formula, compiled.getFormula());
+                Set<KripkeWorld> expected = structure.getModelChecker().satisfactionSet(formula);
+                for (KripkeWorld world : structure.getWorlds()) {
+                    assertEquals(formula + " in " + world, expected.contains(world),
+                            compiled.evaluate(structure, world));
+                }
+            }
+        }
+
+        // the values of the modal subformulas are shared with the truth cache
+        Formula knowledge = new AgentKnowledge(agents.get(0), atoms.get(1));
+        CompiledFormula compiled = CompiledFormula.compile(new Not(knowledge));
+        KripkeWorld world = dense.getWorld(3);
+        assertNull(dense.getTruthCache().get(knowledge, world));
+        boolean value = compiled.evaluate(dense, world);
+        assertEquals(Boolean.valueOf(!value), dense.getTruthCache().get(knowledge, world));
+        assertNull(dense.getTruthCache().get(compiled.getFormula(), world));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.KripkeWorld#satisfied(CompiledFormula, KripkeStructure)}
+     * method and the evaluation in a world outside the structure.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSatisfied() throws Exception {
+        Hypercube hypercube = new Hypercube("compiled satisfied", 2);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure structure = hypercube.structure();
+        Formula formula = new And(atoms.get(0), new AgentKnowledge(agents.get(1), atoms.get(0)));
+        CompiledFormula compiled = CompiledFormula.compile(formula);
+        for (KripkeWorld world : structure.getWorlds()) {
+            boolean value = world.satisfied(compiled, structure);
+            assertEquals(world.satisfied(formula, structure), value);
+            assertEquals(Boolean.valueOf(value), structure.getTruthCache().get(formula, world));
+        }
+
+        // a propositional formula is evaluated anywhere, a modal one needs the
+        // links of the world
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atoms.get(0), true);
+        KripkeWorld outside = new KripkeWorld("compiled outside", assignment);
+        assertTrue(CompiledFormula.compile(new Or(atoms.get(0), atoms.get(1))).evaluate(structure, outside));
+        assertThrows(KripkeStructureInvalidRuntimeException.class, () -> compiled.evaluate(structure, outside));
+    }
+}
@@ -0,0 +1,417 @@
+package MAKBPInterpreter.agents.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.AccessibilityRelation;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.FunctionalRelation;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.PartitionRelation;
+import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.Valuation;
+import MAKBPInterpreter.metrics.Metrics;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.DenseKripkeStructure}
+ * class.
+ */
+public class TestDenseKripkeStructure extends TestCase {
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#DenseKripkeStructure(java.util.Map, java.util.Collection)},
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#DenseKripkeStructure(java.util.Map, java.util.Collection, boolean, boolean)}
+     * and
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#DenseKripkeStructure(MAKBPInterpreter.agents.KripkeStructure)}
+     * constructors.
+     */
+    @Test
+    public void testConstructors() {
+        Agent agent = new Agent("a", new AgentProgram());
+        Collection<Agent> agents = new HashSet<>(Arrays.asList(agent));
+        KripkeWorld world1 = new KripkeWorld(new HashMap<>());
+        KripkeWorld world2 = new KripkeWorld(new HashMap<>());
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        Map<Agent, Set<KripkeWorld>> map = new HashMap<>();
+        map.put(agent, new HashSet<>(Arrays.asList(world2)));
+        graph.put(world1, map);
+        graph.put(world2, new HashMap<>());
+
+        KripkeStructure structure = new KripkeStructure(graph, agents);
+        DenseKripkeStructure dense1 = new DenseKripkeStructure(graph, agents);
+        DenseKripkeStructure dense2 = new DenseKripkeStructure(graph, agents, true, true);
+        DenseKripkeStructure dense3 = new DenseKripkeStructure(structure);
+
+        assertEquals(structure, dense1);
+        assertEquals(dense1, structure);
+        assertEquals(structure, dense3);
+        assertFalse(structure.equals(dense2));
+        assertEquals(new HashSet<>(Arrays.asList(world2)), dense2.getWorldsFromOtherWorldAndAgent(world1, agent));
+        assertEquals(new HashSet<>(), dense2.getWorldsFromOtherWorldAndAgent(world2, agent));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#getWorldsFromOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld, MAKBPInterpreter.agents.Agent)}
+     * method.
+     */
+    @Test
+    public void testGetWorldsFromOtherWorldAndAgent() {
+        Agent agent = new Agent("a", new AgentProgram());
+        Agent agent2 = new Agent("b", new AgentProgram());
+        Collection<Agent> agents = new HashSet<>(Arrays.asList(agent, agent2));
+        KripkeWorld world1 = new KripkeWorld(new HashMap<>());
+        KripkeWorld world2 = new KripkeWorld(new HashMap<>());
+        KripkeWorld world3 = new KripkeWorld(new HashMap<>());
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        Map<Agent, Set<KripkeWorld>> map = new HashMap<>();
+        map.put(agent, new HashSet<>(Arrays.asList(world2)));
+        map.put(agent2, new HashSet<>(Arrays.asList(world3)));
+        graph.put(world1, map);
+        graph.put(world2, new HashMap<>());
+        graph.put(world3, new HashMap<>());
+
+        DenseKripkeStructure structure = new DenseKripkeStructure(graph, agents);
+
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)),
+                structure.getWorldsFromOtherWorldAndAgent(world1, agent));
+        assertEquals(new HashSet<>(Arrays.asList(world1, world3)),
+                structure.getWorldsFromOtherWorldAndAgent(world1, agent2));
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)),
+                structure.getWorldsFromOtherWorldAndAgent(world2, agent));
+        assertEquals(new HashSet<>(Arrays.asList(world2)), structure.getWorldsFromOtherWorldAndAgent(world2, agent2));
+        assertEquals(2, structure.getWorldsFromOtherWorldAndAgent(world3, agent2).size());
+        assertTrue(structure.getWorldsFromOtherWorldAndAgent(world3, agent2).contains(world1));
+        assertFalse(structure.getWorldsFromOtherWorldAndAgent(world3, agent2).contains(world2));
+        assertThrows(KripkeStructureInvalidRuntimeException.class,
+                () -> structure.getWorldsFromOtherWorldAndAgent(new KripkeWorld(new HashMap<>()), agent));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#publicAnnouncement(MAKBPInterpreter.logic.Formula)}
+     * and {@link MAKBPInterpreter.agents.DenseKripkeStructure#copy()} methods.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPublicAnnouncement() throws Exception {
+        Atom atom1 = new Atom("1");
+        Atom atom2 = new Atom("2");
+        Agent agent = new Agent("a", new AgentProgram());
+
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom1, true);
+        assignment.put(atom2, false);
+        KripkeWorld world1 = new KripkeWorld("test", assignment);
+        Map<Atom, Boolean> assignment2 = new HashMap<>(assignment);
+        assignment2.put(atom2, true);
+        KripkeWorld world2 = new KripkeWorld("test2", assignment2);
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        Map<Agent, Set<KripkeWorld>> map1 = new HashMap<>();
+        map1.put(agent, new HashSet<>(Arrays.asList(world1, world2)));
+        graph.put(world1, map1);
+        Map<Agent, Set<KripkeWorld>> map2 = new HashMap<>();
+        map2.put(agent, new HashSet<>(Arrays.asList(world1, world2)));
+        graph.put(world2, map2);
+
+        DenseKripkeStructure structure = new DenseKripkeStructure(graph, Arrays.asList(agent));
+        DenseKripkeStructure copy = structure.copy();
+        structure.publicAnnouncement(new And(Arrays.asList(atom1, atom2)));
+        assertEquals(new HashSet<>(Arrays.asList(world2)), structure.getWorlds());
+        assertEquals(new HashSet<>(Arrays.asList(world2)), structure.getWorldsFromOtherWorldAndAgent(world2, agent));
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)), copy.getWorlds());
+        assertFalse(structure.isAlive(structure.getWorldId(world1)));
+        assertTrue(structure.isAlive(structure.getWorldId(world2)));
+        assertThrows(UnsupportedOperationException.class,
+                () -> structure.getGraph().get(world2).get(agent).add(world1));
+
+        copy.publicAnnouncement(new AgentKnowledge(agent, atom1));
+        assertEquals(2, copy.getWorlds().size());
+        copy.publicAnnouncement(new Not(new AgentKnowledge(agent, atom1)));
+        assertEquals(0, copy.getWorlds().size());
+        assertEquals(new HashMap<>(), copy.getGraph());
+    }
+
+    /**
+     * Tests the id based getters of the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure} class.
+     */
+    @Test
+    public void testIdGetters() {
+        Agent agent = new Agent("a", new AgentProgram());
+        KripkeWorld world1 = new KripkeWorld(new HashMap<>());
+        KripkeWorld world2 = new KripkeWorld(new HashMap<>());
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        Map<Agent, Set<KripkeWorld>> map = new HashMap<>();
+        map.put(agent, new HashSet<>(Arrays.asList(world2)));
+        graph.put(world1, map);
+        graph.put(world2, new HashMap<>());
+
+        DenseKripkeStructure structure = new DenseKripkeStructure(graph, Arrays.asList(agent), true, false);
+        int id1 = structure.getWorldId(world1);
+        int id2 = structure.getWorldId(world2);
+        int agentId = structure.getAgentId(agent);
+
+        assertEquals(2, structure.getWorldIdCount());
+        assertEquals(world1, structure.getWorld(id1));
+        assertEquals(world2, structure.getWorld(id2));
+        assertEquals(-1, structure.getWorldId(new KripkeWorld(new HashMap<>())));
+        assertEquals(-1, structure.getAgentId(new Agent("b", new AgentProgram())));
+        assertEquals(Arrays.asList(agent), structure.getAgents());
+
+        BitSet expected = new BitSet();
+        expected.set(id1);
+        assertEquals(expected, structure.getSuccessors(id2, agentId));
+        expected.set(id2);
+        assertEquals(expected, structure.getAliveWorldIds());
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#fromIgnoredAtoms(java.util.List, java.util.List, java.util.Map)}
+     * method against the structure built by comparing the worlds.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFromIgnoredAtoms() throws Exception {
+        Hypercube hypercube = new Hypercube("hypercube", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        Map<Agent, Set<Atom>> atomsAssociation = hypercube.getAtomsAssociation();
+        DenseKripkeStructure structure = hypercube.structure();
+
+        // the agents can't distinguish the worlds differing only on their atom
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (int w = 0; w < 8; w++) {
+            KripkeWorld world = structure.getWorld(w);
+            assertEquals(Integer.toString(w), world.getName());
+            assertEquals(Valuation.fromBits(atoms, w), world.getValuation());
+            graph.put(world, new HashMap<>());
+            for (int i = 0; i < 3; i++) {
+                graph.get(world).put(agents.get(i),
+                        new HashSet<>(Arrays.asList(world, structure.getWorld(w ^ (1 << i)))));
+            }
+        }
+        assertEquals(new KripkeStructure(graph, agents), structure);
+        assertTrue(structure.getRelation(0) instanceof PartitionRelation);
+
+        // an agent ignoring two atoms
+        atomsAssociation.put(agents.get(0), new HashSet<>(atoms.subList(0, 2)));
+        structure = hypercube.structure();
+        assertEquals(4, structure.getWorldsFromOtherWorldAndAgent(structure.getWorld(5), agents.get(0)).size());
+        assertEquals(2, ((PartitionRelation) structure.getRelation(0)).getClassCount());
+
+        atomsAssociation.put(agents.get(1), new HashSet<>(Arrays.asList(new Atom("hypercube unknown"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> hypercube.structure());
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.DenseKripkeStructure#getEdgeCount()}
+     * method against the map-based structure.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetEdgeCount() throws Exception {
+        Hypercube hypercube = new Hypercube("edges", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure structure = hypercube.structure();
+        DenseKripkeStructure implicit = hypercube.structure(true);
+        KripkeStructure map = new KripkeStructure(structure.getGraph(), agents);
+        // each agent links each world to itself and to the world differing on its atom
+        for (KripkeStructure s : Arrays.asList(structure, implicit, map)) {
+            assertEquals(48, s.getEdgeCount());
+        }
+
+        // the world where nobody is muddy is removed
+        for (KripkeStructure s : Arrays.asList(structure, implicit, map)) {
+            s.publicAnnouncement(new Or(new ArrayList<>(atoms)));
+            assertEquals(39, s.getEdgeCount());
+        }
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#getAtomColumns()}
+     * method and the announcement of a propositional formula labeled by column.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetAtomColumns() throws Exception {
+        Agent agent = new Agent("columns", new AgentProgram());
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            atoms.add(new Atom("columns atom " + i));
+        }
+        Map<Agent, Set<Atom>> atomsAssociation = new HashMap<>();
+        atomsAssociation.put(agent, new HashSet<>(atoms.subList(0, 1)));
+        List<Agent> agents = Arrays.asList(agent);
+        DenseKripkeStructure structure = DenseKripkeStructure.fromIgnoredAtoms(atoms, agents, atomsAssociation);
+        assertEquals(128, structure.getAtomColumns().getWorldCount());
+        assertSame(structure.getAtomColumns(), structure.getAtomColumns());
+
+        // the worlds keep their ids, so the columns are shared with the copies
+        DenseKripkeStructure copy = structure.copy();
+        assertSame(structure.getAtomColumns(), copy.getAtomColumns());
+        copy.publicAnnouncement(new Or(atoms.get(0), atoms.get(6)));
+        assertEquals(96, copy.getWorlds().size());
+        copy.publicAnnouncement(new Not(new And(atoms.get(1), atoms.get(2))));
+        assertEquals(72, copy.getWorlds().size());
+        for (KripkeWorld world : copy.getWorlds()) {
+            Map<Atom, Boolean> assignment = world.getAssignment();
+            assertTrue(assignment.get(atoms.get(0)) || assignment.get(atoms.get(6)));
+            assertFalse(assignment.get(atoms.get(1)) && assignment.get(atoms.get(2)));
+        }
+        assertSame(structure.getAtomColumns(), copy.getAtomColumns());
+        assertEquals(128, structure.getWorlds().size());
+
+        // the labels are restricted to the remaining worlds
+        Formula all = new And(atoms.subList(1, 7).toArray(new Formula[0]));
+        copy.publicAnnouncement(all);
+        assertEquals(0, copy.getWorlds().size());
+        structure.publicAnnouncement(all);
+        assertEquals(2, structure.getWorlds().size());
+        assertEquals(1, structure.satisfactionSet(new Not(atoms.get(0))).size());
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.DenseKripkeStructure#existsSuccessor(KripkeWorld, Agent, MAKBPInterpreter.logic.Formula, boolean)}
+     * method against the map-based structure, and its early exit.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExistsSuccessor() throws Exception {
+        Agent agent = new Agent("blind", new AgentProgram());
+        Agent other = new Agent("other", new AgentProgram());
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            atoms.add(new Atom("successor atom " + i));
+        }
+        Map<Agent, Set<Atom>> atomsAssociation = new HashMap<>();
+        atomsAssociation.put(agent, new HashSet<>(atoms));
+        List<Agent> agents = Arrays.asList(agent);
+        DenseKripkeStructure structure = DenseKripkeStructure.fromIgnoredAtoms(atoms, agents, atomsAssociation);
+        DenseKripkeStructure implicit = DenseKripkeStructure.fromIgnoredAtoms(atoms, agents, atomsAssociation, true);
+        KripkeStructure map = new KripkeStructure(structure.getGraph(), agents);
+
+        // the agent links all the worlds, only the world 7 satisfies all the atoms
+        for (KripkeStructure s : Arrays.asList(structure, implicit, map)) {
+            Metrics metrics = new Metrics();
+            s.setMetrics(metrics);
+            KripkeWorld world = structure.getWorld(2);
+            assertTrue(s.existsSuccessor(world, agent, atoms.get(0), false));
+            assertTrue(s.existsSuccessor(world, agent, atoms.get(0), true));
+            assertTrue(s.existsSuccessor(world, agent, new And(new ArrayList<>(atoms)), true));
+            assertFalse(s.existsSuccessor(world, agent, new Or(atoms.get(0), new Not(atoms.get(0))), false));
+            assertFalse(s.existsSuccessor(world, other, atoms.get(0), true));
+            assertTrue(metrics.getWorldsVisited() <= 4 * 8);
+            assertThrows(KripkeStructureInvalidRuntimeException.class,
+                    () -> s.existsSuccessor(new KripkeWorld(new HashMap<>()), agent, atoms.get(0), true));
+        }
+
+        // the dense structures visit the worlds by id and stop at the first one found
+        for (DenseKripkeStructure s : Arrays.asList(structure, implicit)) {
+            Metrics metrics = s.getMetrics();
+            metrics.reset();
+            assertTrue(s.existsSuccessor(s.getWorld(5), agent, atoms.get(0), false));
+            assertEquals(1, metrics.getWorldsVisited());
+            assertTrue(s.existsSuccessor(s.getWorld(5), agent, new And(new ArrayList<>(atoms)), true));
+            assertEquals(1 + 8, metrics.getWorldsVisited());
+
+            // the removed worlds are skipped
+            s.publicAnnouncement(new Or(new ArrayList<>(atoms)));
+            metrics.reset();
+            assertTrue(s.existsSuccessor(s.getWorld(5), agent, atoms.get(0), true));
+            assertEquals(1, metrics.getWorldsVisited());
+        }
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.KripkeStructure#minimize()} method
+     * on 2^16 worlds, with partitions and functional relations.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMinimize() throws Exception {
+        Hypercube hypercube = new Hypercube("minimize", 16);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        int size = 1 << 16;
+
+        // the worlds of the hypercube have distinct valuations, nothing is merged
+        for (boolean implicit : new boolean[] { false, true }) {
+            DenseKripkeStructure structure = hypercube.structure(implicit);
+            long version = structure.getVersion();
+            Map<KripkeWorld, KripkeWorld> representatives = structure.minimize();
+            assertEquals(size, representatives.size());
+            assertEquals(version, structure.getVersion());
+        }
+
+        // the 8 last bits of a world id are a copy number: the copies have the
+        // same valuation and the agents link the copies the same way
+        List<KripkeWorld> worlds = new ArrayList<>(size);
+        for (int w = 0; w < size; w++) {
+            worlds.add(new KripkeWorld(Integer.toString(w), Valuation.fromBits(atoms.subList(0, 8), w & 255)));
+        }
+        for (boolean implicit : new boolean[] { false, true }) {
+            List<AccessibilityRelation> relations = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                if (implicit) {
+                    relations.add(FunctionalRelation.ignoring(size, 1 << i));
+                    continue;
+                }
+                int[] classIds = new int[size];
+                for (int w = 0; w < size; w++) {
+                    classIds[w] = w >>> (i + 1) << i | w & ((1 << i) - 1);
+                }
+                relations.add(new PartitionRelation(classIds));
+            }
+            DenseKripkeStructure structure = new DenseKripkeStructure(worlds, agents.subList(0, 8), relations);
+            Map<KripkeWorld, KripkeWorld> representatives = structure.minimize();
+            for (int w = 0; w < size; w += 257) {
+                assertSame(worlds.get(w & 255), representatives.get(worlds.get(w)));
+            }
+            assertEquals(256, structure.getWorlds().size());
+            assertEquals(8 * 256 * 2, structure.getEdgeCount());
+            for (int a = 0; a < 8; a++) {
+                assertTrue(structure.getRelation(a) instanceof PartitionRelation);
+                assertEquals(128, ((PartitionRelation) structure.getRelation(a)).getClassCount());
+            }
+            assertEquals(new HashSet<>(Arrays.asList(worlds.get(0), worlds.get(4))),
+                    structure.getWorldsFromOtherWorldAndAgent(worlds.get(4), agents.get(2)));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package MAKBPInterpreter.agents.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
+import MAKBPInterpreter.agents.EvaluationContext;
+import MAKBPInterpreter.agents.EverybodyKnowledge;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.ModalLogicAssignment;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.EvaluationContext} class.
+ */
+public class TestEvaluationContext extends TestCase {
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.EvaluationContext#enter(MAKBPInterpreter.agents.KripkeStructure, KripkeWorld)}
+     * and {@link MAKBPInterpreter.agents.EvaluationContext#exit()} methods.
+     */
+    @Test
+    public void testEnter() {
+        Atom atom = new Atom("context");
+        Map<Atom, Boolean> valuation1 = new HashMap<>();
+        valuation1.put(atom, true);
+        Map<Atom, Boolean> valuation2 = new HashMap<>();
+        valuation2.put(atom, false);
+        KripkeWorld world1 = new KripkeWorld("context 1", valuation1);
+        KripkeWorld world2 = new KripkeWorld("context 2", valuation2);
+        Agent agent = new Agent("context", new AgentProgram());
+        DenseKripkeStructure structure = new DenseKripkeStructure(new HashMap<>(), Arrays.asList(agent));
+
+        EvaluationContext context = new EvaluationContext();
+        assertSame(EvaluationContext.current(), EvaluationContext.current());
+        assertNotSame(context, EvaluationContext.current());
+        assertEquals(0, context.getDepth());
+        assertThrows(IllegalStateException.class, () -> context.exit());
+
+        ModalLogicAssignment outer = context.enter(structure, world1);
+        assertEquals(1, context.getDepth());
+        assertSame(world1, outer.getWorld());
+        assertSame(structure, outer.getStructure());
+        assertTrue(outer.getOrDefault(atom, false));
+
+        // a nested level doesn't move the outer assignment
+        ModalLogicAssignment inner = context.enter(structure, world2);
+        assertNotSame(outer, inner);
+        assertEquals(2, context.getDepth());
+        assertFalse(inner.getOrDefault(atom, true));
+        assertSame(world1, outer.getWorld());
+        context.exit();
+        assertNull(inner.getWorld());
+        assertNull(inner.getStructure());
+
+        // the assignments of the levels are reused
+        assertSame(inner, context.enter(structure, world1));
+        assertTrue(inner.getOrDefault(atom, false));
+        context.exit();
+        context.exit();
+        assertEquals(0, context.getDepth());
+        assertSame(outer, context.enter(structure, world2));
+        context.exit();
+
+        // the levels grow with the nesting
+        for (int i = 0; i < 20; i++) {
+            context.enter(structure, world1);
+        }
+        assertEquals(20, context.getDepth());
+        for (int i = 0; i < 20; i++) {
+            context.exit();
+        }
+        assertEquals(0, context.getDepth());
+    }
+
+    /**
+     * Tests that the evaluation of nested knowledge operators allocates nothing
+     * once the truth values of the inner formulas are cached, with the allocated
+     * bytes of the thread.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSteadyStateAllocation() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return; // allocated bytes not available on this virtual machine
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Hypercube hypercube = new Hypercube("allocation", 4);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure structure = hypercube.structure();
+        Formula inner = new Or(new AgentKnowledge(agents.get(0), atoms.get(0)),
+                new AgentKnowledge(agents.get(0), new Not(atoms.get(0))));
+        Formula formula = new And(new EverybodyKnowledge(inner, new HashSet<>(agents)),
+                new Diamond(agents.get(1), new AgentKnowledge(agents.get(2), atoms.get(3))));
+        List<KripkeWorld> worlds = new ArrayList<>(structure.getWorlds());
+        boolean[] expected = new boolean[worlds.size()];
+
+        // warm-up: the inner formulas are cached and the code is compiled
+        EvaluationContext context = EvaluationContext.current();
+        for (int round = 0; round < 2000; round++) {
+            for (int w = 0; w < worlds.size(); w++) {
+                boolean value = formula.evaluate(context.enter(structure, worlds.get(w)));
+                context.exit();
+                if (round == 0) {
+                    expected[w] = value;
+                    assertEquals(worlds.get(w).satisfied(formula, structure), value);
+                } else {
+                    assertEquals(expected[w], value);
+                }
+            }
+        }
+
+        int evaluations = 0;
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < 2000; round++) {
+            for (int w = 0; w < worlds.size(); w++) {
+                if (formula.evaluate(context.enter(structure, worlds.get(w))) != expected[w]) {
+                    fail("unexpected value in " + worlds.get(w));
+                }
+                context.exit();
+                evaluations++;
+            }
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // a single assignment per evaluation would take more than a byte each
+        assertTrue("allocated " + allocated + " bytes for " + evaluations + " evaluations",
+                allocated < evaluations);
+    }
+}
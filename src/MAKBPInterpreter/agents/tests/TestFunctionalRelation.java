@@ -0,0 +1,98 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.CommonKnowledge;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
+import MAKBPInterpreter.agents.FunctionalRelation;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.FunctionalRelation} class.
+ */
+public class TestFunctionalRelation extends TestCase {
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.FunctionalRelation#ignoring(int, int)}
+     * method.
+     */
+    @Test
+    public void testIgnoring() {
+        FunctionalRelation relation = FunctionalRelation.ignoring(8, 5);
+        assertEquals(8, relation.size());
+
+        Set<Integer> ids = new HashSet<>();
+        for (int id : relation.getSuccessorIds(6)) {
+            ids.add(id);
+        }
+        assertEquals(new HashSet<>(Arrays.asList(2, 3, 6, 7)), ids);
+        BitSet expected = new BitSet();
+        expected.set(2);
+        expected.set(3);
+        expected.set(6);
+        expected.set(7);
+        assertEquals(expected, relation.getSuccessors(6));
+
+        // the ids out of the structure are ignored
+        assertEquals(2, FunctionalRelation.ignoring(6, 4).getSuccessorIds(1).length);
+        assertEquals(1, FunctionalRelation.ignoring(6, 4).getSuccessorIds(3).length);
+    }
+
+    /**
+     * Tests a {@link MAKBPInterpreter.agents.DenseKripkeStructure} with implicit
+     * relations against the same structure with partitions.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDenseStructure() throws Exception {
+        Hypercube hypercube = new Hypercube("functional", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure implicit = hypercube.structure(true);
+        DenseKripkeStructure partitions = hypercube.structure();
+        assertTrue(implicit.getRelation(0) instanceof FunctionalRelation);
+        assertEquals(partitions, implicit);
+
+        Formula father = new Or(new ArrayList<Formula>(atoms));
+        List<Formula> formulas = Arrays.asList(new AgentKnowledge(agents.get(0), atoms.get(1)),
+                new Diamond(agents.get(1), new Not(atoms.get(1))),
+                new CommonKnowledge(father, new HashSet<>(agents)));
+        implicit.publicAnnouncement(father);
+        partitions.publicAnnouncement(father);
+        assertEquals(7, implicit.getWorlds().size());
+        for (Formula formula : formulas) {
+            assertEquals(partitions.satisfactionSet(formula), implicit.satisfactionSet(formula));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(implicit.getWorld(1))),
+                implicit.getWorldsFromOtherWorldAndAgent(implicit.getWorld(1), agents.get(0)));
+
+        // the views over the successor ids skip the removed world
+        for (KripkeWorld world : implicit.getWorlds()) {
+            for (Agent agent : agents) {
+                Set<KripkeWorld> successors = implicit.getWorldsFromOtherWorldAndAgent(world, agent);
+                Set<KripkeWorld> expected = partitions.getWorldsFromOtherWorldAndAgent(world, agent);
+                assertEquals(expected.size(), successors.size());
+                assertEquals(expected, new HashSet<>(successors));
+                assertFalse(successors.contains(implicit.getWorld(0)));
+                assertEquals(expected, implicit.getWorldsToOtherWorldAndAgent(world, agent));
+            }
+        }
+        assertEquals(partitions.getEdgeCount(), implicit.getEdgeCount());
+    }
+}
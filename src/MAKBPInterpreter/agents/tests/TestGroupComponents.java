@@ -0,0 +1,157 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.CommonKnowledge;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.GroupComponents;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.ModalLogicAssignment;
+import MAKBPInterpreter.agents.ModelChecker;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.GroupComponents} class.
+ */
+public class TestGroupComponents extends TestCase {
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.ModelChecker#getGroupComponents(java.util.Collection)}
+     * method on a hypercube, before and after an announcement.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetGroupComponents() throws Exception {
+        Hypercube hypercube = new Hypercube("components", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure structure = hypercube.structure();
+        ModelChecker checker = structure.getModelChecker();
+
+        // the two first agents can't distinguish the worlds with the same third atom
+        GroupComponents components = checker.getGroupComponents(agents.subList(0, 2));
+        assertSame(components, checker.getGroupComponents(Arrays.asList(agents.get(1), agents.get(0))));
+        assertTrue(components.isSymmetric());
+        assertEquals(2, components.getComponentCount());
+        for (int w = 0; w < 8; w++) {
+            assertEquals(components.getComponentId(w & 4), components.getComponentId(w));
+            assertEquals(4, components.getMembers(components.getComponentId(w)).cardinality());
+            assertTrue(components.isClosed(components.getComponentId(w)));
+        }
+        assertEquals(-1, components.getComponentId(8));
+        assertEquals(1, checker.getGroupComponents(agents).getComponentCount());
+
+        // the announcement keeps the worlds 1, 2, 5 and 6, which are not linked
+        // anymore by the two first agents
+        structure.publicAnnouncement(new Not(new Equivalence(atoms.get(0), atoms.get(1))));
+        checker = structure.getModelChecker();
+        components = checker.getGroupComponents(agents.subList(0, 2));
+        assertEquals(4, components.getComponentCount());
+        assertEquals(-1, components.getComponentId(0));
+        for (int w : new int[] { 1, 2, 5, 6 }) {
+            assertEquals(1, components.getMembers(components.getComponentId(w)).cardinality());
+            assertTrue(components.isClosed(components.getComponentId(w)));
+        }
+        assertEquals(2, checker.getGroupComponents(agents).getComponentCount());
+    }
+
+    /**
+     * Tests the evaluation of the common knowledge by component against the
+     * labels of the model checker and the search from each world.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCommonKnowledge() throws Exception {
+        Hypercube hypercube = new Hypercube("common", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure structure = hypercube.structure();
+        structure.publicAnnouncement(new Or(atoms.get(0), atoms.get(2)));
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = structure.getGraph();
+        KripkeStructure map = new KripkeStructure(graph, agents);
+
+        for (Formula inner : Arrays.<Formula>asList(atoms.get(2), new Or(atoms.get(0), atoms.get(2)))) {
+            CommonKnowledge knowledge = new CommonKnowledge(inner, new HashSet<>(agents.subList(0, 2)));
+            Set<KripkeWorld> expected = structure.getModelChecker().satisfactionSet(knowledge);
+            assertEquals(expected, map.satisfactionSet(knowledge));
+            for (KripkeWorld world : structure.getWorlds()) {
+                boolean value = expected.contains(world);
+                assertEquals(value, knowledge.evaluate(new ModalLogicAssignment(structure, world)));
+                assertEquals(value, knowledge.evaluate(new ModalLogicAssignment(map, world)));
+                // the value is shared with the worlds of the component
+                KripkeWorld other = structure.getWorld(structure.getWorldId(world) ^ 3);
+                if (structure.getWorlds().contains(other)) {
+                    assertEquals(Boolean.valueOf(value), structure.getTruthCache().get(knowledge, other));
+                }
+            }
+        }
+        // the worlds with the third atom are commonly known to have it
+        CommonKnowledge knowledge = new CommonKnowledge(atoms.get(2), new HashSet<>(agents.subList(0, 2)));
+        assertTrue(structure.getWorld(4).satisfied(knowledge, structure));
+        assertFalse(structure.getWorld(1).satisfied(knowledge, structure));
+    }
+
+    /**
+     * Tests the components of relations which are not symmetric or without
+     * reflexive arcs.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNotSymmetric() throws Exception {
+        Atom atom = new Atom("not symmetric");
+        Agent agent = new Agent("not symmetric", new AgentProgram());
+        Map<Atom, Boolean> valuation = new HashMap<>();
+        valuation.put(atom, false);
+        KripkeWorld world1 = new KripkeWorld("not symmetric 1", valuation);
+        KripkeWorld world2 = new KripkeWorld("not symmetric 2", new HashMap<>(valuation));
+        KripkeWorld world3 = new KripkeWorld("not symmetric 3", new HashMap<>(valuation));
+        Set<Agent> group = new HashSet<>(Arrays.asList(agent));
+        CommonKnowledge knowledge = new CommonKnowledge(atom, group);
+
+        // world1 <-> world2, world3 isolated without reflexive arc
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        graph.put(world1, new HashMap<>());
+        graph.put(world2, new HashMap<>());
+        graph.put(world3, new HashMap<>());
+        graph.get(world1).put(agent, new HashSet<>(Arrays.asList(world2)));
+        graph.get(world2).put(agent, new HashSet<>(Arrays.asList(world1)));
+        KripkeStructure structure = new KripkeStructure(graph, group, true, true);
+        GroupComponents components = structure.getModelChecker().getGroupComponents(group);
+        assertTrue(components.isSymmetric());
+        assertEquals(2, components.getComponentCount());
+        int isolated = structure.getModelChecker().getWorldId(world3);
+        assertFalse(components.isClosed(components.getComponentId(isolated)));
+        assertEquals(new HashSet<>(Arrays.asList(world3)), structure.satisfactionSet(knowledge));
+        assertTrue(knowledge.evaluate(new ModalLogicAssignment(structure, world3)));
+        assertFalse(knowledge.evaluate(new ModalLogicAssignment(structure, world1)));
+
+        // world1 -> world2 only: the search from each world is kept
+        graph.get(world2).remove(agent);
+        graph.get(world3).put(agent, new HashSet<>(Arrays.asList(world3)));
+        structure = new KripkeStructure(graph, group, true, true);
+        components = structure.getModelChecker().getGroupComponents(group);
+        assertFalse(components.isSymmetric());
+        assertEquals(new HashSet<>(Arrays.asList(world2)), structure.satisfactionSet(knowledge));
+        assertFalse(knowledge.evaluate(new ModalLogicAssignment(structure, world1)));
+        assertTrue(knowledge.evaluate(new ModalLogicAssignment(structure, world2)));
+        assertFalse(knowledge.evaluate(new ModalLogicAssignment(structure, world3)));
+    }
+}
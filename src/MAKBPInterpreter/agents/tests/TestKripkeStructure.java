@@ -1,17 +1,25 @@
 package MAKBPInterpreter.agents.tests;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
 import MAKBPInterpreter.agents.Agent;
 import MAKBPInterpreter.agents.AgentKnowledge;
 import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
 import MAKBPInterpreter.agents.KripkeStructure;
 import MAKBPInterpreter.agents.KripkeWorld;
 import MAKBPInterpreter.logic.And;
@@ -82,11 +90,108 @@ public class TestKripkeStructure extends TestCase {
         }
     }
 
+    /**
+     * Tests that the copies of a copy share its graph until their relations are
+     * modified.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCopyOnWrite() throws Exception {
+        Agent agent = new Agent("a", new AgentProgram());
+        Atom atom = new Atom("a is blocked");
+        Map<Atom, Boolean> mapWorld1 = new HashMap<>();
+        mapWorld1.put(atom, true);
+        KripkeWorld world1 = new KripkeWorld(mapWorld1);
+        Map<Atom, Boolean> mapWorld2 = new HashMap<>();
+        mapWorld2.put(atom, false);
+        KripkeWorld world2 = new KripkeWorld(mapWorld2);
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        graph.put(world1, new HashMap<>());
+        graph.put(world2, new HashMap<>());
+        KripkeStructure structure = new KripkeStructure(graph, Arrays.asList(agent));
+        KripkeStructure base = structure.copy();
+        KripkeStructure copy1 = base.copy();
+        KripkeStructure copy2 = base.copy();
+
+        copy1.publicAnnouncement(atom);
+        assertEquals(new HashSet<>(Arrays.asList(world1)), copy1.getWorlds());
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)), base.getWorlds());
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)), copy2.getWorlds());
+        assertEquals(2, graph.size());
+
+        // the graph returned by the getter can be modified
+        copy2.getGraph().remove(world1);
+        assertEquals(new HashSet<>(Arrays.asList(world2)), copy2.getWorlds());
+        assertEquals(base, structure);
+        base.publicAnnouncement(new Not(atom));
+        assertEquals(new HashSet<>(Arrays.asList(world1)), copy1.getWorlds());
+        assertEquals(new HashSet<>(Arrays.asList(world1, world2)), structure.getWorlds());
+
+        // the announcements of the copies don't copy the graph, a graph handed
+        // out for writing is copied by the copies without modifying its
+        // structure
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> owned = copy1.getGraph();
+        KripkeStructure copy3 = copy1.copy();
+        KripkeStructure copy4 = copy3.copy();
+        copy3.publicAnnouncement(new Not(atom));
+        assertTrue(copy3.getWorlds().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(world1)), copy4.getWorlds());
+        assertSame(owned, copy1.getGraph());
+        owned.remove(world1);
+        assertTrue(copy1.getWorlds().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(world1)), copy4.getWorlds());
+    }
+
+    /**
+     * Tests that a structure can be copied by several threads at once, the copies
+     * modifying their relations without seeing the modifications of the others.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrentCopies() throws Exception {
+        Hypercube hypercube = new Hypercube("concurrent copies", 6);
+        List<Atom> atoms = hypercube.getAtoms();
+        KripkeStructure template = new KripkeStructure(hypercube.structure().getGraph(), hypercube.getAgents())
+                .copy();
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> expected = template.copy().getGraph();
+
+        // the graph of the template is handed out, the copies take snapshots of it
+        template.getGraph();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 24; i++) {
+                Atom atom = atoms.get(i % atoms.size());
+                tasks.add(() -> {
+                    KripkeStructure copy = template.copy();
+                    KripkeStructure other = template.copy();
+                    copy.publicAnnouncement(atom);
+                    Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = copy.getGraph();
+                    graph.clear();
+                    return copy.getWorlds().isEmpty() && other.getGraph().equals(expected);
+                });
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(64, template.getWorlds().size());
+        assertEquals(expected, template.getGraph());
+    }
+
     /**
      * Tests the {@link MAKBPInterpreter.agents.KripkeStructure#getGraph()} method.
+     * 
+     * @throws Exception
      */
     @Test
-    public void testGetters() {
+    public void testGetters() throws Exception {
         Agent agent = new Agent("a", new AgentProgram());
         Collection<Agent> agents = new HashSet<>(Arrays.asList(agent));
         KripkeWorld world = new KripkeWorld(new HashMap<>());
@@ -99,6 +204,12 @@ public class TestKripkeStructure extends TestCase {
 
         assertEquals(graph, structure.getGraph());
         assertEquals(new HashSet<>(Arrays.asList(world)), structure.getWorlds());
+
+        // the modifications of the graph are seen by the next evaluations
+        Formula possible = new Diamond(agent, new Not(new Atom("getters")));
+        assertEquals(new HashSet<>(Arrays.asList(world)), structure.satisfactionSet(possible));
+        structure.getGraph().get(world).get(agent).clear();
+        assertEquals(new HashSet<>(), structure.satisfactionSet(possible));
     }
 
     /**
@@ -227,6 +338,56 @@ public class TestKripkeStructure extends TestCase {
                 structure.getWorldsFromOtherWorldAndAgent(world3, agent2));
     }
 
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.KripkeStructure#getWorldsToOtherWorldAndAgent(MAKBPInterpreter.agents.KripkeWorld, MAKBPInterpreter.agents.Agent)}
+     * method and the update of the predecessors by a public announcement.
+     */
+    @Test
+    public void testGetWorldsToOtherWorldAndAgent() {
+        Agent agent = new Agent("a", new AgentProgram());
+        Agent agent2 = new Agent("b", new AgentProgram());
+        Collection<Agent> agents = new HashSet<>(Arrays.asList(agent, agent2));
+        Atom atom = new Atom("1");
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom, true);
+        KripkeWorld world1 = new KripkeWorld("1", assignment);
+        KripkeWorld world2 = new KripkeWorld("2", new HashMap<>(assignment));
+        assignment.put(atom, false);
+        KripkeWorld world3 = new KripkeWorld("3", assignment);
+
+        // a: 1 -> 2, b: 3 -> 1 and 3 -> 2
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        graph.put(world1, new HashMap<>());
+        graph.put(world2, new HashMap<>());
+        graph.put(world3, new HashMap<>());
+        graph.get(world1).put(agent, new HashSet<>(Arrays.asList(world2)));
+        graph.get(world3).put(agent2, new HashSet<>(Arrays.asList(world1, world2)));
+
+        // a copy reads its arcs in the graph shared with the structure it copies
+        for (KripkeStructure structure : Arrays.asList(new KripkeStructure(graph, agents, true, true),
+                new KripkeStructure(graph, agents, true, true).copy(),
+                new DenseKripkeStructure(graph, agents, true, true))) {
+            assertEquals(new HashSet<>(Arrays.asList(world1)), structure.getWorldsToOtherWorldAndAgent(world2, agent));
+            assertEquals(new HashSet<>(Arrays.asList(world3)),
+                    structure.getWorldsToOtherWorldAndAgent(world2, agent2));
+            assertEquals(new HashSet<>(), structure.getWorldsToOtherWorldAndAgent(world3, agent));
+
+            try {
+                structure.publicAnnouncement(atom);
+                assertEquals(new HashSet<>(Arrays.asList(world1, world2)), structure.getWorlds());
+                assertEquals(new HashSet<>(), structure.getWorldsToOtherWorldAndAgent(world2, agent2));
+                assertEquals(new HashSet<>(Arrays.asList(world1)),
+                        structure.getWorldsToOtherWorldAndAgent(world2, agent));
+                assertEquals(new HashSet<>(Arrays.asList(world2)),
+                        structure.getWorldsFromOtherWorldAndAgent(world1, agent));
+            } catch (Exception e) {
+                e.printStackTrace();
+                fail("unexpected thrown exception");
+            }
+        }
+    }
+
     /**
      * Tests the
      * {@link MAKBPInterpreter.agents.KripkeStructure#publicAnnouncement(MAKBPInterpreter.logic.Formula)}
@@ -297,4 +458,64 @@ public class TestKripkeStructure extends TestCase {
             fail("unexpected thrown exception");
         }
     }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.KripkeStructure#minimize()} method
+     * on both backends.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMinimize() throws Exception {
+        Atom atom = new Atom("minimize");
+        Agent agent = new Agent("minimize a", new AgentProgram());
+        Map<Atom, Boolean> assignment1 = new HashMap<>();
+        assignment1.put(atom, true);
+        Map<Atom, Boolean> assignment2 = new HashMap<>();
+        assignment2.put(atom, false);
+        KripkeWorld world1 = new KripkeWorld("minimize 1", assignment1);
+        KripkeWorld world2 = new KripkeWorld("minimize 2", assignment1);
+        KripkeWorld world3 = new KripkeWorld("minimize 3", assignment2);
+        KripkeWorld world4 = new KripkeWorld("minimize 4", assignment1);
+
+        // world1 and world2 are bisimilar, world4 has no successor where the atom
+        // is false
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (KripkeWorld world : Arrays.asList(world1, world2, world3, world4)) {
+            graph.put(world, new HashMap<>());
+        }
+        graph.get(world1).put(agent, new HashSet<>(Arrays.asList(world3)));
+        graph.get(world2).put(agent, new HashSet<>(Arrays.asList(world3)));
+        Formula formula = new Diamond(agent, new Not(atom));
+        Formula formula2 = new AgentKnowledge(agent, atom);
+
+        for (KripkeStructure structure : Arrays.asList(new KripkeStructure(graph, Arrays.asList(agent)),
+                new DenseKripkeStructure(graph, Arrays.asList(agent)))) {
+            KripkeStructure copy = structure.copy();
+            long version = structure.getVersion();
+            Map<KripkeWorld, KripkeWorld> representatives = structure.minimize();
+
+            assertEquals(4, representatives.size());
+            assertEquals(representatives.get(world1), representatives.get(world2));
+            assertEquals(world3, representatives.get(world3));
+            assertEquals(world4, representatives.get(world4));
+            assertEquals(3, structure.getWorlds().size());
+            assertTrue(structure.getVersion() > version);
+
+            KripkeWorld representative = representatives.get(world1);
+            assertEquals(new HashSet<>(Arrays.asList(representative, world3)),
+                    structure.getWorldsFromOtherWorldAndAgent(world3, agent));
+            assertEquals(new HashSet<>(Arrays.asList(representative, world3)), structure.satisfactionSet(formula));
+            assertEquals(new HashSet<>(Arrays.asList(world4)), structure.satisfactionSet(formula2));
+
+            // the copy is not modified
+            assertEquals(4, copy.getWorlds().size());
+            assertEquals(new HashSet<>(Arrays.asList(world1, world2, world3)), copy.satisfactionSet(formula));
+
+            // nothing is merged anymore
+            version = structure.getVersion();
+            structure.minimize();
+            assertEquals(version, structure.getVersion());
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package MAKBPInterpreter.agents.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.Box;
+import MAKBPInterpreter.agents.CommonKnowledge;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
+import MAKBPInterpreter.agents.EverybodyKnowledge;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.ModelChecker;
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.ModelChecker} class.
+ */
+public class TestModelChecker extends TestCase {
+    /**
+     * Atoms of the tested structure.
+     */
+    private List<Atom> atoms;
+
+    /**
+     * Agents of the tested structure.
+     */
+    private List<Agent> agents;
+
+    /**
+     * Worlds of the tested structure.
+     */
+    private List<KripkeWorld> worlds;
+
+    /**
+     * Graph of the tested structure.
+     */
+    private Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph;
+
+    @Override
+    protected void setUp() {
+        this.atoms = Arrays.asList(new Atom("p"), new Atom("q"));
+        this.agents = Arrays.asList(new Agent("a", new AgentProgram()), new Agent("b", new AgentProgram()));
+
+        // w0 = {p, q}, w1 = {p, ~q}, w2 = {~p, q}, w3 = {~p, ~q}
+        KripkeWorld[] worlds = new KripkeWorld[4];
+        for (int i = 0; i < 4; i++) {
+            Map<Atom, Boolean> assignment = new HashMap<>();
+            assignment.put(this.atoms.get(0), i < 2);
+            assignment.put(this.atoms.get(1), i % 2 == 0);
+            worlds[i] = new KripkeWorld("w" + i, assignment);
+        }
+        this.worlds = Arrays.asList(worlds);
+
+        // a: w0 - w1, b: w1 - w2, w3 alone
+        this.graph = new HashMap<>();
+        for (KripkeWorld world : worlds) {
+            Map<Agent, Set<KripkeWorld>> links = new HashMap<>();
+            links.put(this.agents.get(0), new HashSet<>());
+            links.put(this.agents.get(1), new HashSet<>());
+            this.graph.put(world, links);
+        }
+        this.graph.get(worlds[0]).get(this.agents.get(0)).add(worlds[1]);
+        this.graph.get(worlds[1]).get(this.agents.get(1)).add(worlds[2]);
+    }
+
+    /**
+     * Gets the formulas to check.
+     *
+     * @return list of formulas
+     */
+    private List<Formula> formulas() {
+        Atom p = this.atoms.get(0);
+        Atom q = this.atoms.get(1);
+        Agent a = this.agents.get(0);
+        Agent b = this.agents.get(1);
+        Set<Agent> group = new HashSet<>(this.agents);
+        return Arrays.asList(p, new Not(q), new And(p, q), new Or(new Not(p), q), new Implication(p, q),
+                new Equivalence(p, q), new AgentKnowledge(a, p), new Box(b, q), new Diamond(b, new Not(p)),
+                new AgentKnowledge(a, new Not(new AgentKnowledge(b, p))), new EverybodyKnowledge(p, group),
+                new CommonKnowledge(new Or(p, q), group), new CommonKnowledge(p, group), new And(), new Or());
+    }
+
+    /**
+     * Checks that the satisfaction sets are the same as the world by world
+     * evaluation.
+     *
+     * @param structure structure to check
+     * @throws Exception
+     */
+    private void checkSatisfactionSets(KripkeStructure structure) throws Exception {
+        for (Formula formula : this.formulas()) {
+            Set<KripkeWorld> expected = new HashSet<>();
+            for (KripkeWorld world : structure.getWorlds()) {
+                if (world.satisfied(formula, structure)) {
+                    expected.add(world);
+                }
+            }
+            assertEquals(formula.toString(), expected, structure.satisfactionSet(formula));
+        }
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.KripkeStructure#satisfactionSet(MAKBPInterpreter.logic.Formula)}
+     * method on the map-based and dense structures.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSatisfactionSet() throws Exception {
+        this.checkSatisfactionSets(new KripkeStructure(this.graph, this.agents));
+        this.checkSatisfactionSets(new DenseKripkeStructure(this.graph, this.agents));
+
+        KripkeStructure structure = new KripkeStructure(this.graph, this.agents);
+        assertEquals(new HashSet<>(Arrays.asList(this.worlds.get(2), this.worlds.get(3))),
+                structure.satisfactionSet(new AgentKnowledge(this.agents.get(0), new Not(this.atoms.get(0)))));
+
+        structure.publicAnnouncement(new Or(this.atoms.get(0), this.atoms.get(1)));
+        this.checkSatisfactionSets(structure);
+        DenseKripkeStructure dense = new DenseKripkeStructure(this.graph, this.agents);
+        dense.publicAnnouncement(new Or(this.atoms.get(0), this.atoms.get(1)));
+        this.checkSatisfactionSets(dense);
+        assertEquals(structure, dense);
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.ModelChecker#satisfied(KripkeWorld, Formula)}
+     * and {@link MAKBPInterpreter.agents.ModelChecker#getWorldId(KripkeWorld)}
+     * methods.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSatisfied() throws Exception {
+        DenseKripkeStructure structure = new DenseKripkeStructure(this.graph, this.agents);
+        structure.publicAnnouncement(this.atoms.get(0));
+        ModelChecker checker = structure.getModelChecker();
+
+        assertTrue(checker.satisfied(this.worlds.get(0), new AgentKnowledge(this.agents.get(0), this.atoms.get(0))));
+        assertFalse(checker.satisfied(this.worlds.get(1), new Diamond(this.agents.get(1), new Not(this.atoms.get(0)))));
+        assertEquals(-1, checker.getWorldId(this.worlds.get(2)));
+        assertEquals(this.worlds.get(1), checker.getWorld(checker.getWorldId(this.worlds.get(1))));
+        assertThrows(IllegalArgumentException.class, () -> checker.satisfied(this.worlds.get(2), this.atoms.get(0)));
+    }
+
+    /**
+     * Tests the labels computed in parallel with a pool against the labels
+     * computed in the calling thread, on both backends.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testParallel() throws Exception {
+        Hypercube hypercube = new Hypercube("parallel", 12);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        DenseKripkeStructure dense = hypercube.structure();
+        assertEquals(ModelChecker.PARALLEL_THRESHOLD, dense.getWorlds().size());
+        Formula father = new Or(new ArrayList<Formula>(atoms));
+        List<Formula> formulas = Arrays.asList(atoms.get(3), new AgentKnowledge(agents.get(0), atoms.get(1)),
+                new Diamond(agents.get(2), new Not(atoms.get(2))), new Not(new AgentKnowledge(agents.get(4), father)));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (KripkeStructure structure : Arrays.asList(dense, new KripkeStructure(dense.getGraph(), agents))) {
+                KripkeStructure parallel = structure.copy();
+                parallel.setPool(pool);
+                assertSame(pool, parallel.getPool());
+                assertSame(pool, parallel.copy().getPool());
+
+                for (Formula formula : formulas) {
+                    assertEquals(structure.getModelChecker().label(formula),
+                            parallel.getModelChecker().label(formula));
+                }
+                structure.publicAnnouncement(father);
+                parallel.publicAnnouncement(father);
+                assertEquals(structure, parallel);
+                assertEquals(structure.satisfactionSet(formulas.get(1)), parallel.satisfactionSet(formulas.get(1)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.AccessibilityRelation;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.BitSetRelation;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.Diamond;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.PartitionRelation;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Valuation;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.PartitionRelation} class.
+ */
+public class TestPartitionRelation extends TestCase {
+    /**
+     * Creates a bit set.
+     *
+     * @param ids ids to set
+     * @return new bit set
+     */
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.PartitionRelation#PartitionRelation(int[])}
+     * constructor and the getters.
+     */
+    @Test
+    public void testConstructor() {
+        PartitionRelation partition = new PartitionRelation(new int[] { 0, 1, 0, 2, 1 });
+
+        assertEquals(5, partition.size());
+        assertEquals(3, partition.getClassCount());
+        assertEquals(1, partition.getClassId(4));
+        assertEquals(bits(0, 2), partition.getMembers(0));
+        assertEquals(bits(1, 4), partition.getSuccessors(1));
+        assertEquals(partition.getSuccessors(1), partition.getSuccessors(4));
+
+        // the members of a class are a range of positions, by increasing id
+        assertEquals(2, partition.getClassEnd(1) - partition.getClassStart(1));
+        assertEquals(1, partition.getMember(partition.getClassStart(1)));
+        assertEquals(4, partition.getMember(partition.getClassStart(1) + 1));
+        assertEquals(partition.getClassEnd(1), partition.getClassStart(2));
+        assertEquals(3, partition.getMember(partition.getClassStart(2)));
+        assertEquals(5, partition.getClassEnd(2));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.PartitionRelation#fromRows(java.util.BitSet[])}
+     * method.
+     */
+    @Test
+    public void testFromRows() {
+        PartitionRelation partition = PartitionRelation
+                .fromRows(new BitSet[] { bits(0, 2), bits(1), bits(0, 2) });
+        assertNotNull(partition);
+        assertEquals(2, partition.getClassCount());
+        assertEquals(partition.getClassId(0), partition.getClassId(2));
+
+        // not reflexive
+        assertNull(PartitionRelation.fromRows(new BitSet[] { bits(1), bits(0, 1) }));
+        // not transitive
+        assertNull(PartitionRelation.fromRows(new BitSet[] { bits(0, 1), bits(0, 1, 2), bits(1, 2) }));
+    }
+
+    /**
+     * Tests a {@link MAKBPInterpreter.agents.DenseKripkeStructure} built with
+     * partitions against the same structure built from a graph.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDenseStructure() throws Exception {
+        Agent agent1 = new Agent("partition 1", new AgentProgram());
+        Agent agent2 = new Agent("partition 2", new AgentProgram());
+        List<Agent> agents = Arrays.asList(agent1, agent2);
+        List<Atom> atoms = Arrays.asList(new Atom("partition atom 1"), new Atom("partition atom 2"));
+
+        // each agent can't distinguish the worlds differing on its own atom
+        List<KripkeWorld> worlds = Arrays.asList(new KripkeWorld[4]);
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            worlds.set(i, new KripkeWorld("partition " + i, Valuation.fromBits(atoms, i)));
+        }
+        for (int i = 0; i < 4; i++) {
+            Map<Agent, Set<KripkeWorld>> links = new HashMap<>();
+            links.put(agent1, new HashSet<>(Arrays.asList(worlds.get(i ^ 1))));
+            links.put(agent2, new HashSet<>(Arrays.asList(worlds.get(i ^ 2))));
+            graph.put(worlds.get(i), links);
+        }
+        List<AccessibilityRelation> relations = Arrays.asList(new PartitionRelation(new int[] { 0, 0, 1, 1 }),
+                new PartitionRelation(new int[] { 0, 1, 0, 1 }));
+
+        DenseKripkeStructure structure = new DenseKripkeStructure(worlds, agents, relations);
+        DenseKripkeStructure fromGraph = new DenseKripkeStructure(graph, agents);
+        assertTrue(fromGraph.getRelation(0) instanceof PartitionRelation);
+        assertEquals(structure, fromGraph);
+        assertEquals(new KripkeStructure(graph, agents), structure);
+
+        Formula formula = new AgentKnowledge(agent1, atoms.get(1));
+        Formula formula2 = new Diamond(agent2, new Not(atoms.get(0)));
+        for (KripkeStructure s : Arrays.asList(structure, new KripkeStructure(graph, agents))) {
+            assertEquals(new HashSet<>(Arrays.asList(worlds.get(2), worlds.get(3))), s.satisfactionSet(formula));
+            assertEquals(new HashSet<>(Arrays.asList(worlds.get(0), worlds.get(2))), s.satisfactionSet(formula2));
+        }
+
+        // the classes shrink with the announcement
+        structure.publicAnnouncement(atoms.get(0));
+        assertEquals(new HashSet<>(Arrays.asList(worlds.get(1))),
+                structure.getWorldsFromOtherWorldAndAgent(worlds.get(1), agent1));
+        assertEquals(new HashSet<>(Arrays.asList(worlds.get(1), worlds.get(3))),
+                structure.getWorldsFromOtherWorldAndAgent(worlds.get(1), agent2));
+        assertFalse(structure.getWorldsFromOtherWorldAndAgent(worlds.get(1), agent1).contains(worlds.get(0)));
+        assertEquals(1, structure.getWorldsFromOtherWorldAndAgent(worlds.get(1), agent1).size());
+        assertEquals(new HashSet<>(Arrays.asList(worlds.get(1), worlds.get(3))),
+                structure.getWorldsToOtherWorldAndAgent(worlds.get(3), agent2));
+        assertEquals(new HashSet<>(Arrays.asList(worlds.get(1), worlds.get(3))),
+                structure.satisfactionSet(new AgentKnowledge(agent1, atoms.get(0))));
+
+        try {
+            new DenseKripkeStructure(worlds, agents, Arrays.asList(relations.get(0)));
+            fail("the sizes are not consistent");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            new DenseKripkeStructure(worlds, agents,
+                    Arrays.asList(relations.get(0), new BitSetRelation(new BitSet[2])));
+            fail("the relation size is not consistent");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package MAKBPInterpreter.agents.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.ActionSelection;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.PolicyTable;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.Valuation;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.PolicyTable} class.
+ */
+public class TestPolicyTable extends TestCase {
+    final static Action muddy = new Action() {
+        @Override
+        public Object performs(Object... objects) throws Exception {
+            return "muddy";
+        }
+    };
+    final static Action clean = new Action() {
+        @Override
+        public Object performs(Object... objects) throws Exception {
+            return "clean";
+        }
+    };
+    final static Action unknown = new Action() {
+        @Override
+        public Object performs(Object... objects) throws Exception {
+            return "unknown";
+        }
+    };
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.agents.Agent#computePolicyTable(MAKBPInterpreter.agents.KripkeStructure)}
+     * method against the selection of each world.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testComputePolicyTable() throws Exception {
+        Hypercube hypercube = new Hypercube("policy", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        for (int i = 0; i < 3; i++) {
+            AgentProgram program = agents.get(i).getProgram();
+            program.put(new AgentKnowledge(agents.get(i), atoms.get(i)), muddy);
+            program.put(new AgentKnowledge(agents.get(i), new Not(atoms.get(i))), clean);
+            program.put(null, unknown);
+        }
+
+        DenseKripkeStructure structure = hypercube.structure();
+        structure.publicAnnouncement(new Or(new ArrayList<>(atoms)));
+        KripkeStructure graph = new KripkeStructure(structure.getGraph(), agents);
+        for (KripkeStructure s : Arrays.asList(structure, graph)) {
+            for (Agent agent : agents) {
+                PolicyTable table = agent.computePolicyTable(s);
+                assertEquals(7, table.size());
+                assertEquals(4, table.getClassCount());
+                for (KripkeWorld world : s.getWorlds()) {
+                    assertEquals(agent.selectAction(s, world), table.getSelection(world));
+                }
+                assertEquals(7, table.getSelections().size());
+                // the agent is not modified
+                assertNull(agent.reverseEngineering());
+            }
+        }
+
+        // only the muddy child sees clean children
+        KripkeWorld world = structure.getWorld(1);
+        assertSame(muddy, agents.get(0).computePolicyTable(structure).getAction(world));
+        assertSame(unknown, agents.get(1).computePolicyTable(structure).getAction(world));
+        try {
+            agents.get(0).computePolicyTable(structure)
+                    .getSelection(new KripkeWorld("policy outside", Valuation.fromBits(atoms, 0)));
+            fail("the world is not in the structure");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    /**
+     * Tests a {@link MAKBPInterpreter.agents.PolicyTable} whose guard isn't
+     * constant over the classes of the agent.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNotObservableGuard() throws Exception {
+        Atom atom = new Atom("policy hidden");
+        AgentProgram program = new AgentProgram();
+        program.put(atom, muddy);
+        Agent agent = new Agent("policy hidden agent", program);
+
+        DenseKripkeStructure structure = DenseKripkeStructure.fromIgnoredAtoms(Arrays.asList(atom),
+                Arrays.asList(agent), Collections.singletonMap(agent, Arrays.asList(atom)));
+        PolicyTable table = agent.computePolicyTable(structure);
+        assertEquals(1, table.getClassCount());
+        assertEquals(new ActionSelection(null, -1, new boolean[] { false }),
+                table.getSelection(structure.getWorld(0)));
+        assertEquals(new ActionSelection(muddy, 0, new boolean[] { true }),
+                table.getSelection(structure.getWorld(1)));
+    }
+}
@@ -0,0 +1,106 @@
+package MAKBPInterpreter.agents.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.TruthCache;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Not;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.agents.TruthCache} class.
+ */
+public class TestTruthCache extends TestCase {
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.TruthCache#get(Formula, KripkeWorld)}
+     * and
+     * {@link MAKBPInterpreter.agents.TruthCache#put(Formula, KripkeWorld, boolean)}
+     * methods.
+     */
+    @Test
+    public void testGetAndPut() {
+        Atom atom = new Atom("p");
+        Formula formula1 = new Not(atom);
+        Formula formula2 = new Not(formula1);
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom, true);
+        KripkeWorld world1 = new KripkeWorld("1", assignment);
+        KripkeWorld world2 = new KripkeWorld("2", assignment);
+
+        TruthCache cache = new TruthCache(2);
+        assertNull(cache.get(formula1, world1));
+        cache.put(formula1, world1, false);
+        cache.put(formula1, world2, true);
+        assertEquals(Boolean.FALSE, cache.get(formula1, world1));
+        assertEquals(Boolean.TRUE, cache.get(formula1, world2));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // the least recently used formula is evicted
+        cache.put(formula2, world1, true);
+        assertEquals(1, cache.size());
+        assertNull(cache.get(formula1, world1));
+        assertEquals(Boolean.TRUE, cache.get(formula2, world1));
+
+        cache.reset(3L);
+        assertEquals(0, cache.size());
+        assertEquals(3L, cache.getVersion());
+        assertNull(cache.get(formula2, world1));
+
+        assertThrows(IllegalArgumentException.class, () -> new TruthCache(0));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.agents.KripkeStructure#getTruthCache()}
+     * method and its invalidation by a public announcement.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStructureCache() throws Exception {
+        Atom atom = new Atom("p");
+        Agent agent = new Agent("a", new AgentProgram());
+        Map<Atom, Boolean> assignment1 = new HashMap<>();
+        assignment1.put(atom, true);
+        Map<Atom, Boolean> assignment2 = new HashMap<>();
+        assignment2.put(atom, false);
+        KripkeWorld world1 = new KripkeWorld("1", assignment1);
+        KripkeWorld world2 = new KripkeWorld("2", assignment2);
+
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        graph.put(world1, new HashMap<>());
+        graph.put(world2, new HashMap<>());
+        graph.get(world1).put(agent, new HashSet<>(Arrays.asList(world2)));
+        KripkeStructure structure = new KripkeStructure(graph, Arrays.asList(agent));
+        Formula formula = new AgentKnowledge(agent, atom);
+
+        assertFalse(world1.satisfied(formula, structure));
+        assertEquals(Boolean.FALSE, structure.getTruthCache().get(formula, world1));
+        long hits = structure.getTruthCache().getHits();
+        assertFalse(world1.satisfied(formula, structure));
+        assertEquals(hits + 1, structure.getTruthCache().getHits());
+        assertSame(structure.getModelChecker(), structure.getModelChecker());
+
+        // the announcement makes the cached values obsolete
+        long version = structure.getVersion();
+        structure.publicAnnouncement(atom);
+        assertEquals(version + 1, structure.getVersion());
+        assertEquals(0, structure.getTruthCache().size());
+        assertTrue(world1.satisfied(formula, structure));
+    }
+}
@@ -1,20 +1,33 @@
 package MAKBPInterpreter.interpreter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.ActionSelection;
 import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentMap;
 import MAKBPInterpreter.agents.KripkeStructure;
 import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.PolicyTable;
 import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
 import MAKBPInterpreter.agents.exceptions.NoKripkeWorldPossibleException;
 import MAKBPInterpreter.logic.And;
 import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
+import MAKBPInterpreter.metrics.Metrics;
+import MAKBPInterpreter.metrics.Metrics.Phase;
 
 /**
  * Represents a Multi-Agent Knowledge-Based Program interpreter.
@@ -25,6 +38,16 @@ import MAKBPInterpreter.logic.Formula;
  * We can iterate through the publicAnnoucement method to run the
  * deduction system. We can check if all agents know that are all
  * in the real world.
+ * 
+ * Each agent has its own structure, so the announcements, the action
+ * selections and the reasonings of the agents can run concurrently on an
+ * executor (see {@link #setExecutor(ExecutorService)}). A method running a
+ * phase of a round only returns when all the agents are done, which is the
+ * barrier between the phases.
+ * 
+ * The interpreter counts the evaluations, the visited worlds and the
+ * announcements of its structures, and times each phase of a round in a
+ * {@link Metrics} registry (see {@link #getMetrics()}).
  */
 public class MAKBPInterpreter {
     /**
@@ -42,23 +65,119 @@ public class MAKBPInterpreter {
      */
     private Map<Action, List<Object>> objects;
 
+    /**
+     * Factory sharing the formulas rebuilt at each round (observations and
+     * deductions).
+     */
+    private FormulaFactory formulaFactory;
+
+    /**
+     * If {@code true}, the structure of an agent is minimized after each
+     * announcement (see {@link KripkeStructure#minimize()}).
+     */
+    private boolean autoMinimize;
+
+    /**
+     * Representative of each merged world in the structure of each agent.
+     */
+    private Map<Agent, Map<KripkeWorld, KripkeWorld>> representatives;
+
+    /**
+     * Executor running the work of each agent, {@code null} to run it in the
+     * calling thread.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Registry of the counters and phase latencies, {@code null} to measure
+     * nothing.
+     */
+    private Metrics metrics;
+
     /**
      * Constructor.
      * 
      * @param agents      set of agents
-     * @param structure   default structure to copy for each agents
+     * @param structure   default structure to copy for each agents (the copies
+     *                    keep the backend of the structure and share its worlds
+     *                    and relations until they are modified)
      * @param permissions agent programs knowledge for each agent
      * @param objects     lists of objects to pass for action execution
      */
     public MAKBPInterpreter(Set<Agent> agents, KripkeStructure structure,
             Map<Agent, Set<Agent>> permissions, Map<Action, List<Object>> objects) {
-        this.structures = new HashMap<>();
+        // the structure is copied once, the agents share the copy
+        KripkeStructure base = structure.copy();
+        this.metrics = new Metrics();
+        base.setMetrics(this.metrics);
+        this.structures = new AgentMap<>();
         for (Agent agent : agents) {
-            KripkeStructure newStructure = new KripkeStructure(structure);
+            KripkeStructure newStructure = base.copy();
             this.structures.put(agent, newStructure);
         }
         this.permissions = permissions;
         this.objects = objects;
+        this.formulaFactory = new FormulaFactory();
+        this.autoMinimize = false;
+        this.representatives = new AgentMap<>();
+        this.executor = null;
+    }
+
+    /**
+     * Work of a phase for one agent.
+     * 
+     * @param <T> type of the result
+     */
+    @FunctionalInterface
+    private interface AgentTask<T> {
+        /**
+         * Runs the work of an agent.
+         * 
+         * @param agent agent
+         * @return result for the agent
+         * @throws Exception thrown by the work
+         */
+        T run(Agent agent) throws Exception;
+    }
+
+    /**
+     * Runs the work of each agent, concurrently if an executor is set, and waits
+     * for all the agents.
+     * 
+     * @param <T>    type of the results
+     * @param agents agents (the work of an agent present several times is run
+     *               once)
+     * @param task   work of an agent
+     * @return result of each agent
+     * @throws Exception thrown by the work of an agent (the first one in the
+     *                   iteration order of {@code agents})
+     */
+    private <T> Map<Agent, T> runForEachAgent(Collection<Agent> agents, AgentTask<T> task) throws Exception {
+        List<Agent> order = new ArrayList<>(new LinkedHashSet<>(agents));
+        Map<Agent, T> results = new AgentMap<>();
+        if (this.executor == null) {
+            for (Agent agent : order) {
+                results.put(agent, task.run(agent));
+            }
+            return results;
+        }
+
+        List<Callable<T>> callables = new ArrayList<>();
+        for (Agent agent : order) {
+            callables.add(() -> task.run(agent));
+        }
+        List<Future<T>> futures = this.executor.invokeAll(callables);
+        for (int i = 0; i < order.size(); i++) {
+            try {
+                results.put(order.get(i), futures.get(i).get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw (Error) e.getCause();
+            }
+        }
+        return results;
     }
 
     /**
@@ -75,8 +194,21 @@ public class MAKBPInterpreter {
         if (agents.size() != formulas.size()) {
             throw new IllegalArgumentException("agents and formulas object need to have exact same size");
         }
+        // the formulas of an agent are announced in order by the same task
+        Map<Agent, List<Formula>> announcements = new AgentMap<>();
         for (int i = 0; i < agents.size(); i++) {
-            this.publicAnnouncement(agents.get(i), formulas.get(i));
+            announcements.computeIfAbsent(agents.get(i), agent -> new ArrayList<>()).add(formulas.get(i));
+        }
+        long start = System.nanoTime();
+        try {
+            this.runForEachAgent(announcements.keySet(), agent -> {
+                for (Formula formula : announcements.get(agent)) {
+                    this.announce(agent, formula);
+                }
+                return null;
+            });
+        } finally {
+            this.record(Phase.PUBLIC_ANNOUNCEMENT, start);
         }
     }
 
@@ -90,8 +222,14 @@ public class MAKBPInterpreter {
      *                   structure in case of error
      */
     public void publicAnnouncement(Map<Agent, Formula> formulas) throws Exception {
-        for (Map.Entry<Agent, Formula> entry : formulas.entrySet()) {
-            this.publicAnnouncement(entry.getKey(), entry.getValue());
+        long start = System.nanoTime();
+        try {
+            this.runForEachAgent(formulas.keySet(), agent -> {
+                this.announce(agent, formulas.get(agent));
+                return null;
+            });
+        } finally {
+            this.record(Phase.PUBLIC_ANNOUNCEMENT, start);
         }
     }
 
@@ -105,9 +243,7 @@ public class MAKBPInterpreter {
      * @throws Exception thrown by the Kripke structure in case of error
      */
     public void publicAnnouncement(Collection<Agent> agents, Formula formula) throws Exception {
-        for (Agent agent : agents) {
-            this.publicAnnouncement(agent, formula);
-        }
+        this.publicAnnouncement(new ArrayList<>(agents), Collections.nCopies(agents.size(), formula));
     }
 
     /**
@@ -118,12 +254,97 @@ public class MAKBPInterpreter {
      * @throws Exception thrown by the Kripke structure in case of error
      */
     public void publicAnnouncement(Agent agent, Formula formula) throws Exception {
-        this.structures.get(agent).publicAnnouncement(formula);
+        long start = System.nanoTime();
+        try {
+            this.announce(agent, formula);
+        } finally {
+            this.record(Phase.PUBLIC_ANNOUNCEMENT, start);
+        }
+    }
+
+    /**
+     * Announces a formula to an agent without timing it (the announcement is
+     * part of a timed phase).
+     * 
+     * @param agent   agent who received announcement
+     * @param formula formula to announce
+     * @throws Exception thrown by the Kripke structure in case of error
+     */
+    private void announce(Agent agent, Formula formula) throws Exception {
+        KripkeStructure structure = this.structures.get(agent);
+        structure.publicAnnouncement(formula);
+        if (this.autoMinimize) {
+            this.minimize(agent, structure);
+        }
+    }
+
+    /**
+     * Records the latency of a phase if the metrics are enabled.
+     * 
+     * @param phase phase
+     * @param start start of the phase (see {@link System#nanoTime()})
+     */
+    private void record(Phase phase, long start) {
+        Metrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Minimizes the structure of an agent and records the representatives of the
+     * merged worlds.
+     * 
+     * @param agent     agent owning the structure
+     * @param structure structure to minimize
+     */
+    private void minimize(Agent agent, KripkeStructure structure) {
+        Map<KripkeWorld, KripkeWorld> mapping = structure.minimize();
+        Map<KripkeWorld, KripkeWorld> merged;
+        synchronized (this.representatives) { // the agents can be minimized concurrently
+            merged = this.representatives.get(agent);
+            if (merged == null) {
+                merged = new HashMap<>();
+                this.representatives.put(agent, merged);
+            }
+        }
+
+        // the worlds merged before follow their representative
+        for (Map.Entry<KripkeWorld, KripkeWorld> entry : merged.entrySet()) {
+            KripkeWorld representative = mapping.get(entry.getValue());
+            if (representative != null) {
+                entry.setValue(representative);
+            }
+        }
+        for (Map.Entry<KripkeWorld, KripkeWorld> entry : mapping.entrySet()) {
+            if (!entry.getKey().equals(entry.getValue())) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets the world standing for a world in the structure of an agent: the
+     * world itself, or its representative if it was merged by a minimization.
+     * 
+     * @param agent agent owning the structure
+     * @param world world to translate
+     * @return representative world
+     */
+    public KripkeWorld getRepresentative(Agent agent, KripkeWorld world) {
+        Map<KripkeWorld, KripkeWorld> merged = this.representatives.get(agent);
+        if (merged == null || !merged.containsKey(world)) {
+            return world;
+        }
+        return merged.get(world);
     }
 
     /**
      * Gets the associated action for each agent of the {@code agents} argument by
      * retrieving its associated Kripke structure and the {@code pointedWorld}.
+     * The agents are not modified (see
+     * {@link Agent#selectAction(KripkeStructure, KripkeWorld)}), so they can be
+     * run concurrently.
      * 
      * @param agents       collection of agents to get actions
      * @param pointedWorld pointed world in the Kripke structure to retrieve actions
@@ -132,12 +353,48 @@ public class MAKBPInterpreter {
      *                   expected object not given
      */
     public Map<Agent, Action> getAssociatedAction(Collection<Agent> agents, KripkeWorld pointedWorld) throws Exception {
-        Map<Agent, Action> actions = new HashMap<>();
-        for (Agent agent : agents) {
-            Action action = agent.getAssociatedAction(this.structures.get(agent), pointedWorld);
-            actions.put(agent, action);
+        long start = System.nanoTime();
+        try {
+            return this.runForEachAgent(agents, agent -> agent.selectAction(this.structures.get(agent),
+                    this.getRepresentative(agent, pointedWorld)).getAction());
+        } finally {
+            this.record(Phase.GET_ASSOCIATED_ACTION, start);
         }
-        return actions;
+    }
+
+    /**
+     * Computes the policy table of each agent of the {@code agents} argument over
+     * its associated Kripke structure, i.e. its action for every possible real
+     * world. The worlds merged by a minimization are retrieved with
+     * {@link #getRepresentative(Agent, KripkeWorld)}.
+     * 
+     * @param agents collection of agents to compute the tables
+     * @return map of agents and policy tables
+     * @throws Exception throws when the formula not supported evaluate operation or
+     *                   expected object not given
+     * 
+     * @see Agent#computePolicyTable(KripkeStructure)
+     */
+    public Map<Agent, PolicyTable> computePolicyTables(Collection<Agent> agents) throws Exception {
+        return this.runForEachAgent(agents, agent -> agent.computePolicyTable(this.structures.get(agent)));
+    }
+
+    /**
+     * Selects the action of each agent of the {@code agents} argument without
+     * modifying the agents.
+     * 
+     * @param agents       collection of agents to select actions
+     * @param pointedWorld pointed world in the Kripke structure to select actions
+     * @return map of agents and immutable selections
+     * @throws Exception throws when the formula not supported evaluate operation or
+     *                   expected object not given
+     * 
+     * @see Agent#selectAction(KripkeStructure, KripkeWorld)
+     */
+    public Map<Agent, ActionSelection> selectActions(Collection<Agent> agents, KripkeWorld pointedWorld)
+            throws Exception {
+        return this.runForEachAgent(agents, agent -> agent.selectAction(this.structures.get(agent),
+                this.getRepresentative(agent, pointedWorld)));
     }
 
     /**
@@ -150,33 +407,43 @@ public class MAKBPInterpreter {
      *                   objects cannot be processed, etc
      */
     public Map<Agent, Object> executeAction(Map<Agent, Action> actions) throws Exception {
-        Map<Agent, Object> returns = new HashMap<>();
-        for (Map.Entry<Agent, Action> entry : actions.entrySet()) {
-            if (entry.getValue() == null) {
-                continue;
-            }
-            if (!this.objects.containsKey(entry.getValue())) {
-                throw new NullPointerException("objects doesn't have key '" + entry.getValue() + "'");
+        long start = System.nanoTime();
+        try {
+            Map<Agent, Object> returns = new AgentMap<>();
+            for (Map.Entry<Agent, Action> entry : actions.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                if (!this.objects.containsKey(entry.getValue())) {
+                    throw new NullPointerException("objects doesn't have key '" + entry.getValue() + "'");
+                }
+                Object r = entry.getValue().performs(this.objects.get(entry.getValue()).toArray());
+                returns.put(entry.getKey(), r);
             }
-            Object r = entry.getValue().performs(this.objects.get(entry.getValue()).toArray());
-            returns.put(entry.getKey(), r);
+            return returns;
+        } finally {
+            this.record(Phase.EXECUTE_ACTION, start);
         }
-        return returns;
     }
 
     /**
      * Gets modal logic formulas for each retrieved action.
      * 
      * @param actions retrieved actions
-     * @return modal logic formulas
+     * @return modal logic formulas (interned in the {@link #formulaFactory})
      */
     public Map<Agent, Formula> reverseEngineering(Map<Agent, Action> actions) {
-        Map<Agent, Formula> observations = new HashMap<>();
-        for (Map.Entry<Agent, Action> entry : actions.entrySet()) {
-            Formula f = entry.getKey().reverseEngineering(entry.getValue());
-            observations.put(entry.getKey(), f);
+        long start = System.nanoTime();
+        try {
+            Map<Agent, Formula> observations = new AgentMap<>();
+            for (Map.Entry<Agent, Action> entry : actions.entrySet()) {
+                Formula f = this.formulaFactory.intern(entry.getKey().reverseEngineering(entry.getValue()));
+                observations.put(entry.getKey(), f);
+            }
+            return observations;
+        } finally {
+            this.record(Phase.REVERSE_ENGINEERING, start);
         }
-        return observations;
     }
 
     /**
@@ -202,14 +469,14 @@ public class MAKBPInterpreter {
      * @param agent        reasoning agent
      * @param observations observations
      * @param permissions  map to know if an agent can see another agent
-     * @return deducted formula
+     * @return deducted formula (interned in the {@link #formulaFactory})
      */
     public Formula reasoning(Agent agent, Map<Agent, Formula> observations, Map<Agent, Set<Agent>> permissions) {
         Set<Formula> formulas = new HashSet<>();
         for (Agent destAgent : this.permissions.get(agent)) { // only if agent can see destAgent
             formulas.add(observations.get(destAgent));
         }
-        return new And(formulas);
+        return this.formulaFactory.intern(new And(formulas));
     }
 
     /**
@@ -237,12 +504,16 @@ public class MAKBPInterpreter {
      */
     public Map<Agent, Formula> reasoning(Collection<Agent> agents, Map<Agent, Formula> observations,
             Map<Agent, Set<Agent>> permissions) {
-        Map<Agent, Formula> formulas = new HashMap<>();
-        for (Agent agent : agents) {
-            Formula f = this.reasoning(agent, observations, permissions);
-            formulas.put(agent, f);
+        long start = System.nanoTime();
+        try {
+            return this.runForEachAgent(agents, agent -> this.reasoning(agent, observations, permissions));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) { // only thrown if the executor is interrupted
+            throw new IllegalStateException(e);
+        } finally {
+            this.record(Phase.REASONING, start);
         }
-        return formulas;
     }
 
     /**
@@ -263,6 +534,80 @@ public class MAKBPInterpreter {
         return this.objects;
     }
 
+    /**
+     * Gets the factory interning the observations and deductions.
+     * 
+     * @return formula factory
+     */
+    public FormulaFactory getFormulaFactory() {
+        return this.formulaFactory;
+    }
+
+    /**
+     * Checks if the structures are minimized after each announcement.
+     * 
+     * @return {@code true} if the automatic minimization is enabled
+     */
+    public boolean isAutoMinimize() {
+        return this.autoMinimize;
+    }
+
+    /**
+     * Enables or disables the minimization of the structures after each
+     * announcement. The merged worlds stay usable as pointed worlds, they are
+     * translated to their representatives.
+     * 
+     * @param autoMinimize {@code true} to minimize the structures
+     */
+    public void setAutoMinimize(boolean autoMinimize) {
+        this.autoMinimize = autoMinimize;
+    }
+
+    /**
+     * Gets the executor running the work of each agent.
+     * 
+     * @return executor or {@code null} if the agents are processed in the calling
+     *         thread
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor running concurrently the announcements, action
+     * selections and reasonings of the agents. The executor is not shut down by
+     * the interpreter.
+     * 
+     * @param executor executor or {@code null} to process the agents in the
+     *                 calling thread
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the registry of the counters and phase latencies of the interpreter.
+     * 
+     * @return registry or {@code null} if nothing is measured
+     */
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Sets the registry of the counters and phase latencies of the interpreter
+     * and of the structures of the agents. The metrics are enabled by default,
+     * the counters are cheap enough to stay enabled.
+     * 
+     * @param metrics registry or {@code null} to measure nothing
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        for (KripkeStructure structure : this.structures.values()) {
+            structure.setMetrics(metrics);
+        }
+    }
+
     /**
      * Gets the Kripke structures of the agents.
      * 
@@ -291,11 +636,12 @@ public class MAKBPInterpreter {
                 throw new NoKripkeWorldPossibleException();
             }
 
-            if (!entry.getValue().getWorlds().contains(realWorld)) {
+            KripkeWorld world = this.getRepresentative(entry.getKey(), realWorld);
+            if (!entry.getValue().getWorlds().contains(world)) {
                 throw new KripkeStructureInvalidRuntimeException("Real world not in at least one structure");
             }
 
-            if (entry.getValue().getWorldsFromOtherWorldAndAgent(realWorld, entry.getKey()).size() > 1) {
+            if (entry.getValue().getWorldsFromOtherWorldAndAgent(world, entry.getKey()).size() > 1) {
                 return false;
             }
         }
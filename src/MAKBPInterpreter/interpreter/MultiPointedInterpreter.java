@@ -0,0 +1,295 @@
+package MAKBPInterpreter.interpreter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentMap;
+import MAKBPInterpreter.agents.KripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
+import MAKBPInterpreter.agents.exceptions.NoKripkeWorldPossibleException;
+import MAKBPInterpreter.logic.Formula;
+
+/**
+ * Runs the rounds of a {@link MAKBPInterpreter} for several candidate real
+ * worlds at once.
+ *
+ * Running one interpreter per real world repeats the same announcements and
+ * evaluations for each of them. Here, the real worlds leading to the same
+ * structure for an agent share this structure: an announcement is made once
+ * per distinct structure, the guards are labeled once per distinct structure
+ * (by its shared model checker) and the reasoning is made once per distinct
+ * action profile. The structure of an agent is only split when the real worlds
+ * sharing it receive different deductions.
+ *
+ * The actions selected for each real world are kept as its history. The
+ * structures are never minimized, since a minimization could merge the real
+ * worlds.
+ */
+public class MultiPointedInterpreter {
+    /**
+     * Interpreter giving the agents, the permissions and the initial structures.
+     */
+    private MAKBPInterpreter interpreter;
+
+    /**
+     * Structure of each agent for each real world (the real worlds with the same
+     * structure share the instance).
+     */
+    private Map<Agent, Map<KripkeWorld, KripkeStructure>> structures;
+
+    /**
+     * Actions selected at each round for each real world.
+     */
+    private Map<KripkeWorld, List<Map<Agent, Action>>> histories;
+
+    /**
+     * Constructor.
+     *
+     * @param interpreter interpreter whose current structures are the initial
+     *                    structures of all the real worlds (the interpreter is
+     *                    not modified)
+     * @param realWorlds  candidate real worlds
+     */
+    public MultiPointedInterpreter(MAKBPInterpreter interpreter, Collection<KripkeWorld> realWorlds) {
+        this.interpreter = interpreter;
+        this.structures = new AgentMap<>();
+        for (Map.Entry<Agent, KripkeStructure> entry : interpreter.getStructures().entrySet()) {
+            KripkeStructure structure = entry.getValue().copy();
+            Map<KripkeWorld, KripkeStructure> worlds = new LinkedHashMap<>();
+            for (KripkeWorld realWorld : realWorlds) {
+                worlds.put(realWorld, structure);
+            }
+            this.structures.put(entry.getKey(), worlds);
+        }
+        this.histories = new LinkedHashMap<>();
+        for (KripkeWorld realWorld : realWorlds) {
+            this.histories.put(realWorld, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Groups the real worlds of an agent by structure.
+     *
+     * @param agent agent
+     * @return real worlds of each distinct structure
+     */
+    private Map<KripkeStructure, List<KripkeWorld>> groups(Agent agent) {
+        Map<KripkeStructure, List<KripkeWorld>> groups = new IdentityHashMap<>();
+        for (Map.Entry<KripkeWorld, KripkeStructure> entry : this.structures.get(agent).entrySet()) {
+            groups.computeIfAbsent(entry.getValue(), structure -> new ArrayList<>()).add(entry.getKey());
+        }
+        return groups;
+    }
+
+    /**
+     * Announcement of a formula to a collection of agents for all the real
+     * worlds.
+     *
+     * @param agents  collection of agents who received announcement
+     * @param formula formula to announce
+     * @throws Exception thrown by the Kripke structure in case of error
+     */
+    public void publicAnnouncement(Collection<Agent> agents, Formula formula) throws Exception {
+        for (Agent agent : new LinkedHashSet<>(agents)) {
+            for (KripkeStructure structure : this.groups(agent).keySet()) {
+                structure.publicAnnouncement(formula);
+            }
+        }
+    }
+
+    /**
+     * Announcement of the deductions of each real world to the related agents.
+     * The real worlds sharing a structure and receiving the same formula keep
+     * sharing it.
+     *
+     * @param deductions map of formula to announce to a related agent for each
+     *                   real world
+     * @throws Exception thrown by the Kripke structure in case of error
+     */
+    public void publicAnnouncement(Map<KripkeWorld, Map<Agent, Formula>> deductions) throws Exception {
+        for (Map.Entry<Agent, Map<KripkeWorld, KripkeStructure>> entry : this.structures.entrySet()) {
+            Agent agent = entry.getKey();
+            for (Map.Entry<KripkeStructure, List<KripkeWorld>> group : this.groups(agent).entrySet()) {
+                Map<Formula, List<KripkeWorld>> announcements = new LinkedHashMap<>();
+                for (KripkeWorld realWorld : group.getValue()) {
+                    Map<Agent, Formula> formulas = deductions.get(realWorld);
+                    Formula formula = formulas == null ? null : formulas.get(agent);
+                    if (formula != null) {
+                        announcements.computeIfAbsent(formula, f -> new ArrayList<>()).add(realWorld);
+                    }
+                }
+
+                // the structure is modified in place if all its real worlds receive
+                // the same formula
+                boolean split = announcements.size() > 1
+                        || announcements.values().stream().mapToInt(List::size).sum() < group.getValue().size();
+                for (Map.Entry<Formula, List<KripkeWorld>> announcement : announcements.entrySet()) {
+                    KripkeStructure structure = split ? group.getKey().copy() : group.getKey();
+                    structure.publicAnnouncement(announcement.getKey());
+                    for (KripkeWorld realWorld : announcement.getValue()) {
+                        entry.getValue().put(realWorld, structure);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the associated action of each agent of the {@code agents} argument for
+     * each real world, and adds them to the histories of the real worlds.
+     *
+     * @param agents collection of agents to get actions
+     * @return map of agents and actions for each real world
+     * @throws Exception throws when the formula not supported evaluate operation or
+     *                   expected object not given
+     */
+    public Map<KripkeWorld, Map<Agent, Action>> getAssociatedAction(Collection<Agent> agents) throws Exception {
+        Map<KripkeWorld, Map<Agent, Action>> actions = new LinkedHashMap<>();
+        for (KripkeWorld realWorld : this.getRealWorlds()) {
+            actions.put(realWorld, new AgentMap<>());
+        }
+        for (Agent agent : new LinkedHashSet<>(agents)) {
+            // the real worlds of a group share the labels of the guards
+            for (Map.Entry<KripkeStructure, List<KripkeWorld>> group : this.groups(agent).entrySet()) {
+                for (KripkeWorld realWorld : group.getValue()) {
+                    actions.get(realWorld).put(agent, agent.selectAction(group.getKey(), realWorld).getAction());
+                }
+            }
+        }
+        for (Map.Entry<KripkeWorld, Map<Agent, Action>> entry : actions.entrySet()) {
+            this.histories.get(entry.getKey()).add(Collections.unmodifiableMap(entry.getValue()));
+        }
+        return actions;
+    }
+
+    /**
+     * Returns the deductions of the agents for each real world from the
+     * retrieved actions (see {@link MAKBPInterpreter#reverseEngineering(Map)}
+     * and {@link MAKBPInterpreter#reasoning(Collection, Map)}). The reasoning is
+     * made once per distinct action profile.
+     *
+     * @param actions map of agents and actions for each real world
+     * @return deducted formulas for each real world
+     */
+    public Map<KripkeWorld, Map<Agent, Formula>> reasoning(Map<KripkeWorld, Map<Agent, Action>> actions) {
+        Map<Map<Agent, Action>, Map<Agent, Formula>> profiles = new HashMap<>();
+        Map<KripkeWorld, Map<Agent, Formula>> deductions = new LinkedHashMap<>();
+        for (Map.Entry<KripkeWorld, Map<Agent, Action>> entry : actions.entrySet()) {
+            Map<Agent, Formula> deduction = profiles.get(entry.getValue());
+            if (deduction == null) {
+                Map<Agent, Formula> observations = this.interpreter.reverseEngineering(entry.getValue());
+                deduction = this.interpreter.reasoning(entry.getValue().keySet(), observations);
+                profiles.put(entry.getValue(), deduction);
+            }
+            deductions.put(entry.getKey(), deduction);
+        }
+        return deductions;
+    }
+
+    /**
+     * Check if the interpreter is terminated for a real world.
+     *
+     * @param realWorld the real world
+     * @return boolean representing the end of the interpreter
+     * @throws KripkeStructureInvalidRuntimeException thrown when the real world has
+     *                                                been deleted (so no
+     *                                                convergence to it)
+     * @throws NoKripkeWorldPossibleException         thrown when no world are in a
+     *                                                structure (impossible, need
+     *                                                one real world)
+     * @see MAKBPInterpreter#isFinished(KripkeWorld)
+     */
+    public boolean isFinished(KripkeWorld realWorld)
+            throws KripkeStructureInvalidRuntimeException, NoKripkeWorldPossibleException {
+        for (Map.Entry<Agent, Map<KripkeWorld, KripkeStructure>> entry : this.structures.entrySet()) {
+            KripkeStructure structure = this.getStructure(entry.getKey(), realWorld);
+            if (structure.getWorlds().size() == 0) {
+                throw new NoKripkeWorldPossibleException();
+            }
+            if (!structure.getWorlds().contains(realWorld)) {
+                throw new KripkeStructureInvalidRuntimeException("Real world not in at least one structure");
+            }
+            if (structure.getWorldsFromOtherWorldAndAgent(realWorld, entry.getKey()).size() > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops following a real world (for instance when its simulation is
+     * finished). Its history stays available.
+     *
+     * @param realWorld real world to remove
+     */
+    public void removeRealWorld(KripkeWorld realWorld) {
+        for (Map<KripkeWorld, KripkeStructure> worlds : this.structures.values()) {
+            worlds.remove(realWorld);
+        }
+    }
+
+    /**
+     * Gets the real worlds still followed.
+     *
+     * @return set of real worlds
+     */
+    public Set<KripkeWorld> getRealWorlds() {
+        Set<KripkeWorld> realWorlds = new LinkedHashSet<>();
+        for (Map<KripkeWorld, KripkeStructure> worlds : this.structures.values()) {
+            realWorlds.addAll(worlds.keySet());
+        }
+        return realWorlds;
+    }
+
+    /**
+     * Gets the structure of an agent for a real world.
+     *
+     * @param agent     agent
+     * @param realWorld real world
+     * @return structure (shared with the real worlds leading to the same
+     *         structure, it must not be modified)
+     * @throws IllegalArgumentException thrown if the real world is not followed
+     */
+    public KripkeStructure getStructure(Agent agent, KripkeWorld realWorld) {
+        Map<KripkeWorld, KripkeStructure> worlds = this.structures.get(agent);
+        KripkeStructure structure = worlds == null ? null : worlds.get(realWorld);
+        if (structure == null) {
+            throw new IllegalArgumentException("the real world " + realWorld + " is not followed for " + agent);
+        }
+        return structure;
+    }
+
+    /**
+     * Gets the number of distinct structures of an agent, i.e. the number of
+     * announcements and labelings made for all the real worlds.
+     *
+     * @param agent agent
+     * @return number of structures
+     */
+    public int getStructureCount(Agent agent) {
+        Map<KripkeWorld, KripkeStructure> worlds = this.structures.get(agent);
+        return worlds == null ? 0 : this.groups(agent).size();
+    }
+
+    /**
+     * Gets the actions selected at each round for a real world.
+     *
+     * @param realWorld real world
+     * @return list of the actions of the agents for each round
+     */
+    public List<Map<Agent, Action>> getHistory(KripkeWorld realWorld) {
+        List<Map<Agent, Action>> history = this.histories.get(realWorld);
+        return history == null ? Collections.emptyList() : Collections.unmodifiableList(history);
+    }
+}
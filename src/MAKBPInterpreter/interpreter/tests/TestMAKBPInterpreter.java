@@ -10,23 +10,30 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
 import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.ActionSelection;
 import MAKBPInterpreter.agents.Agent;
 import MAKBPInterpreter.agents.AgentKnowledge;
 import MAKBPInterpreter.agents.AgentProgram;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
 import MAKBPInterpreter.agents.KripkeStructure;
 import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.PolicyTable;
 import MAKBPInterpreter.agents.exceptions.KripkeStructureInvalidRuntimeException;
 import MAKBPInterpreter.agents.exceptions.NoKripkeWorldPossibleException;
+import MAKBPInterpreter.agents.tests.Hypercube;
 import MAKBPInterpreter.interpreter.MAKBPInterpreter;
 import MAKBPInterpreter.logic.And;
 import MAKBPInterpreter.logic.Atom;
 import MAKBPInterpreter.logic.Formula;
 import MAKBPInterpreter.logic.Not;
 import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.metrics.Metrics;
 import junit.framework.TestCase;
 
 /**
@@ -820,6 +827,184 @@ public class TestMAKBPInterpreter extends TestCase {
             }
         }
     }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter#setAutoMinimize(boolean)}
+     * and
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter#getRepresentative(Agent, KripkeWorld)}
+     * methods.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAutoMinimize() throws Exception {
+        Atom atom1 = new Atom("piece on heads");
+        Agent agentA = new Agent("a", new AgentProgram());
+        Incrementer incP_agentA = new Incrementer();
+        Incrementer incNull_agentA = new Incrementer();
+        agentA.getProgram().put(new AgentKnowledge(agentA, atom1), incP_agentA);
+        agentA.getProgram().put(null, incNull_agentA);
+        Set<Agent> agents = new HashSet<>(Arrays.asList(agentA));
+
+        Map<Atom, Boolean> assignementWorld1 = new HashMap<>();
+        assignementWorld1.put(atom1, true);
+        Map<Atom, Boolean> assignementWorld2 = new HashMap<>();
+        assignementWorld2.put(atom1, false);
+        KripkeWorld world1 = new KripkeWorld("heads 1", assignementWorld1);
+        KripkeWorld world2 = new KripkeWorld("heads 2", assignementWorld1);
+        KripkeWorld world3 = new KripkeWorld("tails", assignementWorld2);
+        Map<KripkeWorld, Map<Agent, Set<KripkeWorld>>> graph = new HashMap<>();
+        graph.put(world1, new HashMap<>());
+        graph.put(world2, new HashMap<>());
+        graph.put(world3, new HashMap<>());
+        graph.get(world1).put(agentA, new HashSet<>(Arrays.asList(world3)));
+        graph.get(world2).put(agentA, new HashSet<>(Arrays.asList(world3)));
+        KripkeStructure structure = new KripkeStructure(graph, agents);
+
+        MAKBPInterpreter interpreter = new MAKBPInterpreter(agents, structure, new HashMap<>(), new HashMap<>());
+        assertFalse(interpreter.isAutoMinimize());
+        interpreter.setAutoMinimize(true);
+        assertTrue(interpreter.isAutoMinimize());
+
+        // world1 and world2 are merged by the first announcement
+        interpreter.publicAnnouncement(agentA, new Or(atom1, new Not(atom1)));
+        assertEquals(2, interpreter.getStructures().get(agentA).getWorlds().size());
+        assertEquals(interpreter.getRepresentative(agentA, world1), interpreter.getRepresentative(agentA, world2));
+        assertEquals(world3, interpreter.getRepresentative(agentA, world3));
+        assertEquals(incNull_agentA, interpreter.getAssociatedAction(agents, world2).get(agentA));
+        assertFalse(interpreter.isFinished(world2));
+
+        // the merged worlds are still translated after the next announcements
+        interpreter.publicAnnouncement(agentA, atom1);
+        assertEquals(1, interpreter.getStructures().get(agentA).getWorlds().size());
+        assertEquals(incP_agentA, interpreter.getAssociatedAction(agents, world2).get(agentA));
+        assertTrue(interpreter.isFinished(world1));
+        assertTrue(interpreter.isFinished(world2));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter#setExecutor(java.util.concurrent.ExecutorService)}
+     * method by running the same rounds with and without executor.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecutor() throws Exception {
+        Hypercube hypercube = new Hypercube("executor", 4);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            agents.get(i).getProgram().put(new AgentKnowledge(agents.get(i), atoms.get(i)), new Incrementer());
+            agents.get(i).getProgram().put(null, new Incrementer());
+        }
+        for (Agent agent : agents) {
+            permissions.put(agent, new HashSet<>(agents));
+        }
+        DenseKripkeStructure structure = hypercube.structure();
+        KripkeWorld realWorld = structure.getWorld(11);
+        Formula father = new Or(new ArrayList<Formula>(atoms));
+
+        MAKBPInterpreter sequential = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions,
+                new HashMap<>());
+        MAKBPInterpreter concurrent = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions,
+                new HashMap<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertNull(concurrent.getExecutor());
+            concurrent.setExecutor(executor);
+            assertSame(executor, concurrent.getExecutor());
+
+            sequential.publicAnnouncement(agents, father);
+            concurrent.publicAnnouncement(agents, father);
+            for (int round = 0; round < 4; round++) {
+                Map<Agent, Action> actions = sequential.getAssociatedAction(agents, realWorld);
+                assertEquals(actions, concurrent.getAssociatedAction(agents, realWorld));
+                Map<Agent, ActionSelection> selections = concurrent.selectActions(agents, realWorld);
+                Map<Agent, PolicyTable> tables = concurrent.computePolicyTables(agents);
+                for (Agent agent : agents) {
+                    assertSame(actions.get(agent), selections.get(agent).getAction());
+                    assertEquals(selections.get(agent),
+                            tables.get(agent).getSelection(concurrent.getRepresentative(agent, realWorld)));
+                }
+                Map<Agent, Formula> observations = sequential.reverseEngineering(actions);
+                Map<Agent, Formula> deductions = sequential.reasoning(agents, observations);
+                assertEquals(deductions, concurrent.reasoning(agents, concurrent.reverseEngineering(actions)));
+                sequential.publicAnnouncement(deductions);
+                concurrent.publicAnnouncement(deductions);
+                assertEquals(sequential.getStructures(), concurrent.getStructures());
+            }
+            assertTrue(concurrent.isFinished(realWorld));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter#getMetrics()} and
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter#setMetrics(Metrics)}
+     * methods by running one round.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMetrics() throws Exception {
+        Hypercube hypercube = new Hypercube("metrics", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        Map<Action, List<Object>> objects = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            Incrementer incrementer = new Incrementer();
+            agents.get(i).getProgram().put(new AgentKnowledge(agents.get(i), atoms.get(i)), incrementer);
+            agents.get(i).getProgram().put(null, incrementer);
+            objects.put(incrementer, new ArrayList<>());
+        }
+        for (Agent agent : agents) {
+            permissions.put(agent, new HashSet<>(agents));
+        }
+        DenseKripkeStructure structure = hypercube.structure();
+        KripkeWorld realWorld = structure.getWorld(3);
+
+        MAKBPInterpreter interpreter = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions,
+                objects);
+        Metrics metrics = interpreter.getMetrics();
+        assertNotNull(metrics);
+        for (KripkeStructure agentStructure : interpreter.getStructures().values()) {
+            assertSame(metrics, agentStructure.getMetrics());
+        }
+        assertNull(structure.getMetrics());
+
+        // the father removes the world where no one is muddy
+        interpreter.publicAnnouncement(agents, new Or(new ArrayList<Formula>(atoms)));
+        Map<Agent, Action> actions = interpreter.getAssociatedAction(agents, realWorld);
+        interpreter.executeAction(actions);
+        interpreter.publicAnnouncement(interpreter.reasoning(agents, interpreter.reverseEngineering(actions)));
+
+        assertEquals(6, metrics.getAnnouncementCount());
+        assertTrue(metrics.getWorldsRemoved() >= 3);
+        assertTrue(metrics.getWorldsVisited() > 0);
+        assertTrue(metrics.getEvaluationCount(AgentKnowledge.class) >= 3);
+        assertTrue(metrics.getEvaluationCount(Atom.class) >= 3);
+        assertTrue(metrics.getCacheMisses() > 0);
+        for (Metrics.Phase phase : Metrics.Phase.values()) {
+            long expected = phase == Metrics.Phase.PUBLIC_ANNOUNCEMENT ? 2 : 1;
+            assertEquals(expected, metrics.getLatencies(phase).getCount());
+        }
+
+        // no more measures once disabled
+        metrics.reset();
+        interpreter.setMetrics(null);
+        assertNull(interpreter.getMetrics());
+        interpreter.getAssociatedAction(agents, realWorld);
+        interpreter.publicAnnouncement(agents, atoms.get(0));
+        assertEquals(0, metrics.getAnnouncementCount());
+        assertEquals(0, metrics.getLatencies(Metrics.Phase.GET_ASSOCIATED_ACTION).getCount());
+        assertTrue(metrics.getEvaluationCounts().isEmpty());
+    }
 }
 
 final class Incrementer implements Action {
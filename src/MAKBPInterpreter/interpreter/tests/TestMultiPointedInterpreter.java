@@ -0,0 +1,121 @@
+package MAKBPInterpreter.interpreter.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.agents.Action;
+import MAKBPInterpreter.agents.Agent;
+import MAKBPInterpreter.agents.AgentKnowledge;
+import MAKBPInterpreter.agents.DenseKripkeStructure;
+import MAKBPInterpreter.agents.KripkeWorld;
+import MAKBPInterpreter.agents.tests.Hypercube;
+import MAKBPInterpreter.interpreter.MAKBPInterpreter;
+import MAKBPInterpreter.interpreter.MultiPointedInterpreter;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.interpreter.MultiPointedInterpreter}
+ * class.
+ */
+public class TestMultiPointedInterpreter extends TestCase {
+    /**
+     * Tests the rounds of a
+     * {@link MAKBPInterpreter.interpreter.MultiPointedInterpreter} against one
+     * {@link MAKBPInterpreter.interpreter.MAKBPInterpreter} per real world.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRounds() throws Exception {
+        // the actions are only compared, never performed
+        class Answer implements Action {
+            @Override
+            public Object performs(Object... objects) {
+                return null;
+            }
+        }
+
+        Hypercube hypercube = new Hypercube("multi", 3);
+        List<Agent> agents = hypercube.getAgents();
+        List<Atom> atoms = hypercube.getAtoms();
+        Map<Agent, Set<Agent>> permissions = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            agents.get(i).getProgram().put(new AgentKnowledge(agents.get(i), atoms.get(i)), new Answer());
+            agents.get(i).getProgram().put(null, new Answer());
+        }
+        for (Agent agent : agents) {
+            Set<Agent> seen = new HashSet<>(agents);
+            seen.remove(agent);
+            permissions.put(agent, seen);
+        }
+        DenseKripkeStructure structure = hypercube.structure();
+        Formula father = new Or(new ArrayList<Formula>(atoms));
+
+        List<KripkeWorld> realWorlds = new ArrayList<>();
+        for (int w = 1; w < structure.getWorldIdCount(); w++) {
+            realWorlds.add(structure.getWorld(w));
+        }
+        MAKBPInterpreter interpreter = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions,
+                new HashMap<>());
+        MultiPointedInterpreter multiInterpreter = new MultiPointedInterpreter(interpreter, realWorlds);
+        assertEquals(new HashSet<>(realWorlds), multiInterpreter.getRealWorlds());
+        assertEquals(1, multiInterpreter.getStructureCount(agents.get(0)));
+
+        // the rounds stop before the real worlds solved at the second round leave
+        // their own structures
+        Map<KripkeWorld, Map<Agent, Formula>> deductions = new HashMap<>();
+        for (int round = 0; round < 2; round++) {
+            multiInterpreter.publicAnnouncement(agents, father);
+            multiInterpreter.publicAnnouncement(deductions);
+            deductions = multiInterpreter.reasoning(multiInterpreter.getAssociatedAction(agents));
+        }
+        // the structures are only split by different deductions
+        assertTrue(multiInterpreter.getStructureCount(agents.get(0)) < realWorlds.size());
+        // the interpreter is not modified
+        assertEquals(8, interpreter.getStructures().get(agents.get(0)).getWorlds().size());
+
+        for (KripkeWorld realWorld : realWorlds) {
+            MAKBPInterpreter single = new MAKBPInterpreter(new HashSet<>(agents), structure, permissions,
+                    new HashMap<>());
+            Map<Agent, Formula> singleDeductions = new HashMap<>();
+            List<Map<Agent, Action>> history = multiInterpreter.getHistory(realWorld);
+            assertEquals(2, history.size());
+            for (int round = 0; round < 2; round++) {
+                single.publicAnnouncement(agents, father);
+                single.publicAnnouncement(singleDeductions);
+                Map<Agent, Action> actions = single.getAssociatedAction(agents, realWorld);
+                assertEquals(actions, history.get(round));
+                singleDeductions = single.reasoning(agents, single.reverseEngineering(actions));
+            }
+            for (Agent agent : agents) {
+                assertEquals(single.getStructures().get(agent).getWorlds(),
+                        multiInterpreter.getStructure(agent, realWorld).getWorlds());
+            }
+            assertEquals(single.isFinished(realWorld), multiInterpreter.isFinished(realWorld));
+        }
+
+        // the muddy agents know it at the round of their number
+        KripkeWorld realWorld = structure.getWorld(3);
+        Action denounce = agents.get(0).getProgram().getValue(0);
+        assertSame(denounce, multiInterpreter.getHistory(realWorld).get(1).get(agents.get(0)));
+        assertNotSame(denounce, multiInterpreter.getHistory(realWorld).get(0).get(agents.get(0)));
+
+        multiInterpreter.removeRealWorld(realWorld);
+        assertFalse(multiInterpreter.getRealWorlds().contains(realWorld));
+        assertEquals(2, multiInterpreter.getHistory(realWorld).size());
+        try {
+            multiInterpreter.getStructure(agents.get(0), realWorld);
+            fail("the real world is not followed");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+}
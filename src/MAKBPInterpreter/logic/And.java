@@ -2,6 +2,7 @@ package MAKBPInterpreter.logic;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -13,7 +14,23 @@ public class And implements Formula {
     /**
      * Set of operands.
      */
-    private Set<Formula> operands;
+    private final Set<Formula> operands;
+
+    /**
+     * Operands in an array, iterated by the evaluation without allocating an
+     * iterator.
+     */
+    private final Formula[] operandArray;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Constructor with collection of operands.
@@ -28,6 +45,14 @@ public class And implements Formula {
             }
             this.operands.add(operand);
         }
+        this.operandArray = this.operands.toArray(new Formula[0]);
+
+        int size = 1;
+        for (Formula operand : this.operands) {
+            size += operand.size();
+        }
+        this.size = size;
+        this.hash = Objects.hash(this.operands);
     }
 
     /**
@@ -68,25 +93,14 @@ public class And implements Formula {
 
         And otherAnd = (And) other;
 
-        if (otherAnd.operands.size() != this.operands.size()) {
-            return false;
-        }
-
-        for (Formula operand1 : this.operands) {
-            boolean operand1IsOperand2 = false;
-            for (Formula operand2 : otherAnd.operands) {
-                operand1IsOperand2 |= operand1.equals(operand2);
-            }
-            if (!operand1IsOperand2) {
-                return false; // we didn't find operand1 in otherAnd.operands set
-            }
-        }
-        return true;
+        // the hash codes of the operands are cached, so the sets are compared in
+        // linear time
+        return this.hash == otherAnd.hash && this.operands.equals(otherAnd.operands);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.operands);
+        return this.hash;
     }
 
     @Override
@@ -129,6 +143,28 @@ public class And implements Formula {
         return contains;
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Collections.unmodifiableSet(this.operands);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Set<Formula> operands = new HashSet<>();
+        boolean interned = true;
+        for (Formula operand : this.operands) {
+            Formula canonical = factory.intern(operand);
+            interned &= canonical == operand;
+            operands.add(canonical);
+        }
+        return factory.register(interned ? this : new And(operands));
+    }
+
     /**
      * Gets a copy of the operands set object.
      * 
@@ -141,10 +177,11 @@ public class And implements Formula {
 
     @Override
     public boolean evaluate(LogicAssignment assignment) throws Exception {
-        boolean result = true;
-        for (Formula formula : this.operands) {
-            result = result && formula.evaluate(assignment);
+        for (Formula formula : this.operandArray) {
+            if (!formula.evaluate(assignment)) {
+                return false;
+            }
         }
-        return result;
+        return true;
     }
 }
@@ -9,7 +9,17 @@ public class Atom implements Formula {
     /**
      * Predicate of the proposition.
      */
-    private String predicate;
+    private final String predicate;
+
+    /**
+     * Index of the predicate in the {@link AtomRegistry}.
+     */
+    private final int index;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
 
     /**
      * Default constructor of the atom.
@@ -18,6 +28,8 @@ public class Atom implements Formula {
      */
     public Atom(String predicate) {
         this.predicate = predicate;
+        this.index = AtomRegistry.register(predicate, this);
+        this.hash = Objects.hash(this.predicate);
     }
 
     @Override
@@ -35,12 +47,12 @@ public class Atom implements Formula {
             return false;
 
         Atom otherAtom = (Atom) other;
-        return predicate.equals(otherAtom.predicate);
+        return this.index == otherAtom.index;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.predicate);
+        return this.hash;
     }
 
     @Override
@@ -58,12 +70,31 @@ public class Atom implements Formula {
         return this.equals(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return 1;
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        return factory.register(this);
+    }
+
     @Override
     public boolean evaluate(LogicAssignment assignment) throws Exception {
         if (!(assignment instanceof PropositionalLogicAssignment)) {
             throw new IllegalArgumentException("the assignment must be a propositional assignment");
         }
         PropositionalLogicAssignment assignment2 = (PropositionalLogicAssignment) assignment;
-        return assignment2.getOrDefault(this, false);
+        return assignment2.getValuation().getOrDefault(this.index, false);
+    }
+
+    /**
+     * Gets the index of the atom in the {@link AtomRegistry}.
+     * 
+     * @return atom index
+     */
+    public int getIndex() {
+        return this.index;
     }
 }
@@ -0,0 +1,194 @@
+package MAKBPInterpreter.logic;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Truth values of the atoms over a list of worlds, stored by column: the
+ * column of an atom is the bit vector of the ids of the worlds where it is
+ * true.
+ *
+ * A propositional formula is then evaluated in all the worlds at once, each
+ * connective being a loop of word-wise operations on the columns (64 worlds
+ * per operation) instead of one evaluation of the formula per world. The
+ * result is a bit vector of world ids, restricted to a mask (for instance the
+ * worlds still in a structure), so an announcement can keep its worlds
+ * directly.
+ *
+ * The columns are immutable, so they can be shared by the copies of a
+ * structure whose worlds keep their ids.
+ */
+public final class AtomColumns {
+    /**
+     * Column of each atom index, {@code null} for an atom true nowhere.
+     */
+    private final long[][] columns;
+
+    /**
+     * Number of worlds.
+     */
+    private final int worldCount;
+
+    /**
+     * Constructor.
+     *
+     * @param valuations valuation of each world, the position of a valuation is
+     *                   the id of its world (an atom without value is false)
+     */
+    public AtomColumns(List<Valuation> valuations) {
+        this.worldCount = valuations.size();
+        int wordCount = (this.worldCount + 63) >>> 6;
+        long[][] columns = new long[0][];
+        for (int w = 0; w < this.worldCount; w++) {
+            Valuation valuation = valuations.get(w);
+            for (int word = 0; word < valuation.getWordCount(); word++) {
+                long bits = valuation.getValueWord(word);
+                while (bits != 0L) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (index >= columns.length) {
+                        columns = Arrays.copyOf(columns, Math.max(index + 1, columns.length * 2));
+                    }
+                    if (columns[index] == null) {
+                        columns[index] = new long[wordCount];
+                    }
+                    columns[index][w >>> 6] |= 1L << w;
+                    bits &= bits - 1;
+                }
+            }
+        }
+        this.columns = columns;
+    }
+
+    /**
+     * Checks if a formula only contains atoms and propositional connectives, so
+     * it can be evaluated on the columns.
+     *
+     * @param formula formula to check
+     * @return {@code true} if the formula is propositional
+     */
+    public static boolean isPropositional(Formula formula) {
+        if (formula instanceof Atom) {
+            return true;
+        }
+        if (formula instanceof Not) {
+            return isPropositional(((Not) formula).getOperand());
+        }
+        if (formula instanceof And || formula instanceof Or) {
+            for (Formula operand : formula instanceof And ? ((And) formula).getOperands()
+                    : ((Or) formula).getOperands()) {
+                if (!isPropositional(operand)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (formula instanceof Implication) {
+            Implication implication = (Implication) formula;
+            return isPropositional(implication.getLeftOperand()) && isPropositional(implication.getRightOperand());
+        }
+        if (formula instanceof Equivalence) {
+            Equivalence equivalence = (Equivalence) formula;
+            return isPropositional(equivalence.getLeftOperand()) && isPropositional(equivalence.getRightOperand());
+        }
+        return false;
+    }
+
+    /**
+     * Computes the worlds of a mask satisfying a propositional formula.
+     *
+     * @param formula propositional formula
+     * @param mask    ids of the evaluated worlds
+     * @return new set of the ids of the satisfying worlds
+     * @throws IllegalArgumentException thrown if the formula is not
+     *                                  propositional
+     */
+    public BitSet label(Formula formula, BitSet mask) {
+        return BitSet.valueOf(this.evaluate(formula, mask.toLongArray()));
+    }
+
+    /**
+     * Evaluates a propositional formula in the worlds of a mask, word by word.
+     *
+     * @param formula propositional formula
+     * @param mask    words of the ids of the evaluated worlds
+     * @return new words of the ids of the satisfying worlds (as many as the
+     *         mask)
+     * @throws IllegalArgumentException thrown if the formula is not
+     *                                  propositional
+     */
+    public long[] evaluate(Formula formula, long[] mask) {
+        if (formula instanceof Atom) {
+            int index = ((Atom) formula).getIndex();
+            long[] column = index < this.columns.length ? this.columns[index] : null;
+            long[] words = new long[mask.length];
+            if (column != null) {
+                for (int i = 0; i < Math.min(words.length, column.length); i++) {
+                    words[i] = column[i] & mask[i];
+                }
+            }
+            return words;
+        }
+        if (formula instanceof Not) {
+            long[] words = this.evaluate(((Not) formula).getOperand(), mask);
+            for (int i = 0; i < words.length; i++) {
+                words[i] = ~words[i] & mask[i];
+            }
+            return words;
+        }
+        if (formula instanceof And) {
+            // the conjunction stops once no world is left
+            long[] words = mask.clone();
+            for (Formula operand : ((And) formula).getOperands()) {
+                long[] operandWords = this.evaluate(operand, words);
+                long remaining = 0L;
+                for (int i = 0; i < words.length; i++) {
+                    words[i] &= operandWords[i];
+                    remaining |= words[i];
+                }
+                if (remaining == 0L) {
+                    break;
+                }
+            }
+            return words;
+        }
+        if (formula instanceof Or) {
+            long[] words = new long[mask.length];
+            for (Formula operand : ((Or) formula).getOperands()) {
+                long[] operandWords = this.evaluate(operand, mask);
+                for (int i = 0; i < words.length; i++) {
+                    words[i] |= operandWords[i];
+                }
+            }
+            return words;
+        }
+        if (formula instanceof Implication) {
+            Implication implication = (Implication) formula;
+            long[] words = this.evaluate(implication.getLeftOperand(), mask);
+            long[] right = this.evaluate(implication.getRightOperand(), mask);
+            for (int i = 0; i < words.length; i++) {
+                words[i] = (~words[i] | right[i]) & mask[i];
+            }
+            return words;
+        }
+        if (formula instanceof Equivalence) {
+            Equivalence equivalence = (Equivalence) formula;
+            long[] words = this.evaluate(equivalence.getLeftOperand(), mask);
+            long[] right = this.evaluate(equivalence.getRightOperand(), mask);
+            for (int i = 0; i < words.length; i++) {
+                words[i] = ~(words[i] ^ right[i]) & mask[i];
+            }
+            return words;
+        }
+        throw new IllegalArgumentException("the formula " + formula + " is not propositional");
+    }
+
+    /**
+     * Gets the number of worlds of the columns.
+     *
+     * @return number of worlds
+     */
+    public int getWorldCount() {
+        return this.worldCount;
+    }
+}
@@ -0,0 +1,79 @@
+package MAKBPInterpreter.logic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry giving a stable index to each atom predicate.
+ * 
+ * The indexes are dense (from 0 to {@link #size()} excluded) and are shared by
+ * all the atoms with the same predicate, so they can be used as bit positions
+ * in a {@link Valuation}.
+ */
+public final class AtomRegistry {
+    /**
+     * Indexes of the registered predicates.
+     */
+    private static final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * Registered atoms ordered by their index.
+     */
+    private static final List<Atom> atoms = new ArrayList<>();
+
+    /**
+     * The registry is not instantiable.
+     */
+    private AtomRegistry() {
+    }
+
+    /**
+     * Gets the index of a predicate and registers it if needed.
+     * 
+     * @param predicate proposition predicate
+     * @param atom      atom to register if the predicate is unknown
+     * @return index of the predicate
+     */
+    static synchronized int register(String predicate, Atom atom) {
+        Integer index = AtomRegistry.indexes.get(predicate);
+        if (index == null) {
+            index = AtomRegistry.atoms.size();
+            AtomRegistry.indexes.put(predicate, index);
+            AtomRegistry.atoms.add(atom);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index of a predicate.
+     * 
+     * @param predicate proposition predicate
+     * @return index of the predicate or -1 if no atom with this predicate was
+     *         created
+     */
+    public static synchronized int indexOf(String predicate) {
+        Integer index = AtomRegistry.indexes.get(predicate);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the first registered atom of an index.
+     * 
+     * @param index atom index
+     * @return atom associated to the index
+     */
+    public static synchronized Atom get(int index) {
+        return AtomRegistry.atoms.get(index);
+    }
+
+    /**
+     * Gets the number of registered predicates.
+     * 
+     * @return number of predicates
+     */
+    public static synchronized int size() {
+        return AtomRegistry.atoms.size();
+    }
+}
@@ -1,8 +1,15 @@
 package MAKBPInterpreter.logic;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Represents the base of all components of the modal and epistemic logic
  * representation.
+ * 
+ * Formulas are immutable: their hash code and size are computed once at
+ * construction. Structurally equal formulas can be shared through a
+ * {@link FormulaFactory}.
  */
 public interface Formula {
     /**
@@ -37,6 +44,43 @@ public interface Formula {
      */
     public boolean contains(Formula otherFormula);
 
+    /**
+     * Returns the direct subformulas of the formula (its operands).
+     * 
+     * @return unmodifiable collection of subformulas, empty by default
+     */
+    public default Collection<Formula> getSubformulas() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the number of nodes of the formula. By default, it is counted
+     * recursively over the subformulas, the formulas of this package cache it
+     * at construction.
+     * 
+     * @return size of the formula
+     */
+    public default int size() {
+        int size = 1;
+        for (Formula subformula : this.getSubformulas()) {
+            size += subformula.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the canonical instance of this formula in a factory, after
+     * interning its operands. By default, the formula is registered as it is
+     * (its operands are not interned).
+     * 
+     * @param factory factory where the formula is interned
+     * @return canonical formula structurally equal to this formula
+     * @see FormulaFactory#intern(Formula)
+     */
+    public default Formula intern(FormulaFactory factory) {
+        return factory.register(this);
+    }
+
     /**
      * Evaluates a state that we passed into arguments.
      * 
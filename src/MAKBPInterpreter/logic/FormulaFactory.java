@@ -0,0 +1,165 @@
+package MAKBPInterpreter.logic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory interning the formulas (hash-consing).
+ *
+ * Structurally equal formulas built by the same factory are the same object,
+ * so they are compared by reference and share their cached hash code and size.
+ * The formulas are immutable, an interned formula can be shared by any number
+ * of bigger formulas, forming a directed acyclic graph.
+ */
+public class FormulaFactory {
+    /**
+     * Canonical instance of each interned formula.
+     */
+    private ConcurrentHashMap<Formula, Formula> formulas;
+
+    /**
+     * Constructor.
+     */
+    public FormulaFactory() {
+        this.formulas = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the canonical instance of a formula and of all its subformulas.
+     *
+     * @param formula formula to intern
+     * @return canonical formula structurally equal to {@code formula} (or
+     *         {@code null} if the formula is {@code null})
+     * @see Formula#intern(FormulaFactory)
+     */
+    public Formula intern(Formula formula) {
+        if (formula == null) {
+            return null;
+        }
+        Formula canonical = this.formulas.get(formula);
+        return canonical != null ? canonical : formula.intern(this);
+    }
+
+    /**
+     * Registers a formula whose operands are already interned, unless a
+     * structurally equal formula is already registered. Called by the
+     * implementations of {@link Formula#intern(FormulaFactory)}.
+     *
+     * @param formula formula with interned operands
+     * @return canonical formula
+     */
+    public Formula register(Formula formula) {
+        Formula canonical = this.formulas.putIfAbsent(formula, formula);
+        return canonical != null ? canonical : formula;
+    }
+
+    /**
+     * Checks if a formula is the canonical instance of its structure.
+     *
+     * @param formula formula to test
+     * @return {@code true} if the formula is interned in this factory
+     */
+    public boolean isInterned(Formula formula) {
+        return this.formulas.get(formula) == formula;
+    }
+
+    /**
+     * Gets the number of interned formulas.
+     *
+     * @return number of formulas
+     */
+    public int size() {
+        return this.formulas.size();
+    }
+
+    /**
+     * Removes all the interned formulas. The formulas interned before are still
+     * valid but are no longer canonical.
+     */
+    public void clear() {
+        this.formulas.clear();
+    }
+
+    /**
+     * Creates an interned atom.
+     *
+     * @param predicate proposition predicate
+     * @return canonical atom
+     */
+    public Formula atom(String predicate) {
+        return this.intern(new Atom(predicate));
+    }
+
+    /**
+     * Creates an interned negation.
+     *
+     * @param operand formula to make the negation
+     * @return canonical negation
+     */
+    public Formula not(Formula operand) {
+        return this.intern(new Not(operand));
+    }
+
+    /**
+     * Creates an interned conjunction.
+     *
+     * @param operands collection of operands
+     * @return canonical conjunction
+     */
+    public Formula and(Collection<Formula> operands) {
+        return this.intern(new And(operands));
+    }
+
+    /**
+     * Creates an interned conjunction.
+     *
+     * @param operands undifined number of operands
+     * @return canonical conjunction
+     */
+    public Formula and(Formula... operands) {
+        return this.and(Arrays.asList(operands));
+    }
+
+    /**
+     * Creates an interned disjunction.
+     *
+     * @param operands collection of operands
+     * @return canonical disjunction
+     */
+    public Formula or(Collection<Formula> operands) {
+        return this.intern(new Or(operands));
+    }
+
+    /**
+     * Creates an interned disjunction.
+     *
+     * @param operands undifined number of operands
+     * @return canonical disjunction
+     */
+    public Formula or(Formula... operands) {
+        return this.or(Arrays.asList(operands));
+    }
+
+    /**
+     * Creates an interned implication.
+     *
+     * @param leftOperand  left side operand
+     * @param rightOperand right side operand
+     * @return canonical implication
+     */
+    public Formula implication(Formula leftOperand, Formula rightOperand) {
+        return this.intern(new Implication(leftOperand, rightOperand));
+    }
+
+    /**
+     * Creates an interned equivalence.
+     *
+     * @param leftOperand  left side operand
+     * @param rightOperand right side operand
+     * @return canonical equivalence
+     */
+    public Formula equivalence(Formula leftOperand, Formula rightOperand) {
+        return this.intern(new Equivalence(leftOperand, rightOperand));
+    }
+}
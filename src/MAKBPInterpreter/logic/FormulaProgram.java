@@ -0,0 +1,358 @@
+package MAKBPInterpreter.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Formula compiled into a flat program of branch instructions, evaluated in a
+ * single loop instead of walking the tree of the formula.
+ *
+ * The program works on a boolean register. Atoms are bound to their index in
+ * the {@link AtomRegistry} and read directly from a {@link Valuation}, the
+ * conjunctions, disjunctions and implications become conditional jumps to
+ * their end (so the evaluation stops at the first operand deciding the
+ * result). Only the equivalences keep their left value on a stack of bits
+ * while their right operand is evaluated. The subformulas which aren't
+ * propositional (for instance the modal operators) are leaves of the program:
+ * their values are asked to a {@link Leaves} evaluator given to
+ * {@link #evaluate(Valuation, Leaves, Object)}.
+ *
+ * A program is immutable, so it can be compiled once and evaluated by several
+ * threads.
+ */
+public final class FormulaProgram {
+    /**
+     * Loads the value of the atom of index {@code argument}.
+     */
+    private static final int ATOM = 0;
+
+    /**
+     * Loads the value of the leaf {@code argument}.
+     */
+    private static final int LEAF = 1;
+
+    /**
+     * Loads the constant {@code argument != 0}.
+     */
+    private static final int CONSTANT = 2;
+
+    /**
+     * Negates the register.
+     */
+    private static final int NOT = 3;
+
+    /**
+     * Jumps to the instruction {@code argument} if the register is false.
+     */
+    private static final int JUMP_IF_FALSE = 4;
+
+    /**
+     * Jumps to the instruction {@code argument} if the register is true.
+     */
+    private static final int JUMP_IF_TRUE = 5;
+
+    /**
+     * Pushes the register onto the stack.
+     */
+    private static final int PUSH = 6;
+
+    /**
+     * Pops the stack and sets the register to {@code popped == register}.
+     */
+    private static final int EQUALS = 7;
+
+    /**
+     * Maximum number of values on the stack, packed in a {@code long}.
+     */
+    public static final int MAX_DEPTH = 64;
+
+    /**
+     * Evaluator of the leaves of a program.
+     *
+     * @param <C> type of the context of the evaluation
+     */
+    @FunctionalInterface
+    public interface Leaves<C> {
+        /**
+         * Evaluates a leaf of the program.
+         *
+         * @param leaf    index of the leaf (see {@link FormulaProgram#getLeaves()})
+         * @param context context given to the evaluation of the program
+         * @return value of the leaf
+         * @throws Exception thrown if the leaf doesn't support the evaluation
+         */
+        public boolean evaluate(int leaf, C context) throws Exception;
+    }
+
+    /**
+     * Compiled formula.
+     */
+    private final Formula formula;
+
+    /**
+     * Instructions, an operation code followed by its argument.
+     */
+    private final int[] code;
+
+    /**
+     * Subformulas evaluated by the leaves evaluator.
+     */
+    private final Formula[] leaves;
+
+    /**
+     * Constructor.
+     *
+     * @param formula compiled formula
+     * @param code    instructions
+     * @param leaves  leaf subformulas
+     */
+    private FormulaProgram(Formula formula, int[] code, Formula[] leaves) {
+        this.formula = formula;
+        this.code = code;
+        this.leaves = leaves;
+    }
+
+    /**
+     * Compiles a formula. The subformulas which aren't atoms or propositional
+     * connectives become leaves.
+     *
+     * @param formula formula to compile
+     * @return compiled program
+     * @throws IllegalArgumentException thrown if more than {@link #MAX_DEPTH}
+     *                                  equivalences are nested
+     */
+    public static FormulaProgram compile(Formula formula) {
+        Compiler compiler = new Compiler();
+        compiler.compile(formula);
+        int[] code = Arrays.copyOf(compiler.code, compiler.length);
+        return new FormulaProgram(formula, code, compiler.leaves.toArray(new Formula[0]));
+    }
+
+    /**
+     * Evaluates the program for a valuation, the leaves being evaluated by an
+     * evaluator.
+     *
+     * @param <C>       type of the context of the evaluation
+     * @param valuation values of the atoms (an atom without value is false)
+     * @param leaves    evaluator of the leaves
+     * @param context   context given to the evaluator of the leaves
+     * @return value of the formula
+     * @throws Exception thrown if a leaf doesn't support the evaluation
+     */
+    public <C> boolean evaluate(Valuation valuation, Leaves<C> leaves, C context) throws Exception {
+        int[] code = this.code;
+        boolean value = false;
+        long stack = 0L;
+        int pc = 0;
+        while (pc < code.length) {
+            int argument = code[pc + 1];
+            switch (code[pc]) {
+                case ATOM:
+                    value = valuation.getOrDefault(argument, false);
+                    break;
+                case LEAF:
+                    value = leaves.evaluate(argument, context);
+                    break;
+                case CONSTANT:
+                    value = argument != 0;
+                    break;
+                case NOT:
+                    value = !value;
+                    break;
+                case JUMP_IF_FALSE:
+                    if (!value) {
+                        pc = argument;
+                        continue;
+                    }
+                    break;
+                case JUMP_IF_TRUE:
+                    if (value) {
+                        pc = argument;
+                        continue;
+                    }
+                    break;
+                case PUSH:
+                    stack = (stack << 1) | (value ? 1L : 0L);
+                    break;
+                case EQUALS:
+                    value = ((stack & 1L) != 0L) == value;
+                    stack >>>= 1;
+                    break;
+            }
+            pc += 2;
+        }
+        return value;
+    }
+
+    /**
+     * Evaluates a propositional program for a valuation.
+     *
+     * @param valuation values of the atoms (an atom without value is false)
+     * @return value of the formula
+     * @throws IllegalStateException thrown if the program has leaves
+     */
+    public boolean evaluate(Valuation valuation) {
+        if (this.leaves.length > 0) {
+            throw new IllegalStateException("the formula " + this.formula + " is not propositional");
+        }
+        try {
+            return this.evaluate(valuation, null, null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e); // no leaf to evaluate
+        }
+    }
+
+    /**
+     * Gets the compiled formula.
+     *
+     * @return formula
+     */
+    public Formula getFormula() {
+        return this.formula;
+    }
+
+    /**
+     * Gets the subformulas evaluated as leaves, in the order of their indexes.
+     *
+     * @return copy of the leaves
+     */
+    public Formula[] getLeaves() {
+        return this.leaves.clone();
+    }
+
+    /**
+     * Checks if the program has no leaf, i.e. if the formula is propositional.
+     *
+     * @return {@code true} if the program only reads atoms
+     */
+    public boolean isPropositional() {
+        return this.leaves.length == 0;
+    }
+
+    /**
+     * Gets the number of instructions of the program.
+     *
+     * @return number of instructions
+     */
+    public int getInstructionCount() {
+        return this.code.length / 2;
+    }
+
+    @Override
+    public String toString() {
+        return "Program[" + this.formula + "," + this.getInstructionCount() + " instructions,"
+                + this.leaves.length + " leaves]";
+    }
+
+    /**
+     * Emitter of the instructions of a formula.
+     */
+    private static class Compiler {
+        /**
+         * Emitted instructions.
+         */
+        private int[] code = new int[16];
+
+        /**
+         * Number of used cells of {@link #code}.
+         */
+        private int length = 0;
+
+        /**
+         * Leaf subformulas (a subformula used twice is a single leaf).
+         */
+        private List<Formula> leaves = new ArrayList<>();
+
+        /**
+         * Number of values on the stack at the current instruction.
+         */
+        private int depth = 0;
+
+        /**
+         * Emits the instructions of a formula, leaving its value in the register.
+         *
+         * @param formula formula to compile
+         */
+        private void compile(Formula formula) {
+            if (formula instanceof Atom) {
+                this.emit(ATOM, ((Atom) formula).getIndex());
+            } else if (formula instanceof Not) {
+                this.compile(((Not) formula).getOperand());
+                this.emit(NOT, 0);
+            } else if (formula instanceof And) {
+                this.junction(((And) formula).getOperands().toArray(new Formula[0]), JUMP_IF_FALSE, true);
+            } else if (formula instanceof Or) {
+                this.junction(((Or) formula).getOperands().toArray(new Formula[0]), JUMP_IF_TRUE, false);
+            } else if (formula instanceof Implication) {
+                // !left || right
+                Implication implication = (Implication) formula;
+                this.compile(implication.getLeftOperand());
+                this.emit(NOT, 0);
+                int jump = this.emit(JUMP_IF_TRUE, 0);
+                this.compile(implication.getRightOperand());
+                this.code[jump + 1] = this.length;
+            } else if (formula instanceof Equivalence) {
+                Equivalence equivalence = (Equivalence) formula;
+                if (this.depth == MAX_DEPTH) {
+                    throw new IllegalArgumentException("more than " + MAX_DEPTH + " nested equivalences");
+                }
+                this.compile(equivalence.getLeftOperand());
+                this.emit(PUSH, 0);
+                this.depth++;
+                this.compile(equivalence.getRightOperand());
+                this.depth--;
+                this.emit(EQUALS, 0);
+            } else {
+                int leaf = this.leaves.indexOf(formula);
+                if (leaf < 0) {
+                    leaf = this.leaves.size();
+                    this.leaves.add(formula);
+                }
+                this.emit(LEAF, leaf);
+            }
+        }
+
+        /**
+         * Emits a conjunction or a disjunction: each operand but the last one is
+         * followed by a jump to the end when it decides the result.
+         *
+         * @param operands operands of the junction
+         * @param jump     jump leaving the junction
+         * @param empty    value of the junction without operand
+         */
+        private void junction(Formula[] operands, int jump, boolean empty) {
+            if (operands.length == 0) {
+                this.emit(CONSTANT, empty ? 1 : 0);
+                return;
+            }
+            int[] jumps = new int[operands.length - 1];
+            for (int i = 0; i < operands.length; i++) {
+                this.compile(operands[i]);
+                if (i < jumps.length) {
+                    jumps[i] = this.emit(jump, 0);
+                }
+            }
+            for (int position : jumps) {
+                this.code[position + 1] = this.length;
+            }
+        }
+
+        /**
+         * Appends an instruction.
+         *
+         * @param operation operation code
+         * @param argument  argument of the operation
+         * @return position of the instruction
+         */
+        private int emit(int operation, int argument) {
+            if (this.length + 2 > this.code.length) {
+                this.code = Arrays.copyOf(this.code, this.code.length * 2);
+            }
+            int position = this.length;
+            this.code[this.length++] = operation;
+            this.code[this.length++] = argument;
+            return position;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package MAKBPInterpreter.logic;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -9,12 +11,22 @@ public class Implication implements Formula {
     /**
      * Represents the condition.
      */
-    private Formula leftOperand;
+    private final Formula leftOperand;
 
     /**
      * Represents the new statement.
      */
-    private Formula rightOperand;
+    private final Formula rightOperand;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Constructor.
@@ -25,6 +37,8 @@ public class Implication implements Formula {
     public Implication(Formula leftOperand, Formula rightOperand) {
         this.leftOperand = leftOperand;
         this.rightOperand = rightOperand;
+        this.hash = Objects.hash(this.leftOperand, this.rightOperand);
+        this.size = 1 + this.leftOperand.size() + this.rightOperand.size();
     }
 
     @Override
@@ -45,12 +59,13 @@ public class Implication implements Formula {
             return false;
 
         Implication otherImply = (Implication) other;
-        return this.leftOperand.equals(otherImply.leftOperand) && this.rightOperand.equals(otherImply.rightOperand);
+        return this.hash == otherImply.hash && this.leftOperand.equals(otherImply.leftOperand)
+                && this.rightOperand.equals(otherImply.rightOperand);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.leftOperand, this.rightOperand);
+        return this.hash;
     }
 
     @Override
@@ -68,6 +83,26 @@ public class Implication implements Formula {
         return this.leftOperand.contains(otherFormula) || this.rightOperand.contains(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Arrays.asList(this.leftOperand, this.rightOperand);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula leftOperand = factory.intern(this.leftOperand);
+        Formula rightOperand = factory.intern(this.rightOperand);
+        if (leftOperand == this.leftOperand && rightOperand == this.rightOperand) {
+            return factory.register(this);
+        }
+        return factory.register(new Implication(leftOperand, rightOperand));
+    }
+
     /**
      * Gets the left operand of the formula.
      * 
@@ -1,5 +1,7 @@
 package MAKBPInterpreter.logic;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -9,7 +11,17 @@ public class Not implements Formula {
     /**
      * Operand of the logic operation.
      */
-    private Formula operand;
+    private final Formula operand;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Cached number of nodes.
+     */
+    private final int size;
 
     /**
      * Default constructor.
@@ -18,6 +30,8 @@ public class Not implements Formula {
      */
     public Not(Formula operand) {
         this.operand = operand;
+        this.hash = Objects.hash(this.operand);
+        this.size = this.operand == null ? 1 : 1 + this.operand.size();
     }
 
     @Override
@@ -35,12 +49,12 @@ public class Not implements Formula {
             return false;
 
         Not otherNot = (Not) other;
-        return this.operand.equals(otherNot.operand);
+        return this.hash == otherNot.hash && this.operand.equals(otherNot.operand);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.operand);
+        return this.hash;
     }
 
     @Override
@@ -70,6 +84,22 @@ public class Not implements Formula {
         return this.equals(otherFormula) || this.operand.contains(otherFormula);
     }
 
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<Formula> getSubformulas() {
+        return Collections.singletonList(this.operand);
+    }
+
+    @Override
+    public Formula intern(FormulaFactory factory) {
+        Formula operand = factory.intern(this.operand);
+        return factory.register(operand == this.operand ? this : new Not(operand));
+    }
+
     /**
      * Gets the operand object.
      * 
@@ -9,7 +9,7 @@ public class PropositionalLogicAssignment implements LogicAssignment {
     /**
      * State to evaluate.
      */
-    protected Map<Atom, Boolean> state;
+    protected Valuation valuation;
 
     /**
      * Constructor.
@@ -17,7 +17,16 @@ public class PropositionalLogicAssignment implements LogicAssignment {
      * @param state the state to evaluate
      */
     public PropositionalLogicAssignment(Map<Atom, Boolean> state) {
-        this.state = state;
+        this(new Valuation(state));
+    }
+
+    /**
+     * Constructor with an already packed state.
+     * 
+     * @param valuation the state to evaluate
+     */
+    public PropositionalLogicAssignment(Valuation valuation) {
+        this.valuation = valuation;
     }
 
     /**
@@ -25,9 +34,13 @@ public class PropositionalLogicAssignment implements LogicAssignment {
      * 
      * @param key key to gets the value
      * @return the associated value
+     * @throws NullPointerException thrown if the key is not in the state
      */
     public boolean get(Atom key) {
-        return this.state.get(key);
+        if (!this.valuation.isDefined(key.getIndex())) {
+            throw new NullPointerException("the atom " + key + " is not in the state");
+        }
+        return this.valuation.getOrDefault(key.getIndex(), false);
     }
 
     /**
@@ -40,6 +53,15 @@ public class PropositionalLogicAssignment implements LogicAssignment {
      * @return the associated value or default value
      */
     public boolean getOrDefault(Atom key, boolean defaultValue) {
-        return this.state.getOrDefault(key, defaultValue);
+        return this.valuation.getOrDefault(key.getIndex(), defaultValue);
+    }
+
+    /**
+     * Gets the packed state.
+     * 
+     * @return state to evaluate
+     */
+    public Valuation getValuation() {
+        return this.valuation;
     }
 }
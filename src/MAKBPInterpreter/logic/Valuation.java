@@ -0,0 +1,263 @@
+package MAKBPInterpreter.logic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the truth values of a set of atoms packed in bit vectors.
+ *
+ * The bit {@code i} of the vectors is associated to the atom of index
+ * {@code i} in the {@link AtomRegistry}. The {@code domain} vector tells which
+ * atoms have a value and the {@code values} vector tells which of them are
+ * true. A valuation is immutable.
+ */
+public final class Valuation {
+    /**
+     * Empty vector shared by the empty valuations.
+     */
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * Atoms having a value.
+     */
+    private final long[] domain;
+
+    /**
+     * Atoms which are true (always included in {@link #domain}).
+     */
+    private final long[] values;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Constructor from an assignment map. Atoms associated to {@code null} are
+     * ignored.
+     *
+     * @param assignment truth value of each atom
+     */
+    public Valuation(Map<Atom, Boolean> assignment) {
+        long[] domain = Valuation.EMPTY;
+        long[] values = Valuation.EMPTY;
+        for (Map.Entry<Atom, Boolean> entry : assignment.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            int index = entry.getKey().getIndex();
+            int word = index >>> 6;
+            if (word >= domain.length) {
+                domain = Arrays.copyOf(domain, word + 1);
+                values = Arrays.copyOf(values, word + 1);
+            }
+            domain[word] |= 1L << index;
+            if (entry.getValue()) {
+                values[word] |= 1L << index;
+            }
+        }
+        this.domain = domain;
+        this.values = values;
+        this.hash = 31 * Arrays.hashCode(this.domain) + Arrays.hashCode(this.values);
+    }
+
+    /**
+     * Constructor from bit vectors. The vectors are copied.
+     *
+     * @param domain atoms having a value
+     * @param values atoms which are true (bits outside {@code domain} are
+     *               ignored)
+     */
+    public Valuation(long[] domain, long[] values) {
+        int length = domain.length;
+        while (length > 0 && domain[length - 1] == 0L) {
+            length--;
+        }
+        this.domain = Arrays.copyOf(domain, length);
+        this.values = new long[length];
+        for (int i = 0; i < length && i < values.length; i++) {
+            this.values[i] = values[i] & this.domain[i];
+        }
+        this.hash = 31 * Arrays.hashCode(this.domain) + Arrays.hashCode(this.values);
+    }
+
+    /**
+     * Creates a valuation over a list of atoms where the atom at position
+     * {@code i} is true if the bit {@code i} of {@code bits} is set.
+     *
+     * @param atoms atoms of the valuation (at most 64)
+     * @param bits  truth values of the atoms
+     * @return valuation of the atoms
+     */
+    public static Valuation fromBits(List<Atom> atoms, long bits) {
+        int maxIndex = -1;
+        for (Atom atom : atoms) {
+            maxIndex = Math.max(maxIndex, atom.getIndex());
+        }
+        long[] domain = new long[(maxIndex >>> 6) + 1];
+        long[] values = new long[domain.length];
+        for (int i = 0; i < atoms.size(); i++) {
+            int index = atoms.get(i).getIndex();
+            domain[index >>> 6] |= 1L << index;
+            if (((bits >>> i) & 1L) != 0L) {
+                values[index >>> 6] |= 1L << index;
+            }
+        }
+        return new Valuation(domain, values);
+    }
+
+    /**
+     * Checks if an atom has a value.
+     *
+     * @param index atom index
+     * @return {@code true} if the atom has a value
+     */
+    public boolean isDefined(int index) {
+        int word = index >>> 6;
+        return word < this.domain.length && (this.domain[word] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Gets the value of an atom if it has one, else the default value.
+     *
+     * @param index        atom index
+     * @param defaultValue value returned if the atom has no value
+     * @return value of the atom or default value
+     */
+    public boolean getOrDefault(int index, boolean defaultValue) {
+        int word = index >>> 6;
+        if (word >= this.domain.length || (this.domain[word] & (1L << index)) == 0L) {
+            return defaultValue;
+        }
+        return (this.values[word] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Gets the number of words of the vector of the true atoms.
+     *
+     * @return number of words
+     */
+    int getWordCount() {
+        return this.values.length;
+    }
+
+    /**
+     * Gets a word of the vector of the true atoms.
+     *
+     * @param word word index (lower than {@link #getWordCount()})
+     * @return true atoms of the word
+     */
+    long getValueWord(int word) {
+        return this.values[word];
+    }
+
+    /**
+     * Computes the atoms on which two valuations diverge: atoms with a value in
+     * only one of them or with different values.
+     *
+     * @param other other valuation
+     * @return bit vector of the divergent atom indexes
+     */
+    public long[] differences(Valuation other) {
+        long[] differences = new long[Math.max(this.domain.length, other.domain.length)];
+        for (int i = 0; i < differences.length; i++) {
+            differences[i] = this.wordDifference(other, i);
+        }
+        return differences;
+    }
+
+    /**
+     * Counts the atoms on which two valuations diverge.
+     *
+     * @param other other valuation
+     * @return number of divergent atoms
+     * @see #differences(Valuation)
+     */
+    public int countDifferences(Valuation other) {
+        int count = 0;
+        int length = Math.max(this.domain.length, other.domain.length);
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(this.wordDifference(other, i));
+        }
+        return count;
+    }
+
+    /**
+     * Computes one word of the differences.
+     *
+     * @param other other valuation
+     * @param i     word index
+     * @return divergent atoms of the word
+     */
+    private long wordDifference(Valuation other, int i) {
+        long domain1 = i < this.domain.length ? this.domain[i] : 0L;
+        long domain2 = i < other.domain.length ? other.domain[i] : 0L;
+        long values1 = i < this.values.length ? this.values[i] : 0L;
+        long values2 = i < other.values.length ? other.values[i] : 0L;
+        return (domain1 ^ domain2) | (domain1 & domain2 & (values1 ^ values2));
+    }
+
+    /**
+     * Gets the atoms of a bit vector of atom indexes.
+     *
+     * @param indexes bit vector of atom indexes
+     * @return set of atoms
+     */
+    public static Set<Atom> toAtoms(long[] indexes) {
+        Set<Atom> atoms = new HashSet<>();
+        for (int word = 0; word < indexes.length; word++) {
+            long bits = indexes[word];
+            while (bits != 0L) {
+                atoms.add(AtomRegistry.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return atoms;
+    }
+
+    /**
+     * Unpacks the valuation.
+     *
+     * @return new map associating each atom of the domain to its value
+     */
+    public Map<Atom, Boolean> toMap() {
+        Map<Atom, Boolean> map = new HashMap<>();
+        for (int word = 0; word < this.domain.length; word++) {
+            long bits = this.domain[word];
+            while (bits != 0L) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                map.put(AtomRegistry.get(index), (this.values[word] & (1L << index)) != 0L);
+                bits &= bits - 1;
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (other == null)
+            return false;
+        if (!(other instanceof Valuation))
+            return false;
+
+        Valuation valuation = (Valuation) other;
+        return this.hash == valuation.hash && Arrays.equals(this.domain, valuation.domain)
+                && Arrays.equals(this.values, valuation.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+}
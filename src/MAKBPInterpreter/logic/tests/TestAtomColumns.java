@@ -0,0 +1,149 @@
+package MAKBPInterpreter.logic.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.AtomColumns;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaProgram;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.Valuation;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.logic.AtomColumns} class.
+ */
+public class TestAtomColumns extends TestCase {
+    /**
+     * Builds a random propositional formula.
+     *
+     * @param atoms  atoms of the formula
+     * @param depth  maximum depth
+     * @param random random generator
+     * @return formula
+     */
+    private static Formula randomFormula(List<Atom> atoms, int depth, Random random) {
+        if (depth == 0 || random.nextInt(4) == 0) {
+            return atoms.get(random.nextInt(atoms.size()));
+        }
+        switch (random.nextInt(5)) {
+            case 0:
+                return new Not(randomFormula(atoms, depth - 1, random));
+            case 1:
+                return new And(randomFormula(atoms, depth - 1, random), randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+            case 2:
+                return new Or(randomFormula(atoms, depth - 1, random), randomFormula(atoms, depth - 1, random));
+            case 3:
+                return new Implication(randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+            default:
+                return new Equivalence(randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+        }
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.logic.AtomColumns#label(Formula, BitSet)} method
+     * against the evaluation world by world, over more than one word of worlds.
+     */
+    @Test
+    public void testLabel() {
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            atoms.add(new Atom("columns " + i));
+        }
+        // all the valuations of the 7 first atoms, the last one is never true
+        List<Valuation> valuations = new ArrayList<>();
+        for (long bits = 0; bits < 128; bits++) {
+            valuations.add(Valuation.fromBits(atoms.subList(0, 7), bits));
+        }
+        AtomColumns columns = new AtomColumns(valuations);
+        assertEquals(128, columns.getWorldCount());
+
+        // every world and a mask of some worlds in the two words
+        BitSet all = new BitSet();
+        all.set(0, 128);
+        BitSet mask = new BitSet();
+        for (int w = 0; w < 128; w += 3) {
+            mask.set(w);
+        }
+
+        Random random = new Random(7);
+        for (int f = 0; f < 200; f++) {
+            Formula formula = randomFormula(atoms, 5, random);
+            assertTrue(AtomColumns.isPropositional(formula));
+            FormulaProgram program = FormulaProgram.compile(formula);
+            BitSet expected = new BitSet();
+            for (int w = 0; w < 128; w++) {
+                if (program.evaluate(valuations.get(w))) {
+                    expected.set(w);
+                }
+            }
+            assertEquals(formula.toString(), expected, columns.label(formula, all));
+            expected.and(mask);
+            assertEquals(formula.toString(), expected, columns.label(formula, mask));
+        }
+
+        // atoms true nowhere or unknown by the columns
+        assertTrue(columns.label(atoms.get(7), all).isEmpty());
+        assertEquals(mask, columns.label(new Not(new Atom("columns unknown")), mask));
+        assertEquals(mask, columns.label(new And(new ArrayList<>()), mask));
+        assertTrue(columns.label(new Or(new ArrayList<>()), mask).isEmpty());
+        assertEquals(2, columns.evaluate(atoms.get(0), all.toLongArray()).length);
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.logic.AtomColumns#isPropositional(Formula)}
+     * method.
+     */
+    @Test
+    public void testIsPropositional() {
+        Atom atom = new Atom("columns propositional");
+        Formula other = new Formula() {
+            @Override
+            public Formula simplify() {
+                return this;
+            }
+
+            @Override
+            public Formula getNegation() {
+                return new Not(this);
+            }
+
+            @Override
+            public boolean contains(Formula otherFormula) {
+                return this.equals(otherFormula);
+            }
+
+
+
+            @Override
+            public boolean evaluate(MAKBPInterpreter.logic.LogicAssignment assignment) {
+                return true;
+            }
+        };
+
+        assertTrue(AtomColumns.isPropositional(new Equivalence(atom, new Implication(new Not(atom), atom))));
+        assertFalse(AtomColumns.isPropositional(other));
+        assertFalse(AtomColumns.isPropositional(new Or(atom, new And(atom, other))));
+        assertFalse(AtomColumns.isPropositional(new Implication(atom, new Not(other))));
+
+        AtomColumns columns = new AtomColumns(new ArrayList<>());
+        assertEquals(0, columns.getWorldCount());
+        assertThrows(IllegalArgumentException.class, () -> columns.label(new Not(other), new BitSet()));
+    }
+}
@@ -0,0 +1,151 @@
+package MAKBPInterpreter.logic.tests;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaFactory;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.LogicAssignment;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.logic.FormulaFactory} class.
+ */
+public class TestFormulaFactory extends TestCase {
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.FormulaFactory#intern(Formula)}
+     * method.
+     */
+    @Test
+    public void testIntern() {
+        FormulaFactory factory = new FormulaFactory();
+        Atom atom1 = new Atom("a");
+        Atom atom2 = new Atom("b");
+        Formula formula1 = new Or(new And(atom1, new Not(atom2)), new And(new Not(atom1), atom2));
+        Formula formula2 = new Or(new And(new Not(atom2), atom1), new And(atom2, new Not(atom1)));
+
+        Formula interned1 = factory.intern(formula1);
+        Formula interned2 = factory.intern(formula2);
+        assertSame(interned1, interned2);
+        assertTrue(factory.isInterned(interned1));
+        assertFalse(factory.isInterned(formula2));
+        assertEquals(formula1, interned1);
+
+        // the subformulas are shared
+        Formula negation1 = factory.not(new Atom("a"));
+        assertSame(negation1, factory.intern(new Not(atom1)));
+        for (Formula operand : ((Or) interned1).getOperands()) {
+            for (Formula operand2 : ((And) operand).getOperands()) {
+                assertSame(operand2, factory.intern(operand2));
+            }
+        }
+        // a, b, ~a, ~b, the two conjunctions and the disjunction
+        assertEquals(7, factory.size());
+
+        assertSame(factory.and(atom1, atom2), factory.and(Arrays.asList(atom2, atom1)));
+        assertSame(factory.implication(atom1, atom2), factory.intern(new Implication(atom1, atom2)));
+        assertNull(factory.intern(null));
+
+        factory.clear();
+        assertEquals(0, factory.size());
+        assertFalse(factory.isInterned(interned1));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.Formula#size()} method and the
+     * cached hash codes.
+     */
+    @Test
+    public void testSizeAndHashCode() {
+        Atom atom1 = new Atom("a");
+        Atom atom2 = new Atom("b");
+        Formula formula1 = new Or(new And(atom1, new Not(atom2)), new Implication(atom1, atom2));
+        Formula formula2 = new Or(new Implication(atom1, atom2), new And(new Not(atom2), atom1));
+
+        assertEquals(1, atom1.size());
+        assertEquals(2, new Not(atom1).size());
+        assertEquals(8, formula1.size());
+        assertEquals(1, new And().size());
+        assertEquals(formula1.hashCode(), formula2.hashCode());
+        assertEquals(formula1, formula2);
+        assertFalse(formula1.equals(new Or(new And(atom1, atom2), new Implication(atom1, atom2))));
+    }
+
+    /**
+     * Formula defined outside the library, implementing only the abstract
+     * methods of {@link Formula}.
+     */
+    private static class External implements Formula {
+        /**
+         * Operands of the formula.
+         */
+        private final List<Formula> operands;
+
+        /**
+         * Constructor.
+         *
+         * @param operands operands of the formula
+         */
+        private External(Formula... operands) {
+            this.operands = Arrays.asList(operands);
+        }
+
+        @Override
+        public Formula simplify() {
+            return this;
+        }
+
+        @Override
+        public Formula getNegation() {
+            return new Not(this);
+        }
+
+        @Override
+        public boolean contains(Formula otherFormula) {
+            return this.equals(otherFormula);
+        }
+
+        @Override
+        public Collection<Formula> getSubformulas() {
+            return this.operands;
+        }
+
+        @Override
+        public boolean evaluate(LogicAssignment assignment) throws Exception {
+            return true;
+        }
+    }
+
+    /**
+     * Tests the default {@link MAKBPInterpreter.logic.Formula#size()},
+     * {@link MAKBPInterpreter.logic.Formula#getSubformulas()} and
+     * {@link MAKBPInterpreter.logic.Formula#intern(FormulaFactory)} methods of a
+     * formula defined outside the library.
+     */
+    @Test
+    public void testDefaultMethods() {
+        Atom atom = new Atom("a");
+        Formula leaf = new External();
+        Formula external = new External(new And(atom, leaf), leaf);
+
+        assertTrue(leaf.getSubformulas().isEmpty());
+        assertEquals(1, leaf.size());
+        assertEquals(5, external.size());
+        assertEquals(5, new Not(external).size() - 1);
+        assertEquals(Arrays.asList(atom, leaf), new Implication(atom, leaf).getSubformulas());
+
+        FormulaFactory factory = new FormulaFactory();
+        assertSame(external, factory.intern(external));
+        assertTrue(factory.isInterned(external));
+        Formula not = factory.intern(new Not(leaf));
+        assertSame(not, factory.intern(new Not(leaf)));
+    }
+}
@@ -0,0 +1,179 @@
+package MAKBPInterpreter.logic.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.Equivalence;
+import MAKBPInterpreter.logic.Formula;
+import MAKBPInterpreter.logic.FormulaProgram;
+import MAKBPInterpreter.logic.Implication;
+import MAKBPInterpreter.logic.LogicAssignment;
+import MAKBPInterpreter.logic.Not;
+import MAKBPInterpreter.logic.Or;
+import MAKBPInterpreter.logic.PropositionalLogicAssignment;
+import MAKBPInterpreter.logic.Valuation;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.logic.FormulaProgram} class.
+ */
+public class TestFormulaProgram extends TestCase {
+    /**
+     * Formula which isn't propositional, only evaluated as a leaf.
+     */
+    private static class Leaf implements Formula {
+        private final String name;
+
+        private Leaf(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Formula simplify() {
+            return this;
+        }
+
+        @Override
+        public Formula getNegation() {
+            return new Not(this);
+        }
+
+        @Override
+        public boolean contains(Formula otherFormula) {
+            return this.equals(otherFormula);
+        }
+
+
+
+        @Override
+        public boolean evaluate(LogicAssignment assignment) throws Exception {
+            throw new UnsupportedOperationException("leaf " + this.name);
+        }
+    }
+
+    /**
+     * Builds a random propositional formula.
+     *
+     * @param atoms  atoms of the formula
+     * @param depth  maximum depth
+     * @param random random generator
+     * @return formula
+     */
+    private static Formula randomFormula(List<Atom> atoms, int depth, Random random) {
+        if (depth == 0 || random.nextInt(4) == 0) {
+            return atoms.get(random.nextInt(atoms.size()));
+        }
+        switch (random.nextInt(5)) {
+            case 0:
+                return new Not(randomFormula(atoms, depth - 1, random));
+            case 1:
+                return new And(randomFormula(atoms, depth - 1, random), randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+            case 2:
+                return new Or(randomFormula(atoms, depth - 1, random), randomFormula(atoms, depth - 1, random));
+            case 3:
+                return new Implication(randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+            default:
+                return new Equivalence(randomFormula(atoms, depth - 1, random),
+                        randomFormula(atoms, depth - 1, random));
+        }
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.FormulaProgram#evaluate(Valuation)}
+     * method against the evaluation of the formulas.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEvaluate() throws Exception {
+        List<Atom> atoms = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            atoms.add(new Atom("program " + i));
+        }
+        Random random = new Random(42);
+        for (int f = 0; f < 200; f++) {
+            Formula formula = randomFormula(atoms, 5, random);
+            FormulaProgram program = FormulaProgram.compile(formula);
+            assertTrue(program.isPropositional());
+            assertSame(formula, program.getFormula());
+            for (long bits = 0; bits < 16; bits++) {
+                Valuation valuation = Valuation.fromBits(atoms, bits);
+                assertEquals(formula + " with " + valuation,
+                        formula.evaluate(new PropositionalLogicAssignment(valuation)), program.evaluate(valuation));
+            }
+        }
+
+        // atoms without value are false, the empty junctions are constants
+        Atom undefined = new Atom("program undefined");
+        Valuation valuation = Valuation.fromBits(atoms, 0L);
+        assertFalse(FormulaProgram.compile(undefined).evaluate(valuation));
+        assertTrue(FormulaProgram.compile(new Not(undefined)).evaluate(valuation));
+        assertTrue(FormulaProgram.compile(new And(new ArrayList<>())).evaluate(valuation));
+        assertFalse(FormulaProgram.compile(new Or(new ArrayList<>())).evaluate(valuation));
+
+        // the equivalences are nested up to the depth of the stack
+        Formula formula = atoms.get(0);
+        for (int i = 0; i < FormulaProgram.MAX_DEPTH; i++) {
+            formula = new Equivalence(atoms.get(i % 2), formula);
+        }
+        FormulaProgram program = FormulaProgram.compile(formula);
+        for (long bits = 0; bits < 4; bits++) {
+            valuation = Valuation.fromBits(atoms, bits);
+            assertEquals(formula.evaluate(new PropositionalLogicAssignment(valuation)), program.evaluate(valuation));
+        }
+        Formula deeper = new Equivalence(atoms.get(0), formula);
+        assertThrows(IllegalArgumentException.class, () -> FormulaProgram.compile(deeper));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.logic.FormulaProgram#evaluate(Valuation, MAKBPInterpreter.logic.FormulaProgram.Leaves, Object)}
+     * method with leaves.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEvaluateLeaves() throws Exception {
+        Atom atom = new Atom("program leaves");
+        Leaf leaf1 = new Leaf("1");
+        Leaf leaf2 = new Leaf("2");
+        Formula formula = new Or(new And(atom, leaf1), new Implication(leaf2, leaf1));
+        FormulaProgram program = FormulaProgram.compile(formula);
+        assertFalse(program.isPropositional());
+        List<Formula> leaves = Arrays.asList(program.getLeaves());
+        assertEquals(2, leaves.size());
+        assertTrue(leaves.contains(leaf1));
+        assertTrue(leaves.contains(leaf2));
+        Valuation valuation = Valuation.fromBits(Arrays.asList(atom), 1L);
+        assertThrows(IllegalStateException.class, () -> program.evaluate(valuation));
+
+        // the leaves are evaluated with the context
+        for (int values = 0; values < 4; values++) {
+            boolean value1 = (values & 1) != 0;
+            boolean value2 = (values & 2) != 0;
+            boolean value = program.evaluate(valuation,
+                    (leaf, context) -> leaves.get(leaf) == leaf1 ? context[0] : context[1],
+                    new boolean[] { value1, value2 });
+            assertEquals(value1 || !value2, value);
+        }
+
+        // the evaluation stops at the first operand deciding the result
+        int[] calls = new int[1];
+        FormulaProgram shortCircuit = FormulaProgram.compile(new Implication(new Not(atom), leaf1));
+        assertTrue(shortCircuit.evaluate(valuation, (leaf, context) -> {
+            calls[0]++;
+            return true;
+        }, null));
+        assertEquals(0, calls[0]);
+    }
+}
@@ -0,0 +1,117 @@
+package MAKBPInterpreter.logic.tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.logic.AtomRegistry;
+import MAKBPInterpreter.logic.PropositionalLogicAssignment;
+import MAKBPInterpreter.logic.Valuation;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.logic.Valuation} and
+ * {@link MAKBPInterpreter.logic.AtomRegistry} classes.
+ */
+public class TestValuation extends TestCase {
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.AtomRegistry} indexes.
+     */
+    @Test
+    public void testAtomRegistry() {
+        Atom atom1 = new Atom("valuation atom 1");
+        Atom atom2 = new Atom("valuation atom 1");
+        Atom atom3 = new Atom("valuation atom 2");
+
+        assertEquals(atom1.getIndex(), atom2.getIndex());
+        assertFalse(atom1.getIndex() == atom3.getIndex());
+        assertEquals(atom1.getIndex(), AtomRegistry.indexOf("valuation atom 1"));
+        assertEquals(-1, AtomRegistry.indexOf("valuation atom never created"));
+        assertEquals(atom1, AtomRegistry.get(atom1.getIndex()));
+        assertEquals(atom3, AtomRegistry.get(atom3.getIndex()));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.Valuation#Valuation(Map)} and
+     * {@link MAKBPInterpreter.logic.Valuation#toMap()} methods.
+     */
+    @Test
+    public void testMapConversion() {
+        Atom atom1 = new Atom("1");
+        Atom atom2 = new Atom("2");
+        Atom atom3 = new Atom("3");
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom1, true);
+        assignment.put(atom2, false);
+
+        Valuation valuation = new Valuation(assignment);
+
+        assertEquals(assignment, valuation.toMap());
+        assertTrue(valuation.getOrDefault(atom1.getIndex(), false));
+        assertFalse(valuation.getOrDefault(atom2.getIndex(), true));
+        assertTrue(valuation.getOrDefault(atom3.getIndex(), true));
+        assertTrue(valuation.isDefined(atom2.getIndex()));
+        assertFalse(valuation.isDefined(atom3.getIndex()));
+        assertFalse(valuation.isDefined(100000));
+        assertEquals(valuation, new Valuation(new HashMap<>(assignment)));
+        assertEquals(valuation.hashCode(), new Valuation(new HashMap<>(assignment)).hashCode());
+
+        PropositionalLogicAssignment propositionalAssignment = new PropositionalLogicAssignment(valuation);
+        assertTrue(propositionalAssignment.get(atom1));
+        assertFalse(propositionalAssignment.getOrDefault(atom3, false));
+        try {
+            propositionalAssignment.get(atom3);
+            fail("an undefined atom has no value");
+        } catch (NullPointerException e) {
+        }
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.logic.Valuation#fromBits(java.util.List, long)}
+     * method.
+     */
+    @Test
+    public void testFromBits() {
+        Atom atom1 = new Atom("1");
+        Atom atom2 = new Atom("2");
+        Atom atom3 = new Atom("3");
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom1, true);
+        assignment.put(atom2, false);
+        assignment.put(atom3, true);
+
+        assertEquals(new Valuation(assignment), Valuation.fromBits(Arrays.asList(atom1, atom2, atom3), 5L));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.logic.Valuation#differences(Valuation)}
+     * and {@link MAKBPInterpreter.logic.Valuation#countDifferences(Valuation)}
+     * methods.
+     */
+    @Test
+    public void testDifferences() {
+        Atom atom1 = new Atom("1");
+        Atom atom2 = new Atom("2");
+        Atom atom3 = new Atom("3");
+        Map<Atom, Boolean> assignment = new HashMap<>();
+        assignment.put(atom1, true);
+        assignment.put(atom2, false);
+        Map<Atom, Boolean> assignment2 = new HashMap<>(assignment);
+        assignment2.put(atom1, false);
+        assignment2.put(atom3, false);
+
+        Valuation valuation1 = new Valuation(assignment);
+        Valuation valuation2 = new Valuation(assignment2);
+
+        assertEquals(new HashSet<>(Arrays.asList(atom1, atom3)),
+                Valuation.toAtoms(valuation1.differences(valuation2)));
+        assertEquals(2, valuation1.countDifferences(valuation2));
+        assertEquals(2, valuation2.countDifferences(valuation1));
+        assertEquals(0, valuation1.countDifferences(valuation1));
+    }
+}
@@ -0,0 +1,201 @@
+package MAKBPInterpreter.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies (in nanoseconds) recorded concurrently.
+ *
+ * The values are counted in log-linear buckets: the values lower than
+ * {@code 16} have their own bucket, then each power of two is split in
+ * {@code 8} buckets, so a percentile is known within {@code 12.5%} with a
+ * fixed number of buckets. The buckets are striped counters
+ * ({@link LongAdder}), so recording a value never blocks and stays cheap under
+ * contention.
+ */
+public class LatencyHistogram {
+    /**
+     * Number of bits giving the bucket inside a power of two.
+     */
+    private static final int SUB_BITS = 3;
+
+    /**
+     * Number of buckets inside a power of two.
+     */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * Values lower than this one have their own bucket.
+     */
+    private static final int LINEAR_LIMIT = SUB_COUNT << 1;
+
+    /**
+     * Number of buckets (up to {@link Long#MAX_VALUE}).
+     */
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - (SUB_BITS + 1)) * SUB_COUNT;
+
+    /**
+     * Number of values of each bucket.
+     */
+    private LongAdder[] buckets;
+
+    /**
+     * Number of values.
+     */
+    private LongAdder count;
+
+    /**
+     * Sum of the values.
+     */
+    private LongAdder total;
+
+    /**
+     * Greatest value.
+     */
+    private LongAccumulator max;
+
+    /**
+     * Constructor.
+     */
+    public LatencyHistogram() {
+        this.buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+        this.count = new LongAdder();
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Long::max, 0L);
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value positive value
+     * @return bucket index
+     */
+    static int bucket(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * Gets the greatest value of a bucket.
+     *
+     * @param bucket bucket index
+     * @return greatest value counted in the bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_COUNT + SUB_BITS + 1;
+        int sub = (bucket - LINEAR_LIMIT) % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        long lower = (long) (SUB_COUNT + sub) << (exponent - SUB_BITS);
+        return lower + (width - 1);
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param nanos latency in nanoseconds (a negative value is recorded as
+     *              {@code 0})
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        this.buckets[bucket(value)].increment();
+        this.count.increment();
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return number of values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return total latency in nanoseconds
+     */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Gets the greatest recorded value.
+     *
+     * @return maximum latency in nanoseconds, {@code 0} if no value was recorded
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return mean latency in nanoseconds, {@code 0} if no value was recorded
+     */
+    public double getMean() {
+        long count = this.getCount();
+        return count == 0L ? 0.0 : (double) this.getTotal() / count;
+    }
+
+    /**
+     * Gets a percentile of the recorded values. The result is the upper bound of
+     * the bucket holding the percentile (never greater than the maximum), so it
+     * overestimates the exact percentile by at most {@code 12.5%}. The values
+     * recorded during the call may be partially taken into account.
+     *
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return latency in nanoseconds, {@code 0} if no value was recorded
+     * @throws IllegalArgumentException thrown if the percentile is not between
+     *                                  {@code 0} and {@code 100}
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("the percentile must be between 0 and 100");
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        int bucket = 0;
+        for (; bucket < BUCKET_COUNT - 1; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return Math.min(upperBound(bucket), this.getMax());
+    }
+
+    /**
+     * Forgets all the recorded values.
+     */
+    public void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.count.reset();
+        this.total.reset();
+        this.max.reset();
+    }
+}
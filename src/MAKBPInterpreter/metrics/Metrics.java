@@ -0,0 +1,339 @@
+package MAKBPInterpreter.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import MAKBPInterpreter.logic.Formula;
+
+/**
+ * Registry of the runtime counters and phase latencies of an interpreter.
+ *
+ * It counts the formula evaluations by type of formula, the worlds visited by
+ * the knowledge operators, the worlds removed by the public announcements and
+ * the hits of the caches (labels of the model checker and truth values of the
+ * worlds), and records the latency of each phase of a round.
+ *
+ * All the counters are striped ({@link LongAdder}): the agents of an
+ * interpreter can update them concurrently without contention, and the reads
+ * are only approximate while updates are running.
+ *
+ * The registry can be published as a JMX MBean with {@link #register(String)}.
+ */
+public class Metrics implements MetricsMXBean {
+    /**
+     * Domain of the names of the registered MBeans.
+     */
+    public static final String DOMAIN = "MAKBPInterpreter";
+
+    /**
+     * Timed phases of the interpreter.
+     */
+    public enum Phase {
+        /**
+         * Announcement of formulas to the agents.
+         */
+        PUBLIC_ANNOUNCEMENT,
+        /**
+         * Selection of the actions of the agents.
+         */
+        GET_ASSOCIATED_ACTION,
+        /**
+         * Execution of the selected actions.
+         */
+        EXECUTE_ACTION,
+        /**
+         * Observations of the executed actions.
+         */
+        REVERSE_ENGINEERING,
+        /**
+         * Deductions of the agents from the observations.
+         */
+        REASONING
+    }
+
+    /**
+     * Number of evaluations of each class of formula.
+     */
+    private Map<Class<?>, LongAdder> evaluations;
+
+    /**
+     * Number of worlds visited by the knowledge operators.
+     */
+    private LongAdder worldsVisited;
+
+    /**
+     * Number of public announcements.
+     */
+    private LongAdder announcements;
+
+    /**
+     * Number of worlds removed by the public announcements.
+     */
+    private LongAdder worldsRemoved;
+
+    /**
+     * Number of cache hits.
+     */
+    private LongAdder cacheHits;
+
+    /**
+     * Number of cache misses.
+     */
+    private LongAdder cacheMisses;
+
+    /**
+     * Latencies of each phase.
+     */
+    private Map<Phase, LatencyHistogram> latencies;
+
+    /**
+     * Name of the MBean if the registry is registered, else {@code null}.
+     */
+    private ObjectName objectName;
+
+    /**
+     * Constructor.
+     */
+    public Metrics() {
+        this.evaluations = new ConcurrentHashMap<>();
+        this.worldsVisited = new LongAdder();
+        this.announcements = new LongAdder();
+        this.worldsRemoved = new LongAdder();
+        this.cacheHits = new LongAdder();
+        this.cacheMisses = new LongAdder();
+        this.latencies = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            this.latencies.put(phase, new LatencyHistogram());
+        }
+        this.objectName = null;
+    }
+
+    /**
+     * Counts an evaluation of a formula.
+     *
+     * @param formula evaluated formula
+     */
+    public void countEvaluation(Formula formula) {
+        Class<?> type = formula.getClass();
+        LongAdder counter = this.evaluations.get(type);
+        if (counter == null) {
+            counter = this.evaluations.computeIfAbsent(type, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Counts worlds visited by a knowledge operator.
+     *
+     * @param count number of visited worlds
+     */
+    public void countWorldsVisited(long count) {
+        this.worldsVisited.add(count);
+    }
+
+    /**
+     * Counts a public announcement.
+     *
+     * @param removed number of worlds removed by the announcement
+     */
+    public void countAnnouncement(long removed) {
+        this.announcements.increment();
+        this.worldsRemoved.add(removed);
+    }
+
+    /**
+     * Counts a value found in a cache.
+     */
+    public void countCacheHit() {
+        this.cacheHits.increment();
+    }
+
+    /**
+     * Counts a value computed because it was not in a cache.
+     */
+    public void countCacheMiss() {
+        this.cacheMisses.increment();
+    }
+
+    /**
+     * Records the latency of a run of a phase.
+     *
+     * @param phase phase
+     * @param nanos latency in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        this.latencies.get(phase).record(nanos);
+    }
+
+    /**
+     * Gets the latencies of a phase.
+     *
+     * @param phase phase
+     * @return latency histogram (updated by the registry)
+     */
+    public LatencyHistogram getLatencies(Phase phase) {
+        return this.latencies.get(phase);
+    }
+
+    /**
+     * Gets the number of evaluations of a class of formula.
+     *
+     * @param type class of formula
+     * @return number of evaluations
+     */
+    public long getEvaluationCount(Class<? extends Formula> type) {
+        LongAdder counter = this.evaluations.get(type);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    @Override
+    public Map<String, Long> getEvaluationCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<Class<?>, LongAdder> entry : this.evaluations.entrySet()) {
+            String name = entry.getKey().getSimpleName();
+            if (name.isEmpty()) { // anonymous class
+                name = entry.getKey().getName();
+            }
+            counts.merge(name, entry.getValue().sum(), Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public long getWorldsVisited() {
+        return this.worldsVisited.sum();
+    }
+
+    @Override
+    public long getAnnouncementCount() {
+        return this.announcements.sum();
+    }
+
+    @Override
+    public long getWorldsRemoved() {
+        return this.worldsRemoved.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return this.cacheHits.sum();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return this.cacheMisses.sum();
+    }
+
+    /**
+     * Gets a value for each phase.
+     *
+     * @param value value of the latencies of a phase
+     * @return value by phase name
+     */
+    private Map<String, Long> byPhase(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<Phase, LatencyHistogram> entry : this.latencies.entrySet()) {
+            values.put(entry.getKey().name(), value.applyAsLong(entry.getValue()));
+        }
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseCounts() {
+        return this.byPhase(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencies() {
+        return this.byPhase(histogram -> histogram.getPercentile(50.0));
+    }
+
+    @Override
+    public Map<String, Long> getP99Latencies() {
+        return this.byPhase(histogram -> histogram.getPercentile(99.0));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+        return this.byPhase(LatencyHistogram::getMax);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException thrown if the phase doesn't exist or the
+     *                                  percentile is not between {@code 0} and
+     *                                  {@code 100}
+     */
+    @Override
+    public long getLatencyPercentile(String phase, double percentile) {
+        return this.latencies.get(Phase.valueOf(phase)).getPercentile(percentile);
+    }
+
+    @Override
+    public void reset() {
+        this.evaluations.clear();
+        this.worldsVisited.reset();
+        this.announcements.reset();
+        this.worldsRemoved.reset();
+        this.cacheHits.reset();
+        this.cacheMisses.reset();
+        for (LatencyHistogram histogram : this.latencies.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Registers the registry as an MBean of the platform MBean server, named
+     * {@code MAKBPInterpreter:type=Metrics,name="<name>"}.
+     *
+     * @param name name of the registry
+     * @return name of the MBean
+     * @throws JMException           thrown if the name is already registered
+     * @throws IllegalStateException thrown if the registry is already registered
+     */
+    public synchronized ObjectName register(String name) throws JMException {
+        if (this.objectName != null) {
+            throw new IllegalStateException("the metrics are already registered as " + this.objectName);
+        }
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=Metrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        this.objectName = objectName;
+        return objectName;
+    }
+
+    /**
+     * Unregisters the MBean of the registry (does nothing if the registry is not
+     * registered).
+     *
+     * @throws JMException thrown by the MBean server
+     */
+    public synchronized void unregister() throws JMException {
+        if (this.objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(this.objectName)) {
+            server.unregisterMBean(this.objectName);
+        }
+        this.objectName = null;
+    }
+
+    /**
+     * Gets the name of the MBean of the registry.
+     *
+     * @return name or {@code null} if the registry is not registered
+     */
+    public synchronized ObjectName getObjectName() {
+        return this.objectName;
+    }
+}
@@ -0,0 +1,95 @@
+package MAKBPInterpreter.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link Metrics} registered as a JMX MBean (see
+ * {@link Metrics#register(String)}). The latencies are given in nanoseconds and
+ * the phases by the names of the {@link Metrics.Phase} constants.
+ */
+public interface MetricsMXBean {
+    /**
+     * Gets the number of evaluations of each type of formula.
+     *
+     * @return number of evaluations by simple class name
+     */
+    Map<String, Long> getEvaluationCounts();
+
+    /**
+     * Gets the number of worlds visited by the knowledge operators.
+     *
+     * @return number of visited worlds
+     */
+    long getWorldsVisited();
+
+    /**
+     * Gets the number of public announcements made on the structures.
+     *
+     * @return number of announcements
+     */
+    long getAnnouncementCount();
+
+    /**
+     * Gets the number of worlds removed by the public announcements.
+     *
+     * @return number of removed worlds
+     */
+    long getWorldsRemoved();
+
+    /**
+     * Gets the number of truth values and labels found in a cache.
+     *
+     * @return number of cache hits
+     */
+    long getCacheHits();
+
+    /**
+     * Gets the number of truth values and labels computed because they were not
+     * in a cache.
+     *
+     * @return number of cache misses
+     */
+    long getCacheMisses();
+
+    /**
+     * Gets the number of runs of each phase.
+     *
+     * @return number of runs by phase
+     */
+    Map<String, Long> getPhaseCounts();
+
+    /**
+     * Gets the median latency of each phase.
+     *
+     * @return median latency by phase
+     */
+    Map<String, Long> getMedianLatencies();
+
+    /**
+     * Gets the 99th percentile of the latency of each phase.
+     *
+     * @return 99th percentile by phase
+     */
+    Map<String, Long> getP99Latencies();
+
+    /**
+     * Gets the maximum latency of each phase.
+     *
+     * @return maximum latency by phase
+     */
+    Map<String, Long> getMaxLatencies();
+
+    /**
+     * Gets a percentile of the latency of a phase.
+     *
+     * @param phase      name of the phase
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return latency
+     */
+    long getLatencyPercentile(String phase, double percentile);
+
+    /**
+     * Resets all the counters and latencies.
+     */
+    void reset();
+}
@@ -0,0 +1,7 @@
+/**
+ * This package defines the runtime counters and phase latencies of the
+ * interpreter.
+ * 
+ * @author Guillaume LETELLIER, Corentin PIERRE
+ */
+package MAKBPInterpreter.metrics;
@@ -0,0 +1,151 @@
+package MAKBPInterpreter.metrics.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.logic.And;
+import MAKBPInterpreter.logic.Atom;
+import MAKBPInterpreter.metrics.LatencyHistogram;
+import MAKBPInterpreter.metrics.Metrics;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.metrics.Metrics} and
+ * {@link MAKBPInterpreter.metrics.LatencyHistogram} classes.
+ */
+public class TestMetrics extends TestCase {
+    /**
+     * Tests the counters of the {@link MAKBPInterpreter.metrics.Metrics} class.
+     */
+    @Test
+    public void testCounters() {
+        Metrics metrics = new Metrics();
+        Atom atom1 = new Atom("metrics 1");
+        Atom atom2 = new Atom("metrics 2");
+        metrics.countEvaluation(atom1);
+        metrics.countEvaluation(atom2);
+        metrics.countEvaluation(new And(atom1, atom2));
+        metrics.countWorldsVisited(5);
+        metrics.countWorldsVisited(7);
+        metrics.countAnnouncement(3);
+        metrics.countAnnouncement(0);
+        metrics.countCacheHit();
+        metrics.countCacheMiss();
+        metrics.countCacheMiss();
+
+        assertEquals(2, metrics.getEvaluationCount(Atom.class));
+        assertEquals(1, metrics.getEvaluationCount(And.class));
+        Map<String, Long> counts = metrics.getEvaluationCounts();
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2), counts.get("Atom"));
+        assertEquals(Long.valueOf(1), counts.get("And"));
+        assertEquals(12, metrics.getWorldsVisited());
+        assertEquals(2, metrics.getAnnouncementCount());
+        assertEquals(3, metrics.getWorldsRemoved());
+        assertEquals(1, metrics.getCacheHits());
+        assertEquals(2, metrics.getCacheMisses());
+
+        metrics.record(Metrics.Phase.REASONING, 100);
+        assertEquals(Long.valueOf(1), metrics.getPhaseCounts().get("REASONING"));
+        assertEquals(Long.valueOf(0), metrics.getPhaseCounts().get("EXECUTE_ACTION"));
+        assertEquals(100, metrics.getLatencyPercentile("REASONING", 50.0));
+        assertThrows(IllegalArgumentException.class, () -> metrics.getLatencyPercentile("ROUND", 50.0));
+
+        metrics.reset();
+        assertTrue(metrics.getEvaluationCounts().isEmpty());
+        assertEquals(0, metrics.getWorldsVisited());
+        assertEquals(0, metrics.getWorldsRemoved());
+        assertEquals(0, metrics.getCacheMisses());
+        assertEquals(Long.valueOf(0), metrics.getPhaseCounts().get("REASONING"));
+    }
+
+    /**
+     * Tests the
+     * {@link MAKBPInterpreter.metrics.LatencyHistogram#getPercentile(double)}
+     * method.
+     */
+    @Test
+    public void testGetPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50.0));
+        assertEquals(0.0, histogram.getMean());
+
+        // the small values are exact
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(55, histogram.getTotal());
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5, histogram.getMean());
+        assertEquals(1, histogram.getPercentile(0.0));
+        assertEquals(5, histogram.getPercentile(50.0));
+        assertEquals(9, histogram.getPercentile(90.0));
+        assertEquals(10, histogram.getPercentile(100.0));
+
+        // the large values are overestimated by at most 12.5%
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        for (long value = 1; value <= 100000; value++) {
+            histogram.record(value * 1000);
+        }
+        double[] percentiles = { 50.0, 99.0, 99.9 };
+        for (double percentile : percentiles) {
+            long exact = (long) (percentile * 1000000);
+            long value = histogram.getPercentile(percentile);
+            assertTrue(value >= exact);
+            assertTrue(value <= exact + exact / 8);
+        }
+        assertEquals(100000000L, histogram.getPercentile(100.0));
+
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(0.0));
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(Double.NaN));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.metrics.Metrics#register(String)} and
+     * {@link MAKBPInterpreter.metrics.Metrics#unregister()} methods.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRegister() throws Exception {
+        Metrics metrics = new Metrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertNull(metrics.getObjectName());
+        ObjectName name = metrics.register("test register");
+        try {
+            assertEquals(name, metrics.getObjectName());
+            assertEquals(Metrics.DOMAIN, name.getDomain());
+            assertTrue(server.isRegistered(name));
+            assertThrows(IllegalStateException.class, () -> metrics.register("test register 2"));
+
+            metrics.countWorldsVisited(4);
+            metrics.countEvaluation(new Atom("registered"));
+            assertEquals(4L, server.getAttribute(name, "WorldsVisited"));
+            assertTrue(server.getAttribute(name, "EvaluationCounts") instanceof TabularData);
+            metrics.record(Metrics.Phase.PUBLIC_ANNOUNCEMENT, 12);
+            assertEquals(12L, server.invoke(name, "getLatencyPercentile", new Object[] { "PUBLIC_ANNOUNCEMENT", 99.0 },
+                    new String[] { String.class.getName(), double.class.getName() }));
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertEquals(0, metrics.getWorldsVisited());
+        } finally {
+            metrics.unregister();
+        }
+        assertNull(metrics.getObjectName());
+        assertFalse(server.isRegistered(name));
+        metrics.unregister();
+    }
+}
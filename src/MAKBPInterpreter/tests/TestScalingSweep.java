@@ -0,0 +1,74 @@
+package MAKBPInterpreter.tests;
+
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import MAKBPInterpreter.ScalingSweep;
+import junit.framework.TestCase;
+
+/**
+ * Test class for the {@link MAKBPInterpreter.ScalingSweep} class.
+ */
+public class TestScalingSweep extends TestCase {
+    /**
+     * Tests the {@link MAKBPInterpreter.ScalingSweep#run(int, int, int)} method.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRun() throws Exception {
+        // the muddy children denounce themselves at the round of their number
+        ScalingSweep.Record record = ScalingSweep.run(4, 13, 10);
+        assertEquals("found", record.status);
+        assertEquals(3, record.getRounds());
+        assertEquals(3, record.worlds.size());
+        assertEquals(3, record.edges.size());
+        // the father removes the world where nobody is muddy from the 4 structures
+        assertEquals(Long.valueOf(4 * 15), record.worlds.get(0));
+        assertTrue(record.worlds.get(2) <= record.worlds.get(1));
+        assertTrue(record.setupNanos > 0);
+        // a sample of the whole heap, not a sum of the peaks of its pools
+        assertTrue(record.peakHeapBytes > 0);
+        assertTrue(record.peakHeapBytes <= Runtime.getRuntime().maxMemory());
+
+        // the garbage left before a run is collected, not counted in its peak
+        byte[] garbage = new byte[64 << 20];
+        garbage[0] = 1;
+        garbage = null;
+        assertTrue(ScalingSweep.run(3, 7, 5).peakHeapBytes < 32 << 20);
+
+        assertEquals("stopped", ScalingSweep.run(4, 15, 2).status);
+        assertEquals(0, ScalingSweep.run(3, 0, 5).getRounds());
+        assertThrows(IllegalArgumentException.class, () -> ScalingSweep.run(3, 8, 5));
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.ScalingSweep.Record#toCsv()} and
+     * {@link MAKBPInterpreter.ScalingSweep.Record#toJson()} methods.
+     */
+    @Test
+    public void testFormats() {
+        ScalingSweep.Record record = new ScalingSweep.Record(2, 3, 5, "found", 10, Arrays.asList(1L, 2L),
+                Arrays.asList(6L, 4L), Arrays.asList(12L, 8L), 100);
+        assertEquals(ScalingSweep.CSV_HEADER.split(",").length, record.toCsv().split(",").length);
+        assertEquals("2,3,5,found,2,10,1;2,6;4,12;8,100", record.toCsv());
+        assertEquals("{\"n\":2,\"realWorld\":3,\"maxIteration\":5,\"status\":\"found\",\"rounds\":2,"
+                + "\"setupNanos\":10,\"roundNanos\":[1,2],\"worlds\":[6,4],\"edges\":[12,8],\"peakHeapBytes\":100}",
+                record.toJson());
+    }
+
+    /**
+     * Tests the {@link MAKBPInterpreter.ScalingSweep#parseValues(String)} and
+     * {@link MAKBPInterpreter.ScalingSweep#realWorlds(String, int)} methods.
+     */
+    @Test
+    public void testParse() {
+        assertEquals(Arrays.asList(2, 4, 6, 7, 8), ScalingSweep.parseValues("2,4, 6-8"));
+        assertEquals(Arrays.asList(7), ScalingSweep.realWorlds("max", 3));
+        assertEquals(Arrays.asList(0, 1, 2, 3), ScalingSweep.realWorlds("all", 2));
+        assertEquals(Arrays.asList(1, 3), ScalingSweep.realWorlds("1,3,9", 2));
+    }
+}
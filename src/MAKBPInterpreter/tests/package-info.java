@@ -0,0 +1,7 @@
+/**
+ * This package defines the tests of the
+ * {@link MAKBPInterpreter} package.
+ * 
+ * @author Guillaume LETELLIER, Corentin PIERRE
+ */
+package MAKBPInterpreter.tests;